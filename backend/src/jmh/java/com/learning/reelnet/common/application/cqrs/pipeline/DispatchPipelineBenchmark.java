@@ -0,0 +1,123 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.learning.reelnet.common.application.cqrs.command.Command;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Overhead of the command interceptor chain around a handler that does no
+ * work: a direct call, an empty pipeline, and the full chain (tracing,
+ * metrics, validation, transaction) with every dispatch timed or with 1%
+ * sampled. The transaction manager does nothing, so only the interceptor's
+ * own cost is measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DispatchPipelineBenchmark {
+
+    private static final DispatchChain HANDLER = () -> Boolean.TRUE;
+
+    private ValidatorFactory validatorFactory;
+    private DispatchPipeline emptyPipeline;
+    private DispatchPipeline fullPipeline;
+    private DispatchPipeline sampledPipeline;
+    private DispatchContext context;
+
+    @Setup
+    public void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        emptyPipeline = new DispatchPipeline(MessageKind.COMMAND, List.of());
+        fullPipeline = new DispatchPipeline(MessageKind.COMMAND, interceptors(1.0));
+        sampledPipeline = new DispatchPipeline(MessageKind.COMMAND, interceptors(0.01));
+        context = new DispatchContext(MessageKind.COMMAND, new RenameCommand("name"), null, "RenameCommand");
+    }
+
+    @TearDown
+    public void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Benchmark
+    public Object direct() throws Exception {
+        return HANDLER.proceed();
+    }
+
+    @Benchmark
+    public Object emptyPipeline() throws Exception {
+        return emptyPipeline.execute(context, HANDLER);
+    }
+
+    @Benchmark
+    public Object fullPipeline() throws Exception {
+        return fullPipeline.execute(context, HANDLER);
+    }
+
+    @Benchmark
+    public Object fullPipelineSampled() throws Exception {
+        return sampledPipeline.execute(context, HANDLER);
+    }
+
+    private List<DispatchInterceptor> interceptors(double sampleRate) {
+        MetricsDispatchInterceptor metrics = new MetricsDispatchInterceptor(
+                new PrometheusMeterRegistry(PrometheusConfig.DEFAULT));
+        ReflectionTestUtils.setField(metrics, "sampleRate", sampleRate);
+        ReflectionTestUtils.setField(metrics, "percentiles", new double[] { 0.5, 0.95, 0.99 });
+        return List.of(
+                new TracingDispatchInterceptor(),
+                metrics,
+                new ValidationDispatchInterceptor(validatorFactory.getValidator()),
+                new TransactionDispatchInterceptor(new NoOpTransactionManager()));
+    }
+
+    static final class RenameCommand implements Command<Boolean> {
+        @NotNull
+        private final String name;
+
+        RenameCommand(String name) {
+            this.name = name;
+        }
+    }
+
+    static final class NoOpTransactionManager implements PlatformTransactionManager {
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.learning.reelnet.common.infrastructure.messaging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.learning.reelnet.common.infrastructure.events.AbstractDomainEvent;
+import com.learning.reelnet.common.infrastructure.events.DomainEvent;
+import com.learning.reelnet.common.infrastructure.events.EventPublisher.EventPublicationListener;
+import com.learning.reelnet.common.infrastructure.messaging.EventRingBuffer.FullPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost to the publishing thread of handing an event to three listeners, once
+ * through {@link EventRingBuffer} and once by calling the listeners in turn,
+ * as the publisher did before the buffer.
+ * <p>
+ * Each listener burns {@code listenerWork} tokens per event. The buffer uses
+ * {@link FullPolicy#BLOCK}, so once listeners fall behind the publishers wait
+ * for them and the measured time includes that back-pressure.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(2)
+@State(Scope.Benchmark)
+public class EventRingBufferBenchmark {
+
+    private static final int LISTENERS = 3;
+    private static final DomainEvent EVENT = new BenchmarkEvent();
+
+    @Param({ "0", "200" })
+    public int listenerWork;
+
+    private EventRingBuffer ringBuffer;
+    private List<EventPublicationListener> listeners;
+
+    @Setup
+    public void setUp() {
+        ringBuffer = new EventRingBuffer(8192, 256, FullPolicy.BLOCK, new SimpleMeterRegistry());
+        listeners = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < LISTENERS; i++) {
+            EventPublicationListener listener = event -> Blackhole.consumeCPU(listenerWork);
+            listeners.add(listener);
+            ringBuffer.addListener(listener);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        ringBuffer.shutdown(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    @Benchmark
+    public boolean ringBuffer() {
+        return ringBuffer.publish(EVENT);
+    }
+
+    @Benchmark
+    public void listenerLoop() {
+        for (EventPublicationListener listener : listeners) {
+            listener.onEventPublished(EVENT);
+        }
+    }
+
+    static final class BenchmarkEvent extends AbstractDomainEvent {
+        BenchmarkEvent() {
+            super("BenchmarkEvent", "aggregate", 0L, 1);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.learning.reelnet.modules.vocabulary.domain.model;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.learning.reelnet.common.model.base.BaseEntity;
+
+/**
+ * Adding new items to a set's item collection, the way
+ * {@code VocabularySet.addVocabulary} did: every item is transient, so with
+ * the id-based equality inherited from {@link BaseEntity} they all hash to 0,
+ * while the business-key equality of {@link VocabularySetItem} spreads them.
+ * <p>
+ * The database side of the same 10k add, loading the collection versus the
+ * set-based insert, is the opt-in {@code BulkAddComparisonTest}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VocabularySetItemBenchmark {
+
+    @Param({ "10000" })
+    public int items;
+
+    private IdKeyedItem[] idKeyedItems;
+    private VocabularySetItem[] businessKeyedItems;
+
+    @Setup
+    public void setUp() {
+        VocabularySet set = VocabularySet.builder().name("set").build();
+        set.setId(UUID.randomUUID());
+        idKeyedItems = new IdKeyedItem[items];
+        businessKeyedItems = new VocabularySetItem[items];
+        for (int i = 0; i < items; i++) {
+            Vocabulary vocabulary = Vocabulary.builder().build();
+            vocabulary.setId(UUID.randomUUID());
+            idKeyedItems[i] = new IdKeyedItem();
+            businessKeyedItems[i] = VocabularySetItem.builder().vocabularySet(set).vocabulary(vocabulary).build();
+        }
+    }
+
+    @Benchmark
+    public Set<IdKeyedItem> before() {
+        Set<IdKeyedItem> collection = new HashSet<>();
+        for (IdKeyedItem item : idKeyedItems) {
+            collection.add(item);
+        }
+        return collection;
+    }
+
+    @Benchmark
+    public Set<VocabularySetItem> after() {
+        Set<VocabularySetItem> collection = new HashSet<>();
+        for (VocabularySetItem item : businessKeyedItems) {
+            collection.add(item);
+        }
+        return collection;
+    }
+
+    /**
+     * An item without its own equality, as before the business key.
+     */
+    public static class IdKeyedItem extends BaseEntity<UUID> {
+        private static final long serialVersionUID = 1L;
+    }
+}
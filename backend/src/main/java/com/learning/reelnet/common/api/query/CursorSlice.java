@@ -0,0 +1,57 @@
+package com.learning.reelnet.common.api.query;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.lang.NonNull;
+
+/**
+ * Slice produced by keyset paging. Carries opaque cursors for the
+ * neighbouring pages instead of page numbers and totals.
+ *
+ * @param <T> Content type
+ */
+public class CursorSlice<T> extends SliceImpl<T> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String nextCursor;
+    private final String prevCursor;
+
+    /**
+     * Creates a cursor slice.
+     *
+     * @param content    the page content
+     * @param pageable   the size and sort used for this page
+     * @param nextCursor cursor for the following page, or null if this is the last page
+     * @param prevCursor cursor for the preceding page, or null if this is the first page
+     */
+    public CursorSlice(List<T> content, Pageable pageable, String nextCursor, String prevCursor) {
+        super(content, pageable, nextCursor != null);
+        this.nextCursor = nextCursor;
+        this.prevCursor = prevCursor;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public String getPrevCursor() {
+        return prevCursor;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+        return prevCursor != null;
+    }
+
+    @Override
+    @NonNull
+    public <U> CursorSlice<U> map(@NonNull Function<? super T, ? extends U> converter) {
+        List<U> converted = getContent().stream().map(converter).collect(Collectors.toList());
+        return new CursorSlice<>(converted, getPageable(), nextCursor, prevCursor);
+    }
+}
@@ -13,6 +13,11 @@ import org.springframework.data.domain.PageRequest;
 @NoArgsConstructor
 @AllArgsConstructor
 public class QueryParams {
+    /**
+     * Sort key ordering results by search relevance instead of an attribute
+     */
+    public static final String RELEVANCE = "relevance";
+    
     @Builder.Default
     private int page = 0;
     
@@ -28,8 +33,29 @@ public class QueryParams {
     private Long totalElements;
     private Integer totalPages;
     
+    /**
+     * Opaque keyset cursor. Null selects offset paging; an empty string
+     * requests the first page in cursor mode.
+     */
+    private String cursor;
+    
+    /**
+     * Whether this request uses keyset (cursor) paging instead of page numbers.
+     * Cursor pages are not counted, so totals are not available.
+     *
+     * @return true if a cursor was supplied
+     */
+    public boolean isCursorPaging() {
+        return cursor != null;
+    }
+    
     public Pageable toPageable() {
         // Xử lý sortDirection không hợp lệ
+        if (isRelevanceSort()) {
+            // Thứ tự do Specification tìm kiếm quyết định
+            return PageRequest.of(page, size);
+        }
+        
         String direction = this.sortDirection;
         if (direction == null || (!direction.equalsIgnoreCase("ASC") && !direction.equalsIgnoreCase("DESC"))) {
             direction = "DESC"; // Giá trị mặc định nếu không hợp lệ
@@ -43,6 +69,10 @@ public class QueryParams {
         return PageRequest.of(page, size, sort);
     }
     
+    public boolean isRelevanceSort() {
+        return RELEVANCE.equals(sortBy);
+    }
+    
     public void updatePaginationInfo(Long totalElements) {
         this.totalElements = totalElements;
         this.totalPages = (int) Math.ceil((double) totalElements / size);
@@ -18,6 +18,19 @@ public class SearchParams {
     @Builder.Default
     private List<String> fields = new ArrayList<>();
 
+    /**
+     * How the query is matched. AUTO uses full-text search when the entity and
+     * database support it, and substring matching otherwise.
+     */
+    @Builder.Default
+    private Strategy strategy = Strategy.AUTO;
+
+    public enum Strategy {
+        AUTO,
+        LIKE,
+        FULL_TEXT
+    }
+
     public boolean hasSearch() {
         return query != null && !query.isEmpty() && !fields.isEmpty();
     }
@@ -11,5 +11,10 @@ public @interface SupportedParams {
     String[] allowedSortFields() default {};
     String[] allowedFilterFields() default {};
     String[] allowedSearchFields() default {};
+    /**
+     * Columns covered by the entity's generated {@code search_vector} column, in
+     * decreasing weight. Empty when the entity has no full-text index.
+     */
+    String[] fullTextFields() default {};
     int maxPageSize() default 100;
 }
@@ -0,0 +1,92 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.learning.reelnet.common.api.query.QueryParams;
+import com.learning.reelnet.common.api.query.annotation.SupportedParams;
+
+import lombok.Getter;
+
+/**
+ * Query capabilities of one entity, read from its {@link SupportedParams}
+ * annotation once instead of on every request.
+ */
+@Getter
+public class EntityQueryMetadata {
+
+    private final Class<?> entityClass;
+    private final Set<String> allowedSortFields;
+    private final Set<String> allowedFilterFields;
+    private final Set<String> allowedSearchFields;
+    private final List<String> fullTextFields;
+    private final int maxPageSize;
+
+    private final Map<String, QueryAttribute> attributes = new ConcurrentHashMap<>();
+
+    EntityQueryMetadata(Class<?> entityClass, SupportedParams annotation) {
+        this.entityClass = entityClass;
+        this.allowedSortFields = orderedSet(annotation.allowedSortFields());
+        this.allowedFilterFields = orderedSet(annotation.allowedFilterFields());
+        this.allowedSearchFields = orderedSet(annotation.allowedSearchFields());
+        this.fullTextFields = List.of(annotation.fullTextFields());
+        this.maxPageSize = annotation.maxPageSize();
+
+        allowedSortFields.forEach(this::attribute);
+        allowedFilterFields.forEach(this::attribute);
+        allowedSearchFields.forEach(this::attribute);
+    }
+
+    /**
+     * Get the resolved attribute for a field path. Fields outside the declared
+     * lists are resolved on first use.
+     *
+     * @param field Field path
+     * @return Resolved attribute
+     */
+    public QueryAttribute attribute(String field) {
+        return attributes.computeIfAbsent(field, name -> QueryAttribute.resolve(entityClass, name));
+    }
+
+    /**
+     * Check whether results may be sorted by a key. Relevance is sortable
+     * whenever search fields are declared.
+     *
+     * @param sortBy Sort key
+     * @return true if allowed
+     */
+    public boolean isSortable(String sortBy) {
+        if (QueryParams.RELEVANCE.equals(sortBy)) {
+            return !allowedSearchFields.isEmpty();
+        }
+        return allowedSortFields.contains(sortBy);
+    }
+
+    /**
+     * Check whether the entity has a full-text index covering all given fields.
+     *
+     * @param fields Searched fields
+     * @return true if full-text search can serve them
+     */
+    public boolean isFullTextSearchable(List<String> fields) {
+        return !fullTextFields.isEmpty() && fullTextFields.containsAll(fields);
+    }
+
+    /**
+     * Get the default sort field, the first declared one.
+     *
+     * @return Default sort field, or null if none is declared
+     */
+    public String getDefaultSortField() {
+        return allowedSortFields.isEmpty() ? null : allowedSortFields.iterator().next();
+    }
+
+    private static Set<String> orderedSet(String[] fields) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(fields)));
+    }
+}
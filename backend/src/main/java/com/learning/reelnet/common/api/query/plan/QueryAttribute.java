@@ -0,0 +1,196 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Id;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import lombok.Getter;
+
+/**
+ * A queryable entity attribute resolved once: its path segments, Java type,
+ * whether it may hold nulls, and the converter that turns request values
+ * (usually strings) into that type.
+ */
+@Getter
+public class QueryAttribute {
+
+    private final String name;
+    private final String[] segments;
+    private final Class<?> javaType;
+    private final boolean nullable;
+    private final Function<Object, Object> converter;
+
+    private QueryAttribute(String name, String[] segments, Class<?> javaType, boolean nullable) {
+        this.name = name;
+        this.segments = segments;
+        this.javaType = javaType;
+        this.nullable = nullable;
+        this.converter = converterFor(javaType);
+    }
+
+    /**
+     * Resolve an attribute path such as {@code category} or {@code items.vocabulary}
+     * against an entity class. Unknown segments resolve to {@code Object}, so
+     * the error surfaces from JPA as it would without metadata.
+     *
+     * @param entityClass Root entity class
+     * @param name Dot-separated attribute path
+     * @return Resolved attribute
+     */
+    public static QueryAttribute resolve(Class<?> entityClass, String name) {
+        String[] segments = name.split("\\.");
+        Class<?> type = entityClass;
+        Field field = null;
+        for (String segment : segments) {
+            field = type != null ? ReflectionUtils.findField(type, segment) : null;
+            type = field != null ? elementType(field) : null;
+        }
+        boolean nullable = segments.length > 1 || field == null || isNullable(field);
+        return new QueryAttribute(name, segments, type != null ? type : Object.class, nullable);
+    }
+
+    /**
+     * Resolve this attribute against a query root, joining nested segments.
+     *
+     * @param root Query root
+     * @return Attribute path
+     */
+    public Path<Object> path(Root<?> root) {
+        if (segments.length == 1) {
+            return root.get(segments[0]);
+        }
+        From<?, ?> from = root;
+        for (int i = 0; i < segments.length - 1; i++) {
+            Join<?, ?> join = from.join(segments[i], JoinType.LEFT);
+            from = join;
+        }
+        return from.get(segments[segments.length - 1]);
+    }
+
+    /**
+     * Convert a request value to this attribute's type. Lists are converted
+     * element by element; a comma-separated string is treated as a list.
+     *
+     * @param raw Request value
+     * @param multiValued Whether the operator expects a list
+     * @return Converted value
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    public Object convert(Object raw, boolean multiValued) {
+        if (!multiValued) {
+            return converter.apply(raw);
+        }
+        Collection<?> values = raw instanceof Collection
+                ? (Collection<?>) raw
+                : Arrays.asList(raw.toString().split(","));
+        List<Object> converted = new ArrayList<>(values.size());
+        for (Object value : values) {
+            converted.add(converter.apply(value));
+        }
+        return converted;
+    }
+
+    private static boolean isNullable(Field field) {
+        if (field.getType().isPrimitive() || field.isAnnotationPresent(Id.class)) {
+            return false;
+        }
+        Column column = field.getAnnotation(Column.class);
+        return column == null || column.nullable();
+    }
+
+    private static Class<?> elementType(Field field) {
+        if (Collection.class.isAssignableFrom(field.getType())) {
+            Type generic = field.getGenericType();
+            if (generic instanceof ParameterizedType) {
+                Type argument = ((ParameterizedType) generic).getActualTypeArguments()[0];
+                if (argument instanceof Class) {
+                    return (Class<?>) argument;
+                }
+            }
+            return null;
+        }
+        return field.getType();
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Function<Object, Object> converterFor(Class<?> type) {
+        if (type.isEnum()) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : type.getEnumConstants()) {
+                constants.put(((Enum) constant).name(), constant);
+            }
+            Map<String, Object> lookup = Collections.unmodifiableMap(constants);
+            return value -> {
+                if (type.isInstance(value)) {
+                    return value;
+                }
+                Object constant = lookup.get(value.toString());
+                if (constant == null) {
+                    throw new IllegalArgumentException("Invalid value for " + type.getSimpleName() + ": " + value);
+                }
+                return constant;
+            };
+        }
+        if (type == LocalDateTime.class) {
+            return value -> {
+                if (!(value instanceof String)) {
+                    return value;
+                }
+                String text = (String) value;
+                // Allow date-only filters (yyyy-MM-dd) on LocalDateTime fields
+                return text.length() == 10 ? LocalDate.parse(text).atStartOfDay() : LocalDateTime.parse(text);
+            };
+        }
+        if (type == LocalDate.class) {
+            return value -> value instanceof String ? LocalDate.parse((String) value) : value;
+        }
+        if (type == java.util.Date.class) {
+            return value -> {
+                if (!(value instanceof String)) {
+                    return value;
+                }
+                try {
+                    return new java.text.SimpleDateFormat("yyyy-MM-dd").parse((String) value);
+                } catch (java.text.ParseException e) {
+                    throw new IllegalArgumentException("Invalid date: " + value, e);
+                }
+            };
+        }
+        if (type == Long.class || type == long.class) {
+            return value -> value instanceof Number ? ((Number) value).longValue() : Long.valueOf(value.toString());
+        }
+        if (type == Integer.class || type == int.class) {
+            return value -> value instanceof Number ? ((Number) value).intValue() : Integer.valueOf(value.toString());
+        }
+        if (type == Double.class || type == double.class) {
+            return value -> value instanceof Number ? ((Number) value).doubleValue() : Double.valueOf(value.toString());
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return value -> value instanceof Boolean ? value : Boolean.valueOf(value.toString());
+        }
+        if (type == UUID.class) {
+            return value -> value instanceof UUID ? value : UUID.fromString(value.toString());
+        }
+        return Function.identity();
+    }
+}
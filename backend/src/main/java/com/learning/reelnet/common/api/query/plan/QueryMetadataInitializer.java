@@ -0,0 +1,32 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds query metadata for all JPA entities at startup so the first request
+ * does not pay for annotation and type resolution.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryMetadataInitializer {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    public void initialize() {
+        int registered = 0;
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            if (QueryMetadataRegistry.register(entity.getJavaType())) {
+                registered++;
+            }
+        }
+        log.info("Registered query metadata for {} entities", registered);
+    }
+}
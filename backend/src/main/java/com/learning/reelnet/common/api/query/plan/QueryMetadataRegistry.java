@@ -0,0 +1,51 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.learning.reelnet.common.api.query.annotation.SupportedParams;
+
+/**
+ * Registry of per-entity query metadata.
+ * <p>
+ * Entries are created at startup by {@link QueryMetadataInitializer} for every
+ * JPA entity and on first use for any other class, and never change afterwards.
+ */
+public final class QueryMetadataRegistry {
+
+    private static final Map<Class<?>, Optional<EntityQueryMetadata>> METADATA = new ConcurrentHashMap<>();
+
+    private QueryMetadataRegistry() {
+    }
+
+    /**
+     * Get the metadata for a class.
+     *
+     * @param entityClass Entity class
+     * @return Metadata, or null if the class has no {@link SupportedParams}
+     */
+    public static EntityQueryMetadata get(Class<?> entityClass) {
+        if (entityClass == null) {
+            return null;
+        }
+        return METADATA.computeIfAbsent(entityClass, QueryMetadataRegistry::build).orElse(null);
+    }
+
+    /**
+     * Eagerly build the metadata for a class.
+     *
+     * @param entityClass Entity class
+     * @return true if the class declares supported parameters
+     */
+    public static boolean register(Class<?> entityClass) {
+        return get(entityClass) != null;
+    }
+
+    private static Optional<EntityQueryMetadata> build(Class<?> entityClass) {
+        SupportedParams annotation = entityClass.getAnnotation(SupportedParams.class);
+        return annotation == null
+                ? Optional.empty()
+                : Optional.of(new EntityQueryMetadata(entityClass, annotation));
+    }
+}
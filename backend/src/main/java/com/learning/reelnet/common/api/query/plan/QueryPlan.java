@@ -0,0 +1,273 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.learning.reelnet.common.api.query.FilterParams;
+import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.common.api.query.search.SearchStrategies;
+import com.learning.reelnet.common.api.query.search.SearchStrategy;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Filter and search shape compiled against entity metadata.
+ * <p>
+ * A plan fixes which attributes are filtered, with which operators, and which
+ * fields are searched. Attribute resolution, value converters and operator
+ * dispatch are decided once at compile time; {@link #bind} only converts the
+ * request values and builds the predicates. The search strategy (LIKE or
+ * full-text) is part of the shape.
+ */
+public class QueryPlan {
+
+    /**
+     * Builds a predicate for one filter condition
+     */
+    @FunctionalInterface
+    interface Condition {
+        Predicate apply(CriteriaBuilder cb, Path<Object> path, Object value);
+    }
+
+    private final List<FilterStep> filterSteps;
+    private final List<QueryAttribute> searchAttributes;
+    private final SearchStrategy searchStrategy;
+
+    private QueryPlan(List<FilterStep> filterSteps, List<QueryAttribute> searchAttributes,
+            SearchStrategy searchStrategy) {
+        this.filterSteps = filterSteps;
+        this.searchAttributes = searchAttributes;
+        this.searchStrategy = searchStrategy;
+    }
+
+    /**
+     * Compute the cache key describing the shape of a request: entity, filtered
+     * fields with their operators and value kinds, and searched fields.
+     *
+     * @param metadata Entity metadata
+     * @param filterParams Filter information
+     * @param searchParams Search information
+     * @return Shape key
+     */
+    static String shapeOf(EntityQueryMetadata metadata, FilterParams filterParams, SearchParams searchParams) {
+        StringBuilder key = new StringBuilder(metadata.getEntityClass().getName());
+        for (Map.Entry<String, Map<String, Object>> entry : sortedFilters(filterParams).entrySet()) {
+            Object value = entry.getValue().get("value");
+            key.append('|').append(entry.getKey())
+                    .append(':').append(entry.getValue().get("operator"))
+                    .append(':').append(value == null ? 'N' : value instanceof Collection ? 'L' : 'S');
+        }
+        if (searchParams != null && searchParams.hasSearch()) {
+            key.append("|?").append(String.join(",", searchParams.getFields()))
+                    .append(':').append(SearchStrategies.resolve(metadata, searchParams).getClass().getSimpleName());
+        }
+        return key.toString();
+    }
+
+    /**
+     * Compile the plan for a request shape.
+     *
+     * @param metadata Entity metadata
+     * @param filterParams Filter information
+     * @param searchParams Search information
+     * @return Compiled plan
+     */
+    static QueryPlan compile(EntityQueryMetadata metadata, FilterParams filterParams, SearchParams searchParams) {
+        List<FilterStep> steps = new ArrayList<>();
+        for (Map.Entry<String, Map<String, Object>> entry : sortedFilters(filterParams).entrySet()) {
+            String operator = (String) entry.getValue().get("operator");
+            boolean nullValue = entry.getValue().get("value") == null;
+            steps.add(new FilterStep(entry.getKey(), metadata.attribute(entry.getKey()), operator, nullValue));
+        }
+
+        List<QueryAttribute> searchAttributes = new ArrayList<>();
+        SearchStrategy searchStrategy = null;
+        if (searchParams != null && searchParams.hasSearch()) {
+            for (String field : searchParams.getFields()) {
+                searchAttributes.add(metadata.attribute(field));
+            }
+            searchStrategy = SearchStrategies.resolve(metadata, searchParams);
+        }
+        return new QueryPlan(steps, searchAttributes, searchStrategy);
+    }
+
+    /**
+     * Bind request values to this plan.
+     *
+     * @param filterParams Filter values, with the shape this plan was compiled for
+     * @param searchParams Search values, with the shape this plan was compiled for
+     * @return Specification for the request
+     */
+    public <T> Specification<T> bind(FilterParams filterParams, SearchParams searchParams) {
+        List<Object> values = new ArrayList<>(filterSteps.size());
+        for (FilterStep step : filterSteps) {
+            values.add(step.convert(filterParams.getFilter(step.field).get("value")));
+        }
+        Specification<T> spec = Specification.where(null);
+        if (!filterSteps.isEmpty()) {
+            spec = spec.and((root, query, cb) -> filterPredicate(root, cb, values));
+        }
+        if (searchStrategy != null) {
+            String text = searchParams.getQuery();
+            spec = spec.and((root, query, cb) -> searchStrategy.match(root, cb, text, searchAttributes));
+        }
+        return spec;
+    }
+
+    /**
+     * Build a Specification that orders results by search relevance, most
+     * relevant first, with the id as tie-breaker. Count queries are left
+     * unordered.
+     *
+     * @param searchParams Search values, with the shape this plan was compiled for
+     * @return Ordering specification; orders by id only when there is no search
+     */
+    public <T> Specification<T> relevanceOrder(SearchParams searchParams) {
+        return (root, query, cb) -> {
+            Class<?> resultType = query.getResultType();
+            if (resultType == Long.class || resultType == long.class) {
+                return null;
+            }
+            if (searchStrategy == null) {
+                query.orderBy(cb.asc(root.get("id")));
+            } else {
+                query.orderBy(
+                        cb.desc(searchStrategy.rank(root, cb, searchParams.getQuery(), searchAttributes)),
+                        cb.asc(root.get("id")));
+            }
+            return null;
+        };
+    }
+
+    private Predicate filterPredicate(Root<?> root, CriteriaBuilder cb, List<Object> values) {
+        Predicate[] predicates = new Predicate[filterSteps.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = filterSteps.get(i).toPredicate(root, cb, values.get(i));
+        }
+        return cb.and(predicates);
+    }
+
+    private static Map<String, Map<String, Object>> sortedFilters(FilterParams filterParams) {
+        if (filterParams == null || !filterParams.hasFilters()) {
+            return new TreeMap<>();
+        }
+        return new TreeMap<>(filterParams.getFilters());
+    }
+
+    /**
+     * One compiled filter condition
+     */
+    private static final class FilterStep {
+
+        // Marks a value that could not be converted; the condition is skipped
+        private static final Object SKIP = new Object();
+
+        private final String field;
+        private final QueryAttribute attribute;
+        private final Condition condition;
+        private final boolean convertValue;
+        private final boolean multiValued;
+
+        FilterStep(String field, QueryAttribute attribute, String operator, boolean nullValue) {
+            operator = operator != null ? operator : "EQUALS";
+            this.field = field;
+            this.attribute = attribute;
+            this.multiValued = "IN".equals(operator) || "NOT_IN".equals(operator);
+            this.convertValue = !nullValue && !isTextOperator(operator);
+            this.condition = nullValue ? nullCondition(operator) : condition(operator);
+        }
+
+        Object convert(Object raw) {
+            if (!convertValue) {
+                return raw;
+            }
+            try {
+                return attribute.convert(raw, multiValued);
+            } catch (IllegalArgumentException | DateTimeException e) {
+                return SKIP;
+            }
+        }
+
+        Predicate toPredicate(Root<?> root, CriteriaBuilder cb, Object value) {
+            if (value == SKIP) {
+                return cb.conjunction();
+            }
+            return condition.apply(cb, attribute.path(root), value);
+        }
+
+        private static boolean isTextOperator(String operator) {
+            switch (operator) {
+                case "LIKE":
+                case "CONTAINS":
+                case "STARTS_WITH":
+                case "ENDS_WITH":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+
+        private static Condition nullCondition(String operator) {
+            switch (operator) {
+                case "IS_NULL":
+                    return (cb, path, value) -> cb.isNull(path);
+                case "IS_NOT_NULL":
+                    return (cb, path, value) -> cb.isNotNull(path);
+                default:
+                    return (cb, path, value) -> cb.conjunction();
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static Condition condition(String operator) {
+            switch (operator) {
+                case "NOT_EQUALS":
+                    return (cb, path, value) -> cb.notEqual(path, value);
+                case "GREATER_THAN":
+                    return (cb, path, value) -> cb.greaterThan(comparable(path), (Comparable) value);
+                case "LESS_THAN":
+                    return (cb, path, value) -> cb.lessThan(comparable(path), (Comparable) value);
+                case "GREATER_THAN_EQUAL":
+                    return (cb, path, value) -> cb.greaterThanOrEqualTo(comparable(path), (Comparable) value);
+                case "LESS_THAN_EQUAL":
+                    return (cb, path, value) -> cb.lessThanOrEqualTo(comparable(path), (Comparable) value);
+                case "LIKE":
+                case "CONTAINS":
+                    return (cb, path, value) -> cb.like(cb.lower(path.as(String.class)),
+                            "%" + value.toString().toLowerCase() + "%");
+                case "STARTS_WITH":
+                    return (cb, path, value) -> cb.like(cb.lower(path.as(String.class)),
+                            value.toString().toLowerCase() + "%");
+                case "ENDS_WITH":
+                    return (cb, path, value) -> cb.like(cb.lower(path.as(String.class)),
+                            "%" + value.toString().toLowerCase());
+                case "IN":
+                    return (cb, path, value) -> path.in((Collection<?>) value);
+                case "NOT_IN":
+                    return (cb, path, value) -> cb.not(path.in((Collection<?>) value));
+                case "IS_NULL":
+                    return (cb, path, value) -> cb.isNull(path);
+                case "IS_NOT_NULL":
+                    return (cb, path, value) -> cb.isNotNull(path);
+                case "EQUALS":
+                default:
+                    return (cb, path, value) -> cb.equal(path, value);
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private static Expression<Comparable> comparable(Path<Object> path) {
+            return path.as(Comparable.class);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learning.reelnet.common.api.query.FilterParams;
+import com.learning.reelnet.common.api.query.SearchParams;
+
+/**
+ * Bounded cache of compiled query plans keyed by request shape.
+ * <p>
+ * The number of distinct shapes is bounded by the allowed fields and
+ * operators, but unvalidated callers could still produce many, so the cache
+ * evicts the least useful plans beyond {@link #MAX_PLANS}.
+ */
+public final class QueryPlanCache {
+
+    static final int MAX_PLANS = 1_000;
+
+    private static final Cache<String, QueryPlan> PLANS = Caffeine.newBuilder()
+            .maximumSize(MAX_PLANS)
+            .build();
+
+    private QueryPlanCache() {
+    }
+
+    /**
+     * Get the compiled plan for a request, compiling it on first use.
+     *
+     * @param metadata Entity metadata
+     * @param filterParams Filter information
+     * @param searchParams Search information
+     * @return Compiled plan
+     */
+    public static QueryPlan planFor(EntityQueryMetadata metadata, FilterParams filterParams,
+            SearchParams searchParams) {
+        String shape = QueryPlan.shapeOf(metadata, filterParams, searchParams);
+        return PLANS.get(shape, key -> QueryPlan.compile(metadata, filterParams, searchParams));
+    }
+}
@@ -0,0 +1,132 @@
+package com.learning.reelnet.common.api.query.search;
+
+import java.util.List;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.query.ReturnableType;
+import org.hibernate.query.sqm.function.AbstractSqmSelfRenderingFunctionDescriptor;
+import org.hibernate.query.sqm.produce.function.StandardArgumentsValidators;
+import org.hibernate.query.sqm.produce.function.StandardFunctionArgumentTypeResolvers;
+import org.hibernate.query.sqm.produce.function.StandardFunctionReturnTypeResolvers;
+import org.hibernate.sql.ast.SqlAstTranslator;
+import org.hibernate.sql.ast.spi.SqlAppender;
+import org.hibernate.sql.ast.tree.SqlAstNode;
+import org.hibernate.sql.ast.tree.expression.ColumnReference;
+import org.hibernate.sql.ast.tree.expression.Expression;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text functions used by
+ * {@link FullTextSearchStrategy}:
+ * <ul>
+ * <li>{@code fts_match(anyAttribute, text)} renders
+ * {@code alias.search_vector @@ websearch_to_tsquery('simple', text)}</li>
+ * <li>{@code fts_rank(anyAttribute, text)} renders
+ * {@code ts_rank(alias.search_vector, websearch_to_tsquery('simple', text))}</li>
+ * <li>{@code fts_match_fields(text, attribute...)} and
+ * {@code fts_rank_fields(text, attribute...)} do the same against a vector
+ * built on the fly from the given attributes, weighted in order; used when
+ * only some of the indexed fields are searched, so they cannot use the index</li>
+ * </ul>
+ * The generated {@code search_vector} column is not mapped on the entity so
+ * the H2 schema and schema validation are unaffected; the first argument is
+ * any column of the searched entity and only supplies its table alias.
+ * <p>
+ * Registered through {@code META-INF/services}; does nothing on other dialects.
+ */
+public class FullTextSearchFunctions implements FunctionContributor {
+
+    public static final String MATCH = "fts_match";
+    public static final String RANK = "fts_rank";
+    public static final String MATCH_FIELDS = "fts_match_fields";
+    public static final String RANK_FIELDS = "fts_rank_fields";
+    public static final String VECTOR_COLUMN = "search_vector";
+    public static final String TEXT_SEARCH_CONFIG = "simple";
+
+    private static final String[] WEIGHTS = { "A", "B", "C", "D" };
+
+    @Override
+    public void contributeFunctions(FunctionContributions contributions) {
+        if (!(contributions.getDialect() instanceof PostgreSQLDialect)) {
+            return;
+        }
+        BasicType<Boolean> booleanType = contributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        BasicType<Float> floatType = contributions.getTypeConfiguration()
+                .getBasicTypeRegistry().resolve(StandardBasicTypes.FLOAT);
+
+        contributions.getFunctionRegistry().register(MATCH, new VectorFunction(MATCH, booleanType, false));
+        contributions.getFunctionRegistry().register(RANK, new VectorFunction(RANK, floatType, true));
+        contributions.getFunctionRegistry().register(MATCH_FIELDS,
+                new FieldsVectorFunction(MATCH_FIELDS, booleanType, false));
+        contributions.getFunctionRegistry().register(RANK_FIELDS,
+                new FieldsVectorFunction(RANK_FIELDS, floatType, true));
+    }
+
+    private static final class VectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final boolean rank;
+
+        VectorFunction(String name, BasicType<?> returnType, boolean rank) {
+            super(name, StandardArgumentsValidators.exactly(2),
+                    StandardFunctionReturnTypeResolvers.invariant(returnType),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+            this.rank = rank;
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+            String vector = vectorColumn(arguments.get(0));
+            sqlAppender.appendSql(rank ? "ts_rank(" + vector + ", " : "(" + vector + " @@ ");
+            sqlAppender.appendSql("websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', ");
+            arguments.get(1).accept(walker);
+            sqlAppender.appendSql("))");
+        }
+
+        private static String vectorColumn(SqlAstNode argument) {
+            ColumnReference column = argument instanceof Expression
+                    ? ((Expression) argument).getColumnReference()
+                    : null;
+            if (column == null) {
+                throw new IllegalArgumentException("First argument must be an entity attribute");
+            }
+            return column.getQualifier() != null
+                    ? column.getQualifier() + "." + VECTOR_COLUMN
+                    : VECTOR_COLUMN;
+        }
+    }
+
+    private static final class FieldsVectorFunction extends AbstractSqmSelfRenderingFunctionDescriptor {
+
+        private final boolean rank;
+
+        FieldsVectorFunction(String name, BasicType<?> returnType, boolean rank) {
+            super(name, StandardArgumentsValidators.min(2),
+                    StandardFunctionReturnTypeResolvers.invariant(returnType),
+                    StandardFunctionArgumentTypeResolvers.NULL);
+            this.rank = rank;
+        }
+
+        @Override
+        public void render(SqlAppender sqlAppender, List<? extends SqlAstNode> arguments,
+                ReturnableType<?> returnType, SqlAstTranslator<?> walker) {
+            sqlAppender.appendSql(rank ? "ts_rank(" : "(");
+            for (int i = 1; i < arguments.size(); i++) {
+                if (i > 1) {
+                    sqlAppender.appendSql(" || ");
+                }
+                sqlAppender.appendSql("setweight(to_tsvector('" + TEXT_SEARCH_CONFIG + "', coalesce(");
+                arguments.get(i).accept(walker);
+                sqlAppender.appendSql(", '')), '" + WEIGHTS[Math.min(i - 1, WEIGHTS.length - 1)] + "')");
+            }
+            sqlAppender.appendSql(rank ? ", " : " @@ ");
+            sqlAppender.appendSql("websearch_to_tsquery('" + TEXT_SEARCH_CONFIG + "', ");
+            arguments.get(0).accept(walker);
+            sqlAppender.appendSql("))");
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.learning.reelnet.common.api.query.search;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.common.api.query.plan.EntityQueryMetadata;
+import com.learning.reelnet.common.api.query.plan.QueryMetadataRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Detects whether full-text search can be used.
+ * <p>
+ * The generated {@code search_vector} columns and their GIN indexes are
+ * created by the Flyway migrations; this only checks, on PostgreSQL, that
+ * every entity declaring full-text fields has its column, then switches
+ * {@link SearchStrategies} to full-text. It never changes the schema. On
+ * other databases, or if a column is missing, search stays on LIKE.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FullTextSearchInitializer {
+
+    private final DataSource dataSource;
+    // Depending on the factory orders this after the migrations
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.search.full-text.enabled:true}")
+    private boolean enabled = true;
+
+    @PostConstruct
+    public void initialize() {
+        if (!enabled) {
+            log.info("Full-text search disabled; using LIKE search");
+            return;
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData databaseMetaData = connection.getMetaData();
+            if (!"PostgreSQL".equalsIgnoreCase(databaseMetaData.getDatabaseProductName())) {
+                log.info("Full-text search needs PostgreSQL; using LIKE search");
+                return;
+            }
+            for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+                EntityQueryMetadata metadata = QueryMetadataRegistry.get(entity.getJavaType());
+                if (metadata == null || metadata.getFullTextFields().isEmpty()) {
+                    continue;
+                }
+                String table = tableName(entity.getJavaType());
+                if (!hasVectorColumn(databaseMetaData, table)) {
+                    log.warn("Column {}.{} is missing, check the migrations; using LIKE search",
+                            table, FullTextSearchFunctions.VECTOR_COLUMN);
+                    return;
+                }
+            }
+            SearchStrategies.setFullTextAvailable(true);
+            log.info("Full-text search enabled");
+        } catch (Exception e) {
+            log.warn("Could not check full-text search columns, using LIKE search: {}", e.getMessage());
+        }
+    }
+
+    private static boolean hasVectorColumn(DatabaseMetaData databaseMetaData, String table) throws SQLException {
+        try (ResultSet columns = databaseMetaData.getColumns(null, null, table,
+                FullTextSearchFunctions.VECTOR_COLUMN)) {
+            return columns.next();
+        }
+    }
+
+    private static String tableName(Class<?> entityClass) {
+        Table table = entityClass.getAnnotation(Table.class);
+        return table != null && !table.name().isEmpty() ? table.name() : snakeCase(entityClass.getSimpleName());
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase();
+    }
+}
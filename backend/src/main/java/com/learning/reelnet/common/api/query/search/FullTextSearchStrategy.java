@@ -0,0 +1,63 @@
+package com.learning.reelnet.common.api.query.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.learning.reelnet.common.api.query.plan.QueryAttribute;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * PostgreSQL full-text search, ranked with {@code ts_rank}.
+ * <p>
+ * When all full-text fields of the entity are searched, matches the generated,
+ * GIN-indexed {@code search_vector} column and the searched fields only select
+ * the table. When only some of them are, the vector is built from the searched
+ * fields in the query instead, so the other fields do not match; see
+ * {@link FullTextSearchFunctions}.
+ */
+public class FullTextSearchStrategy implements SearchStrategy {
+
+    private final boolean storedVector;
+
+    /**
+     * @param storedVector Whether the searched fields are exactly those of the
+     *            stored {@code search_vector}
+     */
+    public FullTextSearchStrategy(boolean storedVector) {
+        this.storedVector = storedVector;
+    }
+
+    @Override
+    public Predicate match(Root<?> root, CriteriaBuilder cb, String query, List<QueryAttribute> fields) {
+        if (storedVector) {
+            return cb.isTrue(cb.function(FullTextSearchFunctions.MATCH, Boolean.class,
+                    fields.get(0).path(root), cb.literal(query)));
+        }
+        return cb.isTrue(cb.function(FullTextSearchFunctions.MATCH_FIELDS, Boolean.class,
+                arguments(root, cb, query, fields)));
+    }
+
+    @Override
+    public Expression<? extends Number> rank(Root<?> root, CriteriaBuilder cb, String query,
+            List<QueryAttribute> fields) {
+        if (storedVector) {
+            return cb.function(FullTextSearchFunctions.RANK, Float.class,
+                    fields.get(0).path(root), cb.literal(query));
+        }
+        return cb.function(FullTextSearchFunctions.RANK_FIELDS, Float.class, arguments(root, cb, query, fields));
+    }
+
+    private static Expression<?>[] arguments(Root<?> root, CriteriaBuilder cb, String query,
+            List<QueryAttribute> fields) {
+        List<Expression<?>> arguments = new ArrayList<>(fields.size() + 1);
+        arguments.add(cb.literal(query));
+        for (QueryAttribute field : fields) {
+            arguments.add(field.path(root));
+        }
+        return arguments.toArray(new Expression<?>[0]);
+    }
+}
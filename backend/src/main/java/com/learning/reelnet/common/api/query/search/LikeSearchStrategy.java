@@ -0,0 +1,51 @@
+package com.learning.reelnet.common.api.query.search;
+
+import java.util.List;
+
+import com.learning.reelnet.common.api.query.plan.QueryAttribute;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Portable substring search: {@code lower(field) LIKE '%query%'} on each field.
+ * <p>
+ * Works on any database but cannot use an index. Ranking mirrors the weights
+ * of the full-text strategy: a match in an earlier field scores higher.
+ */
+public class LikeSearchStrategy implements SearchStrategy {
+
+    @Override
+    public Predicate match(Root<?> root, CriteriaBuilder cb, String query, List<QueryAttribute> fields) {
+        String pattern = pattern(query);
+        Predicate[] predicates = new Predicate[fields.size()];
+        for (int i = 0; i < predicates.length; i++) {
+            predicates[i] = matches(root, cb, fields.get(i), pattern);
+        }
+        return cb.or(predicates);
+    }
+
+    @Override
+    public Expression<? extends Number> rank(Root<?> root, CriteriaBuilder cb, String query,
+            List<QueryAttribute> fields) {
+        String pattern = pattern(query);
+        Expression<Integer> score = cb.literal(0);
+        for (int i = 0; i < fields.size(); i++) {
+            Expression<Integer> weight = cb.<Integer>selectCase()
+                    .when(matches(root, cb, fields.get(i), pattern), cb.literal(fields.size() - i))
+                    .otherwise(cb.literal(0));
+            score = cb.sum(score, weight);
+        }
+        return score;
+    }
+
+    private Predicate matches(Root<?> root, CriteriaBuilder cb, QueryAttribute field, String pattern) {
+        return cb.like(cb.lower(field.path(root).as(String.class)), pattern);
+    }
+
+    private String pattern(String query) {
+        return "%" + query.toLowerCase() + "%";
+    }
+}
@@ -0,0 +1,64 @@
+package com.learning.reelnet.common.api.query.search;
+
+import java.util.HashSet;
+
+import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.common.api.query.plan.EntityQueryMetadata;
+import com.learning.reelnet.common.exception.BadRequestException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses the search strategy for a request.
+ * <p>
+ * Full-text search is used when it is available on the running database (see
+ * {@link FullTextSearchInitializer}), the entity declares full-text fields
+ * covering the searched fields, and the caller did not ask for LIKE. With AUTO
+ * everything else falls back to {@link LikeSearchStrategy}; an explicit
+ * FULL_TEXT request that cannot be served is rejected.
+ */
+@Slf4j
+public final class SearchStrategies {
+
+    private static final SearchStrategy LIKE = new LikeSearchStrategy();
+    private static final SearchStrategy FULL_TEXT = new FullTextSearchStrategy(true);
+    private static final SearchStrategy FULL_TEXT_SUBSET = new FullTextSearchStrategy(false);
+
+    private static volatile boolean fullTextAvailable = false;
+
+    private SearchStrategies() {
+    }
+
+    /**
+     * Resolve the strategy for a search.
+     *
+     * @param metadata Metadata of the searched entity
+     * @param searchParams Search information
+     * @return Strategy to use
+     * @throws BadRequestException if full-text search was requested but cannot
+     *             serve the search
+     */
+    public static SearchStrategy resolve(EntityQueryMetadata metadata, SearchParams searchParams) {
+        if (searchParams.getStrategy() == SearchParams.Strategy.LIKE) {
+            return LIKE;
+        }
+        boolean searchable = metadata.isFullTextSearchable(searchParams.getFields());
+        if (fullTextAvailable && searchable) {
+            return new HashSet<>(searchParams.getFields()).containsAll(metadata.getFullTextFields())
+                    ? FULL_TEXT
+                    : FULL_TEXT_SUBSET;
+        }
+        if (searchParams.getStrategy() == SearchParams.Strategy.FULL_TEXT) {
+            throw new BadRequestException(!fullTextAvailable
+                    ? "Full-text search is not available"
+                    : "Full-text search is not supported on fields " + searchParams.getFields());
+        }
+        log.debug("Using LIKE search for {} on {} (full-text available: {})",
+                metadata.getEntityClass().getSimpleName(), searchParams.getFields(), fullTextAvailable);
+        return LIKE;
+    }
+
+    static void setFullTextAvailable(boolean available) {
+        fullTextAvailable = available;
+    }
+}
@@ -0,0 +1,38 @@
+package com.learning.reelnet.common.api.query.search;
+
+import java.util.List;
+
+import com.learning.reelnet.common.api.query.plan.QueryAttribute;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Matches and ranks rows against a free-text search query.
+ */
+public interface SearchStrategy {
+
+    /**
+     * Build the predicate selecting rows that match the query.
+     *
+     * @param root Query root
+     * @param cb Criteria builder
+     * @param query User search text
+     * @param fields Searched attributes, in decreasing importance
+     * @return Match predicate
+     */
+    Predicate match(Root<?> root, CriteriaBuilder cb, String query, List<QueryAttribute> fields);
+
+    /**
+     * Build the relevance score of a row; higher is more relevant.
+     *
+     * @param root Query root
+     * @param cb Criteria builder
+     * @param query User search text
+     * @param fields Searched attributes, in decreasing importance
+     * @return Score expression
+     */
+    Expression<? extends Number> rank(Root<?> root, CriteriaBuilder cb, String query, List<QueryAttribute> fields);
+}
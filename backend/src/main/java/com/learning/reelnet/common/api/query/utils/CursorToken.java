@@ -0,0 +1,77 @@
+package com.learning.reelnet.common.api.query.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.reelnet.common.exception.BadRequestException;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Position of a row in a keyset-paged result.
+ * <p>
+ * A token records the sort field and direction it was issued for, the sort
+ * value and id of the boundary row, and whether it points forward (rows after
+ * the boundary) or backward (rows before it). Clients receive it as an opaque
+ * URL-safe Base64 string and must not depend on its contents.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorToken {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @JsonProperty("s")
+    private String sortBy;
+
+    @JsonProperty("d")
+    private String sortDirection;
+
+    @JsonProperty("v")
+    private String value;
+
+    @JsonProperty("i")
+    private String id;
+
+    @JsonProperty("b")
+    private boolean backward;
+
+    /**
+     * Encodes this token as an opaque cursor string.
+     *
+     * @return URL-safe Base64 cursor
+     */
+    public String encode() {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(this);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor string produced by {@link #encode()}.
+     *
+     * @param cursor the cursor string
+     * @return the decoded token
+     * @throws BadRequestException if the cursor is malformed
+     */
+    public static CursorToken decode(String cursor) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            CursorToken token = objectMapper.readValue(json, CursorToken.class);
+            if (token.getSortBy() == null || token.getId() == null) {
+                throw new IllegalArgumentException("Incomplete cursor");
+            }
+            return token;
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid cursor", "INVALID_CURSOR", e);
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.learning.reelnet.common.api.query.utils;
+
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.learning.reelnet.common.api.query.CursorSlice;
+import com.learning.reelnet.common.api.query.QueryParams;
+import com.learning.reelnet.common.api.query.plan.EntityQueryMetadata;
+import com.learning.reelnet.common.api.query.plan.QueryMetadataRegistry;
+import com.learning.reelnet.common.exception.BadRequestException;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Executes keyset (cursor) paged queries.
+ * <p>
+ * Instead of {@code OFFSET n}, each page seeks past the last row of the
+ * previous one using an index-friendly {@code (sortBy, id)} predicate, so the
+ * cost of a page does not grow with its depth. One extra row is fetched to
+ * detect whether more rows follow; no count query is issued.
+ */
+public class KeysetPaginator {
+
+    private KeysetPaginator() {
+    }
+
+    /**
+     * Fetch one cursor page of entities matching a specification.
+     *
+     * @param entityManager Entity manager
+     * @param domainClass Entity class; must have an {@code id} attribute
+     * @param spec Filter specification, may be null
+     * @param queryParams Size, sort and cursor of the requested page
+     * @return Page content with neighbouring cursors
+     */
+    public static <T> CursorSlice<T> findSlice(EntityManager entityManager, Class<T> domainClass,
+            Specification<T> spec, QueryParams queryParams) {
+        return findSlice(entityManager, domainClass, spec, queryParams, domainClass);
+    }
+
+    /**
+     * Fetch one cursor page matching a specification, selecting only the
+     * columns of a projection. The projection must expose {@code id} and the
+     * sort field so the cursors can be built.
+     *
+     * @param entityManager Entity manager
+     * @param domainClass Entity class; must have an {@code id} attribute
+     * @param spec Filter specification, may be null
+     * @param queryParams Size, sort and cursor of the requested page
+     * @param projection Record or interface to project onto (see
+     *        {@link ProjectionQuery}), or the entity class itself
+     * @return Page content with neighbouring cursors
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, R> CursorSlice<R> findSlice(EntityManager entityManager, Class<T> domainClass,
+            Specification<T> spec, QueryParams queryParams, Class<R> projection) {
+        if (queryParams.isRelevanceSort()) {
+            throw new BadRequestException("Cursor paging does not support relevance order", "INVALID_CURSOR");
+        }
+        String sortBy = queryParams.getSortBy() != null ? queryParams.getSortBy() : "id";
+        boolean ascending = "ASC".equalsIgnoreCase(queryParams.getSortDirection());
+        String direction = ascending ? "ASC" : "DESC";
+        int size = Math.max(queryParams.getSize(), 1);
+
+        CursorToken token = null;
+        if (queryParams.getCursor() != null && !queryParams.getCursor().isEmpty()) {
+            token = CursorToken.decode(queryParams.getCursor());
+            if (!sortBy.equals(token.getSortBy()) || !direction.equals(token.getSortDirection())) {
+                throw new BadRequestException("Cursor does not match the requested sort", "INVALID_CURSOR");
+            }
+        }
+        boolean backward = token != null && token.isBackward();
+
+        Specification<T> pageSpec = Specification.where(spec);
+        if (token != null) {
+            boolean nullable = !"id".equals(sortBy) && isNullable(domainClass, sortBy);
+            pageSpec = pageSpec.and(SpecificationFactory.buildSeekSpecification(sortBy, ascending, nullable, token));
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<?> query;
+        Root<T> root;
+        if (projection == domainClass) {
+            CriteriaQuery<T> entityQuery = cb.createQuery(domainClass);
+            root = entityQuery.from(domainClass);
+            query = entityQuery;
+        } else {
+            ProjectionQuery.Selected<T> selected = ProjectionQuery.select(cb, domainClass, projection);
+            root = selected.root();
+            query = selected.query();
+        }
+        try {
+            Predicate predicate = pageSpec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new BadRequestException("Invalid cursor", "INVALID_CURSOR", e);
+        }
+
+        // Walking backwards reads the reversed order and flips the rows afterwards
+        boolean readAscending = ascending != backward;
+        List<Order> orders = new ArrayList<>();
+        if (!"id".equals(sortBy)) {
+            Path<Object> path = root.get(sortBy);
+            if (isNullable(domainClass, sortBy)) {
+                // Null-precedence clauses are not honoured on every database, so order nulls explicitly
+                Expression<Integer> nullFlag = cb.<Integer>selectCase()
+                        .when(cb.isNull(path), cb.literal(1))
+                        .otherwise(cb.literal(0));
+                orders.add(backward ? cb.desc(nullFlag) : cb.asc(nullFlag));
+            }
+            orders.add(readAscending ? cb.asc(path) : cb.desc(path));
+        }
+        orders.add(readAscending ? cb.asc(root.get("id")) : cb.desc(root.get("id")));
+        query.orderBy(orders);
+
+        List<?> result = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        List<R> rows = projection == domainClass ? (List<R>) result
+                : ProjectionQuery.toProjections(result, projection);
+
+        boolean hasMore = rows.size() > size;
+        List<R> content = new ArrayList<>(hasMore ? rows.subList(0, size) : rows);
+        if (backward) {
+            Collections.reverse(content);
+        }
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            // Going back from a page always leaves rows after it, and vice versa
+            if (backward || hasMore) {
+                nextCursor = cursorFor(content.get(content.size() - 1), sortBy, direction, false);
+            }
+            if ((backward && hasMore) || (!backward && token != null)) {
+                prevCursor = cursorFor(content.get(0), sortBy, direction, true);
+            }
+        }
+
+        PageRequest pageable = PageRequest.of(0, size, Sort.by(Sort.Direction.fromString(direction), sortBy));
+        return new CursorSlice<>(content, pageable, nextCursor, prevCursor);
+    }
+
+    private static boolean isNullable(Class<?> domainClass, String sortBy) {
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(domainClass);
+        return metadata == null || metadata.attribute(sortBy).isNullable();
+    }
+
+    private static String cursorFor(Object row, String sortBy, String direction, boolean backward) {
+        Object value = ProjectionQuery.readProperty(row, sortBy);
+        Object id = ProjectionQuery.readProperty(row, "id");
+        return new CursorToken(sortBy, direction, stringValue(value), stringValue(id), backward).encode();
+    }
+
+    private static String stringValue(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        return value.toString();
+    }
+}
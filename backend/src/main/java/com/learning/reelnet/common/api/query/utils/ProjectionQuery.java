@@ -0,0 +1,217 @@
+package com.learning.reelnet.common.api.query.utils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.util.ReflectionUtils;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Executes specification queries that select only the columns of a
+ * projection type instead of hydrating entities.
+ * <p>
+ * A record projection is built with a constructor expression from its
+ * components; an interface projection is read as a tuple of its getter
+ * properties and wrapped in a map-backed proxy. Component and property names
+ * must be attribute names of the queried entity. Projected rows are never
+ * managed, so they carry no dirty-checking snapshot, version check or lazy
+ * proxies.
+ */
+public class ProjectionQuery {
+
+    private static final ProjectionFactory PROJECTION_FACTORY = new SpelAwareProxyProjectionFactory();
+    private static final Map<Class<?>, List<String>> PROPERTIES = new ConcurrentHashMap<>();
+
+    private ProjectionQuery() {
+    }
+
+    /**
+     * Fetch one page of projected rows matching a specification.
+     *
+     * @param entityManager Entity manager
+     * @param domainClass Entity being queried
+     * @param spec Filter specification, may be null
+     * @param pageable Page and sort; unpaged returns all rows
+     * @param projection Record or interface to project onto
+     * @return Page of projected rows with the total count
+     */
+    public static <T, R> Page<R> findPage(EntityManager entityManager, Class<T> domainClass,
+            Specification<T> spec, Pageable pageable, Class<R> projection) {
+        List<R> content = findList(entityManager, domainClass, spec, pageable, projection);
+        // The count query is skipped when the page itself reveals the total
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(entityManager, domainClass, spec));
+    }
+
+    /**
+     * Fetch projected rows matching a specification.
+     *
+     * @param entityManager Entity manager
+     * @param domainClass Entity being queried
+     * @param spec Filter specification, may be null
+     * @param pageable Page and sort; unpaged returns all rows
+     * @param projection Record or interface to project onto
+     * @return Projected rows in the requested order
+     */
+    public static <T, R> List<R> findList(EntityManager entityManager, Class<T> domainClass,
+            Specification<T> spec, Pageable pageable, Class<R> projection) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        Selected<T> selected = select(cb, domainClass, projection);
+        applySpecification(selected.query(), selected.root(), cb, spec);
+        if (pageable.getSort().isSorted()) {
+            selected.query().orderBy(QueryUtils.toOrders(pageable.getSort(), selected.root(), cb));
+        }
+
+        TypedQuery<?> query = entityManager.createQuery(selected.query());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return toProjections(query.getResultList(), projection);
+    }
+
+    /**
+     * Start a query selecting the projection's properties from an entity. The
+     * caller adds restrictions and order to {@link Selected#query()} and
+     * converts the rows with {@link #toProjections(List, Class)}.
+     *
+     * @param cb Criteria builder
+     * @param domainClass Entity being queried
+     * @param projection Record or interface to project onto
+     * @return Query and its root
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> Selected<T> select(CriteriaBuilder cb, Class<T> domainClass, Class<R> projection) {
+        if (projection.isRecord()) {
+            CriteriaQuery<R> query = cb.createQuery(projection);
+            Root<T> root = query.from(domainClass);
+            query.select(cb.construct(projection, selections(root, projection)));
+            return new Selected<>((CriteriaQuery<Object>) (CriteriaQuery<?>) query, root);
+        }
+        if (projection.isInterface()) {
+            CriteriaQuery<Tuple> query = cb.createTupleQuery();
+            Root<T> root = query.from(domainClass);
+            query.multiselect(selections(root, projection));
+            return new Selected<>((CriteriaQuery<Object>) (CriteriaQuery<?>) query, root);
+        }
+        throw new IllegalArgumentException("Projection must be a record or an interface: " + projection.getName());
+    }
+
+    @SuppressWarnings("unchecked")
+    static <R> List<R> toProjections(List<?> rows, Class<R> projection) {
+        if (!projection.isInterface()) {
+            return (List<R>) rows;
+        }
+        List<String> properties = properties(projection);
+        List<R> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Tuple tuple = (Tuple) row;
+            Map<String, Object> values = new HashMap<>(properties.size() * 2);
+            for (int i = 0; i < properties.size(); i++) {
+                values.put(properties.get(i), tuple.get(i));
+            }
+            result.add(PROJECTION_FACTORY.createProjection(projection, values));
+        }
+        return result;
+    }
+
+    /**
+     * Read a property from an entity, a record or an interface projection.
+     *
+     * @param row Result row
+     * @param property Property name
+     * @return Property value
+     */
+    static Object readProperty(Object row, String property) {
+        if (row instanceof Record) {
+            for (RecordComponent component : row.getClass().getRecordComponents()) {
+                if (component.getName().equals(property)) {
+                    return invoke(component.getAccessor(), row);
+                }
+            }
+            throw new IllegalArgumentException("Unknown property '" + property + "' on " + row.getClass().getName());
+        }
+        PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(row.getClass(), property);
+        if (descriptor == null || descriptor.getReadMethod() == null) {
+            throw new IllegalArgumentException("Unknown property '" + property + "' on " + row.getClass().getName());
+        }
+        return invoke(descriptor.getReadMethod(), row);
+    }
+
+    private static <T> long count(EntityManager entityManager, Class<T> domainClass, Specification<T> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<T> root = query.from(domainClass);
+        applySpecification(query, root, cb, spec);
+        query.select(query.isDistinct() ? cb.countDistinct(root) : cb.count(root));
+        // Drop any ORDER BY the specification added
+        query.orderBy(List.of());
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static <T> void applySpecification(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder cb,
+            Specification<T> spec) {
+        if (spec == null) {
+            return;
+        }
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    private static Selection<?>[] selections(Root<?> root, Class<?> projection) {
+        return properties(projection).stream()
+                .map(property -> root.get(property).alias(property))
+                .toArray(Selection<?>[]::new);
+    }
+
+    private static List<String> properties(Class<?> projection) {
+        return PROPERTIES.computeIfAbsent(projection, type -> {
+            if (type.isRecord()) {
+                return Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName).toList();
+            }
+            return Arrays.stream(BeanUtils.getPropertyDescriptors(type))
+                    .filter(descriptor -> descriptor.getReadMethod() != null)
+                    .map(PropertyDescriptor::getName)
+                    .toList();
+        });
+    }
+
+    private static Object invoke(Method accessor, Object target) {
+        try {
+            ReflectionUtils.makeAccessible(accessor);
+            return accessor.invoke(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Could not read " + accessor.getName(), e);
+        }
+    }
+
+    /**
+     * A projection query and the entity root it selects from
+     */
+    record Selected<T>(CriteriaQuery<Object> query, Root<T> root) {
+    }
+}
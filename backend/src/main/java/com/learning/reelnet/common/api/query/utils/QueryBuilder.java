@@ -2,18 +2,20 @@ package com.learning.reelnet.common.api.query.utils;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.common.api.query.SearchParams;
-import com.learning.reelnet.common.api.query.annotation.SupportedParams;
+import com.learning.reelnet.common.api.query.plan.EntityQueryMetadata;
+import com.learning.reelnet.common.api.query.plan.QueryMetadataRegistry;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -25,6 +27,10 @@ public class QueryBuilder {
     
     private static final ObjectMapper objectMapper = new ObjectMapper();
     
+    // Readers are immutable and skip the per-call type lookup of readValue
+    private static final ObjectReader filterReader = objectMapper.readerFor(FilterParams.class);
+    private static final ObjectReader searchReader = objectMapper.readerFor(SearchParams.class);
+    
     /**
      * Build QueryParams, FilterParams, and SearchParams objects from request parameters
      * 
@@ -57,6 +63,7 @@ public class QueryBuilder {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .cursor(params.get("cursor"))
                 .build();
     }
     
@@ -72,7 +79,7 @@ public class QueryBuilder {
         String filterJson = params.get("filter");
         if (filterJson != null && !filterJson.isEmpty()) {
             try {
-                jsonFilterParams = objectMapper.readValue(filterJson, FilterParams.class);
+                jsonFilterParams = filterReader.readValue(filterJson);
             } catch (Exception e) {
                 log.warn("Failed to parse filter JSON: {}", e.getMessage());
             }
@@ -137,7 +144,7 @@ public class QueryBuilder {
         String searchJson = params.get("search");
         if (searchJson != null && !searchJson.isEmpty()) {
             try {
-                jsonSearchParams = objectMapper.readValue(searchJson, SearchParams.class);
+                jsonSearchParams = searchReader.readValue(searchJson);
             } catch (Exception e) {
                 log.warn("Failed to parse search JSON: {}", e.getMessage());
             }
@@ -153,6 +160,15 @@ public class QueryBuilder {
             if (fields != null && !fields.isEmpty()) {
                 simpleSearchParams.setFields(new ArrayList<>(Arrays.asList(fields.split(","))));
             }
+            
+            String strategy = params.get("searchStrategy");
+            if (strategy != null && !strategy.isEmpty()) {
+                try {
+                    simpleSearchParams.setStrategy(SearchParams.Strategy.valueOf(strategy.toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    log.warn("Unknown search strategy: {}", strategy);
+                }
+            }
         }
         
         // Ưu tiên JSON search nếu cả hai đều có
@@ -175,27 +191,25 @@ public class QueryBuilder {
      */
     private static void validateParams(QueryParams queryParams, FilterParams filterParams, 
                                        SearchParams searchParams, Class<?> entityClass) {
-        if (entityClass == null) return;
-        
-        SupportedParams annotation = entityClass.getAnnotation(SupportedParams.class);
-        if (annotation == null) return;
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(entityClass);
+        if (metadata == null) return;
         
         // Validate sort field
         if (queryParams != null && queryParams.getSortBy() != null) {
-            List<String> allowedFields = Arrays.asList(annotation.allowedSortFields());
-            if (!allowedFields.isEmpty() && !allowedFields.contains(queryParams.getSortBy())) {
-                queryParams.setSortBy(allowedFields.get(0));
+            Set<String> allowedFields = metadata.getAllowedSortFields();
+            if (!allowedFields.isEmpty() && !metadata.isSortable(queryParams.getSortBy())) {
+                queryParams.setSortBy(metadata.getDefaultSortField());
             }
         }
         
         // Validate page size
-        if (queryParams != null && queryParams.getSize() > annotation.maxPageSize()) {
-            queryParams.setSize(annotation.maxPageSize());
+        if (queryParams != null && queryParams.getSize() > metadata.getMaxPageSize()) {
+            queryParams.setSize(metadata.getMaxPageSize());
         }
         
         // Validate filter fields
         if (filterParams != null && filterParams.hasFilters()) {
-            List<String> allowedFields = Arrays.asList(annotation.allowedFilterFields());
+            Set<String> allowedFields = metadata.getAllowedFilterFields();
             if (!allowedFields.isEmpty()) {
                 filterParams.getFilters().keySet().removeIf(field -> !allowedFields.contains(field));
             }
@@ -203,7 +217,7 @@ public class QueryBuilder {
         
         // Validate search fields
         if (searchParams != null && searchParams.hasSearch()) {
-            List<String> allowedFields = Arrays.asList(annotation.allowedSearchFields());
+            Set<String> allowedFields = metadata.getAllowedSearchFields();
             if (!allowedFields.isEmpty()) {
                 searchParams.getFields().removeIf(field -> !allowedFields.contains(field));
                 if (searchParams.getFields().isEmpty()) {
@@ -4,6 +4,9 @@ import org.springframework.data.jpa.domain.Specification;
 
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.common.api.query.plan.EntityQueryMetadata;
+import com.learning.reelnet.common.api.query.plan.QueryMetadataRegistry;
+import com.learning.reelnet.common.api.query.plan.QueryPlanCache;
 
 import jakarta.persistence.criteria.*;
 
@@ -28,6 +31,43 @@ public class SpecificationFactory {
         return combineWithAnd(filterSpec, searchSpec);
     }
     
+    /**
+     * Build a Specification through the compiled plan for the request's shape.
+     * Falls back to {@link #buildSpecification(FilterParams, SearchParams)} for
+     * entities without {@code @SupportedParams}.
+     *
+     * @param entityClass Entity being queried
+     * @param filterParams Filter information
+     * @param searchParams Search information
+     * @return Specification bound to the request values
+     */
+    public static <T> Specification<T> buildSpecification(Class<T> entityClass, FilterParams filterParams,
+            SearchParams searchParams) {
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(entityClass);
+        if (metadata == null) {
+            return buildSpecification(filterParams, searchParams);
+        }
+        return QueryPlanCache.planFor(metadata, filterParams, searchParams).bind(filterParams, searchParams);
+    }
+    
+    /**
+     * Build a Specification ordering results by search relevance. Used when
+     * {@code sortBy=relevance}; the Pageable must then be unsorted.
+     *
+     * @param entityClass Entity being queried
+     * @param filterParams Filter information
+     * @param searchParams Search information
+     * @return Ordering specification
+     */
+    public static <T> Specification<T> buildRelevanceOrder(Class<T> entityClass, FilterParams filterParams,
+            SearchParams searchParams) {
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(entityClass);
+        if (metadata == null) {
+            return Specification.where(null);
+        }
+        return QueryPlanCache.planFor(metadata, filterParams, searchParams).relevanceOrder(searchParams);
+    }
+    
     private static <T> Specification<T> buildFilterSpecification(FilterParams filterParams) {
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -66,6 +106,75 @@ public class SpecificationFactory {
         };
     }
     
+    /**
+     * Build the keyset predicate selecting rows beyond a cursor position.
+     * <p>
+     * Rows are ordered by {@code (sortBy, id)} in the given direction with nulls
+     * last. A forward token matches rows after its position, a backward token
+     * rows before it.
+     *
+     * @param sortBy Sort field the token was issued for
+     * @param ascending Whether the sort is ascending
+     * @param nullable Whether the sort field may hold nulls
+     * @param token Cursor position
+     * @return Seek specification
+     */
+    public static <T> Specification<T> buildSeekSpecification(String sortBy, boolean ascending, boolean nullable,
+            CursorToken token) {
+        return (root, query, cb) -> {
+            Path<Comparable<Object>> idPath = root.get("id");
+            Comparable<Object> id = convertCursorValue(token.getId(), idPath.getJavaType());
+            // Ascending + forward and descending + backward both move towards larger values
+            boolean greater = ascending != token.isBackward();
+            Predicate idBeyond = greater ? cb.greaterThan(idPath, id) : cb.lessThan(idPath, id);
+            
+            if ("id".equals(sortBy)) {
+                return idBeyond;
+            }
+            
+            Path<Comparable<Object>> path = root.get(sortBy);
+            boolean towardNulls = nullable && !token.isBackward();
+            
+            if (token.getValue() == null) {
+                Predicate tie = cb.and(cb.isNull(path), idBeyond);
+                return !token.isBackward() ? tie : cb.or(cb.isNotNull(path), tie);
+            }
+            
+            Comparable<Object> value = convertCursorValue(token.getValue(), path.getJavaType());
+            Predicate beyond = greater ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            Predicate seek = cb.or(beyond, cb.and(cb.equal(path, value), idBeyond));
+            return towardNulls ? cb.or(seek, cb.isNull(path)) : seek;
+        };
+    }
+    
+    /**
+     * Convert a cursor value back to the Java type of its attribute
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    static Comparable<Object> convertCursorValue(String raw, Class<?> type) {
+        Object value;
+        if (type == java.util.UUID.class) {
+            value = java.util.UUID.fromString(raw);
+        } else if (type == java.time.LocalDateTime.class) {
+            value = java.time.LocalDateTime.parse(raw);
+        } else if (type == java.time.LocalDate.class) {
+            value = java.time.LocalDate.parse(raw);
+        } else if (type == Long.class || type == long.class) {
+            value = Long.valueOf(raw);
+        } else if (type == Integer.class || type == int.class) {
+            value = Integer.valueOf(raw);
+        } else if (type == Double.class || type == double.class) {
+            value = Double.valueOf(raw);
+        } else if (type == Boolean.class || type == boolean.class) {
+            value = Boolean.valueOf(raw);
+        } else if (type.isEnum()) {
+            value = Enum.valueOf((Class<Enum>) type, raw);
+        } else {
+            value = raw;
+        }
+        return (Comparable<Object>) value;
+    }
+    
     @SafeVarargs
     private static <T> Specification<T> combineWithAnd(Specification<T>... specifications) {
         Specification<T> result = Specification.where(null);
@@ -5,40 +5,41 @@ import org.springframework.stereotype.Component;
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.common.api.query.SearchParams;
-import com.learning.reelnet.common.api.query.annotation.SupportedParams;
+import com.learning.reelnet.common.api.query.plan.EntityQueryMetadata;
+import com.learning.reelnet.common.api.query.plan.QueryMetadataRegistry;
 
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.ArrayList;
 
 @Component
 public class QueryParamValidator {
     
     public void validateQueryParams(QueryParams queryParams, Class<?> entityClass) {
-        SupportedParams annotation = entityClass.getAnnotation(SupportedParams.class);
-        if (annotation == null) return;
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(entityClass);
+        if (metadata == null) return;
         
         // Validate sort field
         if (queryParams != null && queryParams.getSortBy() != null) {
-            List<String> allowedFields = Arrays.asList(annotation.allowedSortFields());
-            if (!allowedFields.contains(queryParams.getSortBy())) {
-                queryParams.setSortBy(allowedFields.isEmpty() ? "createdAt" : allowedFields.get(0));
+            Set<String> allowedFields = metadata.getAllowedSortFields();
+            if (!metadata.isSortable(queryParams.getSortBy())) {
+                queryParams.setSortBy(allowedFields.isEmpty() ? "createdAt" : metadata.getDefaultSortField());
             }
         }
         
         // Validate page size
-        if (queryParams != null && queryParams.getSize() > annotation.maxPageSize()) {
-            queryParams.setSize(annotation.maxPageSize());
+        if (queryParams != null && queryParams.getSize() > metadata.getMaxPageSize()) {
+            queryParams.setSize(metadata.getMaxPageSize());
         }
     }
     
     public void validateFilterParams(FilterParams filterParams, Class<?> entityClass) {
-        SupportedParams annotation = entityClass.getAnnotation(SupportedParams.class);
-        if (annotation == null) return;
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(entityClass);
+        if (metadata == null) return;
         
         if (filterParams != null && filterParams.hasFilters()) {
-            List<String> allowedFields = Arrays.asList(annotation.allowedFilterFields());
+            Set<String> allowedFields = metadata.getAllowedFilterFields();
             Map<String, Map<String, Object>> filters = filterParams.getFilters();
             
             for (String field : filters.keySet()) {
@@ -50,11 +51,11 @@ public class QueryParamValidator {
     }
     
     public void validateSearchParams(SearchParams searchParams, Class<?> entityClass) {
-        SupportedParams annotation = entityClass.getAnnotation(SupportedParams.class);
-        if (annotation == null) return;
+        EntityQueryMetadata metadata = QueryMetadataRegistry.get(entityClass);
+        if (metadata == null) return;
         
         if (searchParams != null && searchParams.hasSearch()) {
-            List<String> allowedFields = Arrays.asList(annotation.allowedSearchFields());
+            Set<String> allowedFields = metadata.getAllowedSearchFields();
             List<String> searchFields = new ArrayList<>(searchParams.getFields());
             
             // Lọc trường không hợp lệ thay vì ném ngoại lệ
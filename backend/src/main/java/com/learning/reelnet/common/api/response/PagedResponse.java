@@ -1,11 +1,13 @@
 package com.learning.reelnet.common.api.response;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.learning.reelnet.common.api.query.CursorSlice;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
@@ -92,6 +94,7 @@ public class PagedResponse<T> {
     @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class PageMetadata {
         /**
          * Current page number (zero-based)
@@ -104,14 +107,14 @@ public class PagedResponse<T> {
         private int size;
         
         /**
-         * Total number of pages
+         * Total number of pages, absent for cursor pages
          */
-        private int totalPages;
+        private Integer totalPages;
         
         /**
-         * Total number of elements
+         * Total number of elements, absent for cursor pages
          */
-        private long totalElements;
+        private Long totalElements;
         
         /**
          * Whether there is a previous page
@@ -123,6 +126,16 @@ public class PagedResponse<T> {
          */
         private boolean hasNext;
         
+        /**
+         * Cursor for the next page in keyset mode
+         */
+        private String nextCursor;
+        
+        /**
+         * Cursor for the previous page in keyset mode
+         */
+        private String prevCursor;
+        
         /**
          * Create pagination metadata from Spring Page
          * 
@@ -140,6 +153,33 @@ public class PagedResponse<T> {
                     .hasNext(page.hasNext())
                     .build();
         }
+        
+        /**
+         * Create pagination metadata from a Spring Slice. Pages keep their
+         * totals; cursor slices carry cursors instead.
+         * 
+         * @param slice Spring Slice object
+         * @param <T> Data type
+         * @return PageMetadata object
+         */
+        public static <T> PageMetadata from(Slice<T> slice) {
+            if (slice instanceof Page) {
+                return from((Page<T>) slice);
+            }
+            
+            PageMetadataBuilder builder = PageMetadata.builder()
+                    .number(slice.getNumber())
+                    .size(slice.getSize())
+                    .hasPrevious(slice.hasPrevious())
+                    .hasNext(slice.hasNext());
+            
+            if (slice instanceof CursorSlice) {
+                CursorSlice<T> cursorSlice = (CursorSlice<T>) slice;
+                builder.nextCursor(cursorSlice.getNextCursor())
+                        .prevCursor(cursorSlice.getPrevCursor());
+            }
+            return builder.build();
+        }
     }
     
     /**
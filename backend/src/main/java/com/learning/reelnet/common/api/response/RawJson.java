@@ -0,0 +1,13 @@
+package com.learning.reelnet.common.api.response;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+/**
+ * JSON đã được serialize sẵn (ví dụ bản chụp lưu trong database), được ghi
+ * nguyên văn vào phản hồi thay vì đọc lại thành object rồi serialize lần nữa.
+ *
+ * @param json Chuỗi JSON hợp lệ
+ */
+public record RawJson(@JsonValue @JsonRawValue String json) {
+}
@@ -0,0 +1,159 @@
+package com.learning.reelnet.common.application.cqrs;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Immutable map from message class to the handler bean processing it.
+ * <p>
+ * Built once at startup from all handler beans, with the message type taken
+ * from the handler's resolved generic signature (or its explicit
+ * {@code getCommandClass()}/{@code getQueryClass()} override). Two handlers
+ * for the same message, a handler whose message type cannot be resolved, or
+ * a message class without a handler all fail the build, so wiring mistakes
+ * stop the application from starting instead of failing the first request.
+ *
+ * @param <H> Handler interface
+ */
+public final class HandlerDispatchTable<H> {
+
+    private final Map<Class<?>, H> handlers;
+
+    private HandlerDispatchTable(Map<Class<?>, H> handlers) {
+        this.handlers = Map.copyOf(handlers);
+    }
+
+    /**
+     * Create an empty table, used until the real one is built.
+     *
+     * @param handlerType Handler interface
+     * @return Empty table
+     */
+    public static <H> HandlerDispatchTable<H> empty(Class<H> handlerType) {
+        return new HandlerDispatchTable<>(Map.of());
+    }
+
+    /**
+     * Build the table from the handler beans of a bean factory.
+     *
+     * @param beanFactory Bean factory holding the handlers
+     * @param handlerType Handler interface, e.g. {@code CommandHandler}
+     * @param messageType Message interface, e.g. {@code Command}
+     * @param declaredType Explicit message type of a handler, or null if it has none
+     * @param basePackages Packages scanned for message classes that must have a
+     *            handler; empty to skip that check
+     * @return Dispatch table
+     * @throws IllegalStateException If a handler is ambiguous, unresolvable or missing
+     */
+    public static <H> HandlerDispatchTable<H> build(ListableBeanFactory beanFactory, Class<H> handlerType,
+            Class<?> messageType, Function<H, Class<?>> declaredType, Collection<String> basePackages) {
+        Map<Class<?>, H> handlers = new HashMap<>();
+        Map<Class<?>, String> beanNames = new HashMap<>();
+        List<String> problems = new ArrayList<>();
+
+        beanFactory.getBeansOfType(handlerType).forEach((beanName, handler) -> {
+            Class<?> type = resolveMessageType(handler, handlerType, declaredType);
+            if (type == null) {
+                problems.add("cannot resolve the message type of handler '" + beanName + "'");
+                return;
+            }
+            String existing = beanNames.putIfAbsent(type, beanName);
+            if (existing != null) {
+                problems.add(type.getSimpleName() + " has more than one handler: '" + existing + "' and '"
+                        + beanName + "'");
+                return;
+            }
+            handlers.put(type, handler);
+        });
+
+        for (Class<?> type : findMessageTypes(messageType, basePackages)) {
+            if (!handlers.containsKey(type)) {
+                problems.add("no handler for " + type.getName());
+            }
+        }
+
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Invalid " + handlerType.getSimpleName() + " configuration: "
+                    + String.join("; ", problems));
+        }
+        return new HandlerDispatchTable<>(handlers);
+    }
+
+    /**
+     * Get the handler for a message class.
+     *
+     * @param type Message class
+     * @return Handler, or null if none is registered
+     */
+    public H get(Class<?> type) {
+        return handlers.get(type);
+    }
+
+    /**
+     * Return a copy of this table with one more handler.
+     *
+     * @param type Message class
+     * @param handler Handler
+     * @return New table
+     * @throws IllegalStateException If the message class already has a different handler
+     */
+    public HandlerDispatchTable<H> with(Class<?> type, H handler) {
+        H existing = handlers.get(type);
+        if (existing != null && existing != handler) {
+            throw new IllegalStateException(type.getSimpleName() + " already has handler "
+                    + ClassUtils.getUserClass(existing).getSimpleName());
+        }
+        Map<Class<?>, H> copy = new HashMap<>(handlers);
+        copy.put(type, handler);
+        return new HandlerDispatchTable<>(copy);
+    }
+
+    /**
+     * Get the number of registered handlers.
+     *
+     * @return Handler count
+     */
+    public int size() {
+        return handlers.size();
+    }
+
+    private static <H> Class<?> resolveMessageType(H handler, Class<H> handlerType,
+            Function<H, Class<?>> declaredType) {
+        // Look through AOP proxies, e.g. handlers with @Transactional methods
+        Class<?> targetClass = AopProxyUtils.ultimateTargetClass(handler);
+        Class<?> resolved = ResolvableType.forClass(targetClass).as(handlerType).getGeneric(1).resolve();
+        if (resolved != null) {
+            return resolved;
+        }
+        try {
+            return declaredType.apply(handler);
+        } catch (UnsupportedOperationException e) {
+            return null;
+        }
+    }
+
+    private static List<Class<?>> findMessageTypes(Class<?> messageType, Collection<String> basePackages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.addIncludeFilter(new AssignableTypeFilter(messageType));
+
+        List<Class<?>> types = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            for (BeanDefinition candidate : scanner.findCandidateComponents(basePackage)) {
+                types.add(ClassUtils.resolveClassName(candidate.getBeanClassName(), messageType.getClassLoader()));
+            }
+        }
+        return types;
+    }
+}
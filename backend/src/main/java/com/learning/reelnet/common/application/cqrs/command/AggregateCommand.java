@@ -0,0 +1,19 @@
+package com.learning.reelnet.common.application.cqrs.command;
+
+/**
+ * A command that changes one existing aggregate.
+ * <p>
+ * When command lanes are enabled, commands for the same aggregate id are
+ * executed one at a time in submission order.
+ *
+ * @param <R> The type of result returned by the command
+ */
+public interface AggregateCommand<R> extends Command<R> {
+
+    /**
+     * Get the id of the aggregate this command changes.
+     *
+     * @return Aggregate id, or null to run the command outside the lanes
+     */
+    Object getAggregateId();
+}
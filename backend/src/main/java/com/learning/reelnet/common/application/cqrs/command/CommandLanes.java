@@ -0,0 +1,180 @@
+package com.learning.reelnet.common.application.cqrs.command;
+
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.MDC;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fixed set of single-threaded lanes for aggregate commands.
+ * <p>
+ * An aggregate id always hashes to the same lane, so commands for one
+ * aggregate run one after another in submission order without database
+ * locks, while commands for different aggregates spread over the lanes and
+ * run in parallel. The caller's security context and MDC are carried into
+ * the lane.
+ * <p>
+ * A command dispatched from inside a lane runs inline on that lane: waiting
+ * for another lane from a lane thread could deadlock.
+ * <p>
+ * Per lane, {@code cqrs.command.lane.queue} reports waiting commands and
+ * {@code cqrs.command.lane.wait} the time from submission to start.
+ */
+@Slf4j
+public class CommandLanes {
+
+    private static final ThreadLocal<Boolean> ON_LANE = new ThreadLocal<>();
+
+    private final ThreadPoolExecutor[] lanes;
+    private final Timer[] waitTimers;
+
+    /**
+     * Start the lanes.
+     *
+     * @param count Number of lanes
+     * @param queueCapacity Commands that may wait per lane before submissions are rejected
+     * @param meterRegistry Registry for the lane metrics
+     */
+    public CommandLanes(int count, int queueCapacity, MeterRegistry meterRegistry) {
+        this.lanes = new ThreadPoolExecutor[count];
+        this.waitTimers = new Timer[count];
+        for (int i = 0; i < count; i++) {
+            String name = "command-lane-" + i;
+            ThreadPoolExecutor lane = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity), task -> {
+                        Thread thread = new Thread(() -> {
+                            ON_LANE.set(Boolean.TRUE);
+                            task.run();
+                        }, name);
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            lanes[i] = lane;
+
+            String laneTag = String.valueOf(i);
+            Gauge.builder("cqrs.command.lane.queue", lane, l -> l.getQueue().size())
+                    .description("Commands waiting in a command lane")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+            waitTimers[i] = Timer.builder("cqrs.command.lane.wait")
+                    .description("Time a command waited in its lane before running")
+                    .tag("lane", laneTag)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Whether the current thread is a lane thread.
+     *
+     * @return true inside a lane
+     */
+    public static boolean isLaneThread() {
+        return ON_LANE.get() != null;
+    }
+
+    /**
+     * Get the lane an aggregate id maps to.
+     *
+     * @param aggregateId Aggregate id
+     * @return Lane index
+     */
+    public int laneOf(Object aggregateId) {
+        int hash = aggregateId.hashCode();
+        // Spread the high bits; UUID hash codes are fine, small integer ids less so
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, lanes.length);
+    }
+
+    /**
+     * Queue a task on the lane of an aggregate.
+     *
+     * @param aggregateId Aggregate id
+     * @param task Task to run
+     * @return Future completed with the task's result or exception
+     * @throws java.util.concurrent.RejectedExecutionException If the lane is full or shut down
+     */
+    public <T> CompletableFuture<T> submit(Object aggregateId, Callable<T> task) {
+        int index = laneOf(aggregateId);
+        CompletableFuture<T> future = new CompletableFuture<>();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        long submitted = System.nanoTime();
+
+        lanes[index].execute(() -> {
+            waitTimers[index].record(System.nanoTime() - submitted, TimeUnit.NANOSECONDS);
+            SecurityContextHolder.setContext(securityContext);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                future.complete(task.call());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            } finally {
+                SecurityContextHolder.clearContext();
+                MDC.clear();
+            }
+        });
+        return future;
+    }
+
+    /**
+     * Wait for a lane task, rethrowing its exception unwrapped.
+     *
+     * @param future Future returned by {@link #submit(Object, Callable)}
+     * @return Task result
+     * @throws Exception Exception thrown by the task
+     */
+    public static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stop accepting commands and wait for queued ones to finish.
+     *
+     * @param timeoutMillis Maximum time to wait
+     */
+    public void shutdown(long timeoutMillis) {
+        for (ThreadPoolExecutor lane : lanes) {
+            lane.shutdown();
+        }
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        for (ThreadPoolExecutor lane : lanes) {
+            try {
+                long remaining = deadline - System.currentTimeMillis();
+                if (!lane.awaitTermination(Math.max(remaining, 0), TimeUnit.MILLISECONDS)) {
+                    log.warn("Command lane did not drain within {} ms", timeoutMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
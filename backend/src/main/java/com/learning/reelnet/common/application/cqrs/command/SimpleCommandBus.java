@@ -1,54 +1,177 @@
 package com.learning.reelnet.common.application.cqrs.command;
 
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.learning.reelnet.common.application.cqrs.HandlerDispatchTable;
+import com.learning.reelnet.common.application.cqrs.pipeline.DispatchContext;
+import com.learning.reelnet.common.application.cqrs.pipeline.DispatchInterceptor;
+import com.learning.reelnet.common.application.cqrs.pipeline.DispatchPipeline;
+import com.learning.reelnet.common.application.cqrs.pipeline.MessageKind;
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
 import com.learning.reelnet.common.infrastructure.events.EventPublisher;
 import com.learning.reelnet.common.infrastructure.events.DomainEvent;
+import com.learning.reelnet.common.infrastructure.events.outbox.EventOutbox;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Simple implementation of CommandBus that uses Spring's ApplicationContext
  * to find command handlers and supports both synchronous and asynchronous
  * command dispatching.
+ * <p>
+ * Every command passes through the {@link DispatchInterceptor} beans before
+ * reaching its handler. Events returned by the handler are written to the
+ * {@link EventOutbox} inside the command's transaction when the outbox is
+ * enabled, and otherwise published as one batch after the chain, i.e. after
+ * the transaction has committed. The time spent doing either is recorded in
+ * {@code cqrs.command.events.publish}.
+ * <p>
+ * With {@code app.cqrs.command.lanes.enabled}, {@link AggregateCommand}s are
+ * executed on {@link CommandLanes}, so commands for the same aggregate run
+ * one at a time in order while different aggregates proceed in parallel.
  */
 @Slf4j
 @Component
-public class SimpleCommandBus implements CommandBus {
+public class SimpleCommandBus implements CommandBus, SmartInitializingSingleton {
 
     private final ApplicationContext applicationContext;
     private final EventPublisher eventPublisher;
-    private final Map<Class<?>, CommandHandler<?, ?>> handlers = new ConcurrentHashMap<>();
+    private final DispatchPipeline pipeline;
+    private final Executor asyncExecutor;
+    private final Timer eventPublishTimer;
+    private final MeterRegistry meterRegistry;
+    private final ObjectProvider<EventOutbox> outboxProvider;
 
-    public SimpleCommandBus(ApplicationContext applicationContext, EventPublisher eventPublisher) {
+    @SuppressWarnings("rawtypes")
+    private volatile HandlerDispatchTable<CommandHandler> handlers = HandlerDispatchTable.empty(CommandHandler.class);
+
+    @Value("${app.cqrs.handlers.verify-coverage:true}")
+    private boolean verifyCoverage = true;
+
+    @Value("${app.cqrs.command.lanes.enabled:false}")
+    private boolean lanesEnabled;
+
+    @Value("${app.cqrs.command.lanes.count:16}")
+    private int laneCount = 16;
+
+    @Value("${app.cqrs.command.lanes.queue-capacity:1000}")
+    private int laneQueueCapacity = 1000;
+
+    // Only set when lanes are enabled
+    private CommandLanes lanes;
+
+    // Only set when the transactional outbox is enabled
+    private EventOutbox outbox;
+
+    public SimpleCommandBus(ApplicationContext applicationContext, EventPublisher eventPublisher,
+            ObjectProvider<DispatchInterceptor> interceptors, MeterRegistry meterRegistry,
+            @Qualifier(ExecutorConfig.IO_EXECUTOR) Executor asyncExecutor, ObjectProvider<EventOutbox> outboxProvider) {
         this.applicationContext = applicationContext;
         this.eventPublisher = eventPublisher;
+        this.asyncExecutor = asyncExecutor;
+        this.meterRegistry = meterRegistry;
+        this.outboxProvider = outboxProvider;
+        this.pipeline = new DispatchPipeline(MessageKind.COMMAND, interceptors.orderedStream().toList());
+        this.eventPublishTimer = Timer.builder("cqrs.command.events.publish")
+                .description("Time spent publishing events returned by command handlers")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Builds the dispatch table once all handler beans exist. Fails startup on
+     * duplicate or unresolvable handlers, and on command classes in the
+     * application packages that have no handler.
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void afterSingletonsInstantiated() {
+        List<String> basePackages = verifyCoverage && AutoConfigurationPackages.has(applicationContext)
+                ? AutoConfigurationPackages.get(applicationContext)
+                : List.of();
+        handlers = HandlerDispatchTable.build(applicationContext, CommandHandler.class, Command.class,
+                CommandHandler::getCommandClass, basePackages);
+        log.info("Registered {} command handlers", handlers.size());
+
+        outbox = outboxProvider.getIfAvailable();
+
+        if (lanesEnabled) {
+            lanes = new CommandLanes(laneCount, laneQueueCapacity, meterRegistry);
+            log.info("Aggregate commands run on {} command lanes", laneCount);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (lanes != null) {
+            lanes.shutdown(30_000);
+        }
     }
 
     @Override
     public <R, C extends Command<R>> R dispatch(C command) throws Exception {
-        log.debug("Dispatching command: {}", command.getCommandName());
-        
+        Object aggregateId = laneKey(command);
+        if (aggregateId != null) {
+            return CommandLanes.await(lanes.submit(aggregateId, () -> execute(command)));
+        }
+        return execute(command);
+    }
+
+    /**
+     * Get the aggregate id to serialize a command on, or null if it should
+     * run on the calling thread.
+     */
+    private Object laneKey(Command<?> command) {
+        if (lanes == null || !(command instanceof AggregateCommand) || CommandLanes.isLaneThread()) {
+            return null;
+        }
+        return ((AggregateCommand<?>) command).getAggregateId();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <R, C extends Command<R>> R execute(C command) throws Exception {
         CommandHandler<R, C> handler = findHandler(command);
+        DispatchContext context = new DispatchContext(MessageKind.COMMAND, command, handler,
+                command.getCommandName());
         try {
-            R result = handler.handle(command);
-            
-            // If the result is an Event or collection of Events, publish them
-            if (result instanceof DomainEvent) {
-                eventPublisher.publish((DomainEvent) result);
-            } else if (result instanceof Iterable) {
-                Iterable<?> iterable = (Iterable<?>) result;
-                for (Object item : iterable) {
-                    if (item instanceof DomainEvent) {
-                        eventPublisher.publish((DomainEvent) item);
+            R result = (R) pipeline.execute(context, () -> {
+                R handled = handler.handle(command);
+                // With the outbox, events are stored in the command's own transaction
+                if (outbox != null) {
+                    List<DomainEvent> events = eventsIn(handled);
+                    if (!events.isEmpty()) {
+                        eventPublishTimer.record(() -> outbox.append(events));
                     }
                 }
+                return handled;
+            });
+            
+            // Otherwise, if the result is an Event or collection of Events, publish them
+            if (outbox == null) {
+                List<DomainEvent> events = eventsIn(result);
+                if (!events.isEmpty()) {
+                    // Timed until the broker has accepted the whole batch
+                    Timer.Sample sample = Timer.start(meterRegistry);
+                    eventPublisher.publishAll(events).whenComplete((ignored, ex) -> {
+                        sample.stop(eventPublishTimer);
+                        if (ex != null) {
+                            log.error("Failed to publish events of command {}", command.getCommandName(), ex);
+                        }
+                    });
+                }
             }
             
             return result;
@@ -57,17 +180,37 @@ public class SimpleCommandBus implements CommandBus {
             throw e;
         }
     }
+
+    private static List<DomainEvent> eventsIn(Object result) {
+        if (result instanceof DomainEvent) {
+            return List.of((DomainEvent) result);
+        }
+        if (!(result instanceof Iterable)) {
+            return List.of();
+        }
+        List<DomainEvent> events = new ArrayList<>();
+        for (Object item : (Iterable<?>) result) {
+            if (item instanceof DomainEvent) {
+                events.add((DomainEvent) item);
+            }
+        }
+        return events;
+    }
     
     @Override
-    @Async
     public <R, C extends Command<R>> CompletableFuture<R> dispatchAsync(C command) {
+        Object aggregateId = laneKey(command);
+        if (aggregateId != null) {
+            // The lane is already asynchronous; no need to hold another thread while it runs
+            return lanes.submit(aggregateId, () -> execute(command));
+        }
         return CompletableFuture.supplyAsync(() -> {
             try {
                 return dispatch(command);
             } catch (Exception e) {
                 throw new RuntimeException("Error dispatching command asynchronously", e);
             }
-        });
+        }, asyncExecutor);
     }
     
     @Override
@@ -85,29 +228,17 @@ public class SimpleCommandBus implements CommandBus {
                 handler.getClass().getSimpleName(), 
                 commandClass.getSimpleName());
                 
-        handlers.put(commandClass, handler);
+        synchronized (this) {
+            handlers = handlers.with(commandClass, handler);
+        }
     }
     
     @SuppressWarnings("unchecked")
     private <R, C extends Command<R>> CommandHandler<R, C> findHandler(C command) {
-        Class<?> commandType = command.getClass();
-        
-        // First check if we have a registered handler
-        CommandHandler<R, C> handler = (CommandHandler<R, C>) handlers.get(commandType);
-        
-        // If not, try to find it in the application context
+        CommandHandler<R, C> handler = (CommandHandler<R, C>) handlers.get(command.getClass());
         if (handler == null) {
-            String handlerBeanName = commandType.getSimpleName() + "Handler";
-            try {
-                handler = (CommandHandler<R, C>) applicationContext.getBean(handlerBeanName);
-                // Cache the handler for future use
-                handlers.put(commandType, handler);
-            } catch (Exception e) {
-                throw new IllegalStateException(
-                    "No handler registered for command " + command.getCommandName(), e);
-            }
+            throw new IllegalStateException("No handler registered for command " + command.getCommandName());
         }
-        
         return handler;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+/**
+ * Remaining part of a dispatch: the interceptors after the current one,
+ * followed by the handler.
+ */
+@FunctionalInterface
+public interface DispatchChain {
+
+    /**
+     * Continue the dispatch. May be called again to re-run the rest of the
+     * chain, e.g. for a background cache refresh.
+     *
+     * @return Handler result
+     * @throws Exception If a later interceptor or the handler fails
+     */
+    Object proceed() throws Exception;
+}
@@ -0,0 +1,31 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import lombok.Getter;
+
+/**
+ * A single command or query dispatch as seen by the interceptors.
+ */
+@Getter
+public class DispatchContext {
+
+    private final MessageKind kind;
+    private final Object message;
+    private final Object handler;
+    private final String name;
+
+    public DispatchContext(MessageKind kind, Object message, Object handler, String name) {
+        this.kind = kind;
+        this.message = message;
+        this.handler = handler;
+        this.name = name;
+    }
+
+    /**
+     * Get the message class.
+     *
+     * @return Class of the command or query
+     */
+    public Class<?> getMessageType() {
+        return message.getClass();
+    }
+}
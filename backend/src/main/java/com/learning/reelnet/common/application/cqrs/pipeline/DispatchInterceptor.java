@@ -0,0 +1,32 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+/**
+ * Cross-cutting step wrapped around command and query handlers.
+ * <p>
+ * Interceptors are Spring beans picked up by both buses and applied in
+ * {@link org.springframework.core.annotation.Order} order, the lowest value
+ * outermost. See {@link DispatchInterceptorOrder} for the built-in positions.
+ */
+public interface DispatchInterceptor {
+
+    /**
+     * Wrap one dispatch.
+     *
+     * @param context Message being dispatched
+     * @param chain Rest of the chain; call {@link DispatchChain#proceed()} to continue
+     * @return Result returned to the caller
+     * @throws Exception If the dispatch fails
+     */
+    Object intercept(DispatchContext context, DispatchChain chain) throws Exception;
+
+    /**
+     * Whether this interceptor applies to a kind of message. Checked once when
+     * the pipeline is built.
+     *
+     * @param kind Command or query
+     * @return true to include the interceptor in that bus
+     */
+    default boolean supports(MessageKind kind) {
+        return true;
+    }
+}
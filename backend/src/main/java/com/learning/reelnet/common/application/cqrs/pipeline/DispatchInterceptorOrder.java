@@ -0,0 +1,17 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+/**
+ * Order of the built-in interceptors, outermost first. Custom interceptors
+ * can slot in between.
+ */
+public final class DispatchInterceptorOrder {
+
+    public static final int TRACING = 100;
+    public static final int METRICS = 200;
+    public static final int VALIDATION = 300;
+    public static final int CACHE = 400;
+    public static final int TRANSACTION = 500;
+
+    private DispatchInterceptorOrder() {
+    }
+}
@@ -0,0 +1,57 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import java.util.List;
+
+/**
+ * Ordered interceptors of one bus, applied around a handler call.
+ * <p>
+ * The interceptor list is fixed when the bus is created. With no interceptors
+ * the handler is called directly.
+ */
+public class DispatchPipeline {
+
+    private final DispatchInterceptor[] interceptors;
+
+    /**
+     * Build the pipeline for one kind of message.
+     *
+     * @param kind Command or query
+     * @param candidates All interceptors, already in order
+     */
+    public DispatchPipeline(MessageKind kind, List<DispatchInterceptor> candidates) {
+        this.interceptors = candidates.stream()
+                .filter(interceptor -> interceptor.supports(kind))
+                .toArray(DispatchInterceptor[]::new);
+    }
+
+    /**
+     * Run the interceptors and then the handler.
+     *
+     * @param context Message being dispatched
+     * @param handler Handler call at the end of the chain
+     * @return Result of the chain
+     * @throws Exception If an interceptor or the handler fails
+     */
+    public Object execute(DispatchContext context, DispatchChain handler) throws Exception {
+        if (interceptors.length == 0) {
+            return handler.proceed();
+        }
+        return proceed(0, context, handler);
+    }
+
+    private Object proceed(int index, DispatchContext context, DispatchChain handler) throws Exception {
+        if (index == interceptors.length) {
+            return handler.proceed();
+        }
+        return interceptors[index].intercept(context, () -> proceed(index + 1, context, handler));
+    }
+
+    /**
+     * Get the number of active interceptors.
+     *
+     * @return Interceptor count
+     */
+    public int size() {
+        return interceptors.length;
+    }
+}
@@ -0,0 +1,18 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+/**
+ * Kind of message travelling through a bus.
+ */
+public enum MessageKind {
+    COMMAND,
+    QUERY;
+
+    /**
+     * Get the lower-case name used as a metric tag value.
+     *
+     * @return Tag value
+     */
+    public String tagValue() {
+        return this == COMMAND ? "command" : "query";
+    }
+}
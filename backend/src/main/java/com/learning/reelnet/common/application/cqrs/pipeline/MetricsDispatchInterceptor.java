@@ -0,0 +1,90 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Times every handler and counts failures per command or query type.
+ * <p>
+ * {@code cqrs.dispatch} is a timer tagged with kind, type and outcome and
+ * publishes the configured percentiles. {@code cqrs.dispatch.errors} counts
+ * failures by exception class. Meters are created once per tag combination.
+ * <p>
+ * With {@code app.cqrs.metrics.sample-rate} below 1 only that fraction of
+ * dispatches is timed, which keeps clock reads and percentile updates off most
+ * calls in production. Timer counts are then sampled counts; errors are
+ * always counted.
+ */
+@Component
+@Order(DispatchInterceptorOrder.METRICS)
+@RequiredArgsConstructor
+public class MetricsDispatchInterceptor implements DispatchInterceptor {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errorCounters = new ConcurrentHashMap<>();
+
+    @Value("${app.cqrs.metrics.sample-rate:1.0}")
+    private double sampleRate = 1.0;
+
+    @Value("${app.cqrs.metrics.percentiles:0.5,0.95,0.99}")
+    private double[] percentiles = new double[0];
+
+    @Override
+    public Object intercept(DispatchContext context, DispatchChain chain) throws Exception {
+        boolean sampled = sampleRate >= 1.0
+                || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+        long start = sampled ? System.nanoTime() : 0L;
+        try {
+            Object result = chain.proceed();
+            if (sampled) {
+                timer(context, "success").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            return result;
+        } catch (Exception e) {
+            if (sampled) {
+                timer(context, "error").record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+            errorCounter(context, e).increment();
+            throw e;
+        }
+    }
+
+    private Timer timer(DispatchContext context, String outcome) {
+        String key = context.getKind().tagValue() + "|" + context.getName() + "|" + outcome;
+        Timer timer = timers.get(key);
+        if (timer == null) {
+            timer = timers.computeIfAbsent(key, k -> Timer.builder("cqrs.dispatch")
+                    .description("Time spent dispatching a command or query, including interceptors")
+                    .tag("kind", context.getKind().tagValue())
+                    .tag("type", context.getName())
+                    .tag("outcome", outcome)
+                    .publishPercentiles(percentiles)
+                    .register(meterRegistry));
+        }
+        return timer;
+    }
+
+    private Counter errorCounter(DispatchContext context, Exception e) {
+        String exception = e.getClass().getSimpleName();
+        String key = context.getKind().tagValue() + "|" + context.getName() + "|" + exception;
+        return errorCounters.computeIfAbsent(key, k -> Counter.builder("cqrs.dispatch.errors")
+                .description("Failed command and query dispatches")
+                .tag("kind", context.getKind().tagValue())
+                .tag("type", context.getName())
+                .tag("exception", exception)
+                .register(meterRegistry));
+    }
+}
@@ -0,0 +1,249 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.common.application.cqrs.query.SimpleQueryBus.CacheableQuery;
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves {@link CacheableQuery} results from the cache.
+ * <p>
+ * Cache misses are coalesced: concurrent queries with the same cache name and
+ * key wait on a single execution of the rest of the chain and share its
+ * result. Queries that declare a refresh interval are recomputed in the
+ * background once their cached result is old enough, so hot keys are
+ * refreshed before they expire instead of all missing at once. Refresh
+ * deadlines are kept for a bounded number of keys and forgotten once a key
+ * has not been cached for a while; the refresh runs with the caller's
+ * security context and MDC.
+ * <p>
+ * Hits and misses are counted in {@code cqrs.query.cache} per cache and query.
+ */
+@Slf4j
+@Component
+@Order(DispatchInterceptorOrder.CACHE)
+public class QueryCacheDispatchInterceptor implements DispatchInterceptor {
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+    private final Executor refreshExecutor;
+
+    // In-flight executions keyed by cache name and cache key
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // System.nanoTime() after which a cached entry should be refreshed early
+    private final com.github.benmanes.caffeine.cache.Cache<String, Long> refreshDeadlines;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    @Value("${app.cqrs.query.single-flight.enabled:true}")
+    private boolean singleFlightEnabled = true;
+
+    public QueryCacheDispatchInterceptor(CacheManager cacheManager, MeterRegistry meterRegistry,
+            @Qualifier(ExecutorConfig.IO_EXECUTOR) Executor refreshExecutor,
+            @Value("${app.cqrs.query.early-refresh.max-tracked-keys:10000}") long maxTrackedRefreshKeys,
+            @Value("${app.cqrs.query.early-refresh.tracked-for:1h}") Duration trackedFor) {
+        this.cacheManager = cacheManager;
+        this.meterRegistry = meterRegistry;
+        this.refreshExecutor = refreshExecutor;
+        // Early refresh is best effort; evicted keys simply expire as usual
+        this.refreshDeadlines = Caffeine.newBuilder()
+                .maximumSize(maxTrackedRefreshKeys)
+                .expireAfterWrite(trackedFor)
+                .build();
+
+        Gauge.builder("cqrs.query.inflight", inFlight, Map::size)
+                .description("Number of cacheable query executions currently in flight")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public boolean supports(MessageKind kind) {
+        return kind == MessageKind.QUERY;
+    }
+
+    @Override
+    public Object intercept(DispatchContext context, DispatchChain chain) throws Exception {
+        if (!(context.getMessage() instanceof CacheableQuery)) {
+            return chain.proceed();
+        }
+
+        CacheableQuery<?> cacheableQuery = (CacheableQuery<?>) context.getMessage();
+        Cache cache = cacheManager.getCache(cacheableQuery.getCacheName());
+
+        // Try to get from cache
+        if (cache != null) {
+            Object cachedResult = cache.get(cacheableQuery.getCacheKey(), cacheableQuery.getResultClass());
+            if (cachedResult != null) {
+                log.debug("Cache hit for query: {}", context.getName());
+                counter("cqrs.query.cache", cacheableQuery.getCacheName(), context.getName(), "hit").increment();
+                refreshIfDue(context, cacheableQuery, cache, chain);
+                return cachedResult;
+            }
+        }
+        counter("cqrs.query.cache", cacheableQuery.getCacheName(), context.getName(), "miss").increment();
+
+        // Not in cache, execute once for all concurrent callers and store result
+        return executeCoalesced(context, cacheableQuery, cache, chain);
+    }
+
+    /**
+     * Executes a cacheable query, letting only one caller per cache key run the
+     * rest of the chain. Other callers wait for that execution and receive the
+     * same result or exception.
+     */
+    private Object executeCoalesced(DispatchContext context, CacheableQuery<?> cacheableQuery, Cache cache,
+            DispatchChain chain) throws Exception {
+        if (!singleFlightEnabled) {
+            return executeAndStore(cacheableQuery, cache, chain);
+        }
+
+        String flightKey = flightKey(cacheableQuery);
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+
+        if (existing != null) {
+            log.debug("Coalescing query {} onto in-flight execution", context.getName());
+            counter("cqrs.query.coalesced", cacheableQuery.getCacheName(), null, null).increment();
+            return awaitFlight(existing);
+        }
+
+        try {
+            Object result = executeAndStore(cacheableQuery, cache, chain);
+            flight.complete(result);
+            return result;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+    }
+
+    private Object executeAndStore(CacheableQuery<?> cacheableQuery, Cache cache, DispatchChain chain)
+            throws Exception {
+        Object result = chain.proceed();
+
+        // Store in cache if not null
+        if (result != null && cache != null) {
+            cache.put(cacheableQuery.getCacheKey(), result);
+            scheduleRefreshDeadline(cacheableQuery);
+        }
+
+        return result;
+    }
+
+    private Object awaitFlight(CompletableFuture<Object> flight) throws Exception {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw e;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts a background refresh when a cached result has passed its refresh
+     * deadline. The caller keeps the cached value; only one refresh per key runs.
+     */
+    private void refreshIfDue(DispatchContext context, CacheableQuery<?> cacheableQuery, Cache cache,
+            DispatchChain chain) {
+        if (cacheableQuery.getRefreshAfter() == null) {
+            return;
+        }
+
+        String flightKey = flightKey(cacheableQuery);
+        Long deadline = refreshDeadlines.getIfPresent(flightKey);
+        if (deadline == null) {
+            // Entry was cached elsewhere (another node or before a restart); its age is unknown
+            scheduleRefreshDeadline(cacheableQuery);
+            return;
+        }
+
+        if (System.nanoTime() - deadline < 0 || inFlight.containsKey(flightKey)
+                || !refreshDeadlines.asMap().remove(flightKey, deadline)) {
+            return;
+        }
+
+        String cacheName = cacheableQuery.getCacheName();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        CompletableFuture.runAsync(() -> {
+            SecurityContextHolder.setContext(securityContext);
+            if (mdc != null) {
+                MDC.setContextMap(mdc);
+            }
+            try {
+                executeCoalesced(context, cacheableQuery, cache, chain);
+                counter("cqrs.query.refresh", cacheName, null, "success").increment();
+            } catch (Exception e) {
+                log.warn("Early refresh failed for query {}: {}", context.getName(), e.getMessage());
+                counter("cqrs.query.refresh", cacheName, null, "failure").increment();
+            } finally {
+                SecurityContextHolder.clearContext();
+                MDC.clear();
+            }
+        }, refreshExecutor);
+    }
+
+    private void scheduleRefreshDeadline(CacheableQuery<?> cacheableQuery) {
+        Duration refreshAfter = cacheableQuery.getRefreshAfter();
+        if (refreshAfter == null) {
+            return;
+        }
+
+        refreshDeadlines.put(flightKey(cacheableQuery), System.nanoTime() + refreshAfter.toNanos());
+    }
+
+    private String flightKey(CacheableQuery<?> cacheableQuery) {
+        return cacheableQuery.getCacheName() + "::" + cacheableQuery.getCacheKey();
+    }
+
+    private Counter counter(String name, String cacheName, String queryName, String outcome) {
+        String key = name + "|" + cacheName + "|" + queryName + "|" + outcome;
+        Counter counter = counters.get(key);
+        if (counter != null) {
+            return counter;
+        }
+        return counters.computeIfAbsent(key, k -> {
+            Counter.Builder builder = Counter.builder(name).tag("cache", cacheName);
+            if (queryName != null) {
+                builder.tag("query", queryName);
+            }
+            if (outcome != null) {
+                builder.tag("outcome", outcome);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+}
@@ -0,0 +1,51 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import java.util.UUID;
+
+import org.slf4j.MDC;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Puts the message type and a correlation id into the logging MDC for the
+ * duration of a dispatch.
+ * <p>
+ * A nested dispatch (a handler dispatching another message) keeps the
+ * correlation id of the outer one, so all log lines of one request can be
+ * grouped. Previous MDC values are restored afterwards.
+ */
+@Slf4j
+@Component
+@Order(DispatchInterceptorOrder.TRACING)
+public class TracingDispatchInterceptor implements DispatchInterceptor {
+
+    public static final String MDC_CORRELATION_ID = "correlationId";
+    public static final String MDC_MESSAGE = "cqrsMessage";
+
+    @Override
+    public Object intercept(DispatchContext context, DispatchChain chain) throws Exception {
+        String previousMessage = MDC.get(MDC_MESSAGE);
+        String correlationId = MDC.get(MDC_CORRELATION_ID);
+        boolean ownsCorrelation = correlationId == null;
+
+        MDC.put(MDC_MESSAGE, context.getName());
+        if (ownsCorrelation) {
+            MDC.put(MDC_CORRELATION_ID, UUID.randomUUID().toString());
+        }
+        try {
+            log.debug("Dispatching {}: {}", context.getKind().tagValue(), context.getName());
+            return chain.proceed();
+        } finally {
+            if (ownsCorrelation) {
+                MDC.remove(MDC_CORRELATION_ID);
+            }
+            if (previousMessage != null) {
+                MDC.put(MDC_MESSAGE, previousMessage);
+            } else {
+                MDC.remove(MDC_MESSAGE);
+            }
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs each handler in a transaction: commands read-write, queries read-only.
+ * <p>
+ * A command touching several services commits or rolls back as a whole, and
+ * handlers that declare their own {@code @Transactional} simply join. Queries
+ * sit behind the cache interceptor, so a cache hit never opens a transaction.
+ */
+@Component
+@Order(DispatchInterceptorOrder.TRANSACTION)
+public class TransactionDispatchInterceptor implements DispatchInterceptor {
+
+    private final TransactionTemplate commandTransaction;
+    private final TransactionTemplate queryTransaction;
+
+    @Value("${app.cqrs.transaction.enabled:true}")
+    private boolean enabled = true;
+
+    public TransactionDispatchInterceptor(PlatformTransactionManager transactionManager) {
+        this.commandTransaction = new TransactionTemplate(transactionManager);
+        this.queryTransaction = new TransactionTemplate(transactionManager);
+        this.queryTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Object intercept(DispatchContext context, DispatchChain chain) throws Exception {
+        if (!enabled) {
+            return chain.proceed();
+        }
+        TransactionTemplate template = context.getKind() == MessageKind.COMMAND
+                ? commandTransaction
+                : queryTransaction;
+        try {
+            return template.execute(status -> {
+                try {
+                    return chain.proceed();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    // Checked exceptions roll back too; unwrapped again below
+                    throw new CheckedDispatchException(e);
+                }
+            });
+        } catch (CheckedDispatchException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class CheckedDispatchException extends RuntimeException {
+
+        CheckedDispatchException(Exception cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized Exception getCause() {
+            return (Exception) super.getCause();
+        }
+    }
+}
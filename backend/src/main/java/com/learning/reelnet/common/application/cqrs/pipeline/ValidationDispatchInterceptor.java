@@ -0,0 +1,44 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Validates Bean Validation constraints declared on commands and queries
+ * before they reach the cache or the handler.
+ * <p>
+ * Message types without any constraint are remembered and skipped, so
+ * unannotated messages cost one map lookup.
+ */
+@Component
+@Order(DispatchInterceptorOrder.VALIDATION)
+@RequiredArgsConstructor
+public class ValidationDispatchInterceptor implements DispatchInterceptor {
+
+    private final Validator validator;
+
+    private final Map<Class<?>, Boolean> constrainedTypes = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(DispatchContext context, DispatchChain chain) throws Exception {
+        Class<?> type = context.getMessageType();
+        boolean constrained = constrainedTypes.computeIfAbsent(type,
+                t -> validator.getConstraintsForClass(t).isBeanConstrained());
+        if (constrained) {
+            Set<ConstraintViolation<Object>> violations = validator.validate(context.getMessage());
+            if (!violations.isEmpty()) {
+                throw new ConstraintViolationException(violations);
+            }
+        }
+        return chain.proceed();
+    }
+}
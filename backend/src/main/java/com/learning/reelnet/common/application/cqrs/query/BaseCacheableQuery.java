@@ -1,5 +1,7 @@
 package com.learning.reelnet.common.application.cqrs.query;
 
+import java.time.Duration;
+
 import com.learning.reelnet.common.application.cqrs.query.SimpleQueryBus.CacheableQuery;
 
 import lombok.Getter;
@@ -16,6 +18,7 @@ public abstract class BaseCacheableQuery<R> extends BaseQuery<R> implements Cach
     
     private final String cacheName;
     private final Class<R> resultClass;
+    private final Duration refreshAfter;
     
     /**
      * Constructs a new BaseCacheableQuery
@@ -24,9 +27,21 @@ public abstract class BaseCacheableQuery<R> extends BaseQuery<R> implements Cach
      * @param resultClass Class of the result for type-safe cache retrieval
      */
     protected BaseCacheableQuery(String cacheName, Class<R> resultClass) {
+        this(cacheName, resultClass, null);
+    }
+    
+    /**
+     * Constructs a new BaseCacheableQuery with early refresh
+     *
+     * @param cacheName Name of the cache to use
+     * @param resultClass Class of the result for type-safe cache retrieval
+     * @param refreshAfter Age after which the cached result is refreshed in the background
+     */
+    protected BaseCacheableQuery(String cacheName, Class<R> resultClass, Duration refreshAfter) {
         super();
         this.cacheName = cacheName;
         this.resultClass = resultClass;
+        this.refreshAfter = refreshAfter;
     }
     
     /**
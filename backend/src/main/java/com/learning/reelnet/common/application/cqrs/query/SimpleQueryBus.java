@@ -1,69 +1,85 @@
 package com.learning.reelnet.common.application.cqrs.query;
 
-import java.util.Map;
+import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 
-import org.springframework.cache.CacheManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.context.ApplicationContext;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import com.learning.reelnet.common.application.cqrs.HandlerDispatchTable;
+import com.learning.reelnet.common.application.cqrs.pipeline.DispatchContext;
+import com.learning.reelnet.common.application.cqrs.pipeline.DispatchInterceptor;
+import com.learning.reelnet.common.application.cqrs.pipeline.DispatchPipeline;
+import com.learning.reelnet.common.application.cqrs.pipeline.MessageKind;
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Simple implementation of the QueryBus interface with basic caching.
+ * Simple implementation of the QueryBus interface.
+ * <p>
+ * Every query passes through the {@link DispatchInterceptor} beans before
+ * reaching its handler. Caching of {@link CacheableQuery} results, metrics,
+ * validation and transactions are provided by those interceptors.
  */
 @Slf4j
 @Component
-public class SimpleQueryBus implements QueryBus {
-    
+public class SimpleQueryBus implements QueryBus, SmartInitializingSingleton {
+
     private final ApplicationContext applicationContext;
-    private final CacheManager cacheManager;
-    private final Map<Class<?>, QueryHandler<?, ?>> handlers = new ConcurrentHashMap<>();
-    
-    public SimpleQueryBus(ApplicationContext applicationContext, CacheManager cacheManager) {
+    private final DispatchPipeline pipeline;
+    private final Executor asyncExecutor;
+
+    @SuppressWarnings("rawtypes")
+    private volatile HandlerDispatchTable<QueryHandler> handlers = HandlerDispatchTable.empty(QueryHandler.class);
+
+    @Value("${app.cqrs.handlers.verify-coverage:true}")
+    private boolean verifyCoverage = true;
+
+    public SimpleQueryBus(ApplicationContext applicationContext, ObjectProvider<DispatchInterceptor> interceptors,
+            @Qualifier(ExecutorConfig.IO_EXECUTOR) Executor asyncExecutor) {
         this.applicationContext = applicationContext;
-        this.cacheManager = cacheManager;
+        this.asyncExecutor = asyncExecutor;
+        this.pipeline = new DispatchPipeline(MessageKind.QUERY, interceptors.orderedStream().toList());
+    }
+
+    /**
+     * Builds the dispatch table once all handler beans exist. Fails startup on
+     * duplicate or unresolvable handlers, and on query classes in the
+     * application packages that have no handler.
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void afterSingletonsInstantiated() {
+        List<String> basePackages = verifyCoverage && AutoConfigurationPackages.has(applicationContext)
+                ? AutoConfigurationPackages.get(applicationContext)
+                : List.of();
+        handlers = HandlerDispatchTable.build(applicationContext, QueryHandler.class, Query.class,
+                QueryHandler::getQueryClass, basePackages);
+        log.info("Registered {} query handlers", handlers.size());
     }
-    
+
     @Override
     @SuppressWarnings("unchecked")
     public <R, Q extends Query<R>> R dispatch(Q query) throws Exception {
-        log.debug("Dispatching query: {}", query.getQueryName());
-        
-        // Check if query is cacheable
-        if (query instanceof CacheableQuery) {
-            CacheableQuery<R> cacheableQuery = (CacheableQuery<R>) query;
-            String cacheKey = cacheableQuery.getCacheKey();
-            String cacheName = cacheableQuery.getCacheName();
-            
-            // Try to get from cache
-            if (cacheManager.getCache(cacheName) != null) {
-                R cachedResult = cacheManager.getCache(cacheName).get(cacheKey, cacheableQuery.getResultClass());
-                if (cachedResult != null) {
-                    log.debug("Cache hit for query: {}", query.getQueryName());
-                    return cachedResult;
-                }
-            }
-            
-            // Not in cache, execute and store result
-            R result = executeQuery(query);
-            
-            // Store in cache if not null
-            if (result != null && cacheManager.getCache(cacheName) != null) {
-                cacheManager.getCache(cacheName).put(cacheKey, result);
-            }
-            
-            return result;
+        QueryHandler<R, Q> handler = findHandler(query);
+        DispatchContext context = new DispatchContext(MessageKind.QUERY, query, handler, query.getQueryName());
+        try {
+            return (R) pipeline.execute(context, () -> handler.handle(query));
+        } catch (Exception e) {
+            log.error("Error handling query {}: {}", query.getQueryName(), e.getMessage(), e);
+            throw e;
         }
-        
-        // Regular query, no caching
-        return executeQuery(query);
     }
-    
+
     @Override
-    @Async
     public <R, Q extends Query<R>> CompletableFuture<R> dispatchAsync(Q query) {
         return CompletableFuture.supplyAsync(() -> {
             try {
@@ -71,60 +87,38 @@ public class SimpleQueryBus implements QueryBus {
             } catch (Exception e) {
                 throw new RuntimeException("Error dispatching query asynchronously", e);
             }
-        });
+        }, asyncExecutor);
     }
-    
+
     @Override
     public <R, Q extends Query<R>> void register(QueryHandler<R, Q> handler) {
         Class<Q> queryClass;
         try {
             queryClass = handler.getQueryClass();
         } catch (UnsupportedOperationException e) {
-            log.warn("Query handler {} did not implement getQueryClass(), skipping registration", 
+            log.warn("Query handler {} did not implement getQueryClass(), skipping registration",
                     handler.getClass().getSimpleName());
             return;
         }
-        
-        log.debug("Registering handler {} for query {}", 
-                handler.getClass().getSimpleName(), 
+
+        log.debug("Registering handler {} for query {}",
+                handler.getClass().getSimpleName(),
                 queryClass.getSimpleName());
-                
-        handlers.put(queryClass, handler);
-    }
-    
-    private <R, Q extends Query<R>> R executeQuery(Q query) throws Exception {
-        QueryHandler<R, Q> handler = findHandler(query);
-        try {
-            return handler.handle(query);
-        } catch (Exception e) {
-            log.error("Error handling query {}: {}", query.getQueryName(), e.getMessage(), e);
-            throw e;
+
+        synchronized (this) {
+            handlers = handlers.with(queryClass, handler);
         }
     }
-    
+
     @SuppressWarnings("unchecked")
     private <R, Q extends Query<R>> QueryHandler<R, Q> findHandler(Q query) {
-        Class<?> queryType = query.getClass();
-        
-        // First check if we have a registered handler
-        QueryHandler<R, Q> handler = (QueryHandler<R, Q>) handlers.get(queryType);
-        
-        // If not, try to find it in the application context
+        QueryHandler<R, Q> handler = (QueryHandler<R, Q>) handlers.get(query.getClass());
         if (handler == null) {
-            String handlerBeanName = queryType.getSimpleName() + "Handler";
-            try {
-                handler = (QueryHandler<R, Q>) applicationContext.getBean(handlerBeanName);
-                // Cache the handler for future use
-                handlers.put(queryType, handler);
-            } catch (Exception e) {
-                throw new IllegalStateException(
-                    "No handler registered for query " + query.getQueryName(), e);
-            }
+            throw new IllegalStateException("No handler registered for query " + query.getQueryName());
         }
-        
         return handler;
     }
-    
+
     /**
      * Interface for cacheable queries
      * @param <R> Result type
@@ -135,17 +129,27 @@ public class SimpleQueryBus implements QueryBus {
          * @return Cache key
          */
         String getCacheKey();
-        
+
         /**
          * Get the cache name to use
          * @return Cache name
          */
         String getCacheName();
-        
+
         /**
          * Get the result class
          * @return Class of the result
          */
         Class<R> getResultClass();
+
+        /**
+         * Get the age after which a cached result is recomputed in the background
+         * while the cached value is still served. Should be shorter than the
+         * cache TTL.
+         * @return Refresh interval, or null to disable early refresh
+         */
+        default Duration getRefreshAfter() {
+            return null;
+        }
     }
-} 
\ No newline at end of file
+}
@@ -1,6 +1,12 @@
 package com.learning.reelnet.common.config;
 
+import com.learning.reelnet.common.infrastructure.persistence.routing.ReadReplicaProperties;
+import com.learning.reelnet.common.infrastructure.persistence.routing.RecentWriteTracker;
+import com.learning.reelnet.common.infrastructure.persistence.routing.ReplicaRoutingDataSource;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,17 +14,66 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Configuration
 public class DatabaseConfig {
 
     @Bean
     @Primary
-    public DataSource dataSource(DataSourceProperties properties) {
-        HikariDataSource hikariDataSource = properties.initializeDataSourceBuilder()
+    public DataSource dataSource(HikariDataSource primaryDataSource,
+            ObjectProvider<ReplicaRoutingDataSource> readReplicas) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        // Read-only transactions take their connection from the replicas
+        readReplicas.ifAvailable(proxy::setReadOnlyDataSource);
+        return proxy;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
                 .type(HikariDataSource.class)
                 .build();
-        
-        return new LazyConnectionDataSourceProxy(hikariDataSource);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Routes read-only connections over the replica pools. Only defined when
+     * at least one replica is configured; closed with the context.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "app.datasource.read-replicas.nodes[0].url")
+    public ReplicaRoutingDataSource readReplicaDataSource(HikariDataSource primaryDataSource,
+            DataSourceProperties properties, ReadReplicaProperties replicaProperties,
+            RecentWriteTracker recentWrites, MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(primaryDataSource,
+                replicaPools(properties, replicaProperties, meterRegistry), recentWrites, meterRegistry,
+                replicaProperties.getHealthCheckInterval().toMillis());
+    }
+
+    private static Map<String, DataSource> replicaPools(DataSourceProperties properties,
+            ReadReplicaProperties replicaProperties, MeterRegistry meterRegistry) {
+        Map<String, DataSource> pools = new LinkedHashMap<>();
+        List<ReadReplicaProperties.Node> nodes = replicaProperties.getNodes();
+        for (int i = 0; i < nodes.size(); i++) {
+            ReadReplicaProperties.Node node = nodes.get(i);
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("ReelNetHikariCP-replica-" + (i + 1));
+            pool.setJdbcUrl(node.getUrl());
+            pool.setUsername(node.getUsername() != null ? node.getUsername() : properties.determineUsername());
+            pool.setPassword(node.getPassword() != null ? node.getPassword() : properties.determinePassword());
+            pool.setDriverClassName(properties.determineDriverClassName());
+            pool.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+            pool.setConnectionTimeout(replicaProperties.getConnectionTimeout().toMillis());
+            pool.setReadOnly(true);
+            // Start even if a replica is down; the health check keeps it out of rotation
+            pool.setInitializationFailTimeout(-1);
+            // Publishes hikaricp.* pool usage per replica
+            pool.setMetricRegistry(meterRegistry);
+            pools.put(pool.getPoolName(), pool);
+        }
+        return pools;
+    }
+
+}
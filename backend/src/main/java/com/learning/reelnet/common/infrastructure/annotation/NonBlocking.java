@@ -5,6 +5,8 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
+
 /**
  * Annotation to mark non-blocking methods.
  * Methods annotated with this will be executed asynchronously.
@@ -17,5 +19,5 @@ public @interface NonBlocking {
      * The name of the executor to use.
      * @return the executor name
      */
-    String executor() default "taskExecutor";
+    String executor() default ExecutorConfig.IO_EXECUTOR;
 }
\ No newline at end of file
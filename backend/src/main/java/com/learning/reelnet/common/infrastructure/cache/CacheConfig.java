@@ -2,24 +2,31 @@ package com.learning.reelnet.common.infrastructure.cache;
 
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
 /**
  * Cache configuration for the application.
- * This class configures caching using Redis in production and a simple in-memory cache in development.
+ * This class configures a bounded in-process Caffeine tier in front of Redis in production,
+ * and the Caffeine tier alone in development.
  */
 @Configuration
 @EnableCaching
@@ -34,14 +41,21 @@ public class CacheConfig {
     public static final String VOCABULARY_CACHE = "vocabularyCache";
 
     /**
-     * Creates a Redis cache manager for production.
+     * Creates the two-level cache manager for production.
+     * Lookups hit the local Caffeine tier first and fall back to Redis.
      *
      * @param connectionFactory the Redis connection factory
-     * @return the Redis cache manager
+     * @param properties the local cache properties
+     * @param invalidationBus the bus broadcasting evictions to other nodes
+     * @param meterRegistry the meter registry
+     * @return the two-level cache manager
      */
     @Bean
     @Profile("!dev")
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager twoLevelCacheManager(RedisConnectionFactory connectionFactory,
+            LocalCacheProperties properties,
+            RedisCacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry) {
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         
         // Configure the user cache with a 30-minute TTL
@@ -53,21 +67,69 @@ public class CacheConfig {
         // Configure the vocabulary cache with a 2-hour TTL
         cacheConfigurations.put(VOCABULARY_CACHE, createCacheConfiguration(Duration.ofHours(2)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(createCacheConfiguration(Duration.ofMinutes(10)))
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.initializeCaches();
+
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(
+                redisCacheManager, properties, invalidationBus, meterRegistry);
+        invalidationBus.bind(cacheManager);
+        return cacheManager;
+    }
+
+    /**
+     * Creates the bus that broadcasts local cache evictions over Redis pub/sub.
+     *
+     * @param connectionFactory the Redis connection factory
+     * @param properties the local cache properties
+     * @param meterRegistry the meter registry
+     * @return the invalidation bus
+     */
+    @Bean
+    @Profile("!dev")
+    public RedisCacheInvalidationBus cacheInvalidationBus(RedisConnectionFactory connectionFactory,
+            LocalCacheProperties properties,
+            MeterRegistry meterRegistry) {
+        return new RedisCacheInvalidationBus(
+                new StringRedisTemplate(connectionFactory), properties.getInvalidationChannel(), meterRegistry);
+    }
+
+    /**
+     * Subscribes the invalidation bus to the invalidation channel.
+     *
+     * @param connectionFactory the Redis connection factory
+     * @param invalidationBus the invalidation bus
+     * @param properties the local cache properties
+     * @return the listener container
+     */
+    @Bean
+    @Profile("!dev")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+            RedisCacheInvalidationBus invalidationBus,
+            LocalCacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, new ChannelTopic(properties.getInvalidationChannel()));
+        return container;
     }
 
     /**
-     * Creates a simple in-memory cache manager for development.
+     * Creates a bounded in-memory cache manager for development.
      *
-     * @return the in-memory cache manager
+     * @param properties the local cache properties
+     * @param meterRegistry the meter registry
+     * @return the local cache manager
      */
     @Bean
     @Profile("dev")
-    public CacheManager simpleCacheManager() {
-        return new ConcurrentMapCacheManager(USER_CACHE, EXAM_CACHE, VOCABULARY_CACHE);
+    public CacheManager localCacheManager(LocalCacheProperties properties, MeterRegistry meterRegistry) {
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(properties, meterRegistry);
+        cacheManager.getCache(USER_CACHE);
+        cacheManager.getCache(EXAM_CACHE);
+        cacheManager.getCache(VOCABULARY_CACHE);
+        return cacheManager;
     }
 
     /**
@@ -80,6 +142,20 @@ public class CacheConfig {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(ttl)
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(valueSerializer()));
+    }
+
+    /**
+     * Creates the serializer used for cached values. Values are written with
+     * their class name, so a cached result must be a type Jackson can create
+     * again: an {@code ArrayList} rather than the immutable lists of
+     * {@code List.of} or {@code Stream.toList}.
+     *
+     * @return the value serializer
+     */
+    public static GenericJackson2JsonRedisSerializer valueSerializer() {
+        // Cached DTOs carry java.time fields, which the default mapper cannot write
+        return new GenericJackson2JsonRedisSerializer()
+                .configure(mapper -> mapper.registerModule(new JavaTimeModule()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.lang.NonNull;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+
+/**
+ * Weighs local cache entries by an approximate element count, so a cached page
+ * of 50 DTOs costs more than a single DTO. Cheap enough to run on every write.
+ */
+public class CacheEntryWeigher implements Weigher<Object, Object> {
+
+    private static final int CHARS_PER_UNIT = 256;
+
+    @Override
+    public int weigh(@NonNull Object key, @NonNull Object value) {
+        if (value instanceof Slice) {
+            return 1 + ((Slice<?>) value).getNumberOfElements();
+        }
+        if (value instanceof Collection) {
+            return 1 + ((Collection<?>) value).size();
+        }
+        if (value instanceof Map) {
+            return 1 + ((Map<?, ?>) value).size();
+        }
+        if (value instanceof CharSequence) {
+            return 1 + ((CharSequence) value).length() / CHARS_PER_UNIT;
+        }
+        if (value instanceof byte[]) {
+            return 1 + ((byte[]) value).length / CHARS_PER_UNIT;
+        }
+        return 1;
+    }
+}
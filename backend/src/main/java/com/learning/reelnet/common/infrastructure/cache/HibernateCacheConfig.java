@@ -0,0 +1,95 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Configuration for the Hibernate second-level cache.
+ * This class builds the Caffeine-backed JCache regions Hibernate stores entities,
+ * collections and query results in, sized from {@link HibernateCacheProperties}.
+ * Whether the cache is used at all is set by the {@code hibernate.cache.*} JPA
+ * properties.
+ */
+@Slf4j
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Region Hibernate records the last write time of each table in.
+     * Entries must outlive every cached query result, so it is never expired.
+     */
+    public static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+     * Region for cacheable queries that do not name their own region
+     */
+    public static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private static final URI CACHE_MANAGER_URI = URI.create("urn:reelnet:hibernate");
+
+    /**
+     * Creates the JCache manager holding the second-level cache regions.
+     *
+     * @param properties the region properties
+     * @return the cache manager
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(CACHE_MANAGER_URI, getClass().getClassLoader());
+
+        createRegion(cacheManager, UPDATE_TIMESTAMPS_REGION, OptionalLong.empty(), OptionalLong.empty());
+        if (!properties.getRegions().containsKey(QUERY_RESULTS_REGION)) {
+            HibernateCacheProperties.Region defaults = new HibernateCacheProperties.Region();
+            createRegion(cacheManager, QUERY_RESULTS_REGION, OptionalLong.of(defaults.getMaximumSize()),
+                    OptionalLong.of(defaults.getExpireAfterWrite().toNanos()));
+        }
+        for (Map.Entry<String, HibernateCacheProperties.Region> region : properties.getRegions().entrySet()) {
+            createRegion(cacheManager, region.getKey(), OptionalLong.of(region.getValue().getMaximumSize()),
+                    OptionalLong.of(region.getValue().getExpireAfterWrite().toNanos()));
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hands the cache manager to Hibernate instead of letting it create one,
+     * and fails startup on regions that are not configured.
+     *
+     * @param hibernateCacheManager the cache manager
+     * @return the Hibernate properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return hibernateProperties -> {
+            hibernateProperties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String name, OptionalLong maximumSize,
+            OptionalLong expireAfterWriteNanos) {
+        // Another application context in the same JVM (tests) may have created it already
+        if (cacheManager.getCache(name) != null) {
+            return;
+        }
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maximumSize);
+        configuration.setExpireAfterWrite(expireAfterWriteNanos);
+        cacheManager.createCache(name, configuration);
+        log.debug("Created second-level cache region {}", name);
+    }
+}
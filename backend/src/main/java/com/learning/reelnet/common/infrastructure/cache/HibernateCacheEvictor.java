@@ -0,0 +1,91 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.mapping.EntityIdentifierMapping;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts entities from the Hibernate second-level cache on every node.
+ * <p>
+ * Hibernate keeps the local regions current for writes made through the
+ * session, but each node has its own regions. Command handlers that update or
+ * delete a cached entity call {@link #evict} so the other nodes drop their
+ * copy through the {@link RedisCacheInvalidationBus}; without Redis only the
+ * local region is evicted. Query results cached on the other nodes may list
+ * the changed entity too, so they drop their query regions as well.
+ */
+@Slf4j
+@Component
+public class HibernateCacheEvictor {
+
+    /**
+     * Cache name prefix marking invalidation messages for entity regions
+     */
+    static final String ENTITY_PREFIX = "entity:";
+
+    private final SessionFactory sessionFactory;
+    private final ObjectProvider<RedisCacheInvalidationBus> invalidationBus;
+
+    public HibernateCacheEvictor(EntityManagerFactory entityManagerFactory,
+            ObjectProvider<RedisCacheInvalidationBus> invalidationBus) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        this.invalidationBus = invalidationBus;
+        invalidationBus.ifAvailable(bus -> bus.bind(this));
+    }
+
+    /**
+     * Evicts an entity on this node and announces it to the others, after the
+     * current transaction commits (or now, if there is none).
+     *
+     * @param entityClass the entity class
+     * @param id          the entity ID
+     */
+    public void evict(Class<?> entityClass, Object id) {
+        String entityName = entityClass.getName();
+        Runnable eviction = () -> {
+            sessionFactory.getCache().evictEntityData(entityName, id);
+            invalidationBus.ifAvailable(bus -> bus.publish(ENTITY_PREFIX + entityName, id));
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            eviction.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eviction.run();
+            }
+        });
+    }
+
+    /**
+     * Evicts an entity announced by another node from this node only.
+     *
+     * @param entityName the entity name
+     * @param id         the entity ID in its string form, or null to evict all
+     *                   entities of that type
+     */
+    void evictLocal(String entityName, String id) {
+        try {
+            sessionFactory.getCache().evictQueryRegions();
+            if (id == null) {
+                sessionFactory.getCache().evictEntityData(entityName);
+                return;
+            }
+            EntityPersister persister = sessionFactory.unwrap(SessionFactoryImplementor.class)
+                    .getMappingMetamodel().getEntityDescriptor(entityName);
+            EntityIdentifierMapping identifier = persister.getIdentifierMapping();
+            sessionFactory.getCache().evictEntityData(entityName, identifier.getJavaType().fromString(id));
+        } catch (RuntimeException e) {
+            log.warn("Failed to evict {} {} from the second-level cache: {}", entityName, id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the Hibernate second-level cache regions.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.hibernate")
+public class HibernateCacheProperties {
+
+    /**
+     * Regions keyed by name. Every region named in a {@code @Cache} annotation or
+     * a cache region query hint must be listed here; Hibernate refuses to start
+     * with a region that was not created up front.
+     */
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    /**
+     * Size and lifetime of one region
+     */
+    @Data
+    public static class Region {
+
+        /**
+         * Maximum number of entries (entities, collections or query results)
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * Time after which an entry is dropped and re-read from the database.
+         * Bounds staleness for writes Hibernate does not see, such as JDBC
+         * counter updates or evictions lost on another node.
+         */
+        private Duration expireAfterWrite = Duration.ofMinutes(30);
+    }
+}
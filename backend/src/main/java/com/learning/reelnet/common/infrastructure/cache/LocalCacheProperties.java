@@ -0,0 +1,50 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the in-process (L1) cache tier.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.cache.local")
+public class LocalCacheProperties {
+
+    /**
+     * Default maximum weight of each local cache.
+     * One unit is roughly one cached element (see CacheEntryWeigher).
+     */
+    private long maximumWeight = 10_000;
+
+    /**
+     * Per-cache overrides of the maximum weight, keyed by cache name
+     */
+    private Map<String, Long> maximumWeights = new HashMap<>();
+
+    /**
+     * Time after which a local entry is dropped and re-read from Redis.
+     * Bounds staleness if an invalidation message is lost.
+     */
+    private Duration expireAfterWrite = Duration.ofSeconds(30);
+
+    /**
+     * Redis pub/sub channel used to broadcast evictions to all nodes
+     */
+    private String invalidationChannel = "reelnet:cache:invalidation";
+
+    /**
+     * Resolves the maximum weight for the given cache.
+     *
+     * @param cacheName the cache name
+     * @return the maximum weight
+     */
+    public long maximumWeightFor(String cacheName) {
+        return maximumWeights.getOrDefault(cacheName, maximumWeight);
+    }
+}
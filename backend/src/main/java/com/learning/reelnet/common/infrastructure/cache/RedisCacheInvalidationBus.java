@@ -0,0 +1,119 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Broadcasts local cache evictions to every node over a Redis pub/sub channel.
+ * <p>
+ * Messages have the form {@code nodeId|cacheName|E|key} for a single key and
+ * {@code nodeId|cacheName|C} for a clear. Nodes ignore their own messages.
+ * Keys are compared by their string form, which matches the string keys used
+ * by the Redis cache configuration. Cache names starting with
+ * {@code entity:} address Hibernate second-level cache regions instead.
+ */
+@Slf4j
+public class RedisCacheInvalidationBus implements MessageListener {
+
+    private static final String SEPARATOR = "|";
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Counter published;
+    private final Counter received;
+
+    private volatile TwoLevelCacheManager cacheManager;
+    private volatile HibernateCacheEvictor hibernateCacheEvictor;
+
+    public RedisCacheInvalidationBus(StringRedisTemplate redisTemplate, String channel,
+            MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.published = Counter.builder("cache.invalidations")
+                .tag("direction", "published")
+                .register(meterRegistry);
+        this.received = Counter.builder("cache.invalidations")
+                .tag("direction", "received")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Binds the cache manager whose local tier receives remote evictions.
+     *
+     * @param cacheManager the two-level cache manager
+     */
+    public void bind(TwoLevelCacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * Binds the evictor that receives remote second-level cache evictions.
+     *
+     * @param hibernateCacheEvictor the second-level cache evictor
+     */
+    public void bind(HibernateCacheEvictor hibernateCacheEvictor) {
+        this.hibernateCacheEvictor = hibernateCacheEvictor;
+    }
+
+    /**
+     * Announces that an entry changed so other nodes drop their local copy.
+     * Failures are logged; the local TTL still bounds staleness.
+     *
+     * @param cacheName the cache name
+     * @param key       the changed key, or null if the whole cache was cleared
+     */
+    public void publish(String cacheName, @Nullable Object key) {
+        String message = key == null
+                ? nodeId + SEPARATOR + cacheName + SEPARATOR + CLEAR
+                : nodeId + SEPARATOR + cacheName + SEPARATOR + EVICT + SEPARATOR + key;
+        try {
+            redisTemplate.convertAndSend(channel, message);
+            published.increment();
+        } catch (Exception e) {
+            log.warn("Failed to publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(@NonNull Message message, @Nullable byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\|", 4);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (parts[1].startsWith(HibernateCacheEvictor.ENTITY_PREFIX)) {
+            HibernateCacheEvictor evictor = this.hibernateCacheEvictor;
+            if (evictor != null) {
+                received.increment();
+                String entityName = parts[1].substring(HibernateCacheEvictor.ENTITY_PREFIX.length());
+                evictor.evictLocal(entityName, parts.length == 4 ? parts[3] : null);
+            }
+            return;
+        }
+
+        TwoLevelCacheManager manager = this.cacheManager;
+        if (manager == null) {
+            return;
+        }
+
+        received.increment();
+        if (CLEAR.equals(parts[2])) {
+            manager.evictLocal(parts[1], null);
+        } else if (EVICT.equals(parts[2]) && parts.length == 4) {
+            manager.evictLocal(parts[1], parts[3]);
+        }
+    }
+}
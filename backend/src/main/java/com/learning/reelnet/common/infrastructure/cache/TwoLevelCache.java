@@ -0,0 +1,199 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Cache with a bounded in-process Caffeine tier (L1) in front of a shared
+ * remote cache (L2, usually Redis).
+ * <p>
+ * Reads check L1 first and fall back to L2, copying hits into L1. Writes and
+ * evictions go to both tiers and are broadcast so other nodes drop their L1
+ * copy. When no remote cache is configured this is a plain bounded local cache.
+ */
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> local;
+    private final Cache remote;
+    private final RedisCacheInvalidationBus invalidationBus;
+
+    private final Timer localLatency;
+    private final Timer remoteLatency;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private final Counter remoteEvictions;
+
+    public TwoLevelCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> local,
+            @Nullable Cache remote, @Nullable RedisCacheInvalidationBus invalidationBus,
+            MeterRegistry meterRegistry) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.invalidationBus = invalidationBus;
+
+        this.localLatency = latencyTimer(meterRegistry, "l1");
+        this.remoteLatency = latencyTimer(meterRegistry, "l2");
+        this.remoteHits = Counter.builder("cache.gets")
+                .tag("cache", name).tag("tier", "l2").tag("result", "hit")
+                .register(meterRegistry);
+        this.remoteMisses = Counter.builder("cache.gets")
+                .tag("cache", name).tag("tier", "l2").tag("result", "miss")
+                .register(meterRegistry);
+        this.remoteEvictions = Counter.builder("cache.evictions")
+                .tag("cache", name).tag("tier", "l2")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @NonNull
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    @NonNull
+    public Object getNativeCache() {
+        return local;
+    }
+
+    @Override
+    @Nullable
+    public ValueWrapper get(@NonNull Object key) {
+        long start = System.nanoTime();
+        Object localValue = local.getIfPresent(key);
+        localLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (localValue != null) {
+            return new SimpleValueWrapper(fromStoreValue(localValue));
+        }
+        if (remote == null) {
+            return null;
+        }
+
+        start = System.nanoTime();
+        ValueWrapper remoteValue = remote.get(key);
+        remoteLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        if (remoteValue == null) {
+            remoteMisses.increment();
+            return null;
+        }
+
+        remoteHits.increment();
+        local.put(key, toStoreValue(remoteValue.get()));
+        return remoteValue;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @Nullable Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> T get(@NonNull Object key, @NonNull Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        if (remote != null) {
+            value = remote.get(key, valueLoader);
+        } else {
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+        }
+
+        local.put(key, toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(@NonNull Object key, @Nullable Object value) {
+        if (remote != null) {
+            remote.put(key, value);
+        }
+        local.put(key, toStoreValue(value));
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void evict(@NonNull Object key) {
+        if (remote != null) {
+            remote.evict(key);
+            remoteEvictions.increment();
+        }
+        local.invalidate(key);
+        publishInvalidation(key);
+    }
+
+    @Override
+    public void clear() {
+        if (remote != null) {
+            remote.clear();
+        }
+        local.invalidateAll();
+        publishInvalidation(null);
+    }
+
+    /**
+     * Drops an entry from the local tier only.
+     * Called when another node announces a change.
+     *
+     * @param key the key to drop, or null to drop every entry
+     */
+    public void evictLocal(@Nullable Object key) {
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    private void publishInvalidation(@Nullable Object key) {
+        if (invalidationBus != null) {
+            invalidationBus.publish(name, key);
+        }
+    }
+
+    private Timer latencyTimer(MeterRegistry meterRegistry, String tier) {
+        return Timer.builder("cache.tier.latency")
+                .description("Cache lookup latency per tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+
+    private static Object toStoreValue(@Nullable Object value) {
+        return value != null ? value : NullValue.INSTANCE;
+    }
+
+    @Nullable
+    private static Object fromStoreValue(Object storeValue) {
+        return storeValue == NullValue.INSTANCE ? null : storeValue;
+    }
+}
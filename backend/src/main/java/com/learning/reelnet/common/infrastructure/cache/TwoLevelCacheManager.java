@@ -0,0 +1,101 @@
+package com.learning.reelnet.common.infrastructure.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * CacheManager that layers a bounded, size-weighted Caffeine tier over an
+ * optional remote CacheManager. Caches are created on first use.
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final LocalCacheProperties properties;
+    private final RedisCacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a manager with a local tier only.
+     *
+     * @param properties    the local cache properties
+     * @param meterRegistry the meter registry
+     */
+    public TwoLevelCacheManager(LocalCacheProperties properties, MeterRegistry meterRegistry) {
+        this(null, properties, null, meterRegistry);
+    }
+
+    /**
+     * Creates a manager with a local tier in front of the given remote manager.
+     *
+     * @param remoteCacheManager the remote (L2) cache manager, may be null
+     * @param properties         the local cache properties
+     * @param invalidationBus    the bus used to broadcast evictions, may be null
+     * @param meterRegistry      the meter registry
+     */
+    public TwoLevelCacheManager(@Nullable CacheManager remoteCacheManager, LocalCacheProperties properties,
+            @Nullable RedisCacheInvalidationBus invalidationBus, MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    @Nullable
+    public Cache getCache(@NonNull String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    @NonNull
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * Drops an entry from the local tier of the named cache, if that cache exists
+     * on this node.
+     *
+     * @param cacheName the cache name
+     * @param key       the key to drop, or null to clear the local tier
+     */
+    public void evictLocal(String cacheName, @Nullable Object key) {
+        TwoLevelCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.evictLocal(key);
+        }
+    }
+
+    private TwoLevelCache createCache(String name) {
+        com.github.benmanes.caffeine.cache.Cache<Object, Object> local = Caffeine.newBuilder()
+                .maximumWeight(properties.maximumWeightFor(name))
+                .weigher(new CacheEntryWeigher())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+
+        // Hit/miss/eviction counts for the local tier
+        CaffeineCacheMetrics.monitor(meterRegistry, local, name, Tags.of("tier", "l1"));
+
+        Cache remote = remoteCacheManager != null ? remoteCacheManager.getCache(name) : null;
+        log.debug("Created cache {} (remote tier: {})", name, remote != null);
+
+        return new TwoLevelCache(name, local, remote, invalidationBus, meterRegistry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.learning.reelnet.common.infrastructure.concurrent;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+/**
+ * Executors for work moved off the calling thread.
+ * <p>
+ * {@value #IO_EXECUTOR} starts one virtual thread per task and is meant for
+ * blocking work such as JDBC, Redis or HTTP calls: a blocked virtual thread
+ * does not hold an OS thread, so no pool size has to be tuned. CPU-bound work
+ * goes to {@value #CPU_EXECUTOR}, a fixed platform pool sized to the cores
+ * with a bounded queue; when the queue is full the caller runs the task.
+ * <p>
+ * Both are registered with Micrometer under {@code executor.*} and tagged by
+ * name: task timings for both, and active, queued and pool size for the CPU
+ * pool. The virtual-thread executor reports running tasks as
+ * {@code executor.active}.
+ * <p>
+ * Both are injected by name and neither is primary. Spring Boot backs off
+ * from its own {@code applicationTaskExecutor} once any {@link Executor} bean
+ * exists, so that one is declared here too, from Boot's builder and
+ * {@code spring.task.execution.*}, for the framework parts that look it up.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    public static final String IO_EXECUTOR = "ioTaskExecutor";
+    public static final String CPU_EXECUTOR = "cpuTaskExecutor";
+
+    @Value("${app.executors.cpu.pool-size:0}")
+    private int cpuPoolSize;
+
+    @Value("${app.executors.cpu.queue-capacity:1000}")
+    private int cpuQueueCapacity;
+
+    @Lazy
+    @Bean(name = { TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder builder) {
+        return builder.build();
+    }
+
+    @Bean(name = IO_EXECUTOR)
+    public ExecutorService ioTaskExecutor(MeterRegistry meterRegistry) {
+        AtomicInteger active = new AtomicInteger();
+        ThreadFactory virtualThreads = Thread.ofVirtual().name("io-", 0).factory();
+        // One thread per task, so counting running threads counts running tasks
+        ThreadFactory counting = task -> virtualThreads.newThread(() -> {
+            active.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                active.decrementAndGet();
+            }
+        });
+
+        Gauge.builder("executor.active", active, AtomicInteger::get)
+                .description("Tasks currently running")
+                .baseUnit("threads")
+                .tag("name", IO_EXECUTOR)
+                .register(meterRegistry);
+        return ExecutorServiceMetrics.monitor(meterRegistry, Executors.newThreadPerTaskExecutor(counting),
+                IO_EXECUTOR, List.<Tag>of());
+    }
+
+    @Bean(name = CPU_EXECUTOR)
+    public ExecutorService cpuTaskExecutor(MeterRegistry meterRegistry) {
+        int poolSize = cpuPoolSize > 0 ? cpuPoolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(cpuQueueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "cpu-" + threadNumber.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+        return ExecutorServiceMetrics.monitor(meterRegistry, executor, CPU_EXECUTOR, List.<Tag>of());
+    }
+}
@@ -0,0 +1,117 @@
+package com.learning.reelnet.common.infrastructure.concurrent;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.common.infrastructure.annotation.NonBlocking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs methods annotated with {@link NonBlocking} on the executor bean named
+ * by the annotation.
+ * <p>
+ * Methods returning {@link CompletableFuture}, {@link CompletionStage} or
+ * {@link Future} get a future completed with the method's own result;
+ * {@code void} methods are fired and forgotten, with failures logged. Any
+ * other return type cannot be made asynchronous and is rejected. The caller's
+ * MDC is carried over to the executing thread.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class NonBlockingAspect {
+
+    private final BeanFactory beanFactory;
+
+    private final Map<String, Executor> executors = new ConcurrentHashMap<>();
+
+    @Around("@annotation(nonBlocking)")
+    public Object runAsync(ProceedingJoinPoint joinPoint, NonBlocking nonBlocking) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> returnType = method.getReturnType();
+        Executor executor = executors.computeIfAbsent(nonBlocking.executor(),
+                name -> beanFactory.getBean(name, Executor.class));
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        if (returnType == void.class) {
+            executor.execute(() -> {
+                try {
+                    withMdc(mdc, joinPoint);
+                } catch (Throwable t) {
+                    log.error("Non-blocking call {} failed: {}", method.getName(), t.getMessage(), t);
+                }
+            });
+            return null;
+        }
+
+        if (!Future.class.isAssignableFrom(returnType) && !CompletionStage.class.isAssignableFrom(returnType)) {
+            throw new IllegalStateException("@NonBlocking method " + method.getDeclaringClass().getSimpleName()
+                    + "." + method.getName() + " must return void, Future or CompletionStage");
+        }
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return withMdc(mdc, joinPoint);
+            } catch (Throwable t) {
+                throw t instanceof CompletionException ? (CompletionException) t : new CompletionException(t);
+            }
+        }, executor).thenCompose(result -> toStage(result, executor));
+    }
+
+    private static Object withMdc(Map<String, String> mdc, ProceedingJoinPoint joinPoint) throws Throwable {
+        Map<String, String> previous = MDC.getCopyOfContextMap();
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous != null) {
+                MDC.setContextMap(previous);
+            } else {
+                MDC.clear();
+            }
+        }
+    }
+
+    private static CompletionStage<Object> toStage(Object result, Executor executor) {
+        if (result == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (result instanceof CompletionStage) {
+            @SuppressWarnings("unchecked")
+            CompletionStage<Object> stage = (CompletionStage<Object>) result;
+            return stage;
+        }
+        Future<?> future = (Future<?>) result;
+        // A plain Future can only be waited on; wait on the executor, never on the caller's thread
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            } catch (ExecutionException e) {
+                throw new CompletionException(e.getCause() != null ? e.getCause() : e);
+            }
+        }, executor);
+    }
+}
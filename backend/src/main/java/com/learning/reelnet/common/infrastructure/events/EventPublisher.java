@@ -1,6 +1,7 @@
 package com.learning.reelnet.common.infrastructure.events;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 
 import com.learning.reelnet.common.model.base.BaseAggregateRoot;
 
@@ -31,8 +32,10 @@ public interface EventPublisher {
      * 
      * @param events The collection of domain events to publish
      * @param <T>    The type of domain events
+     * @return Future completing once every event has been accepted, or
+     *         exceptionally if any could not be published
      */
-    <T extends DomainEvent> void publishAll(Collection<T> events);
+    <T extends DomainEvent> CompletableFuture<Void> publishAll(Collection<T> events);
 
     /**
      * Publishes all domain events from an aggregate root.
@@ -0,0 +1,63 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import java.time.Instant;
+import java.util.Collection;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.reelnet.common.infrastructure.events.DomainEvent;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Writes domain events to the outbox table.
+ * <p>
+ * Joins the caller's transaction, so the events are stored if and only if
+ * the aggregate change commits. {@link OutboxRelay} sends them to the broker
+ * afterwards.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.events.outbox.enabled", havingValue = "true")
+public class EventOutbox {
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Store events for relaying.
+     *
+     * @param events Events to store; unpublishable events are skipped
+     */
+    @Transactional
+    public void append(Collection<? extends DomainEvent> events) {
+        Instant now = Instant.now();
+        for (DomainEvent event : events) {
+            if (event == null || !event.isPublishable()) {
+                continue;
+            }
+            OutboxMessage message = new OutboxMessage();
+            message.setEventId(event.getEventId());
+            message.setEventType(event.getEventType());
+            message.setAggregateId(event.getAggregateId());
+            message.setPayload(serialize(event));
+            message.setOccurredOn(event.getOccurredOn() != null ? event.getOccurredOn() : now);
+            message.setCreatedAt(now);
+            // Inserted in JDBC batches at flush time
+            entityManager.persist(message);
+        }
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event.toSerializable());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize event " + event.getEventType(), e);
+        }
+    }
+}
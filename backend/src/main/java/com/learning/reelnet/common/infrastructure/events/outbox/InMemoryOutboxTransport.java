@@ -0,0 +1,56 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox transport used when Kafka is disabled.
+ * <p>
+ * Keeps the most recently relayed records in memory, so the relay can run
+ * and be tested without a broker.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "false", matchIfMissing = true)
+public class InMemoryOutboxTransport implements OutboxTransport {
+
+    private static final int MAX_RETAINED = 1000;
+
+    private final Deque<OutboxRecord> sent = new ArrayDeque<>();
+
+    @Override
+    public synchronized CompletableFuture<Void> send(List<OutboxRecord> records) {
+        for (OutboxRecord record : records) {
+            log.debug("In-memory outbox transport: {} {}", record.getEventType(), record.getEventId());
+            sent.addLast(record);
+            if (sent.size() > MAX_RETAINED) {
+                sent.removeFirst();
+            }
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Get the records sent so far, oldest first, up to the retention limit.
+     *
+     * @return Sent records
+     */
+    public synchronized List<OutboxRecord> getSent() {
+        return new ArrayList<>(sent);
+    }
+
+    /**
+     * Forget the records sent so far.
+     */
+    public synchronized void clear() {
+        sent.clear();
+    }
+}
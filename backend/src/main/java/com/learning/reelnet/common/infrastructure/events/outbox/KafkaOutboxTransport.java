@@ -0,0 +1,46 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Sends outbox records to the domain events topic, keyed by aggregate id so
+ * that events of one aggregate stay in order on one partition.
+ * <p>
+ * All records of a batch are handed to the producer before any acknowledgement
+ * is awaited, letting it group them into as few requests as its batching
+ * settings allow.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.kafka.enabled", havingValue = "true")
+public class KafkaOutboxTransport implements OutboxTransport {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${spring.kafka.topics.domain-events:domain-events}")
+    private String domainEventsTopic;
+
+    @Override
+    public CompletableFuture<Void> send(List<OutboxRecord> records) throws Exception {
+        List<CompletableFuture<?>> futures = new ArrayList<>(records.size());
+        for (OutboxRecord record : records) {
+            String key = record.getAggregateId() != null ? record.getAggregateId() : record.getEventId();
+            // Send the stored JSON as a tree so the JSON serializer does not quote it again
+            futures.add(kafkaTemplate.send(domainEventsTopic, key, objectMapper.readTree(record.getPayload())));
+        }
+        kafkaTemplate.flush();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new));
+    }
+}
@@ -0,0 +1,19 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import java.time.Instant;
+
+import lombok.Value;
+
+/**
+ * An outbox row as read by the relay.
+ */
+@Value
+public class OutboxRecord {
+    long id;
+    String eventId;
+    String eventType;
+    String aggregateId;
+    String payload;
+    Instant occurredOn;
+    Instant createdAt;
+}
@@ -0,0 +1,236 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Relays outbox rows to the broker in batches.
+ * <p>
+ * Every {@code linger} interval the relay takes up to {@code max-batch-size}
+ * unpublished rows in id order, hands them to the {@link OutboxTransport} as
+ * one batch, waits up to {@code send-timeout} for the broker to accept all of
+ * them and only then marks them published, all in one transaction. Full batches
+ * are followed immediately by the next one until the backlog is drained. On
+ * PostgreSQL the rows are claimed with {@code FOR UPDATE SKIP LOCKED}, so
+ * several instances can relay side by side.
+ * <p>
+ * Delivery is at least once: if marking fails after a successful send, the
+ * batch is sent again. Published rows older than the retention period are
+ * deleted in chunks.
+ * <p>
+ * {@code outbox.relay.batch.size} records batch sizes and
+ * {@code outbox.relay.lag} the time from insert to relay per event.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.events.outbox.enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private static final String SELECT_PENDING = "SELECT id, event_id, event_type, aggregate_id, payload, "
+            + "occurred_on, created_at FROM event_outbox WHERE published_at IS NULL ORDER BY id LIMIT ?";
+    private static final String MARK_PUBLISHED = "UPDATE event_outbox SET published_at = ? WHERE id = ?";
+    private static final String PRUNE = "DELETE FROM event_outbox WHERE id IN (SELECT id FROM event_outbox "
+            + "WHERE published_at < ? ORDER BY id LIMIT ?)";
+
+    private static final RowMapper<OutboxRecord> RECORD_MAPPER = (rs, rowNum) -> new OutboxRecord(
+            rs.getLong("id"),
+            rs.getString("event_id"),
+            rs.getString("event_type"),
+            rs.getString("aggregate_id"),
+            rs.getString("payload"),
+            rs.getTimestamp("occurred_on").toInstant(),
+            rs.getTimestamp("created_at").toInstant());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxTransport transport;
+    private final int maxBatchSize;
+    private final Duration sendTimeout;
+    private final Duration retention;
+    private final int pruneChunkSize;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+    private final Timer lag;
+    private final Counter failures;
+    private final Counter pruned;
+
+    private volatile Boolean postgres;
+
+    public OutboxRelay(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+            OutboxTransport transport, MeterRegistry meterRegistry,
+            @Value("${app.events.outbox.linger:200ms}") Duration linger,
+            @Value("${app.events.outbox.max-batch-size:500}") int maxBatchSize,
+            @Value("${app.events.outbox.send-timeout:30s}") Duration sendTimeout,
+            @Value("${app.events.outbox.retention:7d}") Duration retention,
+            @Value("${app.events.outbox.prune-interval:1h}") Duration pruneInterval,
+            @Value("${app.events.outbox.prune-chunk-size:5000}") int pruneChunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transport = transport;
+        this.maxBatchSize = maxBatchSize;
+        this.sendTimeout = sendTimeout;
+        this.retention = retention;
+        this.pruneChunkSize = pruneChunkSize;
+
+        this.batchSizes = DistributionSummary.builder("outbox.relay.batch.size")
+                .description("Events sent per relay batch")
+                .register(meterRegistry);
+        this.lag = Timer.builder("outbox.relay.lag")
+                .description("Time from writing an event to the outbox to relaying it")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.failures = Counter.builder("outbox.relay.failures")
+                .description("Relay batches that failed and will be retried")
+                .register(meterRegistry);
+        this.pruned = Counter.builder("outbox.pruned.rows")
+                .description("Published outbox rows deleted after the retention period")
+                .register(meterRegistry);
+
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "outbox-relay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long lingerMillis = linger.toMillis();
+        scheduler.scheduleWithFixedDelay(this::relayQuietly, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+        long pruneMillis = pruneInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::pruneQuietly, pruneMillis, pruneMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Relay batches until the outbox has no full batch left.
+     *
+     * @return Number of events relayed
+     */
+    public int relay() {
+        int total = 0;
+        int sent;
+        do {
+            sent = relayBatch();
+            total += sent;
+        } while (sent == maxBatchSize);
+        return total;
+    }
+
+    /**
+     * Relay a single batch.
+     *
+     * @return Number of events relayed
+     */
+    public int relayBatch() {
+        Integer sent = transactionTemplate.execute(status -> {
+            String sql = isPostgres() ? SELECT_PENDING + " FOR UPDATE SKIP LOCKED" : SELECT_PENDING;
+            List<OutboxRecord> records = jdbcTemplate.query(sql, RECORD_MAPPER, maxBatchSize);
+            if (records.isEmpty()) {
+                return 0;
+            }
+
+            // Rows stay unpublished unless every record was acknowledged
+            try {
+                transport.send(records).get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for the outbox transport", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Outbox transport failed", e.getCause());
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IllegalStateException("Outbox transport failed", e);
+            }
+
+            Instant now = Instant.now();
+            Timestamp publishedAt = Timestamp.from(now);
+            List<Object[]> updates = new ArrayList<>(records.size());
+            for (OutboxRecord record : records) {
+                updates.add(new Object[] { publishedAt, record.getId() });
+                lag.record(Duration.between(record.getCreatedAt(), now));
+            }
+            jdbcTemplate.batchUpdate(MARK_PUBLISHED, updates);
+            batchSizes.record(records.size());
+            return records.size();
+        });
+        return sent != null ? sent : 0;
+    }
+
+    /**
+     * Delete published rows older than the retention period.
+     *
+     * @return Number of rows deleted
+     */
+    public int prune() {
+        Timestamp cutoff = Timestamp.from(Instant.now().minus(retention));
+        int total = 0;
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PRUNE, cutoff, pruneChunkSize);
+            total += deleted;
+        } while (deleted == pruneChunkSize);
+        pruned.increment(total);
+        return total;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        relayQuietly();
+    }
+
+    private void relayQuietly() {
+        try {
+            relay();
+        } catch (Exception e) {
+            failures.increment();
+            log.warn("Outbox relay failed, retrying on the next interval: {}", e.getMessage());
+        }
+    }
+
+    private void pruneQuietly() {
+        try {
+            int deleted = prune();
+            if (deleted > 0) {
+                log.debug("Pruned {} published outbox rows", deleted);
+            }
+        } catch (Exception e) {
+            log.warn("Outbox pruning failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,21 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Sends relayed outbox records to the message broker.
+ */
+public interface OutboxTransport {
+
+    /**
+     * Hand a batch of records to the broker. Records must be sent in list
+     * order per aggregate.
+     *
+     * @param records Records in outbox order
+     * @return Future completing once the broker has accepted every record, or
+     *         exceptionally if any could not be sent; the whole batch is retried
+     * @throws Exception If the batch could not be handed to the broker
+     */
+    CompletableFuture<Void> send(List<OutboxRecord> records) throws Exception;
+}
@@ -4,7 +4,10 @@ import com.learning.reelnet.common.infrastructure.events.DomainEvent;
 import com.learning.reelnet.common.infrastructure.events.EventPublisher;
 import com.learning.reelnet.common.model.base.BaseAggregateRoot;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
@@ -12,11 +15,16 @@ import org.springframework.stereotype.Component;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * A dummy implementation of EventPublisher that doesn't use Kafka.
  * This simply logs events and notifies listeners.
+ * <p>
+ * Listeners are called on their own threads through an {@link EventRingBuffer},
+ * so a slow listener does not add to the latency of the publishing request.
+ * The buffer is configured under {@code app.events.bus}.
  */
 @Component
 @Primary
@@ -27,6 +35,20 @@ public class DummyEventPublisher implements EventPublisher {
     // Using CopyOnWriteArrayList for thread safety
     private final List<EventPublicationListener> listeners = new CopyOnWriteArrayList<>();
 
+    private final EventRingBuffer ringBuffer;
+
+    public DummyEventPublisher(MeterRegistry meterRegistry,
+            @Value("${app.events.bus.buffer-size:8192}") int bufferSize,
+            @Value("${app.events.bus.max-batch-size:256}") int maxBatchSize,
+            @Value("${app.events.bus.full-policy:BLOCK}") EventRingBuffer.FullPolicy fullPolicy) {
+        this.ringBuffer = new EventRingBuffer(bufferSize, maxBatchSize, fullPolicy, meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ringBuffer.shutdown(5_000);
+    }
+
     @Override
     public <T extends DomainEvent> void publish(T event) {
         if (event == null || !event.isPublishable()) {
@@ -34,8 +56,8 @@ public class DummyEventPublisher implements EventPublisher {
         }
 
         try {
-            log.info("Dummy publisher: event logged: {}", event);
-            notifyListeners(event);
+            log.debug("Dummy publisher: event logged: {}", event);
+            ringBuffer.publish(event);
         } catch (Exception e) {
             log.error("Failed to publish event: {}", event, e);
             throw new RuntimeException("Event publication failed", e);
@@ -43,14 +65,20 @@ public class DummyEventPublisher implements EventPublisher {
     }
 
     @Override
-    public <T extends DomainEvent> void publishAll(Collection<T> events) {
+    public <T extends DomainEvent> CompletableFuture<Void> publishAll(Collection<T> events) {
         if (events == null || events.isEmpty()) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
-        events.stream()
-                .filter(DomainEvent::isPublishable)
-                .forEach(this::publish);
+        try {
+            events.stream()
+                    .filter(DomainEvent::isPublishable)
+                    .forEach(this::publish);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        // Accepted once in the ring buffer; listeners run afterwards on their own threads
+        return CompletableFuture.completedFuture(null);
     }
 
     @Override
@@ -76,24 +104,10 @@ public class DummyEventPublisher implements EventPublisher {
     }
 
     @Override
-    public void registerPublicationListener(EventPublicationListener listener) {
+    public synchronized void registerPublicationListener(EventPublicationListener listener) {
         if (listener != null && !listeners.contains(listener)) {
             listeners.add(listener);
+            ringBuffer.addListener(listener);
         }
     }
-
-    /**
-     * Notifies all registered listeners that an event has been published.
-     *
-     * @param event the published event
-     */
-    private <T extends DomainEvent> void notifyListeners(T event) {
-        for (EventPublicationListener listener : listeners) {
-            try {
-                listener.onEventPublished(event);
-            } catch (Exception e) {
-                log.error("Error notifying listener: {}", listener, e);
-            }
-        }
-    }
-} 
\ No newline at end of file
+}
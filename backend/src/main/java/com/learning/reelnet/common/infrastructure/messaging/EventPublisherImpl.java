@@ -40,33 +40,48 @@ public class EventPublisherImpl implements EventPublisher {
 
     @Override
     public <T extends DomainEvent> void publish(T event) {
-        if (event == null || !event.isPublishable()) {
+        if (event == null) {
             return;
         }
-
-        try {
-            CompletableFuture<Void> future = publishToKafka(event);
-            // Only notify listeners if publishing was successful
-            future.thenRun(() -> notifyListeners(event))
-                  .exceptionally(ex -> {
-                      log.error("Failed to publish event: {}", event, ex);
-                      return null;
-                  });
-        } catch (Exception e) {
-            log.error("Failed to publish event: {}", event, e);
-            throw new RuntimeException("Event publication failed", e);
-        }
+        publishAll(List.of(event));
     }
 
+    /**
+     * Sends all publishable events before waiting on any of them, so the
+     * producer can put them in as few batches as its linger and batch size
+     * allow. Listeners are notified once, after the whole batch is
+     * acknowledged, and the returned future completes then.
+     */
     @Override
-    public <T extends DomainEvent> void publishAll(Collection<T> events) {
+    public <T extends DomainEvent> CompletableFuture<Void> publishAll(Collection<T> events) {
         if (events == null || events.isEmpty()) {
-            return;
+            return CompletableFuture.completedFuture(null);
         }
 
-        events.stream()
-                .filter(DomainEvent::isPublishable)
-                .forEach(this::publish);
+        List<T> publishable = events.stream()
+                .filter(event -> event != null && event.isPublishable())
+                .toList();
+        if (publishable.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        try {
+            CompletableFuture<?>[] sends = new CompletableFuture<?>[publishable.size()];
+            for (int i = 0; i < sends.length; i++) {
+                sends[i] = publishToKafka(publishable.get(i));
+            }
+            // Only notify listeners if publishing was successful
+            return CompletableFuture.allOf(sends)
+                    .thenRun(() -> publishable.forEach(this::notifyListeners))
+                    .whenComplete((ignored, ex) -> {
+                        if (ex != null) {
+                            log.error("Failed to publish batch of {} events", publishable.size(), ex);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Failed to publish batch of {} events", publishable.size(), e);
+            return CompletableFuture.failedFuture(new RuntimeException("Event publication failed", e));
+        }
     }
 
     @Override
@@ -112,7 +127,10 @@ public class EventPublisherImpl implements EventPublisher {
      * @return a CompletableFuture that completes when the event is published
      */
     private <T extends DomainEvent> CompletableFuture<Void> publishToKafka(T event) {
-        String key = event.getEventId().toString();
+        // Keyed by aggregate so all events of one aggregate land on one partition, in order
+        String key = event.getAggregateId() != null
+                ? event.getAggregateId()
+                : event.getEventId().toString();
         
         return kafkaTemplate.send(domainEventsTopic, key, event.toSerializable())
                 .thenApply(result -> {
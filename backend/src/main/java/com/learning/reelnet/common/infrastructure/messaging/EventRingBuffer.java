@@ -0,0 +1,285 @@
+package com.learning.reelnet.common.infrastructure.messaging;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import com.learning.reelnet.common.infrastructure.events.DomainEvent;
+import com.learning.reelnet.common.infrastructure.events.EventPublisher.EventPublicationListener;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Preallocated ring buffer that hands domain events to listeners off the
+ * publishing thread.
+ * <p>
+ * Publishers claim a slot with a CAS on the shared cursor, store the event and
+ * mark the slot published; no locks are taken on the way in. Every listener
+ * has its own consumer thread and sequence. A consumer takes all published
+ * events up to {@code maxBatchSize} at once and advances its sequence once per
+ * batch, so a slow listener only holds back the slots it has not read yet and
+ * never the other listeners.
+ * <p>
+ * When the slowest listener is a full buffer behind, {@link FullPolicy}
+ * decides what the publisher does. {@code events.bus.full} counts how often
+ * that happens and {@code events.bus.backlog} reports how far the slowest
+ * listener is behind.
+ */
+@Slf4j
+public class EventRingBuffer {
+
+    /**
+     * What a publisher does when the buffer is full.
+     */
+    public enum FullPolicy {
+        /** Wait until the slowest listener frees a slot */
+        BLOCK,
+        /** Discard the event */
+        DROP,
+        /** Deliver the event to all listeners on the publishing thread, out of order */
+        CALLER_RUNS
+    }
+
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final DomainEvent[] entries;
+    // Sequence last published into each slot; a slot holds sequence s only once s is readable
+    private final AtomicLongArray published;
+    private final int mask;
+    private final int maxBatchSize;
+    private final FullPolicy fullPolicy;
+    private final Counter fullCounter;
+
+    // Highest claimed sequence
+    private final AtomicLong cursor = new AtomicLong(-1);
+    // Last known minimum consumer sequence, to avoid scanning consumers on every claim
+    private volatile long gatingCache = -1;
+    private volatile Consumer[] consumers = new Consumer[0];
+    private volatile boolean running = true;
+
+    /**
+     * Create the buffer.
+     *
+     * @param bufferSize Number of slots, rounded up to a power of two
+     * @param maxBatchSize Most events a listener receives before its sequence is advanced
+     * @param fullPolicy What publishers do when the buffer is full
+     * @param meterRegistry Registry for the buffer metrics
+     */
+    public EventRingBuffer(int bufferSize, int maxBatchSize, FullPolicy fullPolicy, MeterRegistry meterRegistry) {
+        int capacity = Integer.highestOneBit(Math.max(2, bufferSize) - 1) << 1;
+        this.entries = new DomainEvent[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1);
+        }
+        this.mask = capacity - 1;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.fullPolicy = fullPolicy;
+        this.fullCounter = Counter.builder("events.bus.full")
+                .description("Events published while the event bus buffer was full")
+                .tag("policy", fullPolicy.name())
+                .register(meterRegistry);
+        Gauge.builder("events.bus.backlog", this, EventRingBuffer::backlog)
+                .description("Events the slowest listener has not processed yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Get the number of slots.
+     *
+     * @return Buffer capacity
+     */
+    public int capacity() {
+        return entries.length;
+    }
+
+    /**
+     * Start a consumer thread for a listener. The listener receives events
+     * published from now on.
+     *
+     * @param listener Listener to add
+     */
+    public synchronized void addListener(EventPublicationListener listener) {
+        Consumer consumer = new Consumer(listener, cursor.get(), "event-bus-" + consumers.length);
+        Consumer[] updated = Arrays.copyOf(consumers, consumers.length + 1);
+        updated[consumers.length] = consumer;
+        consumers = updated;
+        consumer.thread.start();
+    }
+
+    /**
+     * Publish an event to all listeners.
+     *
+     * @param event Event to publish
+     * @return false if the event was dropped because the buffer was full
+     */
+    public boolean publish(DomainEvent event) {
+        if (consumers.length == 0) {
+            return true;
+        }
+
+        long sequence = tryClaim();
+        if (sequence < 0) {
+            fullCounter.increment();
+            if (fullPolicy == FullPolicy.DROP) {
+                log.warn("Event bus full, dropping event: {}", event);
+                return false;
+            }
+            while (sequence < 0) {
+                // After shutdown no consumer will free a slot; deliver inline instead of waiting
+                if (fullPolicy == FullPolicy.CALLER_RUNS || !running) {
+                    deliverInline(event);
+                    return true;
+                }
+                LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                sequence = tryClaim();
+            }
+        }
+
+        int index = (int) sequence & mask;
+        entries[index] = event;
+        published.set(index, sequence);
+
+        for (Consumer consumer : consumers) {
+            if (consumer.waiting) {
+                LockSupport.unpark(consumer.thread);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Stop the consumers after they have processed everything published so far.
+     *
+     * @param timeoutMillis Time to wait for each consumer to finish
+     */
+    public void shutdown(long timeoutMillis) {
+        running = false;
+        for (Consumer consumer : consumers) {
+            LockSupport.unpark(consumer.thread);
+        }
+        for (Consumer consumer : consumers) {
+            try {
+                consumer.thread.join(timeoutMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (consumer.thread.isAlive()) {
+                log.warn("Event bus consumer {} did not finish within {}ms", consumer.thread.getName(),
+                        timeoutMillis);
+            }
+        }
+    }
+
+    /**
+     * Claim the next sequence, or return -1 if that would overwrite an event
+     * a listener has not processed yet.
+     */
+    private long tryClaim() {
+        while (true) {
+            long current = cursor.get();
+            long next = current + 1;
+            long wrapPoint = next - entries.length;
+            if (wrapPoint > gatingCache) {
+                long minimum = minimumSequence(current);
+                gatingCache = minimum;
+                if (wrapPoint > minimum) {
+                    return -1;
+                }
+            }
+            if (cursor.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private long minimumSequence(long fallback) {
+        long minimum = fallback;
+        for (Consumer consumer : consumers) {
+            minimum = Math.min(minimum, consumer.sequence.get());
+        }
+        return minimum;
+    }
+
+    private double backlog() {
+        long current = cursor.get();
+        return current - minimumSequence(current);
+    }
+
+    /**
+     * Get the highest sequence in {@code from..to} such that it and every
+     * sequence before it have been published, or {@code from - 1} if none has.
+     */
+    private long highestPublished(long from, long to) {
+        for (long sequence = from; sequence <= to; sequence++) {
+            if (published.get((int) sequence & mask) != sequence) {
+                return sequence - 1;
+            }
+        }
+        return to;
+    }
+
+    private void deliverInline(DomainEvent event) {
+        for (Consumer consumer : consumers) {
+            consumer.deliver(event);
+        }
+    }
+
+    private final class Consumer implements Runnable {
+
+        private final EventPublicationListener listener;
+        // Last sequence this listener has processed
+        private final AtomicLong sequence;
+        private final Thread thread;
+        private volatile boolean waiting;
+
+        private Consumer(EventPublicationListener listener, long start, String name) {
+            this.listener = listener;
+            this.sequence = new AtomicLong(start);
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            while (true) {
+                long available = highestPublished(next, next + maxBatchSize - 1);
+                if (available >= next) {
+                    for (long s = next; s <= available; s++) {
+                        deliver(entries[(int) s & mask]);
+                    }
+                    // Free the whole batch at once
+                    sequence.set(available);
+                    next = available + 1;
+                    continue;
+                }
+                if (!running) {
+                    return;
+                }
+
+                // Publishers unpark us when they see the flag; recheck after setting it so no wakeup is lost
+                waiting = true;
+                if (highestPublished(next, next) < next && running) {
+                    LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                }
+                waiting = false;
+            }
+        }
+
+        private void deliver(DomainEvent event) {
+            try {
+                listener.onEventPublished(event);
+            } catch (Exception e) {
+                log.error("Error notifying listener: {}", listener, e);
+            }
+        }
+    }
+}
@@ -6,11 +6,15 @@ import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
@@ -37,6 +41,20 @@ public class KafkaConfig {
     @Value("${spring.kafka.topics.domain-events:domain-events}")
     private String domainEventsTopic;
 
+    @Value("${spring.kafka.topics.partitions:12}")
+    private int topicPartitions;
+
+    @Value("${spring.kafka.topics.replication-factor:1}")
+    private short topicReplicationFactor;
+
+    private final KafkaProperties kafkaProperties;
+    private final ObjectProvider<SslBundles> sslBundles;
+
+    public KafkaConfig(KafkaProperties kafkaProperties, ObjectProvider<SslBundles> sslBundles) {
+        this.kafkaProperties = kafkaProperties;
+        this.sslBundles = sslBundles;
+    }
+
     /**
      * Creates a Kafka admin client configuration.
      *
@@ -51,22 +69,30 @@ public class KafkaConfig {
 
     /**
      * Creates the domain events topic.
+     * Events are keyed by aggregate id, so the partition count bounds how many
+     * consumers can process different aggregates in parallel.
      *
      * @return the domain events topic
      */
     @Bean
     public NewTopic domainEventsTopic() {
-        return new NewTopic(domainEventsTopic, 1, (short) 1);
+        return TopicBuilder.name(domainEventsTopic)
+                .partitions(topicPartitions)
+                .replicas(topicReplicationFactor)
+                .build();
     }
 
     /**
      * Creates a Kafka producer factory for JSON serialization.
+     * Batching, linger, compression, acks and idempotence come from the
+     * spring.kafka.producer properties; see application.yml for the defaults.
      *
      * @return the Kafka producer factory
      */
     @Bean
     public ProducerFactory<String, Object> producerFactory() {
-        Map<String, Object> configProps = new HashMap<>();
+        Map<String, Object> configProps = new HashMap<>(
+                kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable()));
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
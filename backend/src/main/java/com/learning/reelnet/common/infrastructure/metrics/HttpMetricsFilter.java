@@ -4,60 +4,131 @@ import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import org.springframework.lang.NonNull;
 
+/**
+ * Records request count, duration and responses per route.
+ * <p>
+ * Meters are tagged with the matched handler pattern (e.g.
+ * {@code /api/vocabulary-sets/{id}}) rather than the raw URI, so the number of
+ * time series is bounded by the number of routes. Each route, method and
+ * status combination registers its meters once; later requests only look them
+ * up in a concurrent map.
+ */
 @Component
 @RequiredArgsConstructor
 public class HttpMetricsFilter extends OncePerRequestFilter {
 
+    private static final Set<String> KNOWN_METHODS = Set.of(
+            "GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
     private final MeterRegistry meterRegistry;
 
+    private final Map<MeterKey, RouteMeters> meters = new ConcurrentHashMap<>();
+
+    @Value("${app.metrics.http.slo:50ms,100ms,250ms,500ms,1s,2s}")
+    private Duration[] serviceLevelObjectives = new Duration[0];
+
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
             @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        String path = request.getRequestURI();
-        String method = request.getMethod();
-
-        // Record request count by path and method
-        Counter.builder("http.requests.total")
-                .tag("path", path)
-                .tag("method", method)
-                .register(meterRegistry)
-                .increment();
-
-        // Measure request duration
         long start = System.nanoTime();
         try {
             filterChain.doFilter(request, response);
         } finally {
             long duration = System.nanoTime() - start;
 
-            // Record response time by path, method and status
-            Timer.builder("http.requests.duration")
-                    .tag("path", path)
-                    .tag("method", method)
-                    .tag("status", String.valueOf(response.getStatus()))
-                    .register(meterRegistry)
-                    .record(duration, TimeUnit.NANOSECONDS);
-
-            // Count responses by status
-            Counter.builder("http.responses.total")
-                    .tag("path", path)
-                    .tag("method", method)
-                    .tag("status", String.valueOf(response.getStatus()))
-                    .register(meterRegistry)
-                    .increment();
+            // The pattern is only known once the dispatcher has matched a handler
+            int status = response.getStatus();
+            MeterKey key = new MeterKey(route(request, status), method(request), status);
+            RouteMeters routeMeters = meters.get(key);
+            if (routeMeters == null) {
+                routeMeters = meters.computeIfAbsent(key, this::register);
+            }
+
+            routeMeters.getRequests().increment();
+            routeMeters.getDuration().record(duration, TimeUnit.NANOSECONDS);
+            routeMeters.getResponses().increment();
+        }
+    }
+
+    private RouteMeters register(MeterKey key) {
+        String status = String.valueOf(key.getStatus());
+
+        // Record request count by path and method
+        Counter requests = Counter.builder("http.requests.total")
+                .tag("path", key.getRoute())
+                .tag("method", key.getMethod())
+                .register(meterRegistry);
+
+        // Record response time by path, method and status
+        Timer duration = Timer.builder("http.requests.duration")
+                .tag("path", key.getRoute())
+                .tag("method", key.getMethod())
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .serviceLevelObjectives(serviceLevelObjectives)
+                .register(meterRegistry);
+
+        // Count responses by status
+        Counter responses = Counter.builder("http.responses.total")
+                .tag("path", key.getRoute())
+                .tag("method", key.getMethod())
+                .tag("status", status)
+                .register(meterRegistry);
+
+        return new RouteMeters(requests, duration, responses);
+    }
+
+    private static String route(HttpServletRequest request, int status) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern != null) {
+            return pattern.toString();
+        }
+        // Unmatched requests share one series each instead of one per URI
+        if (status == HttpServletResponse.SC_NOT_FOUND) {
+            return "NOT_FOUND";
+        }
+        if (status >= 300 && status < 400) {
+            return "REDIRECTION";
         }
+        return "UNKNOWN";
+    }
+
+    private static String method(HttpServletRequest request) {
+        String method = request.getMethod();
+        return method != null && KNOWN_METHODS.contains(method) ? method : "OTHER";
+    }
+
+    @lombok.Value
+    private static class MeterKey {
+        String route;
+        String method;
+        int status;
+    }
+
+    @lombok.Value
+    private static class RouteMeters {
+        Counter requests;
+        Timer duration;
+        Counter responses;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,20 @@
+package com.learning.reelnet.common.infrastructure.persistence.counter;
+
+import lombok.Value;
+
+/**
+ * A numeric column incremented through {@link WriteBehindCounters}.
+ * <p>
+ * Table and column names are written into SQL as is, so they must come from
+ * code constants, never from user input.
+ */
+@Value(staticConstructor = "of")
+public class CounterColumn {
+    String table;
+    String column;
+
+    String updateSql() {
+        // GREATEST keeps decrements (e.g. unlikes) from going below zero
+        return "UPDATE " + table + " SET " + column + " = GREATEST(COALESCE(" + column + ", 0) + ?, 0) WHERE id = ?";
+    }
+}
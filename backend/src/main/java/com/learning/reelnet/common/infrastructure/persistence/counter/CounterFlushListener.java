@@ -0,0 +1,19 @@
+package com.learning.reelnet.common.infrastructure.persistence.counter;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Receives counter deltas once {@link WriteBehindCounters} has written them,
+ * e.g. to maintain derived data such as rankings from the same batches.
+ */
+public interface CounterFlushListener {
+
+    /**
+     * Called after a batch of deltas for one column has been written.
+     *
+     * @param column the counter column
+     * @param deltas written delta per row id
+     */
+    void onFlush(CounterColumn column, Map<UUID, Long> deltas);
+}
@@ -0,0 +1,229 @@
+package com.learning.reelnet.common.infrastructure.persistence.counter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind accumulator for hot counters such as view and like counts.
+ * <p>
+ * Increments are added to a {@link LongAdder} per row and written on an
+ * interval as one batched {@code UPDATE ... SET c = c + ?} per column, instead
+ * of loading, modifying and saving the entity (and bumping its version) on
+ * every view. Pending deltas are flushed on shutdown and can be merged into
+ * values read from the database with {@link #pending(CounterColumn, UUID)}.
+ * Written batches are passed on to every {@link CounterFlushListener} bean.
+ * <p>
+ * A delta taken by a flush stays in {@link #pending(CounterColumn, UUID)}
+ * until its batch is written, so a reader sees it at worst twice, between the
+ * commit and the bookkeeping, and never not at all. A row's entry is retired
+ * once it has been idle for a whole interval; an increment that lands on an
+ * entry being retired moves itself to a fresh one.
+ * <p>
+ * Counts are best-effort: deltas still pending when the process dies are
+ * lost, and a failed flush is retried on the next interval.
+ */
+@Slf4j
+@Component
+public class WriteBehindCounters {
+
+    private final JdbcTemplate jdbcTemplate;
+    // Looked up lazily: listeners usually depend on services that depend on this class
+    private final ObjectProvider<CounterFlushListener> listeners;
+    private final Map<CounterColumn, Map<UUID, PendingDelta>> pending = new ConcurrentHashMap<>();
+    private final Duration flushInterval;
+    private ScheduledExecutorService scheduler;
+    private final Counter flushedRows;
+    private final Counter failedFlushes;
+
+    public WriteBehindCounters(JdbcTemplate jdbcTemplate, ObjectProvider<CounterFlushListener> listeners,
+            MeterRegistry meterRegistry, @Value("${app.counters.flush-interval:5s}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.listeners = listeners;
+        this.flushInterval = flushInterval;
+        this.flushedRows = Counter.builder("counters.flush.rows")
+                .description("Rows updated by write-behind counter flushes")
+                .register(meterRegistry);
+        this.failedFlushes = Counter.builder("counters.flush.failures")
+                .description("Write-behind counter flushes that failed and will be retried")
+                .register(meterRegistry);
+        Gauge.builder("counters.pending.keys", pending, p -> p.values().stream().mapToInt(Map::size).sum())
+                .description("Rows with counter deltas not yet written")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "counter-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = flushInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::flushQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Add a delta to a row's counter.
+     *
+     * @param column Counter column
+     * @param id Row id
+     * @param delta Amount to add, may be negative
+     */
+    public void increment(CounterColumn column, UUID id, long delta) {
+        Map<UUID, PendingDelta> deltas = pending.computeIfAbsent(column, c -> new ConcurrentHashMap<>());
+        long remaining = delta;
+        while (remaining != 0) {
+            PendingDelta entry = deltas.computeIfAbsent(id, k -> new PendingDelta());
+            entry.delta.add(remaining);
+            if (!entry.retired) {
+                return;
+            }
+            // The flush is retiring the entry and may have drained it before our add. It can
+            // still be in the map, so drop it here or the next lookup would return it again
+            deltas.remove(id, entry);
+            remaining = entry.delta.sumThenReset();
+        }
+    }
+
+    /**
+     * Get the delta not yet written for a row's counter.
+     *
+     * @param column Counter column
+     * @param id Row id
+     * @return Pending delta, 0 if none
+     */
+    public long pending(CounterColumn column, UUID id) {
+        Map<UUID, PendingDelta> deltas = pending.get(column);
+        PendingDelta entry = deltas != null ? deltas.get(id) : null;
+        return entry != null ? entry.delta.sum() + entry.inFlight.get() : 0L;
+    }
+
+    /**
+     * Write all pending deltas.
+     */
+    public synchronized void flush() {
+        pending.forEach((column, deltas) -> {
+            List<Object[]> batch = new ArrayList<>();
+            Map<UUID, PendingDelta> taken = new LinkedHashMap<>();
+            deltas.forEach((id, entry) -> {
+                long delta = entry.delta.sumThenReset();
+                if (delta != 0) {
+                    entry.inFlight.addAndGet(delta);
+                    batch.add(new Object[] { delta, id });
+                    taken.put(id, entry);
+                } else if (entry.inFlight.get() == 0) {
+                    retire(column, deltas, id, entry);
+                }
+            });
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            // A stable row order keeps concurrent flushes from several instances from deadlocking
+            batch.sort(Comparator.comparing(args -> (UUID) args[1]));
+            try {
+                jdbcTemplate.batchUpdate(column.updateSql(), batch);
+                flushedRows.increment(batch.size());
+            } catch (RuntimeException e) {
+                failedFlushes.increment();
+                log.warn("Could not flush {} {}.{} counters, retrying later: {}", batch.size(), column.getTable(),
+                        column.getColumn(), e.getMessage());
+                // In-flight entries are never retired, so the delta can go straight back
+                batch.forEach(args -> {
+                    PendingDelta entry = taken.get((UUID) args[1]);
+                    entry.delta.add((Long) args[0]);
+                    entry.inFlight.addAndGet(-(Long) args[0]);
+                });
+                return;
+            }
+            batch.forEach(args -> taken.get((UUID) args[1]).inFlight.addAndGet(-(Long) args[0]));
+            notifyListeners(column, batch);
+        });
+    }
+
+    /*
+     * Remove an entry idle for a whole interval. Retired is set before the
+     * final drain, so an increment racing with the removal is either drained
+     * here or sees the flag and moves itself.
+     */
+    private void retire(CounterColumn column, Map<UUID, PendingDelta> deltas, UUID id, PendingDelta entry) {
+        entry.retired = true;
+        deltas.remove(id, entry);
+        long leftover = entry.delta.sumThenReset();
+        if (leftover != 0) {
+            increment(column, id, leftover);
+        }
+    }
+
+    private void notifyListeners(CounterColumn column, List<Object[]> batch) {
+        Map<UUID, Long> deltas = new LinkedHashMap<>();
+        batch.forEach(args -> deltas.put((UUID) args[1], (Long) args[0]));
+        try {
+            listeners.orderedStream().forEach(listener -> {
+                try {
+                    listener.onFlush(column, deltas);
+                } catch (Exception e) {
+                    log.warn("Counter flush listener {} failed: {}", listener.getClass().getSimpleName(),
+                            e.getMessage());
+                }
+            });
+        } catch (Exception e) {
+            // Listener beans may already be gone during the final flush on shutdown
+            log.debug("Counter flush listeners unavailable: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            try {
+                scheduler.awaitTermination(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("Counter flush failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Pending delta of one row's counter.
+     */
+    private static final class PendingDelta {
+        private final LongAdder delta = new LongAdder();
+        // Taken by the running flush and not written yet
+        private final AtomicLong inFlight = new AtomicLong();
+        private volatile boolean retired;
+    }
+}
@@ -0,0 +1,61 @@
+package com.learning.reelnet.common.infrastructure.persistence.routing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for read replicas. Read-only transactions are
+ * routed to these pools; with no nodes configured everything uses the primary.
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "app.datasource.read-replicas")
+public class ReadReplicaProperties {
+
+    /**
+     * Replica connection settings. Username and password default to the
+     * primary's when omitted.
+     */
+    private List<Node> nodes = new ArrayList<>();
+
+    /**
+     * Maximum connections in each replica pool
+     */
+    private int maximumPoolSize = 20;
+
+    /**
+     * How long to wait for a replica connection before trying the next one.
+     * Kept short so a stalled replica does not hold up reads.
+     */
+    private Duration connectionTimeout = Duration.ofSeconds(2);
+
+    /**
+     * Interval between health checks. An unhealthy replica gets no reads
+     * until a later check succeeds.
+     */
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+
+    /**
+     * How long after committing a write a user's reads stay on the primary,
+     * so they see their own changes despite replica lag. Zero disables it.
+     */
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    /**
+     * One replica
+     */
+    @Data
+    public static class Node {
+
+        private String url;
+
+        private String username;
+
+        private String password;
+    }
+}
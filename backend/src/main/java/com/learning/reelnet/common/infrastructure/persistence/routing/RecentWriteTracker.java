@@ -0,0 +1,60 @@
+package com.learning.reelnet.common.infrastructure.persistence.routing;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.learning.reelnet.common.infrastructure.security.utils.SecurityUtils;
+
+/**
+ * Remembers which users committed a read-write transaction recently, so
+ * their reads can be kept on the primary until replicas have caught up.
+ * <p>
+ * Registered with the transaction manager as a
+ * {@link TransactionExecutionListener}. Any committed read-write transaction
+ * counts, whether or not it changed rows. Anonymous work is not tracked.
+ */
+@Component
+public class RecentWriteTracker implements TransactionExecutionListener {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public RecentWriteTracker(ReadReplicaProperties properties) {
+        Duration window = properties.getReadYourWritesWindow();
+        this.recentWriters = window.isZero() || window.isNegative() ? null
+                : Caffeine.newBuilder()
+                        .expireAfterWrite(window)
+                        .maximumSize(100_000)
+                        .build();
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (recentWriters == null || commitFailure != null || !transaction.isNewTransaction()
+                || transaction.isReadOnly()) {
+            return;
+        }
+        String user = SecurityUtils.getCurrentPrincipalName();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Check whether the current user committed a write within the window.
+     *
+     * @return true if reads should stay on the primary
+     */
+    public boolean hasRecentWrite() {
+        if (recentWriters == null) {
+            return false;
+        }
+        String user = SecurityUtils.getCurrentPrincipalName();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+}
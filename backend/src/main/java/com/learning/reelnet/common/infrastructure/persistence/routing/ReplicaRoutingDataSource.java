@@ -0,0 +1,198 @@
+package com.learning.reelnet.common.infrastructure.persistence.routing;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * DataSource for read-only transactions that spreads connections over the
+ * replica pools round-robin.
+ * <p>
+ * Meant to be set as the
+ * {@link LazyConnectionDataSourceProxy#setReadOnlyDataSource(DataSource)
+ * read-only DataSource} of the primary's lazy proxy, so it is only asked for a
+ * connection once a read-only transaction runs its first statement. Falls
+ * back to the primary when the current user wrote recently (see
+ * {@link RecentWriteTracker}) or no replica is healthy. A replica whose
+ * connection attempt fails is ejected at once; a background check ejects
+ * and restores replicas on an interval.
+ * <p>
+ * Each routed connection is counted in {@code datasource.read.routing}, tagged
+ * with the pool that served it and the reason.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final RecentWriteTracker recentWrites;
+    private final AtomicInteger next = new AtomicInteger();
+    private final Counter primaryAfterWrite;
+    private final Counter primaryNoReplica;
+    private final ScheduledExecutorService healthChecker;
+
+    /**
+     * Creates a routing DataSource and starts checking replica health.
+     *
+     * @param primary Primary pool, used when no replica can serve a read
+     * @param replicas Replica pools keyed by pool name, in round-robin order
+     * @param recentWrites Tracker for the read-your-writes guard
+     * @param meterRegistry Registry for routing metrics
+     * @param healthCheckIntervalMillis Interval between health checks
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+            RecentWriteTracker recentWrites, MeterRegistry meterRegistry, long healthCheckIntervalMillis) {
+        this.primary = primary;
+        this.recentWrites = recentWrites;
+        replicas.forEach((name, dataSource) -> this.replicas.add(
+                new Replica(name, dataSource, routingCounter(meterRegistry, name, "replica"))));
+        this.primaryAfterWrite = routingCounter(meterRegistry, "primary", "recent-write");
+        this.primaryNoReplica = routingCounter(meterRegistry, "primary", "no-healthy-replica");
+        Gauge.builder("datasource.replicas.healthy", this.replicas,
+                        r -> r.stream().filter(replica -> replica.healthy).count())
+                .description("Replicas currently receiving reads")
+                .register(meterRegistry);
+
+        this.healthChecker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, healthCheckIntervalMillis,
+                healthCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static Counter routingCounter(MeterRegistry meterRegistry, String pool, String reason) {
+        return Counter.builder("datasource.read.routing")
+                .description("Read-only transaction connections by serving pool")
+                .tag("pool", pool)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionSource source) throws SQLException {
+        if (recentWrites.hasRecentWrite()) {
+            primaryAfterWrite.increment();
+            return source.connect(primary);
+        }
+
+        int size = replicas.size();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = source.connect(replica.dataSource);
+                replica.routed.increment();
+                return connection;
+            } catch (SQLException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+
+        primaryNoReplica.increment();
+        return source.connect(primary);
+    }
+
+    /**
+     * Check every replica and update which ones receive reads.
+     */
+    void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (connection.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    if (!replica.healthy) {
+                        replica.healthy = true;
+                        log.info("Read replica {} is healthy again, routing reads to it", replica.name);
+                    }
+                } else {
+                    eject(replica, "connection not valid");
+                }
+            } catch (SQLException | RuntimeException e) {
+                eject(replica, e.getMessage());
+            }
+        }
+    }
+
+    private void eject(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Read replica {} ejected until it passes a health check: {}", replica.name, reason);
+        }
+    }
+
+    /**
+     * Get the names of the replicas currently receiving reads.
+     *
+     * @return Healthy replica pool names
+     */
+    public List<String> getHealthyReplicas() {
+        return replicas.stream().filter(replica -> replica.healthy).map(replica -> replica.name).toList();
+    }
+
+    /**
+     * Stop health checks and close the replica pools.
+     */
+    @Override
+    public void close() {
+        healthChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close read replica {}: {}", replica.name, e.getMessage());
+                }
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routed;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource, Counter routed) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = routed;
+        }
+    }
+}
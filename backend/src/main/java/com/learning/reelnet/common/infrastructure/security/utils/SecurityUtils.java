@@ -2,6 +2,7 @@ package com.learning.reelnet.common.infrastructure.security.utils;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -38,6 +39,23 @@ public final class SecurityUtils {
         return null;
     }
 
+    /**
+     * Gets the name of the current principal, whatever its type. For a JWT
+     * this is the subject claim.
+     *
+     * @return the principal name, or null if not authenticated or anonymous
+     */
+    public static String getCurrentPrincipalName() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+
+        return authentication.getName();
+    }
+
     /**
      * Checks if the current user has the specified role.
      *
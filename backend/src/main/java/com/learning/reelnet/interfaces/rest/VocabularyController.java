@@ -0,0 +1,62 @@
+package com.learning.reelnet.interfaces.rest;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.learning.reelnet.common.api.response.ApiResponse;
+import com.learning.reelnet.common.api.response.RawJson;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySuggestionDto;
+import com.learning.reelnet.modules.vocabulary.api.facade.VocabularyFacade;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/vocabulary")
+@RequiredArgsConstructor
+@Tag(name = "Vocabulary", description = "API endpoints for vocabulary")
+public class VocabularyController {
+
+    private final VocabularyFacade vocabularyFacade;
+
+    /*
+     * suggest headwords for autocomplete
+     * 
+     * @param q the typed prefix
+     * 
+     * @param limit the maximum number of suggestions
+     * 
+     * @return matching headwords, most viewed and easiest first
+     */
+    @GetMapping("/suggest")
+    @Operation(summary = "Suggest headwords", description = "Returns headwords starting with the given prefix, ranked by views and difficulty")
+    public ApiResponse<List<VocabularySuggestionDto>> suggest(
+            @Parameter(description = "Typed prefix, case-insensitive", example = "app") @RequestParam String q,
+            @Parameter(description = "Maximum number of suggestions (capped at 20)", example = "10") @RequestParam(defaultValue = "10") int limit) {
+        return ApiResponse.success(vocabularyFacade.suggestHeadwords(q, limit), "Suggestions retrieved successfully");
+    }
+
+    /*
+     * get the complete entry of a vocabulary
+     * 
+     * @param id the vocabulary ID
+     * 
+     * @return the entry with senses, examples, synonyms, antonyms, etymologies
+     * and metadata
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get vocabulary entry", description = "Returns the complete dictionary entry, served from its precomputed snapshot")
+    public ApiResponse<RawJson> getById(
+            @Parameter(description = "Vocabulary ID") @PathVariable UUID id) {
+        return ApiResponse.success(new RawJson(vocabularyFacade.getVocabularySnapshot(id)),
+                "Vocabulary retrieved successfully");
+    }
+}
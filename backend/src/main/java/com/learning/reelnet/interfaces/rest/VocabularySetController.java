@@ -1,10 +1,13 @@
 package com.learning.reelnet.interfaces.rest;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springdoc.core.converters.models.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.web.bind.annotation.*;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -18,6 +21,7 @@ import com.learning.reelnet.common.exception.ResourceNotFoundException;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
 import com.learning.reelnet.modules.vocabulary.api.facade.VocabularySetFacade;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummary;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -121,11 +125,13 @@ public class VocabularySetController {
     @Parameters({
         @Parameter(name = "page", description = "Page number (0-based)", example = "0", schema = @Schema(type = "integer", defaultValue = "0")),
         @Parameter(name = "size", description = "Page size", example = "10", schema = @Schema(type = "integer", defaultValue = "10")),
-        @Parameter(name = "sortBy", description = "Field to sort by", example = "name", schema = @Schema(type = "string", defaultValue = "createdAt")),
+        @Parameter(name = "sortBy", description = "Field to sort by, or 'relevance' when searching", example = "name", schema = @Schema(type = "string", defaultValue = "createdAt")),
         @Parameter(name = "sortDirection", description = "Sort direction", example = "DESC", schema = @Schema(type = "string", allowableValues = {"ASC", "DESC"}, defaultValue = "DESC")),
+        @Parameter(name = "cursor", description = "Keyset cursor from page.nextCursor/prevCursor; send empty for the first page. Cursor pages have no totals and ignore page", example = ""),
         @Parameter(name = "filter", description = "Filter in JSON format", example = "{\"visibility\":\"PUBLIC\",\"category\":\"GENERAL\"}"),
         @Parameter(name = "q", description = "Quick search query", example = "vocabulary"),
         @Parameter(name = "searchFields", description = "Fields to search in (comma-separated)", example = "name,description"),
+        @Parameter(name = "searchStrategy", description = "Search matching; AUTO uses full-text search on PostgreSQL", schema = @Schema(type = "string", allowableValues = {"AUTO", "LIKE", "FULL_TEXT"}, defaultValue = "AUTO")),
         @Parameter(name = "category.eq", description = "Filter category equals", example = "GENERAL"),
         @Parameter(name = "visibility.eq", description = "Filter visibility equals", example = "PUBLIC"),
         @Parameter(name = "createdAt.gt", description = "Filter created after date", example = "2023-01-01"),
@@ -136,7 +142,7 @@ public class VocabularySetController {
     ) throws Exception {
         
         // Use QueryBuilder to build query params
-        Object[] params = QueryBuilder.buildQueryParams(allParams, VocabularySet.class);
+        Object[] params = QueryBuilder.buildQueryParams(allParams, VocabularySetSummary.class);
         QueryParams queryParams = (QueryParams) params[0];
         FilterParams filterParams = (FilterParams) params[1];
         SearchParams searchParams = (SearchParams) params[2];
@@ -144,7 +150,7 @@ public class VocabularySetController {
         log.info("REST request to find vocabulary sets with query: {}, filter: {}, search: {}",
                 queryParams, filterParams, searchParams);
 
-        Page<VocabularySetDto> result = vocabularySetFacade.searchVocabularySets(
+        Slice<VocabularySetDto> result = vocabularySetFacade.searchVocabularySets(
                 filterParams, queryParams, searchParams);
                 
         PagedResponse<VocabularySetDto> pagedResponse = PagedResponse.<VocabularySetDto>builder()
@@ -179,6 +185,31 @@ public class VocabularySetController {
         return ApiResponse.success(null, "User vocabulary sets retrieved successfully");
     }
 
+    /*
+     * get the most popular public vocabulary sets
+     * 
+     * @param category optional category filter
+     * 
+     * @param difficultyLevel optional difficulty filter
+     * 
+     * @return the popular vocabulary sets, most popular first
+     */
+    @GetMapping("/popular")
+    @Operation(summary = "Get popular vocabulary sets", description = "Retrieves public vocabulary sets ranked by recent views, likes and shares")
+    public ApiResponse<PagedResponse<VocabularySetDto>> getPopularVocabularySets(
+            @RequestParam(required = false) VocabularySet.Category category,
+            @RequestParam(required = false) VocabularySet.DifficultyLevel difficultyLevel,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) throws Exception {
+
+        log.info("Retrieving popular vocabulary sets, category: {}, difficulty: {}", category, difficultyLevel);
+
+        Page<VocabularySetDto> result = vocabularySetFacade.getVocabularySetsByPopularity(category, difficultyLevel,
+                new Pageable(page, size, List.of()));
+        return ApiResponse.success(PagedResponse.from(result, "Popular vocabulary sets retrieved successfully"),
+                "Popular vocabulary sets retrieved successfully");
+    }
+
     /*
      * get public vocabulary sets
      * 
@@ -1,6 +1,7 @@
 package com.learning.reelnet.modules.vocabulary.api.command;
 
-import com.learning.reelnet.common.application.cqrs.command.Command;
+import com.learning.reelnet.common.application.cqrs.command.AggregateCommand;
+import com.learning.reelnet.modules.vocabulary.api.dto.BulkAddResultDto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-public class AddBulkVocabularyToSetCommand implements Command<Integer> {
+public class AddBulkVocabularyToSetCommand implements AggregateCommand<BulkAddResultDto> {
     private UUID vocabularySetId;
     private List<VocabularyItem> vocabularyItems;
     private boolean failOnError; // Có dừng lại nếu gặp lỗi hay không
@@ -34,4 +35,9 @@ public class AddBulkVocabularyToSetCommand implements Command<Integer> {
     }
 
     private String notes; // Tùy chọn private String notes; // Tùy chọn
+
+    @Override
+    public Object getAggregateId() {
+        return vocabularySetId;
+    }
 }
@@ -0,0 +1,26 @@
+package com.learning.reelnet.modules.vocabulary.api.command;
+
+import java.util.UUID;
+
+import com.learning.reelnet.common.application.cqrs.command.AggregateCommand;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Xoá một từ vựng cùng các item của nó trong mọi bộ từ.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DeleteVocabularyCommand implements AggregateCommand<Boolean> {
+    private UUID id;
+
+    @Override
+    public Object getAggregateId() {
+        return id;
+    }
+}
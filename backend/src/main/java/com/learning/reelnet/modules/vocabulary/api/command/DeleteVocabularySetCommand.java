@@ -2,7 +2,7 @@ package com.learning.reelnet.modules.vocabulary.api.command;
 
 import java.util.UUID;
 
-import com.learning.reelnet.common.application.cqrs.command.Command;
+import com.learning.reelnet.common.application.cqrs.command.AggregateCommand;
 
 import lombok.Builder;
 import lombok.Data;
@@ -10,7 +10,11 @@ import lombok.Data;
 
 @Data
 @Builder
-public class DeleteVocabularySetCommand implements Command<Boolean> {
+public class DeleteVocabularySetCommand implements AggregateCommand<Boolean> {
     private UUID id;
-}
 
+    @Override
+    public Object getAggregateId() {
+        return id;
+    }
+}
@@ -0,0 +1,15 @@
+package com.learning.reelnet.modules.vocabulary.api.command;
+
+import com.learning.reelnet.common.application.cqrs.command.Command;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dựng lại toàn bộ bảng vocabulary_set_summary từ dữ liệu gốc. Kết quả là
+ * số bộ từ vựng đã được tính lại.
+ */
+@Data
+@NoArgsConstructor
+public class RebuildVocabularySetSummaryCommand implements Command<Integer> {
+}
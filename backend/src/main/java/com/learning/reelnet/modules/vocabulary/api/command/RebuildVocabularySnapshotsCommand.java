@@ -0,0 +1,15 @@
+package com.learning.reelnet.modules.vocabulary.api.command;
+
+import com.learning.reelnet.common.application.cqrs.command.Command;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Dựng lại bản chụp JSON của mọi mục từ từ dữ liệu gốc, dùng để backfill
+ * bảng vocabulary_snapshot. Kết quả là số bản chụp đã được ghi.
+ */
+@Data
+@NoArgsConstructor
+public class RebuildVocabularySnapshotsCommand implements Command<Integer> {
+}
@@ -0,0 +1,28 @@
+package com.learning.reelnet.modules.vocabulary.api.command;
+
+import com.learning.reelnet.common.application.cqrs.command.AggregateCommand;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Xoá một số từ vựng khỏi bộ từ, trả về số item đã xoá.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RemoveVocabularyFromSetCommand implements AggregateCommand<Integer> {
+    private UUID vocabularySetId;
+    private List<UUID> vocabularyIds;
+
+    @Override
+    public Object getAggregateId() {
+        return vocabularySetId;
+    }
+}
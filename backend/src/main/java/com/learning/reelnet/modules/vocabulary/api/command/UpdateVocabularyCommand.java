@@ -0,0 +1,33 @@
+package com.learning.reelnet.modules.vocabulary.api.command;
+
+import java.util.UUID;
+
+import com.learning.reelnet.common.application.cqrs.command.AggregateCommand;
+import com.learning.reelnet.modules.vocabulary.domain.valueobject.PartOfSpeech;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Sửa các trường chính của một từ vựng. Trường null được giữ nguyên.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpdateVocabularyCommand implements AggregateCommand<Boolean> {
+    private UUID id;
+    private String headword;
+    private String meaning;
+    private String pronunciationUk;
+    private String pronunciationUs;
+    private PartOfSpeech pos;
+    private Integer difficultyScore;
+
+    @Override
+    public Object getAggregateId() {
+        return id;
+    }
+}
@@ -3,14 +3,14 @@ package com.learning.reelnet.modules.vocabulary.api.command;
 import java.util.List;
 import java.util.UUID;
 
-import com.learning.reelnet.common.application.cqrs.command.Command;
+import com.learning.reelnet.common.application.cqrs.command.AggregateCommand;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 import lombok.Builder;
 import lombok.Data;
 
 @Data
 @Builder
-public class UpdateVocabularySetCommand implements Command<Boolean> {   
+public class UpdateVocabularySetCommand implements AggregateCommand<Boolean> {   
     private UUID id;
     private String name;
     private String description;
@@ -18,4 +18,9 @@ public class UpdateVocabularySetCommand implements Command<Boolean> {
     private VocabularySet.DifficultyLevel difficultyLevel;
     private VocabularySet.Category category;
     private List<UUID> vocabularyIds;
+
+    @Override
+    public Object getAggregateId() {
+        return id;
+    }
 }
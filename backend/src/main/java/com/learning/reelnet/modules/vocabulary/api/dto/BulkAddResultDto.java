@@ -0,0 +1,19 @@
+package com.learning.reelnet.modules.vocabulary.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkAddResultDto {
+    private int inserted;
+    private int skipped; // Trùng lặp, đã có trong bộ từ hoặc không tồn tại
+    private List<UUID> missingVocabularyIds;
+}
@@ -0,0 +1,15 @@
+package com.learning.reelnet.modules.vocabulary.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EtymologyDto {
+    private String originLanguage;
+    private String description;
+}
@@ -0,0 +1,16 @@
+package com.learning.reelnet.modules.vocabulary.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetadataDto {
+    private String frequency;
+    private String region;
+    private String domain;
+}
@@ -0,0 +1,26 @@
+package com.learning.reelnet.modules.vocabulary.api.dto;
+
+import java.util.List;
+import java.util.Set;
+
+import com.learning.reelnet.modules.vocabulary.domain.valueobject.RegisterLabel;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SenseDto {
+    private String definition;
+    private String translation;
+    private String register;
+    private Set<RegisterLabel> registerLabels;
+    private String geographicalUsage;
+    private String domain;
+    private String grammar;
+    private List<String> examples;
+}
@@ -1,5 +1,8 @@
 package com.learning.reelnet.modules.vocabulary.api.dto;
 
+import java.util.List;
+import java.util.UUID;
+
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +13,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor
 @AllArgsConstructor
 public class VocabularyDto {
+    private UUID id;
     private String word;
     private String definition;
     private String exampleSentence;
@@ -19,6 +23,10 @@ public class VocabularyDto {
     private String pronunciation;
     private String createdBy;
     private String updatedBy;
+    private Long viewCount;
+    private List<SenseDto> senses;
+    private List<EtymologyDto> etymologies;
+    private List<MetadataDto> metadata;
 
     
 }
@@ -19,7 +19,7 @@ import java.util.List;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Vocabulary Set Data Transfer Object")
@@ -30,7 +30,7 @@ public class VocabularySetDto {
     
     @NotBlank(message = "Tên bộ từ vựng không được để trống")
     @Size(max = 255, message = "Tên bộ từ vựng không được quá 255 ký tự")
-    @Schema(description = "Name of the vocabulary set", required = true)
+    @Schema(description = "Name of the vocabulary set", requiredMode = Schema.RequiredMode.REQUIRED)
     private String name;
     
     @Size(max = 1000, message = "Mô tả không được quá 1000 ký tự")
@@ -56,7 +56,7 @@ public class VocabularySetDto {
     private Long shareCount = 0L;
     
     @NotNull(message = "Visibility không được để trống")
-    @Schema(description = "Visibility level of the vocabulary set", required = true)
+    @Schema(description = "Visibility level of the vocabulary set", requiredMode = Schema.RequiredMode.REQUIRED)
     private Visibility visibility;
     
     @Schema(description = "Difficulty level of the vocabulary set")
@@ -71,6 +71,15 @@ public class VocabularySetDto {
     @Schema(description = "Number of vocabularies in the set")
     private int vocabularyCount;
     
+    @Schema(description = "Number of vocabularies in the set marked as mastered")
+    private int masteredCount;
+    
+    @Schema(description = "First headwords of the set, in display order; only filled in list results")
+    private List<String> previewHeadwords;
+    
+    @Schema(description = "Last change to the set or any of its vocabularies; only filled in list results")
+    private LocalDateTime lastModifiedAt;
+    
     @Schema(description = "Creation timestamp")
     private LocalDateTime createdAt;
     
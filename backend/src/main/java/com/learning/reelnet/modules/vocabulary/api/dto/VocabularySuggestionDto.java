@@ -0,0 +1,17 @@
+package com.learning.reelnet.modules.vocabulary.api.dto;
+
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VocabularySuggestionDto {
+    private UUID id;
+    private String headword;
+}
@@ -0,0 +1,21 @@
+package com.learning.reelnet.modules.vocabulary.api.facade;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySuggestionDto;
+
+/**
+ * Facade for vocabulary operations
+ */
+public interface VocabularyFacade {
+        /**
+         * Lấy toàn bộ mục từ dưới dạng JSON từ bản chụp của nó
+         */
+        String getVocabularySnapshot(UUID vocabularyId);
+
+        /**
+         * Gợi ý từ vựng theo tiền tố đang gõ
+         */
+        List<VocabularySuggestionDto> suggestHeadwords(String prefix, int limit);
+}
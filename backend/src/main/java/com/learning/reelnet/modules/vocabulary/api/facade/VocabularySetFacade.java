@@ -5,6 +5,7 @@ import java.util.UUID;
 
 import org.springdoc.core.converters.models.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.common.api.query.SearchParams;
@@ -48,7 +49,7 @@ public interface VocabularySetFacade {
         /**
          * Tìm kiếm bộ từ vựng
          */
-        Page<VocabularySetDto> searchVocabularySets(
+        Slice<VocabularySetDto> searchVocabularySets(
                         FilterParams filterParams,
                         QueryParams queryParams,
                         SearchParams searchParams) throws Exception;
@@ -70,8 +71,10 @@ public interface VocabularySetFacade {
 
         /**
          * Xóa từ vựng khỏi bộ từ vựng
+         *
+         * @return true nếu từ có trong bộ và đã bị xoá
          */
-        boolean removeVocabularyFromSet(UUID setId, UUID vocabularyId);
+        boolean removeVocabularyFromSet(UUID setId, UUID vocabularyId) throws Exception;
 
         /**
          * Lấy danh sách từ vựng trong bộ từ vựng
@@ -104,7 +107,11 @@ public interface VocabularySetFacade {
         Page<VocabularySetDto> getVocabularySetsByDifficulty(DifficultyLevel difficultyLevel, Pageable pageable);
 
         /**
-         * Lấy danh sách bộ từ vựng theo độ phổ biến
+         * Lấy danh sách bộ từ vựng công khai theo độ phổ biến
+         *
+         * @param category        Lọc theo danh mục, có thể null
+         * @param difficultyLevel Lọc theo mức độ khó, có thể null
          */
-        Page<VocabularySetDto> getVocabularySetsByPopularity(Pageable pageable);
+        Page<VocabularySetDto> getVocabularySetsByPopularity(Category category, DifficultyLevel difficultyLevel,
+                        Pageable pageable) throws Exception;
 }
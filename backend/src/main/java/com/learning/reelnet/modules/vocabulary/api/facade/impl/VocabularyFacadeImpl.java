@@ -0,0 +1,30 @@
+package com.learning.reelnet.modules.vocabulary.api.facade.impl;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySuggestionDto;
+import com.learning.reelnet.modules.vocabulary.api.facade.VocabularyFacade;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularyApplicationService;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class VocabularyFacadeImpl implements VocabularyFacade {
+
+    private final VocabularyApplicationService vocabularyApplicationService;
+
+    @Override
+    public String getVocabularySnapshot(UUID vocabularyId) {
+        return vocabularyApplicationService.getVocabularySnapshot(vocabularyId);
+    }
+
+    @Override
+    public List<VocabularySuggestionDto> suggestHeadwords(String prefix, int limit) {
+        // Gọi thẳng service: tra cứu trong bộ nhớ, cache của query bus không giúp gì
+        return vocabularyApplicationService.suggestHeadwords(prefix, limit);
+    }
+}
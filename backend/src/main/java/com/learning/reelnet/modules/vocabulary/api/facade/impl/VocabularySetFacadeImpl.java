@@ -5,8 +5,11 @@ import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.common.api.query.SearchParams;
 import com.learning.reelnet.common.application.cqrs.command.CommandBus;
 import com.learning.reelnet.common.application.cqrs.query.QueryBus;
+import com.learning.reelnet.common.exception.UnauthorizedAccessException;
+import com.learning.reelnet.common.infrastructure.security.utils.SecurityUtils;
 import com.learning.reelnet.modules.vocabulary.api.command.CreateVocabularySetCommand;
 import com.learning.reelnet.modules.vocabulary.api.command.DeleteVocabularySetCommand;
+import com.learning.reelnet.modules.vocabulary.api.command.RemoveVocabularyFromSetCommand;
 import com.learning.reelnet.modules.vocabulary.api.command.UpdateVocabularySetCommand;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto.AddVocabularyRequest;
@@ -14,16 +17,23 @@ import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto.Vocabula
 import com.learning.reelnet.modules.vocabulary.api.facade.VocabularySetFacade;
 import com.learning.reelnet.modules.vocabulary.api.query.GetVocabularySetByIdQuery;
 import com.learning.reelnet.modules.vocabulary.api.query.GetAllVocabularySetQuery;
+import com.learning.reelnet.modules.vocabulary.api.query.GetPopularVocabularySetsQuery;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetEngagementService;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetPopularityService;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Category;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
 
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springdoc.core.converters.models.Pageable;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 @Component("vocabularySetFacade")
@@ -31,6 +41,9 @@ import org.springframework.stereotype.Component;
 public class VocabularySetFacadeImpl implements VocabularySetFacade {
     private final CommandBus commandBus;
     private final QueryBus queryBus;
+    // Lượt xem/thích đi thẳng vào bộ đếm write-behind, không qua command bus
+    private final VocabularySetEngagementService engagementService;
+    private final VocabularySetPopularityService popularityService;
 
     @Override
     public Optional<VocabularySetDto> createVocabularySet(VocabularySetDto.CreateRequest createRequest)
@@ -84,16 +97,17 @@ public class VocabularySetFacadeImpl implements VocabularySetFacade {
         if (vocabularySetDto == null) {
             return Optional.empty(); // Trả về Optional.empty() nếu không tìm thấy bộ từ vựng
         }
-        // Gửi query thông qua QueryBus
-        return Optional.of(vocabularySetDto); // Trả về Optional chứa VocabularySetDto nếu tìm thấy
+        // Cộng các lượt xem/thích chưa ghi xuống DB
+        return Optional.of(engagementService.withPendingCounts(vocabularySetDto));
     }
 
     @Override
-    public Page<VocabularySetDto> searchVocabularySets(FilterParams filterParams, QueryParams queryParams,
+    public Slice<VocabularySetDto> searchVocabularySets(FilterParams filterParams, QueryParams queryParams,
             SearchParams searchParams) throws Exception {
         // Tạo query và gửi thông qua QueryBus
         GetAllVocabularySetQuery query = new GetAllVocabularySetQuery(queryParams, filterParams, searchParams);
-        return queryBus.dispatch(query);
+        Slice<VocabularySetDto> result = queryBus.dispatch(query);
+        return result.map(engagementService::withPendingCounts);
     }
 
     @Override
@@ -115,9 +129,14 @@ public class VocabularySetFacadeImpl implements VocabularySetFacade {
     }
 
     @Override
-    public boolean removeVocabularyFromSet(UUID setId, UUID vocabularyId) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'removeVocabularyFromSet'");
+    public boolean removeVocabularyFromSet(UUID setId, UUID vocabularyId) throws Exception {
+        RemoveVocabularyFromSetCommand command = RemoveVocabularyFromSetCommand.builder()
+                .vocabularySetId(setId)
+                .vocabularyIds(List.of(vocabularyId))
+                .build();
+
+        Integer removed = commandBus.dispatch(command);
+        return removed != null && removed > 0;
     }
 
     @Override
@@ -128,20 +147,27 @@ public class VocabularySetFacadeImpl implements VocabularySetFacade {
 
     @Override
     public boolean incrementViewCount(UUID id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'incrementViewCount'");
+        engagementService.recordView(id);
+        return true;
     }
 
     @Override
     public boolean toggleLike(UUID id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'toggleLike'");
+        return engagementService.toggleLike(id, currentUserId());
     }
 
     @Override
     public boolean isLikedByUser(UUID id) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'isLikedByUser'");
+        String userId = SecurityUtils.getCurrentUsername();
+        return userId != null && engagementService.isLiked(id, userId);
+    }
+
+    private String currentUserId() {
+        String userId = SecurityUtils.getCurrentUsername();
+        if (userId == null) {
+            throw new UnauthorizedAccessException("Authentication required");
+        }
+        return userId;
     }
 
     @Override
@@ -157,9 +183,17 @@ public class VocabularySetFacadeImpl implements VocabularySetFacade {
     }
 
     @Override
-    public Page<VocabularySetDto> getVocabularySetsByPopularity(Pageable pageable) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getVocabularySetsByPopularity'");
+    public Page<VocabularySetDto> getVocabularySetsByPopularity(Category category, DifficultyLevel difficultyLevel,
+            Pageable pageable) throws Exception {
+        int page = pageable.getPage() != null ? Math.max(pageable.getPage(), 0) : 0;
+        int size = pageable.getSize() != null ? Math.min(Math.max(pageable.getSize(), 1), 100) : 20;
+
+        // Trang được cache qua QueryBus; tổng số lấy từ bảng xếp hạng, không đếm trong Postgres
+        List<VocabularySetDto> content = queryBus.dispatch(
+                new GetPopularVocabularySetsQuery(category, difficultyLevel, page, size));
+        long total = popularityService.count(category, difficultyLevel);
+        return new PageImpl<>(content.stream().map(engagementService::withPendingCounts).toList(),
+                PageRequest.of(page, size), total);
     }
 
 }
\ No newline at end of file
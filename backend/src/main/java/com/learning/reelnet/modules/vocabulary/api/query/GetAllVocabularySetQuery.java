@@ -1,6 +1,6 @@
 package com.learning.reelnet.modules.vocabulary.api.query;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.QueryParams;
@@ -13,7 +13,7 @@ import lombok.Data;
 
 @Data
 @AllArgsConstructor
-public class GetAllVocabularySetQuery implements Query<Page<VocabularySetDto>> {
+public class GetAllVocabularySetQuery implements Query<Slice<VocabularySetDto>> {
     QueryParams queryParams;
     FilterParams filterParams;
     SearchParams searchParams;
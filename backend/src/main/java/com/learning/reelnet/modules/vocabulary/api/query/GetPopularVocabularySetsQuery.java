@@ -0,0 +1,38 @@
+package com.learning.reelnet.modules.vocabulary.api.query;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.learning.reelnet.common.application.cqrs.query.BaseCacheableQuery;
+import com.learning.reelnet.common.infrastructure.cache.CacheConfig;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Category;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Một trang bộ từ vựng phổ biến nhất. Kết quả được cache và làm mới sau mỗi
+ * 30 giây nên các trang đầu không cần truy vấn Postgres.
+ */
+@Getter
+@ToString
+public class GetPopularVocabularySetsQuery extends BaseCacheableQuery<List<VocabularySetDto>> {
+
+    private static final Duration REFRESH_AFTER = Duration.ofSeconds(30);
+
+    private final Category category;
+    private final DifficultyLevel difficultyLevel;
+    private final int page;
+    private final int size;
+
+    @SuppressWarnings("unchecked")
+    public GetPopularVocabularySetsQuery(Category category, DifficultyLevel difficultyLevel, int page, int size) {
+        super(CacheConfig.VOCABULARY_CACHE, (Class<List<VocabularySetDto>>) (Class<?>) List.class, REFRESH_AFTER);
+        this.category = category;
+        this.difficultyLevel = difficultyLevel;
+        this.page = page;
+        this.size = size;
+    }
+}
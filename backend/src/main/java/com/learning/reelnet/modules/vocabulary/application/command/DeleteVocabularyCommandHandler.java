@@ -0,0 +1,50 @@
+package com.learning.reelnet.modules.vocabulary.application.command;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.exception.ResourceNotFoundException;
+import com.learning.reelnet.common.infrastructure.cache.HibernateCacheEvictor;
+import com.learning.reelnet.modules.vocabulary.api.command.DeleteVocabularyCommand;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularyRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetItemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component("deleteVocabularyCommandHandler")
+@RequiredArgsConstructor
+public class DeleteVocabularyCommandHandler implements CommandHandler<Boolean, DeleteVocabularyCommand> {
+
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularySetItemRepository vocabularySetItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HibernateCacheEvictor hibernateCacheEvictor;
+
+    @Override
+    @Transactional
+    public Boolean handle(DeleteVocabularyCommand command) {
+        if (vocabularyRepository.findById(command.getId()) == null) {
+            throw ResourceNotFoundException.forEntity("Vocabulary", command.getId());
+        }
+
+        // Lấy danh sách bộ trước khi xoá item, sau đó không còn biết từ nằm ở bộ nào
+        List<UUID> setIds = vocabularySetItemRepository.findSetIdsByVocabularyId(command.getId());
+        vocabularySetItemRepository.deleteAllByVocabularyId(command.getId());
+        vocabularyRepository.deleteById(command.getId());
+        // Các node khác còn giữ bản cũ trong cache cấp hai
+        hibernateCacheEvictor.evict(Vocabulary.class, command.getId());
+
+        for (UUID setId : setIds) {
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(setId,
+                    VocabularySetChangedEvent.Change.ITEMS_CHANGED));
+        }
+        return true;
+    }
+}
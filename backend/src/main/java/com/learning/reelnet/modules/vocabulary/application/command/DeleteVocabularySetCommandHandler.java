@@ -4,8 +4,10 @@ package com.learning.reelnet.modules.vocabulary.application.command;
 import org.springframework.stereotype.Component;
 
 import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.infrastructure.cache.HibernateCacheEvictor;
 import com.learning.reelnet.modules.vocabulary.api.command.DeleteVocabularySetCommand;
 import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetApplicationService;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 
 import lombok.RequiredArgsConstructor;
 
@@ -13,11 +15,14 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class DeleteVocabularySetCommandHandler implements CommandHandler<Boolean, DeleteVocabularySetCommand> {
     private final VocabularySetApplicationService vocabularySetApplicationService;
+    private final HibernateCacheEvictor hibernateCacheEvictor;
 
 
     @Override
     public Boolean handle(DeleteVocabularySetCommand command) {
         vocabularySetApplicationService.deleteVocabularySet(command.getId());
+        // Các node khác còn giữ bản cũ trong cache cấp hai
+        hibernateCacheEvictor.evict(VocabularySet.class, command.getId());
         return true;
     }
 
@@ -0,0 +1,90 @@
+package com.learning.reelnet.modules.vocabulary.application.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
+import com.learning.reelnet.modules.vocabulary.api.command.RebuildVocabularySetSummaryCommand;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetSummaryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dựng lại read model theo từng phần ID liên tiếp. Mỗi phần chạy trong
+ * transaction riêng trên executor, tối đa {@code parallelism} phần cùng lúc,
+ * nên một phần lỗi không làm mất các phần đã xong.
+ */
+@Slf4j
+@Component("rebuildVocabularySetSummaryCommandHandler")
+public class RebuildVocabularySetSummaryCommandHandler
+        implements CommandHandler<Integer, RebuildVocabularySetSummaryCommand> {
+
+    private final VocabularySetSummaryRepository summaryRepository;
+    private final TransactionTemplate chunkTransaction;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public RebuildVocabularySetSummaryCommandHandler(VocabularySetSummaryRepository summaryRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(ExecutorConfig.IO_EXECUTOR) Executor executor,
+            @Value("${app.vocabulary.summary.rebuild.chunk-size:500}") int chunkSize,
+            @Value("${app.vocabulary.summary.rebuild.parallelism:4}") int parallelism) {
+        this.summaryRepository = summaryRepository;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public Integer handle(RebuildVocabularySetSummaryCommand command) throws Exception {
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger rebuilt = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+        // Phân trang theo ID thay vì OFFSET; phần tiếp theo được đọc trong khi các phần trước đang chạy
+        UUID after = null;
+        try {
+            while (true) {
+                List<UUID> ids = summaryRepository.findSetIdsAfter(after, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                after = ids.get(ids.size() - 1);
+
+                permits.acquire();
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        chunkTransaction.executeWithoutResult(status -> summaryRepository.refresh(ids));
+                        rebuilt.addAndGet(ids.size());
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+
+        int orphans = summaryRepository.deleteOrphans();
+        log.info("Rebuilt vocabulary set summaries for {} sets ({} orphans removed) in {} ms", rebuilt.get(),
+                orphans, (System.nanoTime() - start) / 1_000_000);
+        return rebuilt.get();
+    }
+}
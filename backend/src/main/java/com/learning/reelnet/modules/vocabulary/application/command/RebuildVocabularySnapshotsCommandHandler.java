@@ -0,0 +1,93 @@
+package com.learning.reelnet.modules.vocabulary.application.command;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
+import com.learning.reelnet.modules.vocabulary.api.command.RebuildVocabularySnapshotsCommand;
+import com.learning.reelnet.modules.vocabulary.application.projection.VocabularySnapshotProjector;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySnapshotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Dựng lại bản chụp theo từng phần ID liên tiếp, giống
+ * {@link RebuildVocabularySetSummaryCommandHandler}. Bản chụp chỉ được ghi đè
+ * khi version không cũ hơn, nên chạy song song với các lệnh ghi vẫn an toàn.
+ */
+@Slf4j
+@Component("rebuildVocabularySnapshotsCommandHandler")
+public class RebuildVocabularySnapshotsCommandHandler
+        implements CommandHandler<Integer, RebuildVocabularySnapshotsCommand> {
+
+    private final VocabularySnapshotRepository snapshotRepository;
+    private final VocabularySnapshotProjector projector;
+    private final TransactionTemplate chunkTransaction;
+    private final Executor executor;
+    private final int chunkSize;
+    private final int parallelism;
+
+    public RebuildVocabularySnapshotsCommandHandler(VocabularySnapshotRepository snapshotRepository,
+            VocabularySnapshotProjector projector,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(ExecutorConfig.IO_EXECUTOR) Executor executor,
+            @Value("${app.vocabulary.snapshot.rebuild.chunk-size:200}") int chunkSize,
+            @Value("${app.vocabulary.snapshot.rebuild.parallelism:4}") int parallelism) {
+        this.snapshotRepository = snapshotRepository;
+        this.projector = projector;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.executor = executor;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    @Override
+    public Integer handle(RebuildVocabularySnapshotsCommand command) throws Exception {
+        long start = System.nanoTime();
+        Semaphore permits = new Semaphore(parallelism);
+        AtomicInteger rebuilt = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+        UUID after = null;
+        try {
+            while (true) {
+                List<UUID> ids = snapshotRepository.findVocabularyIdsAfter(after, chunkSize);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                after = ids.get(ids.size() - 1);
+
+                permits.acquire();
+                chunks.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        Integer written = chunkTransaction.execute(status -> projector.rebuild(ids));
+                        rebuilt.addAndGet(written != null ? written : 0);
+                    } finally {
+                        permits.release();
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(chunks.toArray(CompletableFuture<?>[]::new)).join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        }
+
+        int orphans = snapshotRepository.deleteOrphans();
+        log.info("Rebuilt {} vocabulary snapshots ({} orphans removed) in {} ms", rebuilt.get(), orphans,
+                (System.nanoTime() - start) / 1_000_000);
+        return rebuilt.get();
+    }
+}
@@ -0,0 +1,52 @@
+package com.learning.reelnet.modules.vocabulary.application.command;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.exception.ResourceNotFoundException;
+import com.learning.reelnet.modules.vocabulary.api.command.RemoveVocabularyFromSetCommand;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetItemRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetRepository;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import lombok.RequiredArgsConstructor;
+
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+@Component("removeVocabularyFromSetCommandHandler")
+@RequiredArgsConstructor
+public class RemoveVocabularyFromSetCommandHandler
+        implements CommandHandler<Integer, RemoveVocabularyFromSetCommand> {
+
+    private final VocabularySetRepository vocabularySetRepository;
+    private final VocabularySetItemRepository vocabularySetItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    @Transactional
+    public Integer handle(RemoveVocabularyFromSetCommand command) {
+        if (vocabularySetRepository.findById(command.getVocabularySetId()) == null) {
+            throw new ResourceNotFoundException("Vocabulary set not found with id: " + command.getVocabularySetId());
+        }
+
+        Set<UUID> ids = new LinkedHashSet<>();
+        if (command.getVocabularyIds() != null) {
+            command.getVocabularyIds().stream().filter(Objects::nonNull).forEach(ids::add);
+        }
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        // Xoá thẳng trong DB, không nạp item nào của bộ
+        int deleted = vocabularySetItemRepository.deleteBySetIdAndVocabularyIds(command.getVocabularySetId(), ids);
+        if (deleted > 0) {
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(command.getVocabularySetId(),
+                    VocabularySetChangedEvent.Change.ITEMS_CHANGED));
+        }
+        return deleted;
+    }
+}
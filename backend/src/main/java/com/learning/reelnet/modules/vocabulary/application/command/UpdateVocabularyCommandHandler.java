@@ -0,0 +1,66 @@
+package com.learning.reelnet.modules.vocabulary.application.command;
+
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.exception.ResourceNotFoundException;
+import com.learning.reelnet.common.infrastructure.cache.HibernateCacheEvictor;
+import com.learning.reelnet.modules.vocabulary.api.command.UpdateVocabularyCommand;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularyRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetItemRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Component("updateVocabularyCommandHandler")
+@RequiredArgsConstructor
+public class UpdateVocabularyCommandHandler implements CommandHandler<Boolean, UpdateVocabularyCommand> {
+
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularySetItemRepository vocabularySetItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final HibernateCacheEvictor hibernateCacheEvictor;
+
+    @Override
+    @Transactional
+    public Boolean handle(UpdateVocabularyCommand command) {
+        Vocabulary vocabulary = vocabularyRepository.findById(command.getId());
+        if (vocabulary == null) {
+            throw ResourceNotFoundException.forEntity("Vocabulary", command.getId());
+        }
+
+        if (command.getHeadword() != null) {
+            vocabulary.setHeadword(command.getHeadword());
+        }
+        if (command.getMeaning() != null) {
+            vocabulary.setMeaning(command.getMeaning());
+        }
+        if (command.getPronunciationUk() != null) {
+            vocabulary.setPronunciationUk(command.getPronunciationUk());
+        }
+        if (command.getPronunciationUs() != null) {
+            vocabulary.setPronunciationUs(command.getPronunciationUs());
+        }
+        if (command.getPos() != null) {
+            vocabulary.setPos(command.getPos());
+        }
+        if (command.getDifficultyScore() != null) {
+            vocabulary.setDifficultyScore(command.getDifficultyScore());
+        }
+        vocabularyRepository.save(vocabulary);
+        // Các node khác còn giữ bản cũ trong cache cấp hai
+        hibernateCacheEvictor.evict(Vocabulary.class, command.getId());
+
+        // Bản xem trước trong summary của các bộ chứa từ này có thể đã cũ
+        for (UUID setId : vocabularySetItemRepository.findSetIdsByVocabularyId(command.getId())) {
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(setId,
+                    VocabularySetChangedEvent.Change.ITEMS_CHANGED));
+        }
+        return true;
+    }
+}
@@ -5,10 +5,12 @@ import java.util.UUID;
 import org.springframework.stereotype.Component;
 
 import com.learning.reelnet.common.application.cqrs.command.CommandHandler;
+import com.learning.reelnet.common.infrastructure.cache.HibernateCacheEvictor;
 import com.learning.reelnet.modules.vocabulary.api.command.UpdateVocabularySetCommand;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
 import com.learning.reelnet.modules.vocabulary.application.services.VocabularyApplicationService;
 import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetApplicationService;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 
 import lombok.RequiredArgsConstructor;
 
@@ -17,6 +19,7 @@ import lombok.RequiredArgsConstructor;
 public class UpdateVocabularySetCommandHandler implements CommandHandler<Boolean, UpdateVocabularySetCommand> {
     final VocabularySetApplicationService vocabularySetApplicationService;
     final VocabularyApplicationService vocabularyApplicationService;
+    final HibernateCacheEvictor hibernateCacheEvictor;
 
     @Override
     public Boolean handle(UpdateVocabularySetCommand command) {
@@ -29,6 +32,8 @@ public class UpdateVocabularySetCommandHandler implements CommandHandler<Boolean
                 .category(command.getCategory())
                 .build();
         vocabularySetApplicationService.updateVocabularySet(vocabularySetDto);
+        // Các node khác còn giữ bản cũ trong cache cấp hai
+        hibernateCacheEvictor.evict(VocabularySet.class, command.getId());
         return true;
     }
 }
@@ -0,0 +1,103 @@
+package com.learning.reelnet.modules.vocabulary.application.mapper;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.modules.vocabulary.api.dto.EtymologyDto;
+import com.learning.reelnet.modules.vocabulary.api.dto.MetadataDto;
+import com.learning.reelnet.modules.vocabulary.api.dto.SenseDto;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularyDto;
+import com.learning.reelnet.modules.vocabulary.domain.model.Antonym;
+import com.learning.reelnet.modules.vocabulary.domain.model.Etymology;
+import com.learning.reelnet.modules.vocabulary.domain.model.Example;
+import com.learning.reelnet.modules.vocabulary.domain.model.Metadata;
+import com.learning.reelnet.modules.vocabulary.domain.model.Sense;
+import com.learning.reelnet.modules.vocabulary.domain.model.Synonym;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+
+/**
+ * Mapper cho Vocabulary, chuyển aggregate đã nạp đầy đủ sang DTO
+ */
+@Component("vocabularyMapper")
+public class VocabularyMapper {
+
+    /**
+     * Chuyển Vocabulary sang DTO. Các collection phải đã được nạp
+     * (xem VocabularyRepository.findDetailById)
+     */
+    public VocabularyDto toDto(Vocabulary entity) {
+        if (entity == null) {
+            return null;
+        }
+
+        List<Sense> senses = entity.getSenses();
+        return VocabularyDto.builder()
+                .id(entity.getId())
+                .word(entity.getHeadword())
+                .definition(entity.getMeaning() != null || senses.isEmpty()
+                        ? entity.getMeaning()
+                        : senses.get(0).getDefinition())
+                .exampleSentence(entity.getExamples().isEmpty() ? null : entity.getExamples().get(0).getSentence())
+                .partOfSpeech(entity.getPos() != null ? entity.getPos().name() : null)
+                .synonyms(joinWords(entity.getSynonyms(), Synonym::getWord))
+                .antonyms(joinWords(entity.getAntonyms(), Antonym::getWord))
+                .pronunciation(entity.getPronunciationUs() != null
+                        ? entity.getPronunciationUs()
+                        : entity.getPronunciationUk())
+                .createdBy(entity.getCreatedBy())
+                .updatedBy(entity.getUpdatedBy())
+                .viewCount(entity.getViewCount())
+                .senses(senses.stream().map(this::toDto).toList())
+                .build();
+    }
+
+    /**
+     * Chuyển toàn bộ mục từ sang DTO, kèm etymology và metadata (hai bảng này
+     * không phải collection của Vocabulary nên được nạp riêng)
+     */
+    public VocabularyDto toDto(Vocabulary entity, List<Etymology> etymologies, List<Metadata> metadata) {
+        VocabularyDto dto = toDto(entity);
+        if (dto != null) {
+            dto.setEtymologies(etymologies.stream()
+                    .map(e -> EtymologyDto.builder()
+                            .originLanguage(e.getOriginLanguage())
+                            .description(e.getEtymologyDescription())
+                            .build())
+                    .toList());
+            dto.setMetadata(metadata.stream()
+                    .map(m -> MetadataDto.builder()
+                            .frequency(m.getFrequency())
+                            .region(m.getRegion())
+                            .domain(m.getDomain())
+                            .build())
+                    .toList());
+        }
+        return dto;
+    }
+
+    public SenseDto toDto(Sense sense) {
+        List<Example> examples = sense.getExamples() != null ? sense.getExamples() : List.of();
+        return SenseDto.builder()
+                .definition(sense.getDefinition())
+                .translation(sense.getTranslation())
+                .register(sense.getRegister())
+                .registerLabels(sense.getRegisterLabels())
+                .geographicalUsage(sense.getGeographicalUsage())
+                .domain(sense.getDomain())
+                .grammar(sense.getGrammar())
+                .examples(examples.stream().map(Example::getSentence).toList())
+                .build();
+    }
+
+    // Set không có thứ tự nên sắp xếp để kết quả ổn định
+    private static <T> String joinWords(Collection<T> items, Function<T, String> word) {
+        if (items.isEmpty()) {
+            return null;
+        }
+        return items.stream().map(word).sorted().collect(Collectors.joining(", "));
+    }
+}
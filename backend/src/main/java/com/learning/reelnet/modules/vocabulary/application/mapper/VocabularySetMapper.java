@@ -4,6 +4,7 @@ import com.learning.reelnet.common.model.base.BaseMapper;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
@@ -39,6 +40,36 @@ public class VocabularySetMapper implements BaseMapper<VocabularySet, Vocabulary
                 .build();
     }
 
+    /**
+     * Chuyển dòng read model sang DTO, kèm số từ và các từ xem trước
+     */
+    public VocabularySetDto toDto(VocabularySetSummaryView summary) {
+        if (summary == null) {
+            return null;
+        }
+
+        return VocabularySetDto.builder()
+                .id(summary.id())
+                .name(summary.name())
+                .description(summary.description())
+                .visibility(summary.visibility())
+                .difficultyLevel(summary.difficultyLevel())
+                .category(summary.category())
+                .isActive(summary.isActive())
+                .createdBy(summary.createdBy())
+                .viewCount(summary.viewCount())
+                .likeCount(summary.likeCount())
+                .shareCount(summary.shareCount())
+                .isSystem(summary.isSystem())
+                .vocabularyCount(summary.itemCount())
+                .masteredCount(summary.masteredCount())
+                .previewHeadwords(summary.previewHeadwords())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .lastModifiedAt(summary.lastModifiedAt())
+                .build();
+    }
+
     @Override
     public VocabularySet toEntity(VocabularySetDto dto) {
         if (dto == null) {
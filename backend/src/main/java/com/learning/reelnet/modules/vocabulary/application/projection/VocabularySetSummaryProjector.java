@@ -0,0 +1,97 @@
+package com.learning.reelnet.modules.vocabulary.application.projection;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandBus;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterColumn;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterFlushListener;
+import com.learning.reelnet.modules.vocabulary.api.command.RebuildVocabularySetSummaryCommand;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetEngagementService;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetSummaryRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the {@code vocabulary_set_summary} read model current.
+ * <p>
+ * Sets named by {@link VocabularySetChangedEvent}s are recomputed just
+ * before the publishing transaction commits, so list pages see a change as
+ * soon as it is committed and a rollback leaves the summary untouched. Events
+ * published outside a transaction are applied immediately. View, like and
+ * share counts are copied over after each write-behind counter flush. If the
+ * summary is empty on startup while sets exist (e.g. right after it was
+ * introduced), it is rebuilt in the background.
+ */
+@Slf4j
+@Component
+public class VocabularySetSummaryProjector implements CounterFlushListener {
+
+    private static final Set<CounterColumn> SET_COUNTERS = Set.of(
+            VocabularySetEngagementService.SET_VIEWS,
+            VocabularySetEngagementService.SET_LIKES,
+            VocabularySetEngagementService.SET_SHARES);
+
+    private final VocabularySetSummaryRepository summaryRepository;
+    private final CommandBus commandBus;
+    private final TransactionTemplate transaction;
+
+    @Value("${app.vocabulary.summary.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup = true;
+
+    public VocabularySetSummaryProjector(VocabularySetSummaryRepository summaryRepository, CommandBus commandBus,
+            PlatformTransactionManager transactionManager) {
+        this.summaryRepository = summaryRepository;
+        this.commandBus = commandBus;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void on(VocabularySetChangedEvent event) {
+        refresh(Set.of(event.getSetId()));
+    }
+
+    @Override
+    public void onFlush(CounterColumn column, Map<UUID, Long> deltas) {
+        if (SET_COUNTERS.contains(column)) {
+            transaction.executeWithoutResult(status -> summaryRepository.refreshCounters(deltas.keySet()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            boolean missing = Boolean.TRUE.equals(transaction.execute(status ->
+                    summaryRepository.count() == 0 && !summaryRepository.findSetIdsAfter(null, 1).isEmpty()));
+            if (missing) {
+                log.info("Vocabulary set summary is empty, rebuilding in the background");
+                commandBus.dispatchAsync(new RebuildVocabularySetSummaryCommand())
+                        .exceptionally(e -> {
+                            log.warn("Could not rebuild vocabulary set summary: {}", e.getMessage());
+                            return null;
+                        });
+            }
+        } catch (Exception e) {
+            log.warn("Could not check vocabulary set summary: {}", e.getMessage());
+        }
+    }
+
+    private void refresh(Set<UUID> setIds) {
+        // Tham gia transaction hiện tại nếu có
+        transaction.executeWithoutResult(status -> summaryRepository.refresh(setIds));
+    }
+}
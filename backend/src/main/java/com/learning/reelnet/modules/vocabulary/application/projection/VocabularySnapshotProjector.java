@@ -0,0 +1,149 @@
+package com.learning.reelnet.modules.vocabulary.application.projection;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.learning.reelnet.common.application.cqrs.command.CommandBus;
+import com.learning.reelnet.modules.vocabulary.api.command.RebuildVocabularySnapshotsCommand;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularyDto;
+import com.learning.reelnet.modules.vocabulary.application.mapper.VocabularyMapper;
+import com.learning.reelnet.modules.vocabulary.domain.model.Etymology;
+import com.learning.reelnet.modules.vocabulary.domain.model.Metadata;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularyRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySnapshotRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the {@code vocabulary_snapshot} read model current.
+ * <p>
+ * {@code VocabularySnapshotListener} collects the vocabularies whose root or
+ * child rows a transaction writes and calls {@link #refresh} once, just before
+ * it commits. When only child rows (senses, examples, ...) changed, the
+ * vocabulary's version is incremented first, so every snapshot corresponds to
+ * exactly one version and concurrent writers of the same entry are
+ * serialized on the vocabulary row. If there are no snapshots on startup
+ * while vocabularies exist, they are rebuilt in the background.
+ */
+@Slf4j
+@Component
+public class VocabularySnapshotProjector {
+
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularySnapshotRepository snapshotRepository;
+    private final VocabularyMapper vocabularyMapper;
+    private final ObjectMapper objectMapper;
+    private final CommandBus commandBus;
+    private final TransactionTemplate transaction;
+
+    @Value("${app.vocabulary.snapshot.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup = true;
+
+    public VocabularySnapshotProjector(VocabularyRepository vocabularyRepository,
+            VocabularySnapshotRepository snapshotRepository, VocabularyMapper vocabularyMapper,
+            ObjectMapper objectMapper, CommandBus commandBus, PlatformTransactionManager transactionManager) {
+        this.vocabularyRepository = vocabularyRepository;
+        this.snapshotRepository = snapshotRepository;
+        this.vocabularyMapper = vocabularyMapper;
+        this.objectMapper = objectMapper;
+        this.commandBus = commandBus;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Re-snapshot vocabularies changed by the current transaction. Must run
+     * in that transaction, after its changes are flushed.
+     *
+     * @param vocabularyIds IDs of the changed vocabularies
+     * @param unversioned Those whose own row was not written, so their version
+     *            must be incremented first
+     */
+    public void refresh(Collection<UUID> vocabularyIds, Collection<UUID> unversioned) {
+        vocabularyRepository.incrementVersions(unversioned);
+        rebuild(vocabularyIds);
+    }
+
+    /**
+     * Rebuild the snapshots of some vocabularies from the source tables and
+     * delete those of vocabularies that no longer exist. Must run in a
+     * transaction.
+     *
+     * @param vocabularyIds IDs of the vocabularies
+     * @return Number of snapshots written
+     */
+    public int rebuild(Collection<UUID> vocabularyIds) {
+        if (vocabularyIds.isEmpty()) {
+            return 0;
+        }
+        Map<UUID, Long> versions = vocabularyRepository.findVersionsByIds(vocabularyIds);
+        Set<UUID> deleted = new HashSet<>(vocabularyIds);
+        deleted.removeAll(versions.keySet());
+        snapshotRepository.deleteAllById(deleted);
+        if (versions.isEmpty()) {
+            return 0;
+        }
+
+        // Mỗi tầng của aggregate là một câu truy vấn cho cả phần
+        List<Vocabulary> vocabularies = vocabularyRepository.findDetailsByIds(versions.keySet());
+        Map<UUID, List<Etymology>> etymologies = vocabularyRepository
+                .findEtymologiesByVocabularyIds(versions.keySet()).stream()
+                .collect(Collectors.groupingBy(e -> e.getVocabulary().getId()));
+        Map<UUID, List<Metadata>> metadata = vocabularyRepository
+                .findMetadataByVocabularyIds(versions.keySet()).stream()
+                .collect(Collectors.groupingBy(m -> m.getVocabulary().getId()));
+
+        for (Vocabulary vocabulary : vocabularies) {
+            UUID id = vocabulary.getId();
+            VocabularyDto dto = vocabularyMapper.toDto(vocabulary, etymologies.getOrDefault(id, List.of()),
+                    metadata.getOrDefault(id, List.of()));
+            // View count được ghi trễ qua WriteBehindCounters, không thuộc bản chụp
+            dto.setViewCount(null);
+            snapshotRepository.save(id, versions.get(id), serialize(dto));
+        }
+        return vocabularies.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        try {
+            boolean missing = Boolean.TRUE.equals(transaction.execute(status -> snapshotRepository.count() == 0
+                    && !snapshotRepository.findVocabularyIdsAfter(null, 1).isEmpty()));
+            if (missing) {
+                log.info("Vocabulary snapshots are empty, rebuilding in the background");
+                commandBus.dispatchAsync(new RebuildVocabularySnapshotsCommand())
+                        .exceptionally(e -> {
+                            log.warn("Could not rebuild vocabulary snapshots: {}", e.getMessage());
+                            return null;
+                        });
+            }
+        } catch (Exception e) {
+            log.warn("Could not check vocabulary snapshots: {}", e.getMessage());
+        }
+    }
+
+    private String serialize(VocabularyDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize vocabulary " + dto.getId(), e);
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package com.learning.reelnet.modules.vocabulary.application.query;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import com.learning.reelnet.common.application.cqrs.query.QueryHandler;
@@ -13,11 +13,11 @@ import lombok.AllArgsConstructor;
 
 @Component("GetAllVocabularySetQueryHandler")
 @AllArgsConstructor
-public class GetAllVocabularySetQueryHandler implements QueryHandler<Page<VocabularySetDto>, GetAllVocabularySetQuery> {
+public class GetAllVocabularySetQueryHandler implements QueryHandler<Slice<VocabularySetDto>, GetAllVocabularySetQuery> {
     private final VocabularySetApplicationService vocabularySetApplicationService;
 
     @Override
-    public Page<VocabularySetDto> handle(GetAllVocabularySetQuery query) {
+    public Slice<VocabularySetDto> handle(GetAllVocabularySetQuery query) {
         return vocabularySetApplicationService.getAllVocabularySets(query.getQueryParams(), query.getFilterParams(),
                 query.getSearchParams());
     }
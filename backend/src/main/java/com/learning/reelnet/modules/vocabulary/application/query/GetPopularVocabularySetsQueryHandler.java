@@ -0,0 +1,55 @@
+package com.learning.reelnet.modules.vocabulary.application.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.common.application.cqrs.query.QueryHandler;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
+import com.learning.reelnet.modules.vocabulary.api.query.GetPopularVocabularySetsQuery;
+import com.learning.reelnet.modules.vocabulary.application.mapper.VocabularySetMapper;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetPopularityService;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetSummaryRepository;
+
+import lombok.AllArgsConstructor;
+
+@Component("GetPopularVocabularySetsQueryHandler")
+@AllArgsConstructor
+public class GetPopularVocabularySetsQueryHandler
+        implements QueryHandler<List<VocabularySetDto>, GetPopularVocabularySetsQuery> {
+    private final VocabularySetPopularityService popularityService;
+    private final VocabularySetSummaryRepository vocabularySetSummaryRepository;
+    private final VocabularySetMapper vocabularySetMapper;
+
+    @Override
+    public List<VocabularySetDto> handle(GetPopularVocabularySetsQuery query) {
+        // Thứ hạng lấy từ bảng xếp hạng, Postgres chỉ nạp đúng các dòng summary của trang theo ID
+        List<UUID> ids = popularityService.getTopIds(query.getCategory(), query.getDifficultyLevel(),
+                (long) query.getPage() * query.getSize(), query.getSize());
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<UUID, VocabularySetSummaryView> sets = vocabularySetSummaryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(VocabularySetSummaryView::id, Function.identity()));
+        // Bảng xếp hạng có thể chưa kịp gỡ bộ vừa chuyển riêng tư hoặc ngừng hoạt động: bỏ qua.
+        // Kết quả được cache trên Redis kèm tên lớp, nên phải là ArrayList chứ không phải list bất biến của JDK
+        return ids.stream()
+                .map(sets::get)
+                .filter(Objects::nonNull)
+                .filter(GetPopularVocabularySetsQueryHandler::isRanked)
+                .map(vocabularySetMapper::toDto)
+                .collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    private static boolean isRanked(VocabularySetSummaryView set) {
+        return VocabularySetPopularityService.isRanked(set.visibility(), set.isActive());
+    }
+
+}
@@ -1,12 +1,23 @@
 package com.learning.reelnet.modules.vocabulary.application.services;
 
+import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.learning.reelnet.common.exception.ResourceNotFoundException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularyDto;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySuggestionDto;
+import com.learning.reelnet.modules.vocabulary.application.mapper.VocabularyMapper;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularyRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySnapshotRepository;
+import com.learning.reelnet.modules.vocabulary.infrastructure.search.HeadwordSuggestionIndexer;
 
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -15,10 +26,79 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 @Slf4j
 public class VocabularyApplicationService {
-    @Transactional
+
+    private final HeadwordSuggestionIndexer headwordSuggestionIndexer;
+    private final VocabularyRepository vocabularyRepository;
+    private final VocabularyMapper vocabularyMapper;
+    private final VocabularySnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.vocabulary.suggest.max-limit:20}")
+    private int maxSuggestLimit = 20;
+
+    /**
+     * Get a vocabulary with its senses, examples, synonyms and antonyms.
+     * Takes the same number of queries however many senses and examples it has.
+     *
+     * @param vocabularyId ID of the vocabulary
+     * @return The assembled vocabulary
+     */
+    @Transactional(readOnly = true)
     public VocabularyDto getVocabularyById(UUID vocabularyId) {
-        // TODO Auto-generated method stub
-        throw new UnsupportedOperationException("Unimplemented method 'getVocabularyById'");
+        Vocabulary vocabulary = vocabularyRepository.findDetailById(vocabularyId);
+        if (vocabulary == null) {
+            throw ResourceNotFoundException.forEntity("Vocabulary", vocabularyId);
+        }
+        return vocabularyMapper.toDto(vocabulary);
     }
-    
+
+    /**
+     * Get the complete entry of a vocabulary, including etymologies and
+     * metadata, as JSON. Served from its snapshot with a single primary-key
+     * lookup; assembled from the source tables only if the snapshot has not
+     * been built yet.
+     *
+     * @param vocabularyId ID of the vocabulary
+     * @return The entry as JSON, without view count
+     */
+    @Transactional(readOnly = true)
+    public String getVocabularySnapshot(UUID vocabularyId) {
+        String snapshot = snapshotRepository.findSnapshotById(vocabularyId);
+        if (snapshot != null) {
+            return snapshot;
+        }
+
+        Vocabulary vocabulary = vocabularyRepository.findDetailById(vocabularyId);
+        if (vocabulary == null) {
+            throw ResourceNotFoundException.forEntity("Vocabulary", vocabularyId);
+        }
+        log.debug("No snapshot for vocabulary {}, assembling it from the source tables", vocabularyId);
+        List<UUID> ids = List.of(vocabularyId);
+        VocabularyDto dto = vocabularyMapper.toDto(vocabulary, vocabularyRepository.findEtymologiesByVocabularyIds(ids),
+                vocabularyRepository.findMetadataByVocabularyIds(ids));
+        dto.setViewCount(null);
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize vocabulary " + vocabularyId, e);
+        }
+    }
+
+    /**
+     * Suggest headwords starting with a prefix, most viewed and easiest first
+     *
+     * @param prefix Typed prefix, case-insensitive
+     * @param limit Maximum number of suggestions, capped by configuration
+     * @return Suggestions, best first
+     */
+    public List<VocabularySuggestionDto> suggestHeadwords(String prefix, int limit) {
+        int cappedLimit = Math.max(1, Math.min(limit, maxSuggestLimit));
+        return headwordSuggestionIndexer.suggest(prefix, cappedLimit).stream()
+                .map(s -> VocabularySuggestionDto.builder()
+                        .id(s.getId())
+                        .headword(s.getHeadword())
+                        .build())
+                .toList();
+    }
+
 }
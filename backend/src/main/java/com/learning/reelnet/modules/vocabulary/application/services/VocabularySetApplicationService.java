@@ -1,5 +1,6 @@
 package com.learning.reelnet.modules.vocabulary.application.services;
 
+import com.learning.reelnet.common.api.query.CursorSlice;
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.common.api.query.SearchParams;
@@ -8,18 +9,25 @@ import com.learning.reelnet.common.api.query.validator.QueryParamValidator;
 import com.learning.reelnet.common.exception.ResourceNotFoundException;
 import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
 import com.learning.reelnet.modules.vocabulary.application.mapper.VocabularySetMapper;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent.Change;
 import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetItem;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
 import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularyRepository;
 import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetItemRepository;
 import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetSummaryRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -40,7 +48,9 @@ public class VocabularySetApplicationService {
     private final VocabularySetMapper vocabularySetMapper;
     private final VocabularySetItemRepository vocabularySetItemRepository;
     private final VocabularyRepository vocabularyRepository;
+    private final VocabularySetSummaryRepository vocabularySetSummaryRepository;
     private final QueryParamValidator validator;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new vocabulary set
@@ -69,6 +79,7 @@ public class VocabularySetApplicationService {
 
         // Save vocabulary set
         VocabularySet savedSet = vocabularySetRepository.save(vocabularySet);
+        eventPublisher.publishEvent(new VocabularySetChangedEvent(savedSet.getId(), Change.CREATED));
 
         // Convert result back to DTO
         return vocabularySetMapper.toDto(savedSet);
@@ -93,6 +104,7 @@ public class VocabularySetApplicationService {
 
         // Save updated vocabulary set
         VocabularySet savedSet = vocabularySetRepository.save(updatedSet);
+        eventPublisher.publishEvent(new VocabularySetChangedEvent(savedSet.getId(), Change.UPDATED));
 
         // Convert result back to DTO
         return vocabularySetMapper.toDto(savedSet);
@@ -130,7 +142,10 @@ public class VocabularySetApplicationService {
             throw new ResourceNotFoundException("Vocabulary set not found with id: " + id);
         }
 
+        // Bộ không còn giữ collection item nên xoá item bằng một câu lệnh trước
+        vocabularySetItemRepository.deleteAllBySetId(id);
         vocabularySetRepository.deleteById(id);
+        eventPublisher.publishEvent(new VocabularySetChangedEvent(id, Change.DELETED));
     }
 
     /**
@@ -139,25 +154,32 @@ public class VocabularySetApplicationService {
      * @param queryParams  Pagination and sorting information
      * @param filterParams Filter information
      * @param searchParams Search information
-     * @return List of VocabularySetDto
+     * @return Page of VocabularySetDto, or a {@link CursorSlice} without totals
+     *         when a cursor was supplied; read from {@link VocabularySetSummary}
+     *         as {@link VocabularySetSummaryView} projections
      */
     @Transactional(readOnly = true)
-    public Page<VocabularySetDto> getAllVocabularySets(
+    public Slice<VocabularySetDto> getAllVocabularySets(
             QueryParams queryParams,
             FilterParams filterParams,
             SearchParams searchParams) {
 
         log.info("Getting all vocabulary sets with query: {}, filter: {}, search: {}",
                 queryParams, filterParams, searchParams);
-        validator.validateAll(queryParams, filterParams, searchParams, VocabularySet.class);
-        Page<VocabularySet> vocabularySets = vocabularySetRepository.findAll(queryParams, filterParams, searchParams);
+        validator.validateAll(queryParams, filterParams, searchParams, VocabularySetSummary.class);
+        if (queryParams.isCursorPaging()) {
+            return vocabularySetSummaryRepository.findAllByCursor(queryParams, filterParams, searchParams)
+                    .map(vocabularySetMapper::toDto);
+        }
+        Page<VocabularySetSummaryView> summaries = vocabularySetSummaryRepository.findAll(queryParams, filterParams,
+                searchParams);
 
-        List<VocabularySetDto> vocabularySetDtos = vocabularySets.getContent().stream()
+        List<VocabularySetDto> vocabularySetDtos = summaries.getContent().stream()
                 .map(vocabularySetMapper::toDto)
                 .toList();
 
         // Create and return the Page object
-        return new PageImpl<>(vocabularySetDtos, vocabularySets.getPageable(), vocabularySets.getTotalElements());
+        return new PageImpl<>(vocabularySetDtos, summaries.getPageable(), summaries.getTotalElements());
     }
 
     /**
@@ -177,12 +199,13 @@ public class VocabularySetApplicationService {
         log.info("Finding vocabulary sets with query: {}, filter: {}, search: {}",
                 queryParams, filterParams, searchParams);
 
-        Page<VocabularySet> vocabularySets = vocabularySetRepository.findAll(queryParams, filterParams, searchParams);
-        List<VocabularySetDto> vocabularySetDtos = vocabularySets.getContent().stream()
+        Page<VocabularySetSummaryView> summaries = vocabularySetSummaryRepository.findAll(queryParams, filterParams,
+                searchParams);
+        List<VocabularySetDto> vocabularySetDtos = summaries.getContent().stream()
                 .map(vocabularySetMapper::toDto)
                 .toList();
 
-        return new PageImpl<>(vocabularySetDtos, vocabularySets.getPageable(), vocabularySets.getTotalElements());
+        return new PageImpl<>(vocabularySetDtos, summaries.getPageable(), summaries.getTotalElements());
     }
 
     /**
@@ -195,9 +218,9 @@ public class VocabularySetApplicationService {
     public List<VocabularySetDto> findVocabularySetsByCreatedBy(String userId) {
         log.info("Finding vocabulary sets created by user: {}", userId);
 
-        List<VocabularySet> vocabularySets = vocabularySetRepository.findByUserId(userId);
-
-        return vocabularySetMapper.toDtoList(vocabularySets);
+        return vocabularySetSummaryRepository.findByCreatedBy(userId).stream()
+                .map(vocabularySetMapper::toDto)
+                .toList();
     }
 
     /**
@@ -214,9 +237,10 @@ public class VocabularySetApplicationService {
         FilterParams filterParams = new FilterParams();
         // filterParams.addFilter("visibility", FilterOperation.EQUALS, "PUBLIC");
 
-        Page<VocabularySet> vocabularySets = vocabularySetRepository.findAll(queryParams, filterParams, null);
-        return new PageImpl<>(vocabularySetMapper.toDtoList(vocabularySets.getContent()), vocabularySets.getPageable(),
-                vocabularySets.getTotalElements());
+        Page<VocabularySetSummaryView> summaries = vocabularySetSummaryRepository.findAll(queryParams, filterParams,
+                null);
+        return new PageImpl<>(summaries.getContent().stream().map(vocabularySetMapper::toDto).toList(),
+                summaries.getPageable(), summaries.getTotalElements());
     }
 
     /**
@@ -242,5 +266,6 @@ public class VocabularySetApplicationService {
         }
 
         vocabularySetItemRepository.saveAll(items);
+        eventPublisher.publishEvent(new VocabularySetChangedEvent(setId, Change.ITEMS_CHANGED));
     }
 }
\ No newline at end of file
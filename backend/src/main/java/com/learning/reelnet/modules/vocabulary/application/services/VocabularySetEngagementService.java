@@ -0,0 +1,138 @@
+package com.learning.reelnet.modules.vocabulary.application.services;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.learning.reelnet.common.exception.ResourceNotFoundException;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterColumn;
+import com.learning.reelnet.common.infrastructure.persistence.counter.WriteBehindCounters;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetLikeRepository;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Views, likes and shares of vocabulary sets and views of vocabulary.
+ * <p>
+ * Counters go through {@link WriteBehindCounters} instead of the entities'
+ * increment methods, so a popular set is not loaded, modified and saved (with
+ * a version bump) on every view.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class VocabularySetEngagementService {
+
+    public static final CounterColumn SET_VIEWS = CounterColumn.of("vocabulary_set", "view_count");
+    public static final CounterColumn SET_LIKES = CounterColumn.of("vocabulary_set", "like_count");
+    public static final CounterColumn SET_SHARES = CounterColumn.of("vocabulary_set", "share_count");
+    public static final CounterColumn VOCABULARY_VIEWS = CounterColumn.of("vocabulary", "view_count");
+
+    private final WriteBehindCounters counters;
+    private final VocabularySetRepository vocabularySetRepository;
+    private final VocabularySetLikeRepository vocabularySetLikeRepository;
+
+    /**
+     * Count a view of a vocabulary set
+     *
+     * @param setId ID of the vocabulary set
+     */
+    public void recordView(UUID setId) {
+        counters.increment(SET_VIEWS, setId, 1);
+    }
+
+    /**
+     * Count a share of a vocabulary set
+     *
+     * @param setId ID of the vocabulary set
+     */
+    public void recordShare(UUID setId) {
+        counters.increment(SET_SHARES, setId, 1);
+    }
+
+    /**
+     * Count a view of a vocabulary
+     *
+     * @param vocabularyId ID of the vocabulary
+     */
+    public void recordVocabularyView(UUID vocabularyId) {
+        counters.increment(VOCABULARY_VIEWS, vocabularyId, 1);
+    }
+
+    /**
+     * Like a vocabulary set, or remove the like if the user already liked it
+     *
+     * @param setId ID of the vocabulary set
+     * @param userId ID of the user
+     * @return true if the set is now liked by the user
+     */
+    @Transactional
+    public boolean toggleLike(UUID setId, String userId) {
+        if (!vocabularySetRepository.existsById(setId)) {
+            throw new ResourceNotFoundException("Vocabulary set not found with id: " + setId);
+        }
+
+        boolean liked = vocabularySetLikeRepository.deleteBySetIdAndUserId(setId, userId) == 0;
+        long delta = -1;
+        if (liked) {
+            // 0 when a concurrent toggle of the same user inserted the like first
+            delta = vocabularySetLikeRepository.insertIfAbsent(setId, userId) ? 1 : 0;
+        }
+        if (delta == 0) {
+            return true;
+        }
+
+        // Only count the like once the like row itself is committed
+        long committedDelta = delta;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    counters.increment(SET_LIKES, setId, committedDelta);
+                }
+            });
+        } else {
+            counters.increment(SET_LIKES, setId, committedDelta);
+        }
+        return liked;
+    }
+
+    /**
+     * Check whether a user liked a vocabulary set
+     *
+     * @param setId ID of the vocabulary set
+     * @param userId ID of the user
+     * @return true if liked
+     */
+    public boolean isLiked(UUID setId, String userId) {
+        return vocabularySetLikeRepository.existsBySetIdAndUserId(setId, userId);
+    }
+
+    /**
+     * Merge counter deltas not yet written to the database into a DTO
+     *
+     * @param dto DTO read from the database or a cache; not modified
+     * @return Copy with current counts
+     */
+    public VocabularySetDto withPendingCounts(VocabularySetDto dto) {
+        if (dto == null || dto.getId() == null) {
+            return dto;
+        }
+        UUID id = dto.getId();
+        return dto.toBuilder()
+                .viewCount(plus(dto.getViewCount(), counters.pending(SET_VIEWS, id)))
+                .likeCount(Math.max(0L, plus(dto.getLikeCount(), counters.pending(SET_LIKES, id))))
+                .shareCount(plus(dto.getShareCount(), counters.pending(SET_SHARES, id)))
+                .build();
+    }
+
+    private static long plus(Long value, long delta) {
+        return (value != null ? value : 0L) + delta;
+    }
+}
@@ -0,0 +1,237 @@
+package com.learning.reelnet.modules.vocabulary.application.services;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.learning.reelnet.common.infrastructure.annotation.NonBlocking;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterColumn;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterFlushListener;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Category;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetRepository;
+import com.learning.reelnet.modules.vocabulary.infrastructure.ranking.PopularityRanking;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the popularity ranking of public vocabulary sets.
+ * <p>
+ * Each flushed batch of view, like and share deltas adds
+ * {@code weight * delta * 2^((now - epoch) / halfLife)} to the set's score in
+ * the overall ranking and in its category and difficulty rankings. Because
+ * newer events weigh exponentially more, comparing the stored scores is the
+ * same as comparing time-decayed scores, without rewriting old entries. With
+ * the default 7 day half-life the scores stay well inside double range for
+ * decades after the epoch. An unlike subtracts at today's weight, which can
+ * exceed what the like added long ago, so scores are clamped at zero.
+ * <p>
+ * Only public, active sets are ranked. Each flush reads the sets of its batch
+ * so a set made private or deactivated since is not added back, and committed
+ * set changes move or drop the set (see {@link #on}); readers still check
+ * the sets they get, see {@link #isRanked}.
+ */
+@Slf4j
+@Service
+public class VocabularySetPopularityService implements CounterFlushListener {
+
+    static final String ALL = "all";
+
+    private static final Instant EPOCH = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static final Map<CounterColumn, Double> WEIGHTS = Map.of(
+            VocabularySetEngagementService.SET_VIEWS, 1.0,
+            VocabularySetEngagementService.SET_LIKES, 5.0,
+            VocabularySetEngagementService.SET_SHARES, 10.0);
+
+    private static final List<String> ALL_KEYS = allKeys();
+
+    private final PopularityRanking ranking;
+    private final VocabularySetRepository vocabularySetRepository;
+    private final double halfLifeSeconds;
+
+    public VocabularySetPopularityService(PopularityRanking ranking, VocabularySetRepository vocabularySetRepository,
+            @Value("${app.vocabulary.popularity.half-life:7d}") Duration halfLife) {
+        this.ranking = ranking;
+        this.vocabularySetRepository = vocabularySetRepository;
+        this.halfLifeSeconds = halfLife.toSeconds();
+    }
+
+    @Override
+    public void onFlush(CounterColumn column, Map<UUID, Long> deltas) {
+        Double weight = WEIGHTS.get(column);
+        if (weight == null) {
+            return;
+        }
+        double factor = decayFactor(Instant.now());
+        Map<UUID, List<String>> keys = rankingKeys(deltas.keySet());
+        deltas.forEach((setId, delta) -> {
+            List<String> setKeys = keys.get(setId);
+            if (setKeys != null && !setKeys.isEmpty()) {
+                ranking.increment(setKeys, setId, weight * delta * factor);
+            }
+        });
+    }
+
+    /**
+     * Move or drop a set once its change is committed, so a set made private,
+     * deactivated or deleted leaves the rankings on the write path. Runs on
+     * the IO executor.
+     *
+     * @param event The set change
+     */
+    @NonBlocking
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(VocabularySetChangedEvent event) {
+        switch (event.getChange()) {
+            case UPDATED -> reindex(event.getSetId());
+            case DELETED -> remove(event.getSetId());
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Get the ids of the most popular public sets
+     *
+     * @param category Category filter, may be null
+     * @param difficultyLevel Difficulty filter, may be null
+     * @param offset Index of the first set
+     * @param limit Maximum number of sets
+     * @return Set ids, most popular first
+     */
+    public List<UUID> getTopIds(Category category, DifficultyLevel difficultyLevel, long offset, int limit) {
+        return ranking.top(key(category, difficultyLevel), offset, limit);
+    }
+
+    /**
+     * Count the ranked public sets
+     *
+     * @param category Category filter, may be null
+     * @param difficultyLevel Difficulty filter, may be null
+     * @return Number of ranked sets
+     */
+    public long count(Category category, DifficultyLevel difficultyLevel) {
+        return ranking.size(key(category, difficultyLevel));
+    }
+
+    /**
+     * Move a set to the rankings matching its current category, difficulty and
+     * visibility, keeping its score. Called after the set was updated and
+     * committed; runs on the IO executor when called from outside.
+     *
+     * @param setId ID of the vocabulary set
+     */
+    @NonBlocking
+    public void reindex(UUID setId) {
+        try {
+            Double score = ranking.score(ALL, setId);
+            ranking.remove(ALL_KEYS, setId);
+            if (score != null) {
+                List<String> keys = rankingKeys(List.of(setId)).get(setId);
+                if (keys != null && !keys.isEmpty()) {
+                    ranking.increment(keys, setId, score);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Could not update popularity ranking of set {}: {}", setId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drop a set from all rankings. Called after the set was deleted; runs on
+     * the IO executor when called from outside.
+     *
+     * @param setId ID of the vocabulary set
+     */
+    @NonBlocking
+    public void remove(UUID setId) {
+        try {
+            ranking.remove(ALL_KEYS, setId);
+        } catch (Exception e) {
+            log.warn("Could not remove set {} from popularity ranking: {}", setId, e.getMessage());
+        }
+    }
+
+    /**
+     * Check whether a set may appear in the rankings
+     *
+     * @param visibility Visibility of the set
+     * @param active Whether the set is active
+     * @return true if the set is public and active
+     */
+    public static boolean isRanked(Visibility visibility, boolean active) {
+        return visibility == Visibility.PUBLIC && active;
+    }
+
+    // Read on every flush: a cached copy may predate a visibility change
+    private Map<UUID, List<String>> rankingKeys(Collection<UUID> setIds) {
+        Map<UUID, List<String>> result = new HashMap<>();
+        for (VocabularySet set : vocabularySetRepository.findAllById(setIds)) {
+            result.put(set.getId(), keysFor(set));
+        }
+        return result;
+    }
+
+    private static List<String> keysFor(VocabularySet set) {
+        if (!isRanked(set.getVisibility(), set.isActive())) {
+            return List.of();
+        }
+        List<String> keys = new ArrayList<>(4);
+        keys.add(ALL);
+        if (set.getCategory() != null) {
+            keys.add(key(set.getCategory(), null));
+        }
+        if (set.getDifficultyLevel() != null) {
+            keys.add(key(null, set.getDifficultyLevel()));
+        }
+        if (set.getCategory() != null && set.getDifficultyLevel() != null) {
+            keys.add(key(set.getCategory(), set.getDifficultyLevel()));
+        }
+        return keys;
+    }
+
+    static String key(Category category, DifficultyLevel difficultyLevel) {
+        if (category == null && difficultyLevel == null) {
+            return ALL;
+        }
+        if (difficultyLevel == null) {
+            return "category:" + category.name();
+        }
+        if (category == null) {
+            return "difficulty:" + difficultyLevel.name();
+        }
+        return "category:" + category.name() + ":difficulty:" + difficultyLevel.name();
+    }
+
+    private static List<String> allKeys() {
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(ALL);
+        for (Category category : Category.values()) {
+            keys.add(key(category, null));
+            for (DifficultyLevel difficultyLevel : DifficultyLevel.values()) {
+                keys.add(key(null, difficultyLevel));
+                keys.add(key(category, difficultyLevel));
+            }
+        }
+        return List.copyOf(keys);
+    }
+
+    private double decayFactor(Instant now) {
+        return Math.pow(2, (now.getEpochSecond() - EPOCH.getEpochSecond()) / halfLifeSeconds);
+    }
+}
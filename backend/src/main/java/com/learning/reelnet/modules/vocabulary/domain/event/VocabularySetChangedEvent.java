@@ -0,0 +1,33 @@
+package com.learning.reelnet.modules.vocabulary.domain.event;
+
+import java.util.UUID;
+
+import com.learning.reelnet.common.infrastructure.events.AbstractDomainEvent;
+
+import lombok.Getter;
+
+/**
+ * Một bộ từ vựng hoặc danh sách từ của nó đã thay đổi. Được phát trong
+ * transaction của thay đổi để các read model cập nhật cùng transaction đó.
+ */
+@Getter
+public class VocabularySetChangedEvent extends AbstractDomainEvent {
+
+    public static final String EVENT_TYPE = "VocabularySetChanged";
+
+    public enum Change {
+        CREATED,
+        UPDATED,
+        ITEMS_CHANGED,
+        DELETED
+    }
+
+    private final UUID setId;
+    private final Change change;
+
+    public VocabularySetChangedEvent(UUID setId, Change change) {
+        super(EVENT_TYPE, setId.toString(), 0L, 1);
+        this.setId = setId;
+        this.change = change;
+    }
+}
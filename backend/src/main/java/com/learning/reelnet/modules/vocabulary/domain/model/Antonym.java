@@ -1,6 +1,9 @@
 package com.learning.reelnet.modules.vocabulary.domain.model;
 
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.ManyToOne;
@@ -19,6 +22,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "antonym")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Vocabulary.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
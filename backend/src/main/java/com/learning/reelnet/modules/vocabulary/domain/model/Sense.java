@@ -4,6 +4,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.learning.reelnet.common.model.base.BaseEntity;
 import com.learning.reelnet.modules.vocabulary.domain.valueobject.RegisterLabel;
 
@@ -26,6 +30,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "sense")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Vocabulary.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -44,9 +49,13 @@ public class Sense extends BaseEntity<UUID> {
     private String translation; // Nghĩa tiếng Việt
 
     @OneToMany(mappedBy = "meaning", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = Vocabulary.FETCH_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Vocabulary.CACHE_REGION)
     private List<Example> examples; // Danh sách câu ví dụ
 
     @ElementCollection
+    @BatchSize(size = Vocabulary.FETCH_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Vocabulary.CACHE_REGION)
     @CollectionTable(name = "sense_register_labels", joinColumns = @JoinColumn(name = "sense_id"))
     @Enumerated(EnumType.STRING)
     @Column(name = "register_label")
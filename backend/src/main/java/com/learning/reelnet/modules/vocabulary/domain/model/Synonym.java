@@ -5,6 +5,9 @@ import java.util.UUID;
 import com.learning.reelnet.common.model.base.BaseEntity;
 
 import jakarta.persistence.Column;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.JoinColumn;
@@ -17,6 +20,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "synonym")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Vocabulary.CACHE_REGION)
 @Getter
 @Setter
 @NoArgsConstructor
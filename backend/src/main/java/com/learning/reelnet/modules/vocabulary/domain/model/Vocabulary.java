@@ -6,6 +6,10 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.learning.reelnet.common.model.base.BaseEntity;
 import com.learning.reelnet.modules.vocabulary.domain.valueobject.PartOfSpeech;
 
@@ -14,6 +18,8 @@ import jakarta.persistence.Column;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -26,6 +32,8 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "vocabulary")
+@NamedEntityGraph(name = Vocabulary.DETAIL_GRAPH, attributeNodes = @NamedAttributeNode("senses"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Vocabulary.CACHE_REGION)
 @Getter
 @Setter
 @Builder
@@ -34,6 +42,25 @@ import lombok.Setter;
 @EqualsAndHashCode(callSuper = true, exclude = { "senses", "examples", "synonyms", "antonyms" })
 public class Vocabulary extends BaseEntity<UUID> {
 
+    /**
+     * Fetch plan cho trang chi tiết: join senses cùng dòng vocabulary,
+     * các collection còn lại được nạp theo lô
+     */
+    public static final String DETAIL_GRAPH = "Vocabulary.detail";
+
+    /**
+     * Số owner tối đa được nạp collection trong một câu IN
+     */
+    public static final int FETCH_BATCH_SIZE = 50;
+
+    /**
+     * Vùng cache cấp hai dùng chung cho vocabulary, sense, example, synonym,
+     * antonym và các collection của chúng. Dùng READ_WRITE thay vì READ_ONLY:
+     * Hibernate chọn chiến lược theo entity chứ không theo dòng, mà từ của
+     * người dùng (isSystem = false) vẫn được sửa
+     */
+    public static final String CACHE_REGION = "vocabulary";
+
     @Column(nullable = false, unique = true)
     private String headword;
 
@@ -57,7 +84,9 @@ public class Vocabulary extends BaseEntity<UUID> {
     @Builder.Default
     private boolean isSystem = false;
 
-    @Column(name = "view_count")
+    // Do WriteBehindCounters ghi bằng JDBC; không ghi lại khi cập nhật entity, để
+    // bản đã nạp từ trước không đè lên giá trị mới hơn
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
@@ -65,18 +94,26 @@ public class Vocabulary extends BaseEntity<UUID> {
     private Integer difficultyScore;
 
     @OneToMany(mappedBy = "vocabulary", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
+    @BatchSize(size = FETCH_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION)
     @Builder.Default
     private List<Sense> senses = new ArrayList<>();
 
     @OneToMany(mappedBy = "vocabulary", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = FETCH_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION)
     @Builder.Default
     private List<Example> examples = new ArrayList<>();
 
     @OneToMany(mappedBy = "vocabulary", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = FETCH_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION)
     @Builder.Default
     private Set<Synonym> synonyms = new HashSet<>();
 
     @OneToMany(mappedBy = "vocabulary", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = FETCH_BATCH_SIZE)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CACHE_REGION)
     @Builder.Default
     private Set<Antonym> antonyms = new HashSet<>();
 
@@ -1,19 +1,17 @@
 package com.learning.reelnet.modules.vocabulary.domain.model;
 
-import java.util.HashSet;
-import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import com.learning.reelnet.common.api.query.annotation.SupportedParams;
 import com.learning.reelnet.common.model.base.BaseEntity;
 
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
 import lombok.AllArgsConstructor;
@@ -23,6 +21,7 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "vocabulary_set")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = VocabularySet.CACHE_REGION)
 @Getter
 @Setter
 @AllArgsConstructor
@@ -31,10 +30,22 @@ import lombok.Setter;
     allowedSortFields = {"id", "name", "createdAt", "updatedAt", "viewCount", "likeCount", "difficultyLevel"},
     allowedFilterFields = {"visibility", "category", "difficultyLevel", "createdBy", "isActive", "isSystem"},
     allowedSearchFields = {"name", "description"},
+    fullTextFields = {"name", "description"},
     maxPageSize = 50
 )
 public class VocabularySet extends BaseEntity<UUID> {
 
+    /**
+     * Vùng cache cấp hai của bộ từ vựng
+     */
+    public static final String CACHE_REGION = "vocabulary-set";
+
+    /**
+     * Vùng cache kết quả của truy vấn theo danh mục; Hibernate tự bỏ kết quả
+     * khi bảng vocabulary_set được ghi
+     */
+    public static final String CATEGORY_QUERY_REGION = "vocabulary-set-by-category";
+
     // No-args constructor
     public VocabularySet() {
         super();
@@ -53,15 +64,17 @@ public class VocabularySet extends BaseEntity<UUID> {
     @Column(name = "created_by", nullable = false)
     private String createdBy;
 
-    @Column(name = "view_count")
+    // Các bộ đếm do WriteBehindCounters ghi bằng JDBC; không ghi lại khi cập nhật
+    // entity, để bản đã nạp từ trước không đè lên giá trị mới hơn
+    @Column(name = "view_count", updatable = false)
     @Builder.Default
     private Long viewCount = 0L;
 
-    @Column(name = "like_count")
+    @Column(name = "like_count", updatable = false)
     @Builder.Default
     private Long likeCount = 0L;
 
-    @Column(name = "share_count")
+    @Column(name = "share_count", updatable = false)
     @Builder.Default
     private Long shareCount = 0L;
 
@@ -82,11 +95,8 @@ public class VocabularySet extends BaseEntity<UUID> {
     @Builder.Default
     private boolean isSystem = false;
 
-    @OneToMany(mappedBy = "vocabularySet", cascade = CascadeType.ALL, orphanRemoval = true)
-    @Builder.Default
-    private Set<VocabularySetItem> vocabularyItems = new HashSet<>();
-
-    // Cần bổ sung quan hệ với Vocabulary thông qua VocabularySetItem
+    // Không map collection item: một bộ có thể có hàng chục nghìn item, thêm và
+    // xoá đi qua VocabularySetItemRepository thay vì nạp cả collection
 
     public enum Visibility {
         PRIVATE, // Chỉ người tạo có thể xem
@@ -164,18 +174,4 @@ public class VocabularySet extends BaseEntity<UUID> {
             this.shareCount--;
         }
     }
-
-    public void addVocabulary(Vocabulary vocabulary, int displayOrder) {
-        VocabularySetItem item = new VocabularySetItem();
-        item.setVocabularySet(this);
-        item.setVocabulary(vocabulary);
-        item.setDisplayOrder(displayOrder);
-        this.vocabularyItems.add(item);
-    }
-
-    public Set<Vocabulary> getVocabularies() {
-        return vocabularyItems.stream()
-            .map(VocabularySetItem::getVocabulary)
-            .collect(Collectors.toSet());
-    }
 }
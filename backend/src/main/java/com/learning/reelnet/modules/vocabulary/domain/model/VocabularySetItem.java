@@ -1,5 +1,6 @@
 package com.learning.reelnet.modules.vocabulary.domain.model;
 
+import java.util.Objects;
 import java.util.UUID;
 
 import com.learning.reelnet.common.model.base.BaseEntity;
@@ -90,4 +91,38 @@ public class VocabularySetItem extends BaseEntity<UUID> {
     public void toggleMastered() {
         this.mastered = !this.mastered;
     }
+
+    /**
+     * So sánh theo khoá nghiệp vụ (bộ từ, từ vựng), là unique trong DB. ID chỉ
+     * có sau khi persist, nên so sánh theo ID như BaseEntity làm mọi item mới
+     * có cùng hashCode 0 và HashSet nhiều item mới suy biến thành một danh sách.
+     * Hai item chưa gán đủ bộ từ và từ vựng chỉ bằng chính nó.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof VocabularySetItem other)) {
+            return false;
+        }
+        UUID setId = idOf(getVocabularySet());
+        UUID vocabularyId = idOf(getVocabulary());
+        return setId != null && vocabularyId != null
+                && setId.equals(idOf(other.getVocabularySet()))
+                && vocabularyId.equals(idOf(other.getVocabulary()));
+    }
+
+    /**
+     * Ổn định qua lúc persist; chỉ đổi nếu gán lại bộ từ hoặc từ vựng
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(idOf(getVocabularySet()), idOf(getVocabulary()));
+    }
+
+    // getId() của proxy không nạp entity
+    private static UUID idOf(BaseEntity<UUID> entity) {
+        return entity != null ? entity.getId() : null;
+    }
 }
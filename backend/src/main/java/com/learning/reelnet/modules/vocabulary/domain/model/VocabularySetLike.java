@@ -0,0 +1,36 @@
+package com.learning.reelnet.modules.vocabulary.domain.model;
+
+import java.util.UUID;
+
+import com.learning.reelnet.common.model.base.BaseEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Lượt thích bộ từ vựng của một người dùng
+ */
+@Entity
+@Table(name = "vocabulary_set_like", uniqueConstraints = @UniqueConstraint(columnNames = { "vocabulary_set_id",
+        "user_id" }))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class VocabularySetLike extends BaseEntity<UUID> {
+
+    // Chỉ lưu ID để thêm/xóa lượt thích không cần nạp bộ từ vựng
+    @Column(name = "vocabulary_set_id", nullable = false)
+    private UUID vocabularySetId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+}
@@ -0,0 +1,120 @@
+package com.learning.reelnet.modules.vocabulary.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.learning.reelnet.common.api.query.annotation.SupportedParams;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Category;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Read model cho trang danh sách bộ từ vựng: một dòng cho mỗi bộ, gồm thông
+ * tin của bộ cùng số từ, số từ đã thuộc và vài từ đầu tiên, để danh sách
+ * không phải nạp {@code vocabularyItems} của từng bộ.
+ * <p>
+ * Chỉ được ghi bởi {@code VocabularySetSummaryProjector} (từ
+ * {@code VocabularySetChangedEvent} và các lần ghi bộ đếm) và lệnh dựng lại
+ * {@code RebuildVocabularySetSummaryCommand}.
+ */
+@Entity
+@Table(name = "vocabulary_set_summary", indexes = {
+        @Index(name = "idx_vocabulary_set_summary_created_by", columnList = "created_by"),
+        @Index(name = "idx_vocabulary_set_summary_visibility_category", columnList = "visibility, category")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@SupportedParams(
+    allowedSortFields = {"id", "name", "createdAt", "updatedAt", "lastModifiedAt", "viewCount", "likeCount",
+            "difficultyLevel", "itemCount"},
+    allowedFilterFields = {"visibility", "category", "difficultyLevel", "createdBy", "isActive", "isSystem",
+            "itemCount"},
+    allowedSearchFields = {"name", "description"},
+    fullTextFields = {"name", "description"},
+    maxPageSize = 50
+)
+public class VocabularySetSummary {
+
+    // Cùng ID với bộ từ vựng
+    @Id
+    @Column(name = "id", columnDefinition = "UUID")
+    private UUID id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(name = "is_active")
+    private boolean isActive;
+
+    @Column(name = "created_by", nullable = false)
+    private String createdBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "visibility", nullable = false)
+    private Visibility visibility;
+
+    @Column(name = "difficulty_level")
+    @Enumerated(EnumType.STRING)
+    private DifficultyLevel difficultyLevel;
+
+    @Column(name = "category")
+    @Enumerated(EnumType.STRING)
+    private Category category;
+
+    @Column(name = "is_system")
+    private boolean isSystem;
+
+    @Column(name = "item_count", nullable = false)
+    private int itemCount;
+
+    @Column(name = "mastered_count", nullable = false)
+    private int masteredCount;
+
+    // Các headword đầu tiên theo display_order
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "preview_headwords")
+    private List<String> previewHeadwords = new ArrayList<>();
+
+    @Column(name = "view_count")
+    private Long viewCount = 0L;
+
+    @Column(name = "like_count")
+    private Long likeCount = 0L;
+
+    @Column(name = "share_count")
+    private Long shareCount = 0L;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Lần thay đổi gần nhất của bộ hoặc của bất kỳ item nào trong bộ
+    @Column(name = "last_modified_at")
+    private LocalDateTime lastModifiedAt;
+
+    public VocabularySetSummary(UUID id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,36 @@
+package com.learning.reelnet.modules.vocabulary.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Category;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+
+/**
+ * Projection của {@link VocabularySetSummary} dùng cho các trang danh sách:
+ * chỉ gồm các cột mà VocabularySetDto cần, đọc thẳng bằng constructor
+ * expression nên không tạo entity được quản lý. Tên component phải trùng tên
+ * thuộc tính của entity.
+ */
+public record VocabularySetSummaryView(
+        UUID id,
+        String name,
+        String description,
+        boolean isActive,
+        String createdBy,
+        Visibility visibility,
+        DifficultyLevel difficultyLevel,
+        Category category,
+        boolean isSystem,
+        int itemCount,
+        int masteredCount,
+        List<String> previewHeadwords,
+        Long viewCount,
+        Long likeCount,
+        Long shareCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime lastModifiedAt) {
+}
@@ -0,0 +1,54 @@
+package com.learning.reelnet.modules.vocabulary.domain.model;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Bản chụp JSON của toàn bộ một mục từ (vocabulary cùng sense, example,
+ * synonym, antonym, etymology và metadata), để trang chi tiết đọc bằng một
+ * lần tra khoá chính thay vì bảy bảng.
+ * <p>
+ * Mỗi bản chụp ứng với một {@code Vocabulary.version} và không sửa tại chỗ:
+ * khi aggregate đổi, version tăng và bản chụp được thay bằng bản mới. Chỉ được
+ * ghi bởi {@code VocabularySnapshotProjector} và lệnh
+ * {@code RebuildVocabularySnapshotsCommand}.
+ */
+@Entity
+@Table(name = "vocabulary_snapshot")
+@Getter
+@Setter
+@NoArgsConstructor
+public class VocabularySnapshot {
+
+    // Cùng ID với vocabulary
+    @Id
+    @Column(name = "id", columnDefinition = "UUID")
+    private UUID id;
+
+    // Vocabulary.version lúc chụp
+    @Column(name = "vocabulary_version", nullable = false)
+    private long vocabularyVersion;
+
+    // VocabularyDto đã serialize, không có view count (được ghi trễ riêng)
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "snapshot", nullable = false)
+    private String snapshot;
+
+    @Column(name = "built_at", nullable = false)
+    private LocalDateTime builtAt;
+
+    public VocabularySnapshot(UUID id) {
+        this.id = id;
+    }
+}
@@ -1,9 +1,13 @@
 package com.learning.reelnet.modules.vocabulary.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import com.learning.reelnet.modules.vocabulary.domain.model.Etymology;
+import com.learning.reelnet.modules.vocabulary.domain.model.Metadata;
 import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
 
 import org.springframework.stereotype.Repository;
@@ -18,6 +22,52 @@ public interface VocabularyRepository {
      */
     Vocabulary findById(UUID id);
 
+    /*
+     * * Find a Vocabulary with its senses, examples, synonyms and antonyms
+     * loaded, for the detail view.
+     * * @param id UUID representing the ID of the Vocabulary to be found.
+     * * @return Vocabulary with every collection initialized, or null.
+     */
+    Vocabulary findDetailById(UUID id);
+
+    /*
+     * * Find a list of Vocabulary with every collection loaded, for list
+     * views. Each collection level takes one batched query, not one per row.
+     * * @param ids IDs of the Vocabulary to be found.
+     * * @return Vocabulary objects with every collection initialized.
+     */
+    List<Vocabulary> findDetailsByIds(Collection<UUID> ids);
+
+    /*
+     * * Find the etymologies of several Vocabulary in one query.
+     * * @param vocabularyIds IDs of the Vocabulary.
+     * * @return Etymologies of those Vocabulary, in no particular order.
+     */
+    List<Etymology> findEtymologiesByVocabularyIds(Collection<UUID> vocabularyIds);
+
+    /*
+     * * Find the metadata of several Vocabulary in one query.
+     * * @param vocabularyIds IDs of the Vocabulary.
+     * * @return Metadata of those Vocabulary, in no particular order.
+     */
+    List<Metadata> findMetadataByVocabularyIds(Collection<UUID> vocabularyIds);
+
+    /*
+     * * Read the current version of several Vocabulary from the database,
+     * bypassing entities already loaded in the persistence context.
+     * * @param ids IDs of the Vocabulary.
+     * * @return Version by ID; missing IDs no longer exist.
+     */
+    Map<UUID, Long> findVersionsByIds(Collection<UUID> ids);
+
+    /*
+     * * Increment the version of several Vocabulary, e.g. when only their
+     * senses or examples changed, by touching their update time. Also locks
+     * the rows until commit.
+     * * @param ids IDs of the Vocabulary.
+     */
+    void incrementVersions(Collection<UUID> ids);
+
     /*
      * * Find a list of Vocabulary by their IDs.
      * * @param ids List of UUIDs representing the IDs of the Vocabulary to be
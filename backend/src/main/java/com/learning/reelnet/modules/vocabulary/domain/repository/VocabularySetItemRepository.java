@@ -1,9 +1,11 @@
 package com.learning.reelnet.modules.vocabulary.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetItem;
+import com.learning.reelnet.modules.vocabulary.domain.valueobject.BulkInsertResult;
 
 import org.springframework.stereotype.Repository;
 
@@ -17,6 +19,18 @@ public interface VocabularySetItemRepository {
      */
     List<VocabularySetItem> saveAll(List<VocabularySetItem> vocabularySetItems);
 
+    /**
+     * Insert items into a set in one set-based statement, skipping vocabulary
+     * already in the set or not existing. Items without a display order are
+     * appended after the current maximum, in list order.
+     *
+     * @param setId ID of the VocabularySet.
+     * @param items New items; only the vocabulary id, display order, custom
+     *              definition, custom example and notes are used.
+     * @return Number of inserted rows and the vocabulary ids that do not exist.
+     */
+    BulkInsertResult insertIgnoringDuplicates(UUID setId, List<VocabularySetItem> items);
+
     /**
      * Delete a list of VocabularySetItems from the database.
      *
@@ -24,6 +38,39 @@ public interface VocabularySetItemRepository {
      */
     void deleteAll(List<VocabularySetItem> vocabularySetItems);
 
+    /**
+     * Delete the items of some vocabularies from a set without loading them.
+     *
+     * @param setId ID of the VocabularySet.
+     * @param vocabularyIds IDs of the vocabularies to remove.
+     * @return Number of deleted rows.
+     */
+    int deleteBySetIdAndVocabularyIds(UUID setId, Collection<UUID> vocabularyIds);
+
+    /**
+     * Delete every item of a set without loading them.
+     *
+     * @param setId ID of the VocabularySet.
+     * @return Number of deleted rows.
+     */
+    int deleteAllBySetId(UUID setId);
+
+    /**
+     * Delete the items of a vocabulary from every set without loading them.
+     *
+     * @param vocabularyId ID of the Vocabulary.
+     * @return Number of deleted rows.
+     */
+    int deleteAllByVocabularyId(UUID vocabularyId);
+
+    /**
+     * Find the IDs of the sets containing a vocabulary.
+     *
+     * @param vocabularyId ID of the Vocabulary.
+     * @return IDs of the VocabularySets, each once.
+     */
+    List<UUID> findSetIdsByVocabularyId(UUID vocabularyId);
+
     /**
      * Delete all VocabularySetItems from the database.
      */
@@ -0,0 +1,45 @@
+package com.learning.reelnet.modules.vocabulary.domain.repository;
+
+import java.util.UUID;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetLike;
+
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface VocabularySetLikeRepository {
+    /**
+     * Save a like.
+     *
+     * @param like Like to save.
+     */
+    void save(VocabularySetLike like);
+
+    /**
+     * Add the like of a user on a set unless it already exists, without
+     * failing when a concurrent request adds it at the same time.
+     *
+     * @param setId  ID of the VocabularySet.
+     * @param userId ID of the user.
+     * @return true if the like was added, false if it already existed.
+     */
+    boolean insertIfAbsent(UUID setId, String userId);
+
+    /**
+     * Delete the like of a user on a set.
+     *
+     * @param setId  ID of the VocabularySet.
+     * @param userId ID of the user.
+     * @return Number of deleted likes, 0 if the user had not liked the set.
+     */
+    int deleteBySetIdAndUserId(UUID setId, String userId);
+
+    /**
+     * Check whether a user liked a set.
+     *
+     * @param setId  ID of the VocabularySet.
+     * @param userId ID of the user.
+     * @return true if the like exists.
+     */
+    boolean existsBySetIdAndUserId(UUID setId, String userId);
+}
@@ -1,5 +1,6 @@
 package com.learning.reelnet.modules.vocabulary.domain.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -9,6 +10,7 @@ import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -18,6 +20,10 @@ public interface VocabularySetRepository {
 
     VocabularySet findById(UUID id);
 
+    boolean existsById(UUID id); // Kiểm tra tồn tại mà không nạp entity
+
+    List<VocabularySet> findAllById(Collection<UUID> ids); // Thứ tự kết quả không xác định
+
     VocabularySet save(VocabularySet vocabularySet); // Method signature only, implementation should be in the service
 
     void deleteById(UUID id); // Method signature only, implementation should be in the service layer
@@ -27,6 +33,9 @@ public interface VocabularySetRepository {
                                                                                                                // //
                                                                                                                // layer
 
+    Slice<VocabularySet> findAllByCursor(QueryParams queryParam, FilterParams filterParams,
+            SearchParams searchParams); // Keyset paging, không đếm tổng số bản ghi
+
     List<VocabularySet> findByUserId(String userId); // Method signature only, implementation should be in the service
                                                      // layer
 
@@ -0,0 +1,65 @@
+package com.learning.reelnet.modules.vocabulary.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import com.learning.reelnet.common.api.query.FilterParams;
+import com.learning.reelnet.common.api.query.QueryParams;
+import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
+
+/**
+ * Truy cập read model {@link VocabularySetSummary}
+ */
+public interface VocabularySetSummaryRepository {
+
+    // Các truy vấn danh sách trả về projection, không nạp entity
+
+    Page<VocabularySetSummaryView> findAll(QueryParams queryParam, FilterParams filterParams,
+            SearchParams searchParams);
+
+    Slice<VocabularySetSummaryView> findAllByCursor(QueryParams queryParam, FilterParams filterParams,
+            SearchParams searchParams); // Keyset paging, không đếm tổng số bản ghi
+
+    List<VocabularySetSummaryView> findAllById(Collection<UUID> ids); // Thứ tự kết quả không xác định
+
+    List<VocabularySetSummaryView> findByCreatedBy(String userId);
+
+    long count();
+
+    /**
+     * Tính lại dòng summary của các bộ từ vựng từ bảng gốc; xoá dòng của các bộ
+     * không còn tồn tại. Phải chạy trong transaction.
+     *
+     * @param setIds ID các bộ từ vựng
+     */
+    void refresh(Collection<UUID> setIds);
+
+    /**
+     * Chép view/like/share count hiện tại từ vocabulary_set sang summary.
+     *
+     * @param setIds ID các bộ từ vựng
+     */
+    void refreshCounters(Collection<UUID> setIds);
+
+    /**
+     * Lấy ID bộ từ vựng theo thứ tự tăng dần, dùng để dựng lại theo từng phần.
+     *
+     * @param after ID cuối của phần trước, null cho phần đầu tiên
+     * @param limit Số ID tối đa
+     * @return ID các bộ từ vựng sau {@code after}
+     */
+    List<UUID> findSetIdsAfter(UUID after, int limit);
+
+    /**
+     * Xoá các dòng summary không còn bộ từ vựng tương ứng.
+     *
+     * @return Số dòng đã xoá
+     */
+    int deleteOrphans();
+}
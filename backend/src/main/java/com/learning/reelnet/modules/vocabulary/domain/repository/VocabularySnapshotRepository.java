@@ -0,0 +1,57 @@
+package com.learning.reelnet.modules.vocabulary.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySnapshot;
+
+/**
+ * Truy cập read model {@link VocabularySnapshot}
+ */
+public interface VocabularySnapshotRepository {
+
+    /**
+     * Đọc JSON của bản chụp theo khoá chính, không nạp entity.
+     *
+     * @param vocabularyId ID của vocabulary
+     * @return JSON, hoặc null nếu chưa có bản chụp
+     */
+    String findSnapshotById(UUID vocabularyId);
+
+    long count();
+
+    /**
+     * Ghi bản chụp của một version. Bản chụp đang có chỉ bị thay nếu nó không
+     * mới hơn, nên lần dựng lại chạy song song với thay đổi không ghi đè bản
+     * chụp mới bằng bản cũ. Phải chạy trong transaction.
+     *
+     * @param vocabularyId ID của vocabulary
+     * @param version Vocabulary.version của dữ liệu đã chụp
+     * @param snapshot JSON của mục từ
+     */
+    void save(UUID vocabularyId, long version, String snapshot);
+
+    /**
+     * Xoá bản chụp của các vocabulary.
+     *
+     * @param vocabularyIds ID các vocabulary
+     */
+    void deleteAllById(Collection<UUID> vocabularyIds);
+
+    /**
+     * Lấy ID vocabulary theo thứ tự tăng dần, dùng để dựng lại theo từng phần.
+     *
+     * @param after ID cuối của phần trước, null cho phần đầu tiên
+     * @param limit Số ID tối đa
+     * @return ID các vocabulary sau {@code after}
+     */
+    List<UUID> findVocabularyIdsAfter(UUID after, int limit);
+
+    /**
+     * Xoá các bản chụp không còn vocabulary tương ứng.
+     *
+     * @return Số dòng đã xoá
+     */
+    int deleteOrphans();
+}
@@ -6,7 +6,6 @@ import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Domain Service handling complex business logic related to VocabularySet
@@ -140,17 +139,19 @@ public class VocabularySetDomainService {
     
     /**
      * Analyze overlap (common vocabulary) between vocabulary sets
-     * Helps users find suitable supplementary vocabulary sets
+     * Helps users find suitable supplementary vocabulary sets.
+     * Sets do not hold their items, so the vocabulary IDs of each set are
+     * passed in (read through VocabularySetItemRepository).
      * 
-     * @param primarySet Primary vocabulary set currently in use
-     * @param candidateSets Potential vocabulary sets
+     * @param primaryVocabularyIds Vocabulary IDs of the set currently in use
+     * @param candidateVocabularyIds Vocabulary IDs of each potential set
      * @return Vocabulary set with least overlap (best complement)
      */
     public VocabularySet findBestComplementarySet(
-            VocabularySet primarySet, 
-            List<VocabularySet> candidateSets) {
+            Set<UUID> primaryVocabularyIds, 
+            Map<VocabularySet, Set<UUID>> candidateVocabularyIds) {
         
-        if (candidateSets == null || candidateSets.isEmpty()) {
+        if (candidateVocabularyIds == null || candidateVocabularyIds.isEmpty()) {
             return null;
         }
         
@@ -158,12 +159,12 @@ public class VocabularySetDomainService {
         VocabularySet bestSet = null;
         double lowestOverlapRatio = 1.0; // 100% overlap
         
-        for (VocabularySet candidate : candidateSets) {
-            double overlapRatio = calculateOverlapRatio(primarySet, candidate);
+        for (Map.Entry<VocabularySet, Set<UUID>> candidate : candidateVocabularyIds.entrySet()) {
+            double overlapRatio = calculateOverlapRatio(primaryVocabularyIds, candidate.getValue());
             
             if (overlapRatio < lowestOverlapRatio) {
                 lowestOverlapRatio = overlapRatio;
-                bestSet = candidate;
+                bestSet = candidate.getKey();
             }
         }
         
@@ -175,22 +176,11 @@ public class VocabularySetDomainService {
      * 
      * @return Ratio from 0.0 (no overlap) to 1.0 (complete overlap)
      */
-    private double calculateOverlapRatio(VocabularySet set1, VocabularySet set2) {
-        if (set1 == null || set2 == null || 
-            set1.getVocabularyItems() == null || set2.getVocabularyItems() == null ||
-            set1.getVocabularyItems().isEmpty() || set2.getVocabularyItems().isEmpty()) {
+    private double calculateOverlapRatio(Set<UUID> ids1, Set<UUID> ids2) {
+        if (ids1 == null || ids2 == null || ids1.isEmpty() || ids2.isEmpty()) {
             return 0.0;
         }
         
-        // Get vocabulary IDs from VocabularySetItems
-        Set<UUID> ids1 = set1.getVocabularyItems().stream()
-            .map(item -> item.getVocabulary().getId())
-            .collect(Collectors.toSet());
-            
-        Set<UUID> ids2 = set2.getVocabularyItems().stream()
-            .map(item -> item.getVocabulary().getId())
-            .collect(Collectors.toSet());
-        
         // Find common vocabulary
         Set<UUID> intersection = new HashSet<>(ids1);
         intersection.retainAll(ids2);
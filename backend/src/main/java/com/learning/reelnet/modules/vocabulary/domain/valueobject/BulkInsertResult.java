@@ -0,0 +1,15 @@
+package com.learning.reelnet.modules.vocabulary.domain.valueobject;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.Value;
+
+/**
+ * Kết quả thêm hàng loạt từ vựng vào bộ từ
+ */
+@Value
+public class BulkInsertResult {
+    int inserted; // Số dòng thực sự được thêm
+    List<UUID> missingVocabularyIds; // Các ID không tồn tại trong bảng vocabulary
+}
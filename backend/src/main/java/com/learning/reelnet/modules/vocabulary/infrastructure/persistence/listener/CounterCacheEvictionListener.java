@@ -0,0 +1,45 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.listener;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+
+import com.learning.reelnet.common.infrastructure.cache.HibernateCacheEvictor;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterColumn;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterFlushListener;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetEngagementService;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Evicts rows whose counters were just flushed from the second-level cache.
+ * <p>
+ * {@code WriteBehindCounters} writes the counter columns with plain SQL, which
+ * Hibernate does not see, so cached {@link VocabularySet}s and
+ * {@link Vocabulary}s would keep their old view, like and share counts until
+ * they expire. Each flushed id is evicted here and on the other nodes.
+ */
+@Component
+@RequiredArgsConstructor
+public class CounterCacheEvictionListener implements CounterFlushListener {
+
+    private static final Map<CounterColumn, Class<?>> CACHED_ENTITIES = Map.of(
+            VocabularySetEngagementService.SET_VIEWS, VocabularySet.class,
+            VocabularySetEngagementService.SET_LIKES, VocabularySet.class,
+            VocabularySetEngagementService.SET_SHARES, VocabularySet.class,
+            VocabularySetEngagementService.VOCABULARY_VIEWS, Vocabulary.class);
+
+    private final HibernateCacheEvictor hibernateCacheEvictor;
+
+    @Override
+    public void onFlush(CounterColumn column, Map<UUID, Long> deltas) {
+        Class<?> entityClass = CACHED_ENTITIES.get(column);
+        if (entityClass != null) {
+            // Luồng flush không có transaction nên việc xoá chạy ngay
+            deltas.keySet().forEach(id -> hibernateCacheEvictor.evict(entityClass, id));
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.listener;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.learning.reelnet.modules.vocabulary.application.projection.VocabularySnapshotProjector;
+import com.learning.reelnet.modules.vocabulary.domain.model.Antonym;
+import com.learning.reelnet.modules.vocabulary.domain.model.Etymology;
+import com.learning.reelnet.modules.vocabulary.domain.model.Example;
+import com.learning.reelnet.modules.vocabulary.domain.model.Metadata;
+import com.learning.reelnet.modules.vocabulary.domain.model.Sense;
+import com.learning.reelnet.modules.vocabulary.domain.model.Synonym;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hibernate listener on the vocabulary aggregate that keeps its snapshot
+ * current. Registered with the session factory at startup, so the domain
+ * model does not depend on it.
+ * <p>
+ * Collects the vocabularies whose rows are written in a transaction and hands
+ * them to {@link VocabularySnapshotProjector} once. Most changes are only
+ * flushed by the commit itself, after Spring's before-commit callbacks, so
+ * the refresh is registered as a Hibernate before-completion process instead:
+ * it runs in the same session after the final flush, before the database
+ * commit. The projector is looked up lazily because its repositories need
+ * the entity manager factory this listener registers with.
+ */
+@Slf4j
+@Component
+public class VocabularySnapshotListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ObjectProvider<VocabularySnapshotProjector> projector;
+
+    public VocabularySnapshotListener(EntityManagerFactory entityManagerFactory,
+            ObjectProvider<VocabularySnapshotProjector> projector) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.projector = projector;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        written(event.getEntity(), event.getSession());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        written(event.getEntity(), event.getSession());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        written(event.getEntity(), event.getSession());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void written(Object entity, EventSource session) {
+        switch (entity) {
+            case Vocabulary vocabulary -> changed(vocabulary.getId(), true, session);
+            case Sense sense -> changed(idOf(sense.getVocabulary()), false, session);
+            case Example example -> changed(idOf(example.getVocabulary()), false, session);
+            case Synonym synonym -> changed(idOf(synonym.getVocabulary()), false, session);
+            case Antonym antonym -> changed(idOf(antonym.getVocabulary()), false, session);
+            case Etymology etymology -> changed(idOf(etymology.getVocabulary()), false, session);
+            case Metadata metadata -> changed(idOf(metadata.getVocabulary()), false, session);
+            default -> {
+            }
+        }
+    }
+
+    private void changed(UUID vocabularyId, boolean rootWritten, EventSource session) {
+        if (vocabularyId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            log.warn("Vocabulary {} changed outside a transaction; its snapshot is stale until the next rebuild",
+                    vocabularyId);
+            return;
+        }
+
+        Pending pending = (Pending) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Pending created = new Pending();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(VocabularySnapshotListener.this);
+                }
+            });
+            session.getActionQueue()
+                    .registerProcess((BeforeTransactionCompletionProcess) completing -> refresh(created, completing));
+            pending = created;
+        }
+        if (pending.refreshing.contains(vocabularyId)) {
+            // Chính lần dựng bản chụp đang tăng version của nó
+            return;
+        }
+        pending.changed.add(vocabularyId);
+        if (rootWritten) {
+            pending.versioned.add(vocabularyId);
+        }
+    }
+
+    // Lặp đến khi không còn thay đổi mới: flush khi dựng bản chụp có thể gọi lại listener
+    private void refresh(Pending pending, SessionImplementor session) {
+        VocabularySnapshotProjector snapshotProjector = projector.getIfAvailable();
+        if (snapshotProjector == null) {
+            return;
+        }
+        while (!pending.changed.isEmpty()) {
+            Set<UUID> ids = new LinkedHashSet<>(pending.changed);
+            pending.changed.clear();
+            Set<UUID> unversioned = new LinkedHashSet<>(ids);
+            unversioned.removeAll(pending.versioned);
+            pending.versioned.addAll(unversioned);
+
+            pending.refreshing.addAll(ids);
+            try {
+                snapshotProjector.refresh(ids, unversioned);
+                session.flush();
+            } finally {
+                pending.refreshing.clear();
+            }
+        }
+    }
+
+    private static UUID idOf(Vocabulary vocabulary) {
+        return vocabulary != null ? vocabulary.getId() : null;
+    }
+
+    private static final class Pending {
+        // Chờ dựng bản chụp
+        private final Set<UUID> changed = new LinkedHashSet<>();
+        // Đã tăng version trong transaction này
+        private final Set<UUID> versioned = new HashSet<>();
+        // Đang được dựng lại
+        private final Set<UUID> refreshing = new HashSet<>();
+    }
+}
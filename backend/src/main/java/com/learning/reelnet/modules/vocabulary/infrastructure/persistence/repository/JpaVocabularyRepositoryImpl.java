@@ -1,14 +1,24 @@
 package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.learning.reelnet.modules.vocabulary.domain.model.Etymology;
+import com.learning.reelnet.modules.vocabulary.domain.model.Metadata;
+import com.learning.reelnet.modules.vocabulary.domain.model.Sense;
 import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
 import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularyRepository;
 
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 
 
@@ -16,6 +26,7 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class JpaVocabularyRepositoryImpl implements VocabularyRepository {
     private final SpringDataVocabularyRepository springDataVocabularyRepository;
+    private final EntityManager entityManager;
 
     /*
      * * Find a Vocabulary by its ID.
@@ -28,6 +39,105 @@ public class JpaVocabularyRepositoryImpl implements VocabularyRepository {
         return springDataVocabularyRepository.findById(id).orElse(null);
     }
 
+    /*
+     * * Find a Vocabulary with every collection loaded.
+     * * @param id UUID representing the ID of the Vocabulary to be found.
+     * * @return Vocabulary with every collection initialized, or null.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Vocabulary findDetailById(UUID id) {
+        Vocabulary vocabulary = springDataVocabularyRepository.findDetailById(id).orElse(null);
+        if (vocabulary != null) {
+            initializeAggregate(List.of(vocabulary));
+        }
+        return vocabulary;
+    }
+
+    /*
+     * * Find a list of Vocabulary with every collection loaded.
+     * * @param ids IDs of the Vocabulary to be found.
+     * * @return Vocabulary objects with every collection initialized.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<Vocabulary> findDetailsByIds(Collection<UUID> ids) {
+        List<Vocabulary> vocabularies = springDataVocabularyRepository.findAllById(ids);
+        initializeAggregate(vocabularies);
+        return vocabularies;
+    }
+
+    @Override
+    public List<Etymology> findEtymologiesByVocabularyIds(Collection<UUID> vocabularyIds) {
+        if (vocabularyIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT e FROM Etymology e WHERE e.vocabulary.id IN :ids ORDER BY e.id",
+                Etymology.class)
+                .setParameter("ids", vocabularyIds)
+                .getResultList();
+    }
+
+    @Override
+    public List<Metadata> findMetadataByVocabularyIds(Collection<UUID> vocabularyIds) {
+        if (vocabularyIds.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery("SELECT m FROM Metadata m WHERE m.vocabulary.id IN :ids ORDER BY m.id",
+                Metadata.class)
+                .setParameter("ids", vocabularyIds)
+                .getResultList();
+    }
+
+    @Override
+    public Map<UUID, Long> findVersionsByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        // Truy vấn scalar nên đọc giá trị trong DB, không lấy entity đang có trong persistence context
+        return entityManager.createQuery("SELECT v.id, v.version FROM Vocabulary v WHERE v.id IN :ids",
+                Object[].class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(row -> (UUID) row[0], row -> (Long) row[1]));
+    }
+
+    @Override
+    public void incrementVersions(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        // Đánh dấu thay đổi qua entity thay vì UPDATE hàng loạt: Hibernate xoá cả
+        // vùng cache cấp hai sau mọi câu UPDATE hàng loạt trên bảng vocabulary
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.createQuery("SELECT v FROM Vocabulary v WHERE v.id IN :ids", Vocabulary.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(vocabulary -> vocabulary.setUpdatedAt(now));
+        entityManager.flush();
+    }
+
+    /*
+     * Nạp toàn bộ aggregate theo từng tầng. Các collection có @BatchSize nên
+     * lần initialize đầu tiên của mỗi tầng nạp luôn collection đó cho các
+     * vocabulary còn lại trong persistence context bằng một câu IN; số câu
+     * lệnh không phụ thuộc số dòng (tới Vocabulary.FETCH_BATCH_SIZE).
+     */
+    private static void initializeAggregate(List<Vocabulary> vocabularies) {
+        for (Vocabulary vocabulary : vocabularies) {
+            Hibernate.initialize(vocabulary.getSenses());
+            Hibernate.initialize(vocabulary.getExamples());
+            Hibernate.initialize(vocabulary.getSynonyms());
+            Hibernate.initialize(vocabulary.getAntonyms());
+        }
+        for (Vocabulary vocabulary : vocabularies) {
+            for (Sense sense : vocabulary.getSenses()) {
+                Hibernate.initialize(sense.getExamples());
+                Hibernate.initialize(sense.getRegisterLabels());
+            }
+        }
+    }
+
     /*
      * * Find vocabulary by their set IDs.
      * * @param ids Set of UUIDs representing the IDs of the Vocabulary to be
@@ -1,29 +1,236 @@
 package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
 
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetItem;
 import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetItemRepository;
+import com.learning.reelnet.modules.vocabulary.domain.valueobject.BulkInsertResult;
 
-import lombok.AllArgsConstructor;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
 
 @Repository
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class JpaVocabularySetItemRepositoryImpl implements VocabularySetItemRepository {
+    // Số tham số tối đa trong một mệnh đề IN ở đường dự phòng
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    /*
+     * Thêm hàng loạt trong một câu lệnh: unnest các mảng tham số, bỏ các ID
+     * không tồn tại hoặc đã có trong bộ, đánh số thứ tự nối tiếp max hiện tại
+     * và để ON CONFLICT xử lý các trường hợp chèn đồng thời.
+     */
+    private static final String BULK_INSERT_SQL = """
+            WITH input AS (
+                SELECT * FROM unnest(?::uuid[], ?::int[], ?::text[], ?::text[])
+                    WITH ORDINALITY AS t(vocabulary_id, display_order, custom_definition, custom_example, ord)
+            ),
+            candidates AS (
+                SELECT i.*, count(*) FILTER (WHERE i.display_order IS NULL) OVER (ORDER BY i.ord) AS seq
+                FROM input i
+                WHERE EXISTS (SELECT 1 FROM vocabulary v WHERE v.id = i.vocabulary_id)
+                  AND NOT EXISTS (SELECT 1 FROM vocabulary_set_item e
+                                  WHERE e.vocabulary_set_id = ? AND e.vocabulary_id = i.vocabulary_id)
+            ),
+            ins AS (
+                INSERT INTO vocabulary_set_item (id, vocabulary_set_id, vocabulary_id, display_order,
+                        custom_definition, custom_example, notes, mastered,
+                        created_at, created_by, updated_at, updated_by, version, deleted)
+                SELECT gen_random_uuid(), ?, c.vocabulary_id, COALESCE(c.display_order, m.max_order + c.seq),
+                        left(c.custom_definition, 1000), left(c.custom_example, 1000), left(?, 500), false,
+                        ?, ?, ?, ?, 0, false
+                FROM candidates c
+                CROSS JOIN (SELECT COALESCE(MAX(display_order), 0) AS max_order
+                            FROM vocabulary_set_item WHERE vocabulary_set_id = ?) m
+                ORDER BY c.ord
+                ON CONFLICT (vocabulary_set_id, vocabulary_id) DO NOTHING
+                RETURNING 1
+            )
+            SELECT (SELECT count(*) FROM ins) AS inserted,
+                   ARRAY(SELECT i.vocabulary_id FROM input i
+                         WHERE NOT EXISTS (SELECT 1 FROM vocabulary v WHERE v.id = i.vocabulary_id)
+                         ORDER BY i.ord) AS missing
+            """;
+
     private final SpringDataVocabularySetItemRepository springDataVocabularySetItemRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
+
+    private volatile Boolean postgres;
+
     @Override
     public List<VocabularySetItem> saveAll(List<VocabularySetItem> vocabularySetItems) {
         return springDataVocabularySetItemRepository.saveAll(vocabularySetItems);
     }
 
+    @Override
+    public BulkInsertResult insertIgnoringDuplicates(UUID setId, List<VocabularySetItem> items) {
+        if (items.isEmpty()) {
+            return new BulkInsertResult(0, List.of());
+        }
+        // Các thay đổi JPA đang chờ phải xuống DB trước câu lệnh JDBC
+        entityManager.flush();
+        return isPostgres() ? insertSetBased(setId, items) : insertWithEntities(setId, items);
+    }
+
+    private BulkInsertResult insertSetBased(UUID setId, List<VocabularySetItem> items) {
+        int size = items.size();
+        UUID[] vocabularyIds = new UUID[size];
+        Integer[] displayOrders = new Integer[size];
+        String[] definitions = new String[size];
+        String[] examples = new String[size];
+        for (int i = 0; i < size; i++) {
+            VocabularySetItem item = items.get(i);
+            vocabularyIds[i] = item.getVocabulary().getId();
+            displayOrders[i] = item.getDisplayOrder();
+            definitions[i] = item.getCustomDefinition();
+            examples[i] = item.getCustomExample();
+        }
+        String notes = items.get(0).getNotes();
+        String auditor = auditorAware.getCurrentAuditor().orElse("system");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        return jdbcTemplate.query(BULK_INSERT_SQL, ps -> {
+            Connection connection = ps.getConnection();
+            ps.setArray(1, connection.createArrayOf("uuid", vocabularyIds));
+            ps.setArray(2, connection.createArrayOf("integer", displayOrders));
+            ps.setArray(3, connection.createArrayOf("text", definitions));
+            ps.setArray(4, connection.createArrayOf("text", examples));
+            ps.setObject(5, setId);
+            ps.setObject(6, setId);
+            ps.setString(7, notes);
+            ps.setTimestamp(8, now);
+            ps.setString(9, auditor);
+            ps.setTimestamp(10, now);
+            ps.setString(11, auditor);
+            ps.setObject(12, setId);
+        }, rs -> {
+            rs.next();
+            Array missing = rs.getArray("missing");
+            List<UUID> missingIds = missing != null
+                    ? Arrays.asList((UUID[]) missing.getArray())
+                    : List.of();
+            return new BulkInsertResult(rs.getInt("inserted"), missingIds);
+        });
+    }
+
+    /*
+     * Đường dự phòng cho CSDL khác PostgreSQL (H2 khi test): chỉ đọc những ID
+     * liên quan thay vì toàn bộ item của bộ từ.
+     */
+    private BulkInsertResult insertWithEntities(UUID setId, List<VocabularySetItem> items) {
+        List<UUID> ids = items.stream().map(item -> item.getVocabulary().getId()).toList();
+        Set<UUID> existing = new HashSet<>();
+        Set<UUID> found = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            existing.addAll(entityManager.createQuery("SELECT i.vocabulary.id FROM VocabularySetItem i "
+                    + "WHERE i.vocabularySet.id = :setId AND i.vocabulary.id IN :ids", UUID.class)
+                    .setParameter("setId", setId)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+            found.addAll(entityManager.createQuery("SELECT v.id FROM Vocabulary v WHERE v.id IN :ids", UUID.class)
+                    .setParameter("ids", chunk)
+                    .getResultList());
+        }
+
+        Integer maxOrder = springDataVocabularySetItemRepository.findMaxDisplayOrderBySetId(setId);
+        int nextOrder = (maxOrder != null ? maxOrder : 0) + 1;
+        VocabularySet vocabularySet = entityManager.getReference(VocabularySet.class, setId);
+        List<UUID> missing = new ArrayList<>();
+        int inserted = 0;
+        for (VocabularySetItem item : items) {
+            UUID vocabularyId = item.getVocabulary().getId();
+            if (!found.contains(vocabularyId)) {
+                missing.add(vocabularyId);
+                continue;
+            }
+            if (!existing.add(vocabularyId)) {
+                continue;
+            }
+            item.setVocabularySet(vocabularySet);
+            item.setVocabulary(entityManager.getReference(Vocabulary.class, vocabularyId));
+            if (item.getDisplayOrder() == null) {
+                item.setDisplayOrder(nextOrder++);
+            }
+            item.updateCustomDefinition(item.getCustomDefinition());
+            item.updateCustomExample(item.getCustomExample());
+            item.updateNotes(item.getNotes());
+            entityManager.persist(item);
+            inserted++;
+        }
+        return new BulkInsertResult(inserted, missing);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+
     @Override
     public void deleteAll(List<VocabularySetItem> vocabularySetItems) {
         springDataVocabularySetItemRepository.deleteAll(vocabularySetItems);
     }
 
+    @Override
+    public int deleteBySetIdAndVocabularyIds(UUID setId, Collection<UUID> vocabularyIds) {
+        List<UUID> ids = List.copyOf(vocabularyIds);
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            deleted += entityManager.createQuery("DELETE FROM VocabularySetItem i "
+                    + "WHERE i.vocabularySet.id = :setId AND i.vocabulary.id IN :ids")
+                    .setParameter("setId", setId)
+                    .setParameter("ids", ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size())))
+                    .executeUpdate();
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteAllBySetId(UUID setId) {
+        return entityManager.createQuery("DELETE FROM VocabularySetItem i WHERE i.vocabularySet.id = :setId")
+                .setParameter("setId", setId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteAllByVocabularyId(UUID vocabularyId) {
+        return entityManager.createQuery("DELETE FROM VocabularySetItem i WHERE i.vocabulary.id = :vocabularyId")
+                .setParameter("vocabularyId", vocabularyId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UUID> findSetIdsByVocabularyId(UUID vocabularyId) {
+        return entityManager.createQuery("SELECT DISTINCT i.vocabularySet.id FROM VocabularySetItem i "
+                + "WHERE i.vocabulary.id = :vocabularyId", UUID.class)
+                .setParameter("vocabularyId", vocabularyId)
+                .getResultList();
+    }
+
     @Override
     public void deleteAll() {
         springDataVocabularySetItemRepository.deleteAll();
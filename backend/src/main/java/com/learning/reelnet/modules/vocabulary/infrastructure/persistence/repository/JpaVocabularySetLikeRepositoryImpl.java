@@ -0,0 +1,77 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetLike;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetLikeRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaVocabularySetLikeRepositoryImpl implements VocabularySetLikeRepository {
+    // Hai request chèn cùng lúc: ràng buộc unique bỏ qua dòng thứ hai thay vì báo lỗi
+    private static final String INSERT_IF_ABSENT_SQL = """
+            INSERT INTO vocabulary_set_like (id, vocabulary_set_id, user_id,
+                    created_at, created_by, updated_at, updated_by, version, deleted)
+            VALUES (gen_random_uuid(), ?, ?, ?, ?, ?, ?, 0, false)
+            ON CONFLICT (vocabulary_set_id, user_id) DO NOTHING
+            """;
+
+    private final SpringDataVocabularySetLikeRepository springDataVocabularySetLikeRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final AuditorAware<String> auditorAware;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public void save(VocabularySetLike like) {
+        springDataVocabularySetLikeRepository.save(like);
+    }
+
+    @Override
+    public boolean insertIfAbsent(UUID setId, String userId) {
+        if (!isPostgres()) {
+            // Đường dự phòng cho H2 khi test, không an toàn khi chèn đồng thời
+            if (existsBySetIdAndUserId(setId, userId)) {
+                return false;
+            }
+            save(VocabularySetLike.builder().vocabularySetId(setId).userId(userId).build());
+            return true;
+        }
+        // Các thay đổi JPA đang chờ phải xuống DB trước câu lệnh JDBC
+        entityManager.flush();
+        String auditor = auditorAware.getCurrentAuditor().orElse("system");
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(INSERT_IF_ABSENT_SQL, setId, userId, now, auditor, now, auditor) > 0;
+    }
+
+    @Override
+    public int deleteBySetIdAndUserId(UUID setId, String userId) {
+        return springDataVocabularySetLikeRepository.deleteBySetIdAndUserId(setId, userId);
+    }
+
+    @Override
+    public boolean existsBySetIdAndUserId(UUID setId, String userId) {
+        return springDataVocabularySetLikeRepository.existsByVocabularySetIdAndUserId(setId, userId);
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
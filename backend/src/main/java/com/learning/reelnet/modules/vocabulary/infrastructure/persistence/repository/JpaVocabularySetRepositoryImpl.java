@@ -1,5 +1,6 @@
 package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -7,17 +8,20 @@ import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Repository;
 
 import com.learning.reelnet.common.api.query.FilterParams;
 import com.learning.reelnet.common.api.query.QueryParams;
 import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.common.api.query.utils.KeysetPaginator;
 import com.learning.reelnet.common.api.query.utils.SpecificationFactory;
 // import com.learning.reelnet.common.api.query.annotation.QueryParam;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetRepository;
 
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 
 @Repository
@@ -25,6 +29,7 @@ import lombok.AllArgsConstructor;
 public class JpaVocabularySetRepositoryImpl implements VocabularySetRepository {
     // Implement the methods defined in the VocabularySetRepository interface here
     private final SpringDataVocabularySetRepository springDataRepository;
+    private final EntityManager entityManager;
 
     @Override
     public List<VocabularySet> findByCriteria(String criteria) {
@@ -39,6 +44,16 @@ public class JpaVocabularySetRepositoryImpl implements VocabularySetRepository {
         return springDataRepository.findById(id).orElse(null); // Implemented method to find by ID
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return springDataRepository.existsById(id);
+    }
+
+    @Override
+    public List<VocabularySet> findAllById(Collection<UUID> ids) {
+        return springDataRepository.findAllById(ids);
+    }
+
     /*
      * * ?Tìm kiếm theo độ khó
      */
@@ -55,7 +70,12 @@ public class JpaVocabularySetRepositoryImpl implements VocabularySetRepository {
     @Override
     public Page<VocabularySet> findAll(QueryParams queryParam, FilterParams filterParams, SearchParams searchParams) {
         // 1. Xây dựng Specification từ filterParams và searchParams
-        Specification<VocabularySet> spec = SpecificationFactory.buildSpecification(filterParams, searchParams);
+        Specification<VocabularySet> spec = SpecificationFactory.buildSpecification(VocabularySet.class, filterParams,
+                searchParams);
+        if (queryParam.isRelevanceSort()) {
+            // Sắp xếp theo độ liên quan (ts_rank trên PostgreSQL)
+            spec = spec.and(SpecificationFactory.buildRelevanceOrder(VocabularySet.class, filterParams, searchParams));
+        }
 
         // 2. Chuyển QueryParam thành Pageable
         Pageable pageable = queryParam.toPageable();
@@ -70,9 +90,14 @@ public class JpaVocabularySetRepositoryImpl implements VocabularySetRepository {
         }
     }
 
-    /**
-     * Tạo Specification từ FilterParams và SearchParams
-     */
+    @Override
+    public Slice<VocabularySet> findAllByCursor(QueryParams queryParam, FilterParams filterParams,
+            SearchParams searchParams) {
+        // Seek theo (sortBy, id) thay vì OFFSET, không chạy truy vấn đếm
+        Specification<VocabularySet> spec = SpecificationFactory.buildSpecification(VocabularySet.class, filterParams,
+                searchParams);
+        return KeysetPaginator.findSlice(entityManager, VocabularySet.class, spec, queryParam);
+    }
 
     @Override
     public List<VocabularySet> findByUserId(String userId) {
@@ -0,0 +1,215 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import com.learning.reelnet.common.api.query.FilterParams;
+import com.learning.reelnet.common.api.query.QueryParams;
+import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.common.api.query.utils.KeysetPaginator;
+import com.learning.reelnet.common.api.query.utils.ProjectionQuery;
+import com.learning.reelnet.common.api.query.utils.SpecificationFactory;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetSummaryRepository;
+
+import jakarta.persistence.EntityManager;
+
+@Repository
+public class JpaVocabularySetSummaryRepositoryImpl implements VocabularySetSummaryRepository {
+
+    private final SpringDataVocabularySetSummaryRepository springDataRepository;
+    private final EntityManager entityManager;
+    private final int previewSize;
+
+    public JpaVocabularySetSummaryRepositoryImpl(SpringDataVocabularySetSummaryRepository springDataRepository,
+            EntityManager entityManager, @Value("${app.vocabulary.summary.preview-size:5}") int previewSize) {
+        this.springDataRepository = springDataRepository;
+        this.entityManager = entityManager;
+        this.previewSize = previewSize;
+    }
+
+    @Override
+    public Page<VocabularySetSummaryView> findAll(QueryParams queryParam, FilterParams filterParams,
+            SearchParams searchParams) {
+        Specification<VocabularySetSummary> spec = SpecificationFactory.buildSpecification(
+                VocabularySetSummary.class, filterParams, searchParams);
+        if (queryParam.isRelevanceSort()) {
+            spec = spec.and(SpecificationFactory.buildRelevanceOrder(VocabularySetSummary.class, filterParams,
+                    searchParams));
+        }
+
+        Pageable pageable = queryParam.toPageable();
+        Page<VocabularySetSummaryView> result = ProjectionQuery.findPage(entityManager, VocabularySetSummary.class,
+                spec, pageable, VocabularySetSummaryView.class);
+        if (pageable.isPaged()) {
+            queryParam.updatePaginationInfo(result.getTotalElements());
+        }
+        return result;
+    }
+
+    @Override
+    public Slice<VocabularySetSummaryView> findAllByCursor(QueryParams queryParam, FilterParams filterParams,
+            SearchParams searchParams) {
+        Specification<VocabularySetSummary> spec = SpecificationFactory.buildSpecification(
+                VocabularySetSummary.class, filterParams, searchParams);
+        return KeysetPaginator.findSlice(entityManager, VocabularySetSummary.class, spec, queryParam,
+                VocabularySetSummaryView.class);
+    }
+
+    @Override
+    public List<VocabularySetSummaryView> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Specification<VocabularySetSummary> spec = (root, query, cb) -> root.get("id").in(ids);
+        return ProjectionQuery.findList(entityManager, VocabularySetSummary.class, spec, Pageable.unpaged(),
+                VocabularySetSummaryView.class);
+    }
+
+    @Override
+    public List<VocabularySetSummaryView> findByCreatedBy(String userId) {
+        Specification<VocabularySetSummary> spec = (root, query, cb) -> cb.equal(root.get("createdBy"), userId);
+        return ProjectionQuery.findList(entityManager, VocabularySetSummary.class, spec, Pageable.unpaged(),
+                VocabularySetSummaryView.class);
+    }
+
+    @Override
+    public long count() {
+        return springDataRepository.count();
+    }
+
+    @Override
+    public void refresh(Collection<UUID> setIds) {
+        if (setIds.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(setIds));
+
+        Map<UUID, VocabularySet> sets = entityManager.createQuery(
+                "SELECT s FROM VocabularySet s WHERE s.id IN :ids", VocabularySet.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(VocabularySet::getId, Function.identity()));
+
+        // Đếm theo nhóm cho cả phần, không nạp vocabularyItems của từng bộ
+        Map<UUID, Object[]> stats = new HashMap<>();
+        entityManager.createQuery("SELECT i.vocabularySet.id, COUNT(i), "
+                + "SUM(CASE WHEN i.mastered = true THEN 1 ELSE 0 END), MAX(i.updatedAt) "
+                + "FROM VocabularySetItem i WHERE i.vocabularySet.id IN :ids GROUP BY i.vocabularySet.id",
+                Object[].class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> stats.put((UUID) row[0], row));
+
+        Map<UUID, VocabularySetSummary> existing = springDataRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(VocabularySetSummary::getId, Function.identity()));
+
+        for (UUID id : ids) {
+            VocabularySet set = sets.get(id);
+            VocabularySetSummary summary = existing.get(id);
+            if (set == null) {
+                if (summary != null) {
+                    entityManager.remove(summary);
+                }
+                continue;
+            }
+            boolean created = summary == null;
+            if (created) {
+                summary = new VocabularySetSummary(id);
+            }
+
+            Object[] row = stats.get(id);
+            int itemCount = row != null ? ((Number) row[1]).intValue() : 0;
+            LocalDateTime itemsModifiedAt = row != null ? (LocalDateTime) row[3] : null;
+
+            summary.setName(set.getName());
+            summary.setDescription(set.getDescription());
+            summary.setActive(set.isActive());
+            summary.setCreatedBy(set.getCreatedBy());
+            summary.setVisibility(set.getVisibility());
+            summary.setDifficultyLevel(set.getDifficultyLevel());
+            summary.setCategory(set.getCategory());
+            summary.setSystem(set.isSystem());
+            summary.setViewCount(set.getViewCount());
+            summary.setLikeCount(set.getLikeCount());
+            summary.setShareCount(set.getShareCount());
+            summary.setCreatedAt(set.getCreatedAt());
+            summary.setUpdatedAt(set.getUpdatedAt());
+            summary.setItemCount(itemCount);
+            summary.setMasteredCount(row != null && row[2] != null ? ((Number) row[2]).intValue() : 0);
+            summary.setPreviewHeadwords(itemCount > 0 ? previewHeadwords(id) : List.of());
+            summary.setLastModifiedAt(latest(set.getUpdatedAt(), itemsModifiedAt));
+            // Persist sau khi đã điền đủ: câu INSERT lấy trạng thái tại thời điểm persist
+            if (created) {
+                entityManager.persist(summary);
+            }
+        }
+    }
+
+    private List<String> previewHeadwords(UUID setId) {
+        return entityManager.createQuery("SELECT v.headword FROM VocabularySetItem i JOIN i.vocabulary v "
+                + "WHERE i.vocabularySet.id = :setId ORDER BY i.displayOrder ASC NULLS LAST, i.id", String.class)
+                .setParameter("setId", setId)
+                .setMaxResults(previewSize)
+                .getResultList();
+    }
+
+    private static LocalDateTime latest(LocalDateTime a, LocalDateTime b) {
+        if (a == null) {
+            return b;
+        }
+        return b != null && b.isAfter(a) ? b : a;
+    }
+
+    @Override
+    public void refreshCounters(Collection<UUID> setIds) {
+        if (setIds.isEmpty()) {
+            return;
+        }
+        // Chép giá trị đã ghi thay vì cộng delta, nên chạy lại hay chạy đồng thời với refresh vẫn đúng
+        entityManager.createQuery("UPDATE VocabularySetSummary s SET "
+                + "s.viewCount = (SELECT v.viewCount FROM VocabularySet v WHERE v.id = s.id), "
+                + "s.likeCount = (SELECT v.likeCount FROM VocabularySet v WHERE v.id = s.id), "
+                + "s.shareCount = (SELECT v.shareCount FROM VocabularySet v WHERE v.id = s.id) "
+                + "WHERE s.id IN :ids")
+                .setParameter("ids", setIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UUID> findSetIdsAfter(UUID after, int limit) {
+        if (after == null) {
+            return entityManager.createQuery("SELECT s.id FROM VocabularySet s ORDER BY s.id", UUID.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return entityManager.createQuery("SELECT s.id FROM VocabularySet s WHERE s.id > :after ORDER BY s.id",
+                UUID.class)
+                .setParameter("after", after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteOrphans() {
+        return entityManager.createQuery("DELETE FROM VocabularySetSummary s WHERE NOT EXISTS "
+                + "(SELECT 1 FROM VocabularySet v WHERE v.id = s.id)")
+                .executeUpdate();
+    }
+}
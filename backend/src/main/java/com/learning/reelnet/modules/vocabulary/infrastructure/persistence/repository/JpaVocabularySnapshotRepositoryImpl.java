@@ -0,0 +1,121 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySnapshot;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySnapshotRepository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class JpaVocabularySnapshotRepositoryImpl implements VocabularySnapshotRepository {
+    // Một câu lệnh: hai lần ghi đồng thời không thể cùng chèn, và bản cũ hơn không ghi đè bản mới
+    private static final String UPSERT_SQL = """
+            INSERT INTO vocabulary_snapshot (id, vocabulary_version, snapshot, built_at)
+            VALUES (?, ?, CAST(? AS jsonb), ?)
+            ON CONFLICT (id) DO UPDATE SET vocabulary_version = excluded.vocabulary_version,
+                    snapshot = excluded.snapshot, built_at = excluded.built_at
+            WHERE vocabulary_snapshot.vocabulary_version <= excluded.vocabulary_version
+            """;
+
+    private final SpringDataVocabularySnapshotRepository springDataRepository;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public String findSnapshotById(UUID vocabularyId) {
+        return entityManager.createQuery("SELECT s.snapshot FROM VocabularySnapshot s WHERE s.id = :id",
+                String.class)
+                .setParameter("id", vocabularyId)
+                .getResultStream()
+                .findFirst()
+                .orElse(null);
+    }
+
+    @Override
+    public long count() {
+        return springDataRepository.count();
+    }
+
+    @Override
+    public void save(UUID vocabularyId, long version, String snapshot) {
+        LocalDateTime now = LocalDateTime.now();
+        if (isPostgres()) {
+            // Các thay đổi JPA đang chờ (ví dụ dòng vocabulary mới) phải xuống DB trước câu lệnh JDBC
+            entityManager.flush();
+            jdbcTemplate.update(UPSERT_SQL, vocabularyId, version, snapshot, Timestamp.valueOf(now));
+            return;
+        }
+
+        // Đường dự phòng cho H2 khi test: UPDATE có điều kiện rồi mới chèn, không an toàn khi ghi đồng thời
+        int updated = entityManager.createQuery("UPDATE VocabularySnapshot s SET s.vocabularyVersion = :version, "
+                + "s.snapshot = :snapshot, s.builtAt = :now WHERE s.id = :id AND s.vocabularyVersion <= :version")
+                .setParameter("version", version)
+                .setParameter("snapshot", snapshot)
+                .setParameter("now", now)
+                .setParameter("id", vocabularyId)
+                .executeUpdate();
+        if (updated > 0 || springDataRepository.existsById(vocabularyId)) {
+            return;
+        }
+
+        VocabularySnapshot created = new VocabularySnapshot(vocabularyId);
+        created.setVocabularyVersion(version);
+        created.setSnapshot(snapshot);
+        created.setBuiltAt(now);
+        entityManager.persist(created);
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> vocabularyIds) {
+        if (vocabularyIds.isEmpty()) {
+            return;
+        }
+        entityManager.createQuery("DELETE FROM VocabularySnapshot s WHERE s.id IN :ids")
+                .setParameter("ids", vocabularyIds)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<UUID> findVocabularyIdsAfter(UUID after, int limit) {
+        if (after == null) {
+            return entityManager.createQuery("SELECT v.id FROM Vocabulary v ORDER BY v.id", UUID.class)
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        return entityManager.createQuery("SELECT v.id FROM Vocabulary v WHERE v.id > :after ORDER BY v.id",
+                UUID.class)
+                .setParameter("after", after)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteOrphans() {
+        return entityManager.createQuery("DELETE FROM VocabularySnapshot s WHERE NOT EXISTS "
+                + "(SELECT 1 FROM Vocabulary v WHERE v.id = s.id)")
+                .executeUpdate();
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            result = "PostgreSQL".equalsIgnoreCase(jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()));
+            postgres = result;
+        }
+        return result;
+    }
+}
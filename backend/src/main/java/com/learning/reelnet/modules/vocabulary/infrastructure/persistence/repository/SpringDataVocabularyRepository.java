@@ -1,15 +1,39 @@
 package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
 
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface SpringDataVocabularyRepository extends JpaRepository<Vocabulary, UUID>, JpaSpecificationExecutor<Vocabulary> {
     // This interface extends other repositories to combine their functionalities.
-    // No additional methods are needed here as it serves as a marker interface.
-    
+
+    /**
+     * Tìm vocabulary theo fetch plan chi tiết (senses được join cùng dòng)
+     */
+    @EntityGraph(Vocabulary.DETAIL_GRAPH)
+    Optional<Vocabulary> findDetailById(UUID id);
+
+    /**
+     * Đọc lần lượt headword của toàn bộ từ vựng mà không nạp entity.
+     * Phải được gọi trong transaction và đóng stream sau khi dùng.
+     */
+    @Query("select v.id as id, v.headword as headword, v.viewCount as viewCount, "
+            + "v.difficultyScore as difficultyScore from Vocabulary v")
+    @QueryHints({
+            @QueryHint(name = AvailableHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<VocabularyHeadwordView> streamHeadwords();
 }
@@ -0,0 +1,23 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetLike;
+
+@Repository
+public interface SpringDataVocabularySetLikeRepository extends JpaRepository<VocabularySetLike, UUID> {
+
+    /*
+     * * Delete the like of a user on a set without loading it.
+     */
+    @Modifying
+    @Query("DELETE FROM VocabularySetLike l WHERE l.vocabularySetId = ?1 AND l.userId = ?2")
+    int deleteBySetIdAndUserId(UUID setId, String userId);
+
+    boolean existsByVocabularySetIdAndUserId(UUID setId, String userId);
+}
@@ -3,12 +3,14 @@ package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repos
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +18,8 @@ import org.springframework.transaction.annotation.Transactional;
 import com.learning.reelnet.common.api.query.utils.QuerySpecificationRepository;
 import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Spring Data JPA Repository
  * Chỉ chứa các query methods đơn giản
@@ -54,7 +58,11 @@ public interface SpringDataVocabularySetRepository extends QuerySpecificationRep
 
         /*
          * * Tìm kiếm theo category
+         * Danh mục là tập cố định nên kết quả được giữ trong query cache
          */
+        @QueryHints({
+                        @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+                        @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = VocabularySet.CATEGORY_QUERY_REGION) })
         @Query("SELECT vs FROM VocabularySet vs WHERE vs.category = :category")
         List<VocabularySet> findByCategory(VocabularySet.Category category);
 
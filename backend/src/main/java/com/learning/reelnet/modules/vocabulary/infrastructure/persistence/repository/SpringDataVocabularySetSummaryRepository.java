@@ -0,0 +1,16 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Repository;
+
+import com.learning.reelnet.common.api.query.utils.QuerySpecificationRepository;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummary;
+
+/**
+ * Spring Data JPA Repository cho read model VocabularySetSummary
+ */
+@Repository
+public interface SpringDataVocabularySetSummaryRepository
+        extends QuerySpecificationRepository<VocabularySetSummary, UUID> {
+}
@@ -0,0 +1,15 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySnapshot;
+
+/**
+ * Spring Data JPA Repository cho read model VocabularySnapshot
+ */
+@Repository
+public interface SpringDataVocabularySnapshotRepository extends JpaRepository<VocabularySnapshot, UUID> {
+}
@@ -0,0 +1,16 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository;
+
+import java.util.UUID;
+
+/**
+ * Projection chỉ gồm các cột cần cho index gợi ý từ
+ */
+public interface VocabularyHeadwordView {
+    UUID getId();
+
+    String getHeadword();
+
+    Long getViewCount();
+
+    Integer getDifficultyScore();
+}
@@ -0,0 +1,64 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.ranking;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node popularity rankings used in development, where Redis is not
+ * available. Reads sort the whole ranking, which is fine for small data sets.
+ */
+@Component
+@Profile("dev")
+public class InMemoryPopularityRanking implements PopularityRanking {
+
+    private final Map<String, Map<UUID, Double>> rankings = new ConcurrentHashMap<>();
+
+    @Override
+    public void increment(Collection<String> keys, UUID setId, double amount) {
+        keys.forEach(key -> rankings.computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .merge(setId, Math.max(amount, 0.0), (score, added) -> Math.max(score + amount, 0.0)));
+    }
+
+    @Override
+    public Double score(String key, UUID setId) {
+        Map<UUID, Double> ranking = rankings.get(key);
+        return ranking != null ? ranking.get(setId) : null;
+    }
+
+    @Override
+    public void remove(Collection<String> keys, UUID setId) {
+        keys.forEach(key -> {
+            Map<UUID, Double> ranking = rankings.get(key);
+            if (ranking != null) {
+                ranking.remove(setId);
+            }
+        });
+    }
+
+    @Override
+    public List<UUID> top(String key, long offset, int limit) {
+        Map<UUID, Double> ranking = rankings.get(key);
+        if (ranking == null) {
+            return List.of();
+        }
+        return ranking.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Double>comparingByValue(Comparator.reverseOrder()))
+                .skip(offset)
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    @Override
+    public long size(String key) {
+        Map<UUID, Double> ranking = rankings.get(key);
+        return ranking != null ? ranking.size() : 0L;
+    }
+}
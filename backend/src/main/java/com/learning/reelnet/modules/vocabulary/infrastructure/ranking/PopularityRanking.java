@@ -0,0 +1,57 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.ranking;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Sorted score sets holding the popularity of vocabulary sets, one set per
+ * ranking key (all sets, per category, per difficulty, ...).
+ */
+public interface PopularityRanking {
+
+    /**
+     * Add to a member's score in each of the given rankings. Scores never go
+     * below zero: a negative amount larger than the score leaves it at zero.
+     *
+     * @param keys Ranking keys
+     * @param setId Vocabulary set id
+     * @param amount Amount to add, may be negative
+     */
+    void increment(Collection<String> keys, UUID setId, double amount);
+
+    /**
+     * Get a member's score.
+     *
+     * @param key Ranking key
+     * @param setId Vocabulary set id
+     * @return Score, or null if not ranked
+     */
+    Double score(String key, UUID setId);
+
+    /**
+     * Remove a member from the given rankings.
+     *
+     * @param keys Ranking keys
+     * @param setId Vocabulary set id
+     */
+    void remove(Collection<String> keys, UUID setId);
+
+    /**
+     * Get members by descending score.
+     *
+     * @param key Ranking key
+     * @param offset Index of the first member
+     * @param limit Maximum number of members
+     * @return Ids, highest score first
+     */
+    List<UUID> top(String key, long offset, int limit);
+
+    /**
+     * Get the number of members of a ranking.
+     *
+     * @param key Ranking key
+     * @return Member count
+     */
+    long size(String key);
+}
@@ -0,0 +1,84 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.ranking;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Popularity rankings kept in Redis sorted sets, shared by all nodes.
+ * Updates for several keys are sent in one pipeline; decrements run as one
+ * script so the clamp at zero is atomic.
+ */
+@Component
+@Profile("!dev")
+public class RedisPopularityRanking implements PopularityRanking {
+
+    private static final String KEY_PREFIX = "reelnet:popularity:";
+
+    private static final RedisScript<Long> DECREMENT_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                if tonumber(redis.call('ZINCRBY', key, ARGV[1], ARGV[2])) < 0 then
+                    redis.call('ZADD', key, 0, ARGV[2])
+                end
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisPopularityRanking(RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @Override
+    public void increment(Collection<String> keys, UUID setId, double amount) {
+        String member = setId.toString();
+        if (amount < 0) {
+            redisTemplate.execute(DECREMENT_SCRIPT, keys.stream().map(key -> KEY_PREFIX + key).toList(),
+                    Double.toString(amount), member);
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keys.forEach(key -> stringConnection.zIncrBy(KEY_PREFIX + key, amount, member));
+            return null;
+        });
+    }
+
+    @Override
+    public Double score(String key, UUID setId) {
+        return redisTemplate.opsForZSet().score(KEY_PREFIX + key, setId.toString());
+    }
+
+    @Override
+    public void remove(Collection<String> keys, UUID setId) {
+        String member = setId.toString();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keys.forEach(key -> stringConnection.zRem(KEY_PREFIX + key, member));
+            return null;
+        });
+    }
+
+    @Override
+    public List<UUID> top(String key, long offset, int limit) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(KEY_PREFIX + key, offset, offset + limit - 1);
+        return members == null ? List.of() : members.stream().map(UUID::fromString).toList();
+    }
+
+    @Override
+    public long size(String key) {
+        Long size = redisTemplate.opsForZSet().zCard(KEY_PREFIX + key);
+        return size != null ? size : 0L;
+    }
+}
@@ -0,0 +1,363 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over vocabulary headwords returning the top-K
+ * completions by score.
+ * <p>
+ * The bulk of the entries lives in an immutable snapshot of parallel primitive
+ * arrays sorted by normalized headword. A prefix maps to a contiguous range
+ * found by binary search, and a max segment tree over the scores yields the
+ * best K entries of that range in O(K log n) without touching the rest.
+ * <p>
+ * Inserts go to a small sorted delta map and deletes to a tombstone set, both
+ * merged at query time. Once they grow past a threshold they are compacted
+ * into a new snapshot. Reads are lock-free; writes are serialized.
+ */
+public class HeadwordSuggestionIndex {
+
+    /**
+     * One completion
+     */
+    public static final class Suggestion {
+        private final UUID id;
+        private final String headword;
+        private final long score;
+
+        public Suggestion(UUID id, String headword, long score) {
+            this.id = id;
+            this.headword = headword;
+            this.score = score;
+        }
+
+        public UUID getId() {
+            return id;
+        }
+
+        public String getHeadword() {
+            return headword;
+        }
+
+        public long getScore() {
+            return score;
+        }
+    }
+
+    private static final Comparator<Suggestion> BY_RANK = Comparator
+            .comparingLong(Suggestion::getScore).reversed()
+            .thenComparingInt(s -> s.getHeadword().length())
+            .thenComparing(Suggestion::getHeadword);
+
+    private final int compactionThreshold;
+
+    // Replaced as a whole on compaction so readers always see a consistent view
+    private volatile State state = new State(Snapshot.EMPTY);
+
+    public HeadwordSuggestionIndex(int compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Combine popularity and difficulty into one sortable score: more views
+     * first, then easier words.
+     *
+     * @param viewCount Number of views, may be null
+     * @param difficultyScore Difficulty, lower is easier, may be null
+     * @return Score, higher ranks first
+     */
+    public static long score(Long viewCount, Integer difficultyScore) {
+        long views = viewCount != null ? Math.max(0L, Math.min(viewCount, Long.MAX_VALUE >> 8)) : 0L;
+        int difficulty = difficultyScore != null ? Math.max(0, Math.min(difficultyScore, 255)) : 255;
+        return (views << 8) | (255 - difficulty);
+    }
+
+    /**
+     * Replace the whole index with the given entries.
+     *
+     * @param entries All entries
+     */
+    public synchronized void load(List<Suggestion> entries) {
+        state = new State(Snapshot.of(entries));
+    }
+
+    /**
+     * Add an entry or replace the entry with the same id.
+     *
+     * @param id Vocabulary id
+     * @param headword Headword
+     * @param score Score from {@link #score(Long, Integer)}
+     */
+    public synchronized void put(UUID id, String headword, long score) {
+        State current = state;
+        removeFrom(current, id);
+        Suggestion suggestion = new Suggestion(id, headword, score);
+        String key = deltaKey(normalize(headword), id);
+        current.delta.put(key, suggestion);
+        current.deltaKeys.put(id, key);
+        compactIfNeeded(current);
+    }
+
+    /**
+     * Remove the entry with the given id, if present.
+     *
+     * @param id Vocabulary id
+     */
+    public synchronized void remove(UUID id) {
+        State current = state;
+        removeFrom(current, id);
+        compactIfNeeded(current);
+    }
+
+    /**
+     * Return the best completions for a prefix.
+     *
+     * @param prefix Typed prefix, case-insensitive
+     * @param limit Maximum number of completions
+     * @return Completions, best first
+     */
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        State current = state;
+        Snapshot snapshot = current.snapshot;
+        List<Suggestion> candidates = new ArrayList<>(limit * 2);
+
+        // Best entries of the snapshot range, skipping deleted ones
+        int from = snapshot.lowerBound(key);
+        int to = snapshot.lowerBound(key + Character.MAX_VALUE);
+        if (from < to) {
+            PriorityQueue<int[]> ranges = new PriorityQueue<>(
+                    (a, b) -> Long.compare(snapshot.scores[b[2]], snapshot.scores[a[2]]));
+            ranges.add(new int[] { from, to, snapshot.argMax(from, to) });
+            int taken = 0;
+            while (!ranges.isEmpty() && taken < limit) {
+                int[] range = ranges.poll();
+                int best = range[2];
+                if (!current.tombstones.contains(snapshot.idAt(best))) {
+                    candidates.add(snapshot.suggestionAt(best));
+                    taken++;
+                }
+                if (range[0] < best) {
+                    ranges.add(new int[] { range[0], best, snapshot.argMax(range[0], best) });
+                }
+                if (best + 1 < range[1]) {
+                    ranges.add(new int[] { best + 1, range[1], snapshot.argMax(best + 1, range[1]) });
+                }
+            }
+        }
+
+        // Recent inserts; the delta is small, so scan its range
+        candidates.addAll(current.delta.subMap(key, key + Character.MAX_VALUE).values());
+
+        candidates.sort(BY_RANK);
+        return candidates.size() > limit ? new ArrayList<>(candidates.subList(0, limit)) : candidates;
+    }
+
+    /**
+     * Get the number of live entries.
+     *
+     * @return Entry count
+     */
+    public int size() {
+        State current = state;
+        return current.snapshot.size() - current.tombstones.size() + current.delta.size();
+    }
+
+    private void removeFrom(State current, UUID id) {
+        String key = current.deltaKeys.remove(id);
+        if (key != null) {
+            current.delta.remove(key);
+        }
+        if (current.snapshot.contains(id)) {
+            current.tombstones.add(id);
+        }
+    }
+
+    private void compactIfNeeded(State current) {
+        if (current.delta.size() + current.tombstones.size() < compactionThreshold) {
+            return;
+        }
+        List<Suggestion> entries = new ArrayList<>(current.snapshot.size() + current.delta.size());
+        for (int i = 0; i < current.snapshot.size(); i++) {
+            if (!current.tombstones.contains(current.snapshot.idAt(i))) {
+                entries.add(current.snapshot.suggestionAt(i));
+            }
+        }
+        entries.addAll(current.delta.values());
+        state = new State(Snapshot.of(entries));
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String deltaKey(String normalized, UUID id) {
+        // Headwords are unique, but normalized forms may collide
+        return normalized + '\u0000' + id;
+    }
+
+    /**
+     * Snapshot plus the changes made since it was built
+     */
+    private static final class State {
+        final Snapshot snapshot;
+        final ConcurrentSkipListMap<String, Suggestion> delta = new ConcurrentSkipListMap<>();
+        final Map<UUID, String> deltaKeys = new ConcurrentHashMap<>();
+        final Set<UUID> tombstones = ConcurrentHashMap.newKeySet();
+
+        State(Snapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+
+    /**
+     * Immutable sorted entries with a max segment tree over their scores
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = of(List.of());
+
+        final String[] keys;
+        final String[] headwords;
+        final long[] idHigh;
+        final long[] idLow;
+        final long[] scores;
+        // tree[n + i] = i; tree[p] = index of the higher score of its children
+        final int[] tree;
+        final Set<UUID> ids;
+
+        private Snapshot(String[] keys, String[] headwords, long[] idHigh, long[] idLow, long[] scores) {
+            this.keys = keys;
+            this.headwords = headwords;
+            this.idHigh = idHigh;
+            this.idLow = idLow;
+            this.scores = scores;
+
+            int n = keys.length;
+            this.tree = new int[Math.max(2 * n, 1)];
+            for (int i = 0; i < n; i++) {
+                tree[n + i] = i;
+            }
+            for (int p = n - 1; p > 0; p--) {
+                tree[p] = better(tree[2 * p], tree[2 * p + 1]);
+            }
+
+            Set<UUID> idSet = new HashSet<>(n * 2);
+            for (int i = 0; i < n; i++) {
+                idSet.add(new UUID(idHigh[i], idLow[i]));
+            }
+            this.ids = idSet;
+        }
+
+        static Snapshot of(List<Suggestion> entries) {
+            // Keep the last entry per id so a reload never yields duplicates
+            Map<UUID, Suggestion> unique = new HashMap<>(entries.size() * 2);
+            for (Suggestion entry : entries) {
+                unique.put(entry.getId(), entry);
+            }
+            Suggestion[] sorted = unique.values().toArray(new Suggestion[0]);
+            String[] keys = new String[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                keys[i] = normalize(sorted[i].getHeadword());
+            }
+            Integer[] order = new Integer[sorted.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparing((Integer i) -> keys[i]));
+
+            int n = sorted.length;
+            String[] sortedKeys = new String[n];
+            String[] headwords = new String[n];
+            long[] idHigh = new long[n];
+            long[] idLow = new long[n];
+            long[] scores = new long[n];
+            for (int i = 0; i < n; i++) {
+                Suggestion entry = sorted[order[i]];
+                sortedKeys[i] = keys[order[i]];
+                headwords[i] = entry.getHeadword();
+                idHigh[i] = entry.getId().getMostSignificantBits();
+                idLow[i] = entry.getId().getLeastSignificantBits();
+                scores[i] = entry.getScore();
+            }
+            return new Snapshot(sortedKeys, headwords, idHigh, idLow, scores);
+        }
+
+        int size() {
+            return keys.length;
+        }
+
+        boolean contains(UUID id) {
+            return ids.contains(id);
+        }
+
+        UUID idAt(int i) {
+            return new UUID(idHigh[i], idLow[i]);
+        }
+
+        Suggestion suggestionAt(int i) {
+            return new Suggestion(idAt(i), headwords[i], scores[i]);
+        }
+
+        /**
+         * First index whose key is not less than the given key
+         */
+        int lowerBound(String key) {
+            int lo = 0;
+            int hi = keys.length;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (keys[mid].compareTo(key) < 0) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        /**
+         * Index of the highest score in [from, to); the range must not be empty
+         */
+        int argMax(int from, int to) {
+            int n = keys.length;
+            int best = from;
+            for (int l = from + n, r = to + n; l < r; l >>= 1, r >>= 1) {
+                if ((l & 1) == 1) {
+                    best = better(best, tree[l++]);
+                }
+                if ((r & 1) == 1) {
+                    best = better(best, tree[--r]);
+                }
+            }
+            return best;
+        }
+
+        private int better(int a, int b) {
+            if (scores[a] != scores[b]) {
+                return scores[a] > scores[b] ? a : b;
+            }
+            // Ties go to the shorter, then alphabetically first headword
+            if (keys[a].length() != keys[b].length()) {
+                return keys[a].length() < keys[b].length() ? a : b;
+            }
+            return Math.min(a, b);
+        }
+    }
+}
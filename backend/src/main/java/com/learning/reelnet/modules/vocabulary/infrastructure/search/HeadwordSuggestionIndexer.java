@@ -0,0 +1,156 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.common.infrastructure.concurrent.ExecutorConfig;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository.SpringDataVocabularyRepository;
+import com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository.VocabularyHeadwordView;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Owns the {@link HeadwordSuggestionIndex}: builds it once the application is
+ * ready by streaming all headwords, then keeps it current from
+ * {@link VocabularySuggestionListener}.
+ * <p>
+ * Changes arriving while the initial build is running are queued and replayed
+ * on top of it, so none are lost to the snapshot replacing the index. After
+ * that, changes are applied in order by one task at a time on the IO executor,
+ * so neither the write nor a compaction it triggers runs on the committing
+ * request thread.
+ */
+@Slf4j
+@Component
+public class HeadwordSuggestionIndexer {
+
+    private final SpringDataVocabularyRepository vocabularyRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final HeadwordSuggestionIndex index;
+    private final Executor executor;
+
+    private final List<Runnable> pendingChanges = new ArrayList<>();
+    private boolean loaded;
+
+    private final Queue<Runnable> changes = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    public HeadwordSuggestionIndexer(SpringDataVocabularyRepository vocabularyRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier(ExecutorConfig.IO_EXECUTOR) Executor executor,
+            @Value("${app.vocabulary.suggest.compaction-threshold:4096}") int compactionThreshold) {
+        this.vocabularyRepository = vocabularyRepository;
+        this.executor = executor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new HeadwordSuggestionIndex(compactionThreshold);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long start = System.nanoTime();
+        try {
+            List<HeadwordSuggestionIndex.Suggestion> entries = readOnlyTransaction.execute(status -> {
+                List<HeadwordSuggestionIndex.Suggestion> result = new ArrayList<>();
+                try (Stream<VocabularyHeadwordView> rows = vocabularyRepository.streamHeadwords()) {
+                    rows.forEach(row -> result.add(new HeadwordSuggestionIndex.Suggestion(row.getId(),
+                            row.getHeadword(),
+                            HeadwordSuggestionIndex.score(row.getViewCount(), row.getDifficultyScore()))));
+                }
+                return result;
+            });
+            index.load(entries);
+        } catch (Exception e) {
+            log.warn("Could not build headword suggestion index, starting empty: {}", e.getMessage());
+        }
+
+        synchronized (pendingChanges) {
+            pendingChanges.forEach(Runnable::run);
+            pendingChanges.clear();
+            loaded = true;
+        }
+        log.info("Headword suggestion index built with {} entries in {} ms", index.size(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Return the best completions for a prefix.
+     *
+     * @param prefix Typed prefix
+     * @param limit Maximum number of completions
+     * @return Completions, best first
+     */
+    public List<HeadwordSuggestionIndex.Suggestion> suggest(String prefix, int limit) {
+        return index.suggest(prefix, limit);
+    }
+
+    /**
+     * Index a created or updated vocabulary.
+     *
+     * @param vocabulary Saved vocabulary
+     */
+    public void indexed(Vocabulary vocabulary) {
+        UUID id = vocabulary.getId();
+        String headword = vocabulary.getHeadword();
+        long score = HeadwordSuggestionIndex.score(vocabulary.getViewCount(), vocabulary.getDifficultyScore());
+        apply(() -> index.put(id, headword, score));
+    }
+
+    /**
+     * Drop a deleted vocabulary from the index.
+     *
+     * @param id Vocabulary id
+     */
+    public void removed(UUID id) {
+        apply(() -> index.remove(id));
+    }
+
+    private void apply(Runnable change) {
+        synchronized (pendingChanges) {
+            if (!loaded) {
+                pendingChanges.add(change);
+                return;
+            }
+        }
+        changes.add(change);
+        drain();
+    }
+
+    // Một task xử lý hàng đợi tại một thời điểm để giữ thứ tự thay đổi
+    private void drain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        executor.execute(() -> {
+            try {
+                Runnable change;
+                while ((change = changes.poll()) != null) {
+                    change.run();
+                }
+            } catch (Exception e) {
+                log.warn("Could not update headword suggestion index: {}", e.getMessage());
+            } finally {
+                draining.set(false);
+                if (!changes.isEmpty()) {
+                    drain();
+                }
+            }
+        });
+    }
+}
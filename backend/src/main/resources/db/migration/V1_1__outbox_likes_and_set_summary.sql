@@ -0,0 +1,63 @@
+-- Tables added after the baseline: the event outbox, set likes and the set
+-- summary read model. Every statement is idempotent, so databases baselined
+-- at V1 from a ddl-auto schema get the tables they are missing, and running
+-- it where they already exist changes nothing.
+
+create sequence if not exists event_outbox_seq start with 1 increment by 50;
+
+create table if not exists event_outbox (
+    created_at timestamp(6) with time zone not null,
+    id bigint not null,
+    occurred_on timestamp(6) with time zone not null,
+    published_at timestamp(6) with time zone,
+    event_id varchar(64) not null,
+    aggregate_id varchar(255),
+    event_type varchar(255) not null,
+    payload TEXT not null,
+    primary key (id)
+);
+
+create table if not exists vocabulary_set_like (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_set_id uuid not null,
+    created_by varchar(255),
+    updated_by varchar(255),
+    user_id varchar(255) not null,
+    primary key (id),
+    unique (vocabulary_set_id, user_id)
+);
+
+create table if not exists vocabulary_set_summary (
+    is_active boolean,
+    is_system boolean,
+    item_count integer not null,
+    mastered_count integer not null,
+    created_at timestamp(6),
+    last_modified_at timestamp(6),
+    like_count bigint,
+    share_count bigint,
+    updated_at timestamp(6),
+    view_count bigint,
+    id UUID not null,
+    description varchar(1000),
+    category varchar(255) check (category in ('GENERAL','ACADEMIC','BUSINESS','TECHNOLOGY','MEDICAL','IELTS','TOEIC','TOEFL','TRAVEL','FOOD_AND_DRINK','SCIENCE','ARTS','SPORTS','ENTERTAINMENT','SOCIAL_MEDIA','CULTURE','HISTORY','GEOGRAPHY','LANGUAGE','PSYCHOLOGY','PHILOSOPHY','RELIGION','POLITICS','TECHNICAL','FINANCE','ENVIRONMENT','EDUCATION','DAILY_CONVERSATION','LITERATURE','MUSIC','OTHER')),
+    created_by varchar(255) not null,
+    difficulty_level varchar(255) check (difficulty_level in ('BEGINNER','INTERMEDIATE','ADVANCED','EXPERT')),
+    name varchar(255) not null,
+    visibility varchar(255) not null check (visibility in ('PRIVATE','UNLISTED','PUBLIC')),
+    preview_headwords jsonb,
+    primary key (id)
+);
+
+create index if not exists idx_event_outbox_published_at
+   on event_outbox (published_at, id);
+
+create index if not exists idx_vocabulary_set_summary_created_by
+   on vocabulary_set_summary (created_by);
+
+create index if not exists idx_vocabulary_set_summary_visibility_category
+   on vocabulary_set_summary (visibility, category);
@@ -0,0 +1,210 @@
+-- Baseline schema: the tables, constraints and indexes that Hibernate
+-- generates from the entity model as it was before the outbox, likes and
+-- set summary existed. Existing databases created by ddl-auto are marked as
+-- this version by baseline-on-migrate and skip it, so anything added later
+-- goes in V1_1 or after. Search vectors and query indexes are added in V2.
+
+create table antonym (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    created_by varchar(255),
+    note varchar(255),
+    updated_by varchar(255),
+    word varchar(255) not null,
+    primary key (id)
+);
+
+create table etymology (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    created_by varchar(255),
+    etymology_description varchar(255) not null,
+    origin_language varchar(255) not null,
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table example (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    sense_id UUID,
+    vocabulary_id UUID not null,
+    created_by varchar(255),
+    note TEXT not null,
+    sentence TEXT not null,
+    translation TEXT not null,
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table metadata (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    created_by varchar(255),
+    domain varchar(255),
+    frequency varchar(255),
+    region varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table sense (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    created_by varchar(255),
+    definition varchar(255) not null,
+    domain varchar(255),
+    geographical_usage varchar(255),
+    grammar varchar(255),
+    register varchar(255),
+    translation varchar(255) not null,
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table sense_register_labels (
+    sense_id UUID not null,
+    register_label varchar(255) check (register_label in ('FORMAL','INFORMAL','REGULAR','IRREGULAR','COLONIAL','NON_STANDARD'))
+);
+
+create table synonym (
+    deleted boolean not null,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    created_by varchar(255),
+    note varchar(255),
+    updated_by varchar(255),
+    word varchar(255) not null,
+    primary key (id)
+);
+
+create table vocabulary (
+    deleted boolean not null,
+    difficulty_score integer,
+    is_system boolean,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    view_count bigint,
+    id UUID not null,
+    created_by varchar(255),
+    headword varchar(255) not null unique,
+    meaning TEXT,
+    pos varchar(255) check (pos in ('NOUN','VERB','ADJECTIVE','ADVERB','PRONOUN','PREPOSITION','CONJUNCTION')),
+    pronunciation_uk varchar(255),
+    pronunciation_us varchar(255),
+    updated_by varchar(255),
+    primary key (id)
+);
+
+create table vocabulary_set (
+    deleted boolean not null,
+    is_active boolean,
+    is_system boolean,
+    created_at timestamp(6) not null,
+    like_count bigint,
+    share_count bigint,
+    updated_at timestamp(6),
+    version bigint,
+    view_count bigint,
+    id UUID not null,
+    description varchar(1000),
+    category varchar(255) check (category in ('GENERAL','ACADEMIC','BUSINESS','TECHNOLOGY','MEDICAL','IELTS','TOEIC','TOEFL','TRAVEL','FOOD_AND_DRINK','SCIENCE','ARTS','SPORTS','ENTERTAINMENT','SOCIAL_MEDIA','CULTURE','HISTORY','GEOGRAPHY','LANGUAGE','PSYCHOLOGY','PHILOSOPHY','RELIGION','POLITICS','TECHNICAL','FINANCE','ENVIRONMENT','EDUCATION','DAILY_CONVERSATION','LITERATURE','MUSIC','OTHER')),
+    created_by varchar(255),
+    difficulty_level varchar(255) check (difficulty_level in ('BEGINNER','INTERMEDIATE','ADVANCED','EXPERT')),
+    name varchar(255) not null,
+    updated_by varchar(255),
+    visibility varchar(255) not null check (visibility in ('PRIVATE','UNLISTED','PUBLIC')),
+    primary key (id)
+);
+
+create table vocabulary_set_item (
+    deleted boolean not null,
+    display_order integer,
+    mastered boolean,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    vocabulary_set_id UUID not null,
+    notes varchar(500),
+    custom_definition varchar(1000),
+    custom_example varchar(1000),
+    created_by varchar(255),
+    updated_by varchar(255),
+    primary key (id),
+    unique (vocabulary_set_id, vocabulary_id)
+);
+
+alter table if exists antonym
+   add constraint FKelwrslomtsrhall1yvumn2row
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists etymology
+   add constraint FKret6l4s1r9kugbfcqi2pom5ik
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists example
+   add constraint FK980m2mxdf3r5qyvfqcaxkvj0v
+   foreign key (sense_id)
+   references sense;
+
+alter table if exists example
+   add constraint FKtbwgtw4aox09oygyevqpy5nnt
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists metadata
+   add constraint FKpk1dqnedvdat4wabiyfnfjk2x
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists sense
+   add constraint FKe9x3c4kbhl3tvroqa0liceltl
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists sense_register_labels
+   add constraint FKfg5368nd8try6sw927gnotpy1
+   foreign key (sense_id)
+   references sense;
+
+alter table if exists synonym
+   add constraint FKqnpdpdg6vot8smfk6w7eqy87w
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists vocabulary_set_item
+   add constraint FKix0pgcnrfgi1fbv29qh6mo911
+   foreign key (vocabulary_id)
+   references vocabulary;
+
+alter table if exists vocabulary_set_item
+   add constraint FKe3g1rlfxll6ss2b9ujnbpiui8
+   foreign key (vocabulary_set_id)
+   references vocabulary_set;
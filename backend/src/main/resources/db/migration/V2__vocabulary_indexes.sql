@@ -0,0 +1,58 @@
+-- Indexes for the queries in the vocabulary repositories. Every statement is
+-- idempotent so the migration also applies cleanly to databases that were
+-- baselined from a ddl-auto schema. RepositoryIndexCoverageTest checks that
+-- each repository query is served by one of these (or a key from V1).
+
+-- Full-text search; FullTextSearchInitializer only checks that these columns exist
+alter table vocabulary_set add column if not exists search_vector tsvector generated always as (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) stored;
+create index if not exists idx_vocabulary_set_search_vector on vocabulary_set using gin (search_vector);
+
+alter table vocabulary_set_summary add column if not exists search_vector tsvector generated always as (
+    setweight(to_tsvector('simple', coalesce(name, '')), 'A')
+    || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) stored;
+create index if not exists idx_vocabulary_set_summary_search_vector on vocabulary_set_summary using gin (search_vector);
+
+-- vocabulary_set
+-- "My sets" (created_by = ?), optionally narrowed by visibility; also bulk delete by user
+create index if not exists idx_vocabulary_set_created_by_visibility on vocabulary_set (created_by, visibility);
+-- Browse/filter: visibility first because public listings always filter on it
+create index if not exists idx_vocabulary_set_visibility_category_difficulty
+    on vocabulary_set (visibility, category, difficulty_level);
+-- Category pages and popularity by category/difficulty, without a visibility filter
+create index if not exists idx_vocabulary_set_category_difficulty on vocabulary_set (category, difficulty_level);
+-- deleteInactiveOlderThan: only inactive rows are ever range-scanned by age
+create index if not exists idx_vocabulary_set_inactive_updated_at
+    on vocabulary_set (updated_at) where is_active = false;
+
+-- vocabulary_set_summary
+-- Substring search (lower(column) LIKE '%term%', see LikeSearchStrategy) cannot use
+-- a b-tree; trigram GIN indexes can. List search reads the summary table, not
+-- vocabulary_set. pg_trgm is a trusted extension, so the schema owner can create it.
+create extension if not exists pg_trgm;
+create index if not exists idx_vocabulary_set_summary_name_trgm
+    on vocabulary_set_summary using gin (lower(name) gin_trgm_ops);
+create index if not exists idx_vocabulary_set_summary_description_trgm
+    on vocabulary_set_summary using gin (lower(description) gin_trgm_ops);
+
+-- vocabulary_set_item
+-- Items of a set in display order, MAX(display_order) and the summary preview;
+-- the (vocabulary_set_id, vocabulary_id) unique key covers plain set lookups
+create index if not exists idx_vocabulary_set_item_set_display_order
+    on vocabulary_set_item (vocabulary_set_id, display_order);
+-- Sets containing a vocabulary, and the foreign key check when a vocabulary is deleted
+create index if not exists idx_vocabulary_set_item_vocabulary on vocabulary_set_item (vocabulary_id);
+
+-- Child tables of vocabulary: lazy collection loads and foreign key checks
+create index if not exists idx_sense_vocabulary on sense (vocabulary_id);
+create index if not exists idx_example_vocabulary on example (vocabulary_id);
+create index if not exists idx_example_sense on example (sense_id);
+create index if not exists idx_synonym_vocabulary on synonym (vocabulary_id);
+create index if not exists idx_antonym_vocabulary on antonym (vocabulary_id);
+create index if not exists idx_etymology_vocabulary on etymology (vocabulary_id);
+create index if not exists idx_metadata_vocabulary on metadata (vocabulary_id);
+create index if not exists idx_sense_register_labels_sense on sense_register_labels (sense_id);
+
+-- event_outbox: the relay only ever reads unpublished rows in id order
+create index if not exists idx_event_outbox_pending on event_outbox (id) where published_at is null;
@@ -0,0 +1,12 @@
+-- Versioned JSON snapshot of each dictionary entry (VocabularySnapshot).
+-- Kept out of the vocabulary table so loading the entity never reads the
+-- document; the detail endpoint reads it with a primary-key lookup.
+create table if not exists vocabulary_snapshot (
+    id UUID not null,
+    vocabulary_version bigint not null,
+    snapshot jsonb not null,
+    built_at timestamp(6) not null,
+    primary key (id),
+    constraint fk_vocabulary_snapshot_vocabulary
+        foreign key (id) references vocabulary (id) on delete cascade
+);
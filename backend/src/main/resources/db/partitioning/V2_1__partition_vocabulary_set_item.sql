@@ -0,0 +1,60 @@
+-- Hash-partitions vocabulary_set_item by vocabulary_set_id, for large
+-- deployments only. Enable it by adding classpath:db/partitioning to
+-- spring.flyway.locations (and spring.flyway.out-of-order=true if later
+-- versions were already applied).
+--
+-- Every lookup in the repositories is by set, so each query touches one
+-- partition, and a set's items stay together for vacuum and index locality.
+-- PostgreSQL requires the partition key in every unique key, so the primary
+-- key becomes (vocabulary_set_id, id); Hibernate still maps id alone, which
+-- stays unique because it is a random UUID.
+--
+-- The copy locks the table for its duration; run it in a maintenance window.
+
+alter table vocabulary_set_item rename to vocabulary_set_item_unpartitioned;
+
+create table vocabulary_set_item (
+    deleted boolean not null,
+    display_order integer,
+    mastered boolean,
+    created_at timestamp(6) not null,
+    updated_at timestamp(6),
+    version bigint,
+    id UUID not null,
+    vocabulary_id UUID not null,
+    vocabulary_set_id UUID not null,
+    notes varchar(500),
+    custom_definition varchar(1000),
+    custom_example varchar(1000),
+    created_by varchar(255),
+    updated_by varchar(255),
+    -- Named explicitly: the renamed table still holds the default names until it is dropped
+    constraint pk_vocabulary_set_item primary key (vocabulary_set_id, id),
+    constraint uk_vocabulary_set_item_set_vocabulary unique (vocabulary_set_id, vocabulary_id)
+) partition by hash (vocabulary_set_id);
+
+do $$
+begin
+    for i in 0..15 loop
+        execute format('create table vocabulary_set_item_p%s partition of vocabulary_set_item '
+            || 'for values with (modulus 16, remainder %s)', i, i);
+    end loop;
+end
+$$;
+
+insert into vocabulary_set_item (deleted, display_order, mastered, created_at, updated_at, version, id,
+        vocabulary_id, vocabulary_set_id, notes, custom_definition, custom_example, created_by, updated_by)
+    select deleted, display_order, mastered, created_at, updated_at, version, id,
+        vocabulary_id, vocabulary_set_id, notes, custom_definition, custom_example, created_by, updated_by
+    from vocabulary_set_item_unpartitioned;
+
+drop table vocabulary_set_item_unpartitioned;
+
+alter table vocabulary_set_item
+    add constraint fk_vocabulary_set_item_set foreign key (vocabulary_set_id) references vocabulary_set;
+alter table vocabulary_set_item
+    add constraint fk_vocabulary_set_item_vocabulary foreign key (vocabulary_id) references vocabulary;
+
+-- Same indexes as V2; created on the parent, they cascade to every partition
+create index idx_vocabulary_set_item_set_display_order on vocabulary_set_item (vocabulary_set_id, display_order);
+create index idx_vocabulary_set_item_vocabulary on vocabulary_set_item (vocabulary_id);
@@ -0,0 +1,123 @@
+package com.learning.reelnet.common.api.query.plan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.learning.reelnet.common.api.query.FilterParams;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Checks that compiled filter steps convert request strings to the attribute
+ * types, that a value which cannot be converted drops only its own condition,
+ * and that requests of the same shape share one plan.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@ActiveProfiles("test")
+class QueryPlanTest {
+
+    private static final EntityQueryMetadata METADATA = QueryMetadataRegistry.get(VocabularySet.class);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @BeforeEach
+    void createSets() {
+        persist("a", Visibility.PUBLIC, DifficultyLevel.BEGINNER, true, "user-1");
+        persist("b", Visibility.PRIVATE, DifficultyLevel.ADVANCED, true, "user-1");
+        persist("c", Visibility.PUBLIC, null, false, "user-2");
+        persist("d", Visibility.PUBLIC, DifficultyLevel.INTERMEDIATE, true, "user-2");
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void requestStringsAreConvertedToAttributeTypes() {
+        assertEquals(Set.of("a", "c", "d"), names(filters("visibility", "EQUALS", "PUBLIC")));
+        assertEquals(Set.of("a", "b"), names(filters("difficultyLevel", "IN", List.of("BEGINNER", "ADVANCED"))));
+        assertEquals(Set.of("d"), names(filters("difficultyLevel", "NOT_IN", List.of("BEGINNER", "ADVANCED"))));
+        assertEquals(Set.of("c"), names(filters("isActive", "EQUALS", "false")));
+        assertEquals(Set.of("c"), names(filters("difficultyLevel", "IS_NULL", null)));
+        assertEquals(Set.of("c", "d"), names(filters("createdBy", "STARTS_WITH", "USER-2")));
+    }
+
+    @Test
+    void unconvertibleValueSkipsOnlyItsCondition() {
+        FilterParams filterParams = filters("visibility", "EQUALS", "SECRET");
+        filterParams.addFilter("createdBy", "EQUALS", "user-1");
+        assertEquals(Set.of("a", "b"), names(filterParams));
+
+        // One bad element drops the whole IN condition
+        assertEquals(Set.of("a", "b", "c", "d"),
+                names(filters("difficultyLevel", "IN", List.of("BEGINNER", "NOT_A_LEVEL"))));
+    }
+
+    @Test
+    void requestsOfTheSameShapeShareAPlan() {
+        FilterParams publicSets = filters("visibility", "EQUALS", "PUBLIC");
+        FilterParams privateSets = filters("visibility", "EQUALS", "PRIVATE");
+        FilterParams notPublic = filters("visibility", "NOT_EQUALS", "PUBLIC");
+
+        assertEquals(QueryPlan.shapeOf(METADATA, publicSets, null), QueryPlan.shapeOf(METADATA, privateSets, null));
+        assertNotEquals(QueryPlan.shapeOf(METADATA, publicSets, null), QueryPlan.shapeOf(METADATA, notPublic, null));
+        assertSame(QueryPlanCache.planFor(METADATA, publicSets, null),
+                QueryPlanCache.planFor(METADATA, privateSets, null));
+
+        // A cached plan binds each request's own values
+        assertEquals(Set.of("b"), names(privateSets));
+        assertEquals(Set.of("a", "c", "d"), names(publicSets));
+    }
+
+    private Set<String> names(FilterParams filterParams) {
+        Specification<VocabularySet> spec = QueryPlanCache.planFor(METADATA, filterParams, null)
+                .bind(filterParams, null);
+        EntityManager em = entityManager.getEntityManager();
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<VocabularySet> query = cb.createQuery(VocabularySet.class);
+        Root<VocabularySet> root = query.from(VocabularySet.class);
+        query.where(spec.toPredicate(root, query, cb));
+        return em.createQuery(query).getResultList().stream()
+                .map(VocabularySet::getName)
+                .collect(Collectors.toSet());
+    }
+
+    private static FilterParams filters(String field, String operator, Object value) {
+        FilterParams filterParams = new FilterParams();
+        filterParams.addFilter(field, operator, value);
+        return filterParams;
+    }
+
+    private void persist(String name, Visibility visibility, DifficultyLevel difficulty, boolean active,
+            String createdBy) {
+        VocabularySet set = new VocabularySet();
+        set.setName(name);
+        set.setVisibility(visibility);
+        set.setDifficultyLevel(difficulty);
+        set.setActive(active);
+        set.setCreatedBy(createdBy);
+        set.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(set);
+    }
+}
@@ -0,0 +1,115 @@
+package com.learning.reelnet.common.api.query.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.learning.reelnet.common.api.query.CursorSlice;
+import com.learning.reelnet.common.api.query.QueryParams;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+
+/**
+ * Walks every cursor page forwards and back again over a nullable sort key
+ * and checks the rows come out in {@code (sortBy, id)} order with nulls last,
+ * each exactly once.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@ActiveProfiles("test")
+class KeysetPaginatorTest {
+
+    private static final int PAGE_SIZE = 3;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final List<VocabularySet> sets = new ArrayList<>();
+
+    @BeforeEach
+    void createSets() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        for (int i = 0; i < 11; i++) {
+            VocabularySet set = new VocabularySet();
+            set.setName("set" + i);
+            // Every third set has no description; two sets share one to exercise the id tie-break
+            set.setDescription(i % 3 == 0 ? null : "d" + Math.min(i, 8) / 2);
+            set.setCreatedBy("user-1");
+            set.setVisibility(VocabularySet.Visibility.PUBLIC);
+            set.setCreatedAt(now);
+            sets.add(entityManager.persist(set));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void ascendingPagesRoundTripWithNullsLast() {
+        Comparator<String> values = Comparator.nullsLast(Comparator.naturalOrder());
+        assertRoundTrip("ASC", Comparator.comparing(VocabularySet::getDescription, values)
+                .thenComparing(KeysetPaginatorTest::idOrder));
+    }
+
+    @Test
+    void descendingPagesRoundTripWithNullsLast() {
+        Comparator<String> values = Comparator.nullsLast(Comparator.<String>reverseOrder());
+        assertRoundTrip("DESC", Comparator.comparing(VocabularySet::getDescription, values)
+                .thenComparing(KeysetPaginatorTest::idOrder, Comparator.reverseOrder()));
+    }
+
+    private void assertRoundTrip(String direction, Comparator<VocabularySet> order) {
+        List<UUID> expected = sets.stream().sorted(order).map(VocabularySet::getId).toList();
+
+        List<CursorSlice<VocabularySet>> forward = new ArrayList<>();
+        CursorSlice<VocabularySet> page = page(direction, null);
+        forward.add(page);
+        while (page.getNextCursor() != null) {
+            page = page(direction, page.getNextCursor());
+            forward.add(page);
+        }
+        assertEquals(expected, ids(forward));
+
+        // From the last page, previous cursors lead back over the same pages
+        List<CursorSlice<VocabularySet>> backward = new ArrayList<>();
+        backward.add(0, page);
+        while (page.getPrevCursor() != null) {
+            page = page(direction, page.getPrevCursor());
+            backward.add(0, page);
+        }
+        assertEquals(expected, ids(backward));
+        assertNull(backward.get(0).getPrevCursor());
+    }
+
+    private CursorSlice<VocabularySet> page(String direction, String cursor) {
+        QueryParams params = new QueryParams();
+        params.setSize(PAGE_SIZE);
+        params.setSortBy("description");
+        params.setSortDirection(direction);
+        params.setCursor(cursor);
+        return KeysetPaginator.findSlice(entityManager.getEntityManager(), VocabularySet.class, null, params);
+    }
+
+    // The database compares UUIDs as unsigned bytes, which matches their text form
+    private static String idOrder(VocabularySet set) {
+        return set.getId().toString();
+    }
+
+    private static List<UUID> ids(List<CursorSlice<VocabularySet>> pages) {
+        return pages.stream()
+                .flatMap(slice -> slice.getContent().stream())
+                .map(VocabularySet::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,165 @@
+package com.learning.reelnet.common.application.cqrs.command;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.learning.reelnet.common.infrastructure.events.EventPublisher;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that commands for one aggregate run in submission order on one lane
+ * thread, and that a command dispatched from a lane runs inline on it instead
+ * of waiting for a lane.
+ */
+class CommandLanesTest {
+
+    private static final int LANES = 4;
+
+    static class RenameCommand implements AggregateCommand<String> {
+        private final Object aggregateId;
+        private final Object nestedAggregateId;
+
+        RenameCommand(Object aggregateId, Object nestedAggregateId) {
+            this.aggregateId = aggregateId;
+            this.nestedAggregateId = nestedAggregateId;
+        }
+
+        @Override
+        public Object getAggregateId() {
+            return aggregateId;
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CommandLanes lanes = new CommandLanes(LANES, 10_000, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        lanes.shutdown(TimeUnit.SECONDS.toMillis(10));
+    }
+
+    @Test
+    void commandsForOneAggregateRunInSubmissionOrder() throws Exception {
+        int aggregates = 20;
+        int commandsPerAggregate = 200;
+        Map<Integer, List<Integer>> runs = new ConcurrentHashMap<>();
+        Map<Integer, Set<String>> threads = new ConcurrentHashMap<>();
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < commandsPerAggregate; i++) {
+            for (int aggregate = 0; aggregate < aggregates; aggregate++) {
+                int sequence = i;
+                int aggregateId = aggregate;
+                futures.add(lanes.submit(aggregateId, () -> {
+                    runs.computeIfAbsent(aggregateId, k -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(sequence);
+                    threads.computeIfAbsent(aggregateId, k -> ConcurrentHashMap.newKeySet())
+                            .add(Thread.currentThread().getName());
+                    return sequence;
+                }));
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture<?>[]::new)).get(30, TimeUnit.SECONDS);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < commandsPerAggregate; i++) {
+            expected.add(i);
+        }
+        for (int aggregate = 0; aggregate < aggregates; aggregate++) {
+            assertEquals(expected, runs.get(aggregate));
+            assertEquals(Set.of("command-lane-" + lanes.laneOf(aggregate)), threads.get(aggregate));
+        }
+    }
+
+    @Test
+    void taskExceptionIsRethrownUnwrapped() {
+        CompletableFuture<Object> future = lanes.submit("aggregate", () -> {
+            throw new IllegalStateException("conflict");
+        });
+
+        Exception thrown = assertThrows(IllegalStateException.class, () -> CommandLanes.await(future));
+        assertEquals("conflict", thrown.getMessage());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void commandDispatchedFromALaneRunsInline() throws Exception {
+        SimpleCommandBus bus = new SimpleCommandBus(new StaticApplicationContext(), mock(EventPublisher.class),
+                mock(ObjectProvider.class), meterRegistry, Runnable::run, mock(ObjectProvider.class));
+        ReflectionTestUtils.setField(bus, "lanes", lanes);
+        List<String> handledOn = Collections.synchronizedList(new ArrayList<>());
+        bus.register(new CommandHandler<String, RenameCommand>() {
+            @Override
+            public String handle(RenameCommand command) throws Exception {
+                assertTrue(CommandLanes.isLaneThread());
+                handledOn.add(Thread.currentThread().getName());
+                if (command.nestedAggregateId != null) {
+                    // Waiting for a lane here would deadlock when both ids share it
+                    return bus.dispatch(new RenameCommand(command.nestedAggregateId, null));
+                }
+                return Thread.currentThread().getName();
+            }
+
+            @Override
+            public Class<RenameCommand> getCommandClass() {
+                return RenameCommand.class;
+            }
+        });
+        int outer = 1;
+        int sameLane = sameLaneAs(outer);
+        int otherLane = otherLaneThan(outer);
+
+        String nestedOnSameLane = CompletableFuture.supplyAsync(() -> dispatch(bus, outer, sameLane))
+                .get(10, TimeUnit.SECONDS);
+        String nestedOnOtherLane = CompletableFuture.supplyAsync(() -> dispatch(bus, outer, otherLane))
+                .get(10, TimeUnit.SECONDS);
+
+        String outerLane = "command-lane-" + lanes.laneOf(outer);
+        assertEquals(outerLane, nestedOnSameLane);
+        assertEquals(outerLane, nestedOnOtherLane);
+        assertEquals(List.of(outerLane, outerLane, outerLane, outerLane), handledOn);
+        assertFalse(CommandLanes.isLaneThread());
+    }
+
+    private static String dispatch(SimpleCommandBus bus, Object aggregateId, Object nestedAggregateId) {
+        try {
+            return bus.dispatch(new RenameCommand(aggregateId, nestedAggregateId));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private int sameLaneAs(int aggregateId) {
+        int candidate = aggregateId + 1;
+        while (lanes.laneOf(candidate) != lanes.laneOf(aggregateId)) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private int otherLaneThan(int aggregateId) {
+        int candidate = aggregateId + 1;
+        while (lanes.laneOf(candidate) == lanes.laneOf(aggregateId)) {
+            candidate++;
+        }
+        return candidate;
+    }
+}
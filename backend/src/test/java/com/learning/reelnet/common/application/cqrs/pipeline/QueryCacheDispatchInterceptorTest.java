@@ -0,0 +1,158 @@
+package com.learning.reelnet.common.application.cqrs.pipeline;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.learning.reelnet.common.application.cqrs.query.SimpleQueryBus.CacheableQuery;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that concurrent misses for one key run the handler once and that a
+ * result past its refresh interval is recomputed in the background with the
+ * caller's security context and MDC.
+ */
+class QueryCacheDispatchInterceptorTest {
+
+    static class TestQuery implements CacheableQuery<String> {
+        private final Duration refreshAfter;
+
+        TestQuery(Duration refreshAfter) {
+            this.refreshAfter = refreshAfter;
+        }
+
+        @Override
+        public String getCacheKey() {
+            return "key";
+        }
+
+        @Override
+        public String getCacheName() {
+            return "test";
+        }
+
+        @Override
+        public Class<String> getResultClass() {
+            return String.class;
+        }
+
+        @Override
+        public Duration getRefreshAfter() {
+            return refreshAfter;
+        }
+    }
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager("test");
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExecutorService refreshExecutor;
+    private QueryCacheDispatchInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        refreshExecutor = Executors.newSingleThreadExecutor();
+        interceptor = new QueryCacheDispatchInterceptor(cacheManager, meterRegistry, refreshExecutor, 100,
+                Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshExecutor.shutdownNow();
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void concurrentMissesRunHandlerOnce() throws Exception {
+        int callers = 8;
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        DispatchContext context = context(new TestQuery(null));
+        DispatchChain chain = () -> {
+            calls.incrementAndGet();
+            release.await();
+            return "result";
+        };
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<Object>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> interceptor.intercept(context, chain)));
+            }
+            // Every caller but the first waits on the execution in flight
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (coalesced() < callers - 1 && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<Object> result : results) {
+                assertEquals("result", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertEquals(callers - 1, coalesced());
+    }
+
+    @Test
+    void staleHitRefreshesInBackgroundWithCallerContext() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CompletableFuture<String> refreshedAs = new CompletableFuture<>();
+        DispatchContext context = context(new TestQuery(Duration.ofMillis(1)));
+        DispatchChain chain = () -> {
+            int call = calls.incrementAndGet();
+            if (call > 1) {
+                Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+                refreshedAs.complete(authentication.getName() + "/" + MDC.get("requestId"));
+            }
+            return "v" + call;
+        };
+
+        assertEquals("v1", interceptor.intercept(context, chain));
+        Thread.sleep(10);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice", null));
+        MDC.put("requestId", "req-1");
+        // The caller keeps the cached value while the refresh runs
+        assertEquals("v1", interceptor.intercept(context, chain));
+
+        assertEquals("alice/req-1", refreshedAs.get(10, TimeUnit.SECONDS));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!"v2".equals(cacheManager.getCache("test").get("key", String.class))
+                && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals("v2", interceptor.intercept(context, chain));
+        assertTrue(calls.get() >= 2);
+    }
+
+    private static DispatchContext context(TestQuery query) {
+        return new DispatchContext(MessageKind.QUERY, query, null, "TestQuery");
+    }
+
+    private long coalesced() {
+        return (long) meterRegistry.counter("cqrs.query.coalesced", "cache", "test").count();
+    }
+}
@@ -0,0 +1,101 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Sends a batch of outbox records through {@link KafkaOutboxTransport} to an
+ * embedded broker and checks that all of them arrive, in order per aggregate,
+ * once the returned future completes. The time taken for the batch is logged.
+ */
+@EmbeddedKafka(partitions = 3, topics = KafkaOutboxTransportTest.TOPIC)
+class KafkaOutboxTransportTest {
+
+    private static final Logger log = LoggerFactory.getLogger(KafkaOutboxTransportTest.class);
+
+    static final String TOPIC = "domain-events";
+
+    private static final int BATCH_SIZE = 2_000;
+    private static final int AGGREGATES = 20;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void batchArrivesInOrderPerAggregate(EmbeddedKafkaBroker broker) throws Exception {
+        Map<String, Object> producerProps = KafkaTestUtils.producerProps(broker);
+        producerProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        producerProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        producerProps.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        DefaultKafkaProducerFactory<String, Object> producerFactory = new DefaultKafkaProducerFactory<>(producerProps);
+        KafkaOutboxTransport transport = new KafkaOutboxTransport(new KafkaTemplate<>(producerFactory), objectMapper);
+        ReflectionTestUtils.setField(transport, "domainEventsTopic", TOPIC);
+
+        List<OutboxRecord> records = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Instant now = Instant.now();
+            records.add(new OutboxRecord(i, UUID.randomUUID().toString(), "TestEvent", "aggregate-" + (i % AGGREGATES),
+                    "{\"seq\":" + i + "}", now, now));
+        }
+
+        long started = System.nanoTime();
+        transport.send(records).get(30, TimeUnit.SECONDS);
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Sent {} outbox records in {} ms", BATCH_SIZE, elapsedMs);
+        producerFactory.destroy();
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("outbox-test", "false", broker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        Map<String, List<Integer>> seqByAggregate = new HashMap<>();
+        int received = 0;
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<String, String>(consumerProps)
+                .createConsumer()) {
+            broker.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (received < BATCH_SIZE && System.nanoTime() < deadline) {
+                for (ConsumerRecord<String, String> record : consumer.poll(Duration.ofMillis(500))) {
+                    JsonNode payload = objectMapper.readTree(record.value());
+                    seqByAggregate.computeIfAbsent(record.key(), k -> new ArrayList<>()).add(payload.get("seq").asInt());
+                    received++;
+                }
+            }
+        }
+
+        assertEquals(BATCH_SIZE, received);
+        assertEquals(AGGREGATES, seqByAggregate.size());
+        // Records of one aggregate share a partition, so they keep their order
+        for (List<Integer> seqs : seqByAggregate.values()) {
+            assertEquals(seqs.stream().sorted().toList(), seqs);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.learning.reelnet.common.infrastructure.events.outbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.common.infrastructure.events.AbstractDomainEvent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that an event appended to the outbox in a committed transaction is
+ * relayed through the in-memory transport and marked published.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.events.outbox.enabled=true",
+        // The test relays explicitly
+        "app.events.outbox.linger=1h" })
+@ActiveProfiles("test")
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@Import({ EventOutbox.class, OutboxRelay.class, InMemoryOutboxTransport.class, OutboxRelayTest.Metrics.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @TestConfiguration
+    static class Metrics {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    static class TestEvent extends AbstractDomainEvent {
+        TestEvent(String aggregateId) {
+            super("TestEvent", aggregateId, 0L, 1);
+        }
+    }
+
+    @Autowired
+    private EventOutbox outbox;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private InMemoryOutboxTransport transport;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void committedEventIsRelayedAndMarkedPublished() {
+        TestEvent event = new TestEvent("aggregate-1");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> outbox.append(List.of(event)));
+
+        assertEquals(1, relay.relay());
+
+        List<OutboxRecord> sent = transport.getSent();
+        assertEquals(1, sent.size());
+        assertEquals(event.getEventId(), sent.get(0).getEventId());
+        assertEquals("aggregate-1", sent.get(0).getAggregateId());
+        assertTrue(sent.get(0).getPayload().contains("aggregate-1"));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM event_outbox WHERE published_at IS NULL", Integer.class));
+
+        // Nothing left to relay
+        assertEquals(0, relay.relay());
+        assertEquals(1, transport.getSent().size());
+    }
+}
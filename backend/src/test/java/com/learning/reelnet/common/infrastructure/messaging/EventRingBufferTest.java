@@ -0,0 +1,227 @@
+package com.learning.reelnet.common.infrastructure.messaging;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.learning.reelnet.common.infrastructure.events.AbstractDomainEvent;
+import com.learning.reelnet.common.infrastructure.events.DomainEvent;
+import com.learning.reelnet.common.infrastructure.events.EventPublisher.EventPublicationListener;
+import com.learning.reelnet.common.infrastructure.messaging.EventRingBuffer.FullPolicy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks delivery order, listener isolation, the three full-buffer policies
+ * and draining on shutdown.
+ */
+class EventRingBufferTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    static class TestEvent extends AbstractDomainEvent {
+        final int number;
+
+        TestEvent(int number) {
+            super("TestEvent", "aggregate", number, 1);
+            this.number = number;
+        }
+    }
+
+    /**
+     * Records the events it receives and the threads they arrive on, blocking
+     * on event 0 until released.
+     */
+    static class RecordingListener implements EventPublicationListener {
+        final List<Integer> numbers = Collections.synchronizedList(new ArrayList<>());
+        final List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release;
+
+        RecordingListener(boolean blockOnFirst) {
+            release = new CountDownLatch(blockOnFirst ? 1 : 0);
+        }
+
+        @Override
+        public void onEventPublished(DomainEvent event) {
+            int number = ((TestEvent) event).number;
+            if (number == 0) {
+                blocked.countDown();
+                await(release);
+            }
+            threads.add(Thread.currentThread().getName());
+            numbers.add(number);
+        }
+    }
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private EventRingBuffer buffer;
+
+    @AfterEach
+    void tearDown() {
+        if (buffer != null) {
+            buffer.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+    }
+
+    @Test
+    void everyListenerReceivesEventsInPublishOrder() {
+        buffer = new EventRingBuffer(64, 8, FullPolicy.BLOCK, meterRegistry);
+        RecordingListener first = new RecordingListener(false);
+        RecordingListener second = new RecordingListener(false);
+        buffer.addListener(first);
+        buffer.addListener(second);
+
+        int events = 10_000;
+        for (int i = 0; i < events; i++) {
+            assertTrue(buffer.publish(new TestEvent(i)));
+        }
+        buffer.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        List<Integer> expected = IntStream.range(0, events).boxed().toList();
+        assertEquals(expected, first.numbers);
+        assertEquals(expected, second.numbers);
+    }
+
+    @Test
+    void slowListenerDoesNotHoldBackOthers() throws Exception {
+        buffer = new EventRingBuffer(256, 8, FullPolicy.BLOCK, meterRegistry);
+        RecordingListener slow = new RecordingListener(true);
+        RecordingListener fast = new RecordingListener(false);
+        buffer.addListener(slow);
+        buffer.addListener(fast);
+
+        for (int i = 0; i < 100; i++) {
+            buffer.publish(new TestEvent(i));
+        }
+
+        awaitSize(fast, 100);
+        assertTrue(slow.numbers.isEmpty());
+        slow.release.countDown();
+        awaitSize(slow, 100);
+    }
+
+    @Test
+    void blockWaitsForTheSlowestListener() throws Exception {
+        RecordingListener listener = fillBuffer(FullPolicy.BLOCK);
+
+        CompletableFuture<Boolean> publish = CompletableFuture.supplyAsync(() -> buffer.publish(new TestEvent(4)));
+        assertStillRunning(publish);
+        listener.release.countDown();
+
+        assertTrue(publish.get(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        awaitSize(listener, 5);
+        assertEquals(List.of(0, 1, 2, 3, 4), listener.numbers);
+        assertEquals(1, fullCount());
+    }
+
+    @Test
+    void dropDiscardsTheEvent() throws Exception {
+        RecordingListener listener = fillBuffer(FullPolicy.DROP);
+
+        assertFalse(buffer.publish(new TestEvent(4)));
+        listener.release.countDown();
+
+        awaitSize(listener, 4);
+        buffer.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        assertEquals(List.of(0, 1, 2, 3), listener.numbers);
+        assertEquals(1, fullCount());
+    }
+
+    @Test
+    void callerRunsDeliversOnThePublishingThread() throws Exception {
+        RecordingListener listener = fillBuffer(FullPolicy.CALLER_RUNS);
+
+        assertTrue(buffer.publish(new TestEvent(4)));
+        // Delivered inline, ahead of the events still waiting in the buffer
+        assertEquals(List.of(4), listener.numbers);
+        assertEquals(Thread.currentThread().getName(), listener.threads.get(0));
+        listener.release.countDown();
+
+        awaitSize(listener, 5);
+        assertEquals(List.of(4, 0, 1, 2, 3), listener.numbers);
+        assertEquals(1, fullCount());
+    }
+
+    @Test
+    void shutdownDrainsPublishedEvents() {
+        buffer = new EventRingBuffer(1024, 16, FullPolicy.BLOCK, meterRegistry);
+        List<Integer> received = Collections.synchronizedList(new ArrayList<>());
+        buffer.addListener(event -> {
+            sleepMillis(1);
+            received.add(((TestEvent) event).number);
+        });
+
+        for (int i = 0; i < 200; i++) {
+            buffer.publish(new TestEvent(i));
+        }
+        buffer.shutdown(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+
+        assertEquals(IntStream.range(0, 200).boxed().toList(), received);
+    }
+
+    /**
+     * Create a four-slot buffer whose only listener is stuck on event 0 with
+     * events 0 to 3 published, so the next publish finds it full.
+     */
+    private RecordingListener fillBuffer(FullPolicy policy) throws InterruptedException {
+        buffer = new EventRingBuffer(4, 4, policy, meterRegistry);
+        RecordingListener listener = new RecordingListener(true);
+        buffer.addListener(listener);
+        buffer.publish(new TestEvent(0));
+        assertTrue(listener.blocked.await(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        for (int i = 1; i < 4; i++) {
+            assertTrue(buffer.publish(new TestEvent(i)));
+        }
+        return listener;
+    }
+
+    private long fullCount() {
+        return (long) meterRegistry.get("events.bus.full").counter().count();
+    }
+
+    private static void assertStillRunning(CompletableFuture<?> future) throws Exception {
+        try {
+            future.get(200, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException expected) {
+            return;
+        }
+        throw new AssertionError("Publish returned while the buffer was full");
+    }
+
+    private static void awaitSize(RecordingListener listener, int size) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (listener.numbers.size() < size && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        assertEquals(size, listener.numbers.size());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
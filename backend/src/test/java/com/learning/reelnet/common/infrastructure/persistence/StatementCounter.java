@@ -0,0 +1,90 @@
+package com.learning.reelnet.common.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread, so tests
+ * can assert how many queries a request or service call issues.
+ * <p>
+ * Hibernate creates the inspector itself, so it is registered by class name:
+ * add {@link #PROPERTY} to the test's properties, e.g.
+ * {@code @DataJpaTest(properties = StatementCounter.PROPERTY)}. A MockMvc
+ * request runs on the test thread and is counted the same way.
+ */
+public class StatementCounter implements StatementInspector {
+
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+            + "com.learning.reelnet.common.infrastructure.persistence.StatementCounter";
+
+    private static final ThreadLocal<List<String>> STATEMENTS = ThreadLocal.withInitial(ArrayList::new);
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.get().add(sql);
+        return sql;
+    }
+
+    /**
+     * Forget the statements counted so far on this thread.
+     */
+    public static void reset() {
+        STATEMENTS.get().clear();
+    }
+
+    /**
+     * Get the statements counted on this thread since the last reset.
+     *
+     * @return SQL of each statement, in order
+     */
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS.get());
+    }
+
+    /**
+     * Run an action and fail unless it issues exactly the expected number of
+     * statements.
+     *
+     * @param expected Expected number of statements
+     * @param action Action to run
+     * @return The action's result
+     */
+    public static <T> T assertStatementCount(int expected, Supplier<T> action) {
+        T result = countStatements(action);
+        if (statements().size() != expected) {
+            fail(describe("Expected " + expected + " statements"));
+        }
+        return result;
+    }
+
+    /**
+     * Run an action and fail if it issues more than the given number of
+     * statements.
+     *
+     * @param max Most statements allowed
+     * @param action Action to run
+     * @return The action's result
+     */
+    public static <T> T assertMaxStatementCount(int max, Supplier<T> action) {
+        T result = countStatements(action);
+        if (statements().size() > max) {
+            fail(describe("Expected at most " + max + " statements"));
+        }
+        return result;
+    }
+
+    private static <T> T countStatements(Supplier<T> action) {
+        reset();
+        return action.get();
+    }
+
+    private static String describe(String expectation) {
+        List<String> statements = statements();
+        return expectation + " but got " + statements.size() + ":\n  " + String.join("\n  ", statements);
+    }
+}
@@ -0,0 +1,143 @@
+package com.learning.reelnet.common.infrastructure.persistence.counter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that no increment is lost while flushes run and retire idle rows
+ * concurrently, and that a delta taken by a flush stays visible to readers
+ * until it is written.
+ */
+class WriteBehindCountersTest {
+
+    private static final CounterColumn COLUMN = CounterColumn.of("vocabulary_set", "view_count");
+
+    private JdbcTemplate jdbcTemplate;
+    private WriteBehindCounters counters;
+    // Sum of the deltas written per row
+    private final Map<UUID, Long> written = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batch = invocation.getArgument(1);
+            batch.forEach(args -> written.merge((UUID) args[1], (Long) args[0], Long::sum));
+            return new int[batch.size()];
+        });
+        ObjectProvider<CounterFlushListener> listeners = mock(ObjectProvider.class);
+        counters = new WriteBehindCounters(jdbcTemplate, listeners, new SimpleMeterRegistry(), Duration.ofHours(1));
+    }
+
+    @Test
+    void concurrentIncrementsSurviveFlushes() throws Exception {
+        int threads = 8;
+        int incrementsPerThread = 50_000;
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            ids.add(UUID.randomUUID());
+        }
+        Map<UUID, Long> expected = new ConcurrentHashMap<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        AtomicBoolean incrementing = new AtomicBoolean(true);
+        // Flushes back to back, so rows often look idle and get retired between increments
+        CompletableFuture<Void> flusher = CompletableFuture.runAsync(() -> {
+            while (incrementing.get()) {
+                counters.flush();
+            }
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        List<CompletableFuture<Void>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            workers.add(CompletableFuture.runAsync(() -> {
+                await(start);
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < incrementsPerThread; i++) {
+                    UUID id = ids.get(random.nextInt(ids.size()));
+                    long delta = random.nextInt(3) + 1;
+                    counters.increment(COLUMN, id, delta);
+                    expected.merge(id, delta, Long::sum);
+                }
+            }, executor));
+        }
+        start.countDown();
+        CompletableFuture.allOf(workers.toArray(CompletableFuture<?>[]::new)).get(60, TimeUnit.SECONDS);
+        incrementing.set(false);
+        flusher.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        counters.flush();
+        assertEquals(expected, written);
+        ids.forEach(id -> assertEquals(0L, counters.pending(COLUMN, id)));
+    }
+
+    @Test
+    void deltaStaysPendingWhileItIsWritten() throws Exception {
+        UUID id = UUID.randomUUID();
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            writing.countDown();
+            await(release);
+            return new int[1];
+        });
+        counters.increment(COLUMN, id, 5);
+
+        CompletableFuture<Void> flush = CompletableFuture.runAsync(counters::flush);
+        assertTrue(writing.await(10, TimeUnit.SECONDS));
+        counters.increment(COLUMN, id, 2);
+        assertEquals(7L, counters.pending(COLUMN, id));
+        release.countDown();
+        flush.get(10, TimeUnit.SECONDS);
+
+        assertEquals(2L, counters.pending(COLUMN, id));
+    }
+
+    @Test
+    void failedFlushKeepsTheDelta() {
+        UUID id = UUID.randomUUID();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        counters.increment(COLUMN, id, 3);
+
+        counters.flush();
+
+        assertEquals(3L, counters.pending(COLUMN, id));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
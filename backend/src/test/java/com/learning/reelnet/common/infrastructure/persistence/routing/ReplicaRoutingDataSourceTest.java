@@ -0,0 +1,112 @@
+package com.learning.reelnet.common.infrastructure.persistence.routing;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Wires two H2 databases the way DatabaseConfig wires the primary and a
+ * replica, each holding a row with its own name, and checks which one serves
+ * a transaction.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource readReplicas;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @BeforeEach
+    void wireDataSources() {
+        DataSource primary = database("primary");
+        DataSource replica = database("replica");
+
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setReadYourWritesWindow(Duration.ofMinutes(1));
+        RecentWriteTracker recentWrites = new RecentWriteTracker(properties);
+
+        readReplicas = new ReplicaRoutingDataSource(primary, Map.of("replica", replica), recentWrites,
+                new SimpleMeterRegistry(), Duration.ofHours(1).toMillis());
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primary);
+        proxy.setReadOnlyDataSource(readReplicas);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(proxy);
+        transactionManager.setTransactionExecutionListeners(List.of(recentWrites));
+        jdbcTemplate = new JdbcTemplate(proxy);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        readReplicas.close();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        signIn("alice");
+
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void writesUseThePrimary() {
+        signIn("alice");
+
+        String servedBy = readWrite.execute(status -> {
+            jdbcTemplate.update("UPDATE node SET touched = TRUE");
+            return servedBy();
+        });
+
+        assertEquals("primary", servedBy);
+    }
+
+    @Test
+    void readsRightAfterAWriteStayOnThePrimary() {
+        signIn("alice");
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET touched = TRUE"));
+
+        assertEquals("primary", readOnly.execute(status -> servedBy()));
+
+        // Other users did not write, so their reads still go to the replica
+        signIn("bob");
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    private String servedBy() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static void signIn(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "ROLE_USER"));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("CREATE TABLE node (name VARCHAR(20), touched BOOLEAN DEFAULT FALSE)");
+        setup.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,144 @@
+package com.learning.reelnet.modules.vocabulary.application.projection;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.common.application.cqrs.command.CommandBus;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent;
+import com.learning.reelnet.modules.vocabulary.domain.event.VocabularySetChangedEvent.Change;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummary;
+import com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository.JpaVocabularySetSummaryRepositoryImpl;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Checks that a set change reaches the summary when its transaction commits,
+ * leaves the summary untouched when it rolls back, and is applied at once
+ * when published outside a transaction.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "app.vocabulary.summary.rebuild-on-startup=false" })
+@ActiveProfiles("test")
+@Import({ VocabularySetSummaryProjector.class, JpaVocabularySetSummaryRepositoryImpl.class,
+        VocabularySetSummaryProjectorTest.Commands.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VocabularySetSummaryProjectorTest {
+
+    @TestConfiguration
+    static class Commands {
+        @Bean
+        CommandBus commandBus() {
+            return mock(CommandBus.class);
+        }
+    }
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    void committedChangeRefreshesTheSummary() {
+        UUID id = transaction.execute(status -> {
+            UUID created = persist("created");
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(created, Change.CREATED));
+            return created;
+        });
+        assertEquals("created", summaryName(id));
+
+        transaction.executeWithoutResult(status -> {
+            entityManager.find(VocabularySet.class, id).setName("renamed");
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(id, Change.UPDATED));
+        });
+        assertEquals("renamed", summaryName(id));
+
+        transaction.executeWithoutResult(status -> {
+            entityManager.remove(entityManager.find(VocabularySet.class, id));
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(id, Change.DELETED));
+        });
+        assertNull(summaryName(id));
+    }
+
+    @Test
+    void rolledBackChangeLeavesTheSummaryUntouched() {
+        UUID discarded = transaction.execute(status -> {
+            UUID created = persist("discarded");
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(created, Change.CREATED));
+            status.setRollbackOnly();
+            return created;
+        });
+        assertNull(summaryName(discarded));
+
+        UUID id = transaction.execute(status -> {
+            UUID created = persist("kept");
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(created, Change.CREATED));
+            return created;
+        });
+        transaction.executeWithoutResult(status -> {
+            entityManager.find(VocabularySet.class, id).setName("discarded rename");
+            eventPublisher.publishEvent(new VocabularySetChangedEvent(id, Change.UPDATED));
+            status.setRollbackOnly();
+        });
+        assertEquals("kept", summaryName(id));
+    }
+
+    @Test
+    void changeOutsideATransactionIsAppliedAtOnce() {
+        UUID id = transaction.execute(status -> persist("outside"));
+        assertNull(summaryName(id));
+
+        eventPublisher.publishEvent(new VocabularySetChangedEvent(id, Change.CREATED));
+
+        assertEquals("outside", summaryName(id));
+    }
+
+    private UUID persist(String name) {
+        VocabularySet set = new VocabularySet();
+        set.setName(name);
+        set.setVisibility(Visibility.PUBLIC);
+        set.setCreatedBy("user-1");
+        set.setCreatedAt(LocalDateTime.now());
+        entityManager.persist(set);
+        return set.getId();
+    }
+
+    private String summaryName(UUID id) {
+        return transaction.execute(status -> {
+            VocabularySetSummary summary = entityManager.find(VocabularySetSummary.class, id);
+            return summary != null ? summary.getName() : null;
+        });
+    }
+}
@@ -0,0 +1,90 @@
+package com.learning.reelnet.modules.vocabulary.application.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import com.learning.reelnet.common.infrastructure.cache.CacheConfig;
+import com.learning.reelnet.modules.vocabulary.api.dto.VocabularySetDto;
+import com.learning.reelnet.modules.vocabulary.api.query.GetPopularVocabularySetsQuery;
+import com.learning.reelnet.modules.vocabulary.application.mapper.VocabularySetMapper;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetPopularityService;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Category;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.DifficultyLevel;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet.Visibility;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
+import com.learning.reelnet.modules.vocabulary.domain.repository.VocabularySetSummaryRepository;
+
+/**
+ * Checks that a page of popular sets survives the Redis value serializer and
+ * that the read path only skips unranked sets without touching the rankings.
+ */
+class GetPopularVocabularySetsQueryHandlerTest {
+
+    private final GenericJackson2JsonRedisSerializer serializer = CacheConfig.valueSerializer();
+
+    private VocabularySetPopularityService popularityService;
+    private VocabularySetSummaryRepository summaryRepository;
+    private GetPopularVocabularySetsQueryHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        popularityService = mock(VocabularySetPopularityService.class);
+        summaryRepository = mock(VocabularySetSummaryRepository.class);
+        handler = new GetPopularVocabularySetsQueryHandler(popularityService, summaryRepository,
+                new VocabularySetMapper());
+    }
+
+    @Test
+    void pageRoundTripsThroughCacheSerializer() {
+        VocabularySetSummaryView first = summary(Visibility.PUBLIC, true);
+        VocabularySetSummaryView second = summary(Visibility.PUBLIC, true);
+        VocabularySetSummaryView hidden = summary(Visibility.PRIVATE, true);
+        List<UUID> ids = List.of(second.id(), hidden.id(), first.id());
+        when(popularityService.getTopIds(any(), any(), anyLong(), anyInt())).thenReturn(ids);
+        when(summaryRepository.findAllById(ids)).thenReturn(List.of(first, second, hidden));
+
+        List<VocabularySetDto> page = handler.handle(query());
+
+        assertEquals(List.of(second.id(), first.id()), page.stream().map(VocabularySetDto::getId).toList());
+        assertEquals(page, serializer.deserialize(serializer.serialize(page)));
+        // Bộ riêng tư chỉ bị bỏ qua, việc gỡ khỏi bảng xếp hạng thuộc về luồng ghi
+        verify(popularityService).getTopIds(any(), any(), anyLong(), anyInt());
+        verifyNoMoreInteractions(popularityService);
+    }
+
+    @Test
+    void emptyPageRoundTripsThroughCacheSerializer() {
+        when(popularityService.getTopIds(any(), any(), anyLong(), anyInt())).thenReturn(List.of());
+
+        List<VocabularySetDto> page = handler.handle(query());
+
+        Object cached = serializer.deserialize(serializer.serialize(page));
+        assertTrue(cached instanceof List<?> list && list.isEmpty());
+    }
+
+    private static GetPopularVocabularySetsQuery query() {
+        return new GetPopularVocabularySetsQuery(Category.GENERAL, DifficultyLevel.BEGINNER, 0, 20);
+    }
+
+    private static VocabularySetSummaryView summary(Visibility visibility, boolean active) {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 12, 0);
+        return new VocabularySetSummaryView(UUID.randomUUID(), "Set", "Description", active, "user-1",
+                visibility, DifficultyLevel.BEGINNER, Category.GENERAL, false, 3, 0,
+                List.of("apple", "banana"), 10L, 2L, 1L, now, now, now);
+    }
+}
@@ -0,0 +1,87 @@
+package com.learning.reelnet.modules.vocabulary.domain.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that items compare by (set, vocabulary) whether or not they have
+ * been persisted, and that incomplete items are only equal to themselves.
+ */
+class VocabularySetItemTest {
+
+    private final VocabularySet set = set(UUID.randomUUID());
+
+    @Test
+    void itemsWithTheSameSetAndVocabularyAreEqual() {
+        Vocabulary vocabulary = vocabulary(UUID.randomUUID());
+        VocabularySetItem transientItem = item(set, vocabulary);
+        VocabularySetItem persistedItem = item(set(set.getId()), vocabulary(vocabulary.getId()));
+        persistedItem.setId(UUID.randomUUID());
+
+        assertEquals(transientItem, persistedItem);
+        assertEquals(transientItem.hashCode(), persistedItem.hashCode());
+        assertNotEquals(transientItem, item(set, vocabulary(UUID.randomUUID())));
+        assertNotEquals(transientItem, item(set(UUID.randomUUID()), vocabulary));
+    }
+
+    @Test
+    void hashCodeIsStableWhenTheIdIsAssigned() {
+        VocabularySetItem item = item(set, vocabulary(UUID.randomUUID()));
+        Set<VocabularySetItem> items = new HashSet<>(Set.of(item));
+        int before = item.hashCode();
+
+        item.setId(UUID.randomUUID());
+
+        assertEquals(before, item.hashCode());
+        assertTrue(items.contains(item));
+    }
+
+    @Test
+    void incompleteItemsAreOnlyEqualToThemselves() {
+        VocabularySetItem withoutVocabulary = item(set, null);
+        VocabularySetItem withoutSet = item(null, vocabulary(UUID.randomUUID()));
+
+        assertEquals(withoutVocabulary, withoutVocabulary);
+        assertNotEquals(withoutVocabulary, item(set, null));
+        assertNotEquals(withoutSet, item(null, withoutSet.getVocabulary()));
+    }
+
+    @Test
+    void transientItemsSpreadAcrossAHashSet() {
+        Set<VocabularySetItem> items = new HashSet<>();
+        Set<Integer> hashes = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            VocabularySetItem item = item(set, vocabulary(UUID.randomUUID()));
+            assertTrue(items.add(item));
+            hashes.add(item.hashCode());
+        }
+
+        assertFalse(items.add(item(set, items.iterator().next().getVocabulary())));
+        assertEquals(10_000, items.size());
+        assertTrue(hashes.size() > 9_900);
+    }
+
+    private static VocabularySetItem item(VocabularySet set, Vocabulary vocabulary) {
+        return VocabularySetItem.builder().vocabularySet(set).vocabulary(vocabulary).build();
+    }
+
+    private static VocabularySet set(UUID id) {
+        VocabularySet set = VocabularySet.builder().name("set").build();
+        set.setId(id);
+        return set;
+    }
+
+    private static Vocabulary vocabulary(UUID id) {
+        Vocabulary vocabulary = Vocabulary.builder().build();
+        vocabulary.setId(id);
+        return vocabulary;
+    }
+}
@@ -0,0 +1,207 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetItem;
+import com.learning.reelnet.modules.vocabulary.domain.valueobject.BulkInsertResult;
+import com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository.JpaVocabularySetItemRepositoryImpl;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Adds 1k, 10k and 100k items to an empty set on PostgreSQL, once the way
+ * the handler used to (load the set's items and the target vocabulary, then
+ * persist each item) and once through the set-based insert, and logs the
+ * time of each. Both must add every item, and repeating the set-based insert
+ * must skip them all.
+ * <p>
+ * Opt-in, since it needs a scratch PostgreSQL database that Flyway may
+ * migrate: {@code ./gradlew test --tests '*BulkAddComparisonTest' -Dbench.postgres.url=...}, see
+ * {@link VocabularySetSearchComparisonTest}.
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=500",
+        "spring.jpa.properties.hibernate.order_inserts=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ JpaVocabularySetItemRepositoryImpl.class, BulkAddComparisonTest.Auditing.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "bench.postgres.url", matches = ".+")
+class BulkAddComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkAddComparisonTest.class);
+
+    private static final String CREATED_BY = "bulk-add-comparison";
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    @TestConfiguration
+    static class Auditing {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of(CREATED_BY);
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("bench.postgres.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("bench.postgres.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("bench.postgres.password", ""));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JpaVocabularySetItemRepositoryImpl itemRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void dropData() {
+        jdbcTemplate.update("delete from vocabulary_set_item where created_by = ?", CREATED_BY);
+        jdbcTemplate.update("delete from vocabulary_set where created_by = ?", CREATED_BY);
+        jdbcTemplate.update("delete from vocabulary where created_by = ?", CREATED_BY);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1_000, 10_000, 100_000 })
+    void setBasedInsertAddsTheSameItems(int size) {
+        List<UUID> vocabularyIds = seedVocabulary(size);
+        UUID loadingSet = seedSet("loading");
+        UUID setBasedSet = seedSet("set-based");
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+
+        long started = System.nanoTime();
+        int loaded = transaction.execute(status -> addByLoading(loadingSet, vocabularyIds));
+        long loadingMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        started = System.nanoTime();
+        BulkInsertResult inserted = transaction.execute(status -> itemRepository.insertIgnoringDuplicates(
+                setBasedSet, items(vocabularyIds)));
+        long setBasedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        log.info("Adding {} items: loading {} ms, set-based {} ms", size, loadingMs, setBasedMs);
+
+        assertEquals(size, loaded);
+        assertEquals(size, inserted.getInserted());
+        BulkInsertResult repeated = transaction.execute(status -> itemRepository.insertIgnoringDuplicates(
+                setBasedSet, items(vocabularyIds)));
+        assertEquals(0, repeated.getInserted());
+    }
+
+    /*
+     * Cách handler làm trước đây: nạp mọi item của bộ để tìm trùng, nạp mọi
+     * vocabulary đích rồi lưu từng item qua JPA
+     */
+    private int addByLoading(UUID setId, List<UUID> vocabularyIds) {
+        Set<UUID> existing = new HashSet<>();
+        entityManager.createQuery("SELECT i FROM VocabularySetItem i WHERE i.vocabularySet.id = :setId",
+                VocabularySetItem.class)
+                .setParameter("setId", setId)
+                .getResultList()
+                .forEach(item -> existing.add(item.getVocabulary().getId()));
+        Map<UUID, Vocabulary> vocabularies = new HashMap<>();
+        for (int from = 0; from < vocabularyIds.size(); from += IN_CHUNK_SIZE) {
+            entityManager.createQuery("SELECT v FROM Vocabulary v WHERE v.id IN :ids", Vocabulary.class)
+                    .setParameter("ids", vocabularyIds.subList(from, Math.min(from + IN_CHUNK_SIZE,
+                            vocabularyIds.size())))
+                    .getResultList()
+                    .forEach(vocabulary -> vocabularies.put(vocabulary.getId(), vocabulary));
+        }
+
+        VocabularySet set = entityManager.find(VocabularySet.class, setId);
+        LocalDateTime now = LocalDateTime.now();
+        int order = 0;
+        for (UUID vocabularyId : vocabularyIds) {
+            if (existing.add(vocabularyId)) {
+                VocabularySetItem item = VocabularySetItem.builder()
+                        .vocabularySet(set)
+                        .vocabulary(vocabularies.get(vocabularyId))
+                        .displayOrder(++order)
+                        .build();
+                item.setCreatedAt(now);
+                item.setCreatedBy(CREATED_BY);
+                entityManager.persist(item);
+            }
+        }
+        entityManager.flush();
+        return order;
+    }
+
+    private List<VocabularySetItem> items(List<UUID> vocabularyIds) {
+        List<VocabularySetItem> items = new ArrayList<>(vocabularyIds.size());
+        for (UUID vocabularyId : vocabularyIds) {
+            items.add(VocabularySetItem.builder()
+                    .vocabulary(entityManager.getReference(Vocabulary.class, vocabularyId))
+                    .build());
+        }
+        return items;
+    }
+
+    private List<UUID> seedVocabulary(int size) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<UUID> ids = new ArrayList<>(size);
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            batch.add(new Object[] { id, "bulk-" + id, now, CREATED_BY });
+            if (batch.size() == IN_CHUNK_SIZE || i == size - 1) {
+                jdbcTemplate.batchUpdate("insert into vocabulary (id, headword, created_at, created_by, deleted, "
+                        + "version) values (?, ?, ?, ?, false, 0)", batch);
+                batch.clear();
+            }
+        }
+        return ids;
+    }
+
+    private UUID seedSet(String name) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("insert into vocabulary_set (id, name, created_at, created_by, visibility, deleted, "
+                + "version) values (?, ?, ?, ?, 'PRIVATE', false, 0)", id, name,
+                Timestamp.valueOf(LocalDateTime.now()), CREATED_BY);
+        return id;
+    }
+}
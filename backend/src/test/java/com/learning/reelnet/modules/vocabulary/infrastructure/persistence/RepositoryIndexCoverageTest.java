@@ -0,0 +1,333 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StreamUtils;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+
+/**
+ * Checks that every filtering query declared on a Spring Data repository is
+ * served by an index created in db/migration.
+ * <p>
+ * The check is deliberately simple: a query is covered when some b-tree
+ * index leads with one of its sargable predicate columns, and every
+ * leading-wildcard LIKE has a trigram index on the same column (or on
+ * lower(column) when the query lowercases it). Queries without a WHERE
+ * clause are skipped. Runs without a database or Spring context.
+ */
+class RepositoryIndexCoverageTest {
+
+    private static final String BASE_PACKAGE = "com.learning.reelnet";
+
+    private static final String UNCALLED_SET_SEARCH =
+            "not called; name search reads vocabulary_set_summary, which has the trigram indexes";
+
+    /**
+     * Queries accepted without an index, with the reason.
+     */
+    private static final Map<String, String> ALLOWED_UNINDEXED = Map.of(
+            "SpringDataVocabularySetRepository.findByCreatedBy",
+            "substring match on a user id; callers needing an exact owner use findByUserId",
+            "SpringDataVocabularySetRepository.findByDifficultyLevel",
+            "four distinct values, a sequential scan is cheaper than an index",
+            "SpringDataVocabularySetRepository.findByCriteria", UNCALLED_SET_SEARCH,
+            "SpringDataVocabularySetRepository.findByNameContainingIgnoreCase", UNCALLED_SET_SEARCH,
+            "SpringDataVocabularySetRepository.search", UNCALLED_SET_SEARCH);
+
+    private static final Pattern CREATE_TABLE = Pattern.compile(
+            "create table (?:if not exists )?(\\w+) \\((.*)\\)", Pattern.DOTALL);
+    private static final Pattern TABLE_KEY = Pattern.compile("(?:primary key|unique) \\(([^)]*)\\)");
+    private static final Pattern UNIQUE_COLUMN = Pattern.compile("(?m)^\\s*(\\w+) [^,\\n]* unique,?$");
+    private static final Pattern CREATE_INDEX = Pattern.compile(
+            "create (?:unique )?index (?:if not exists )?\\w+ on (\\w+)(?: using (\\w+))? \\((.*)\\)"
+                    + "(?: where .*)?");
+    private static final Pattern ADD_UNIQUE = Pattern.compile(
+            "alter table (?:if exists )?(\\w+) add constraint \\w+ (?:primary key|unique) \\(([^)]*)\\)");
+
+    private static final Pattern JPQL_ROOT = Pattern.compile(
+            "(?:from|update)\\s+(\\w+)\\s+(?:as\\s+)?(\\w+)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern JPQL_WHERE = Pattern.compile(
+            "\\bwhere\\b(.*?)(?:\\border\\s+by\\b|\\bgroup\\s+by\\b|$)", Pattern.CASE_INSENSITIVE | Pattern.DOTALL);
+    private static final String JPQL_PREDICATE = "(lower\\(\\s*)?%s\\.([\\w.]+)\\s*\\)?\\s*"
+            + "(=|<>|!=|<=|>=|<|>|like|in\\b|is\\s+not\\s+null|is\\s+null|between\\b)\\s*(?=(.{0,40}))";
+
+    private static final Pattern DERIVED_QUERY = Pattern.compile(
+            "^(?:find|read|get|query|search|stream|count|exists|delete|remove)\\w*?By(\\w+)$");
+    private static final Pattern DERIVED_WILDCARD = Pattern.compile("(Containing|Contains|EndingWith|EndsWith|Like)$");
+    private static final Pattern DERIVED_KEYWORD = Pattern.compile(
+            "(IgnoreCase|IgnoringCase|Containing|Contains|StartingWith|StartsWith|EndingWith|EndsWith|NotLike|Like"
+                    + "|IsNotNull|NotNull|IsNull|Null|NotIn|In|Between|LessThanEqual|LessThan|GreaterThanEqual"
+                    + "|GreaterThan|Before|After|IsTrue|True|IsFalse|False|Not|Is|Equals)+$");
+
+    private static List<IndexDef> indexes;
+    private static List<RepositoryQuery> queries;
+
+    @BeforeAll
+    static void load() throws Exception {
+        indexes = parseMigrations();
+        queries = declaredQueries();
+    }
+
+    @Test
+    void everyRepositoryQueryIsServedByAnIndex() {
+        List<String> uncovered = new ArrayList<>();
+        for (RepositoryQuery query : queries) {
+            if (query.predicates().isEmpty() || ALLOWED_UNINDEXED.containsKey(query.name())) {
+                continue;
+            }
+            if (!isCovered(query)) {
+                uncovered.add(query.name() + " on " + query.table() + " " + query.predicates());
+            }
+        }
+        assertTrue(uncovered.isEmpty(), "Queries without a supporting index in db/migration:\n  "
+                + String.join("\n  ", uncovered));
+    }
+
+    @Test
+    void allowListOnlyNamesExistingQueries() {
+        Set<String> names = new HashSet<>();
+        queries.forEach(query -> names.add(query.name()));
+        assertFalse(queries.isEmpty(), "No repository queries found under " + BASE_PACKAGE);
+        for (String allowed : ALLOWED_UNINDEXED.keySet()) {
+            assertTrue(names.contains(allowed), "Stale allow-list entry: " + allowed);
+        }
+    }
+
+    private static boolean isCovered(RepositoryQuery query) {
+        List<IndexDef> tableIndexes = indexes.stream().filter(index -> index.table().equals(query.table())).toList();
+
+        Set<String> sargable = new LinkedHashSet<>();
+        for (Predicate predicate : query.predicates()) {
+            if (predicate.leadingWildcard()) {
+                String key = predicate.lowered() ? "lower(" + predicate.column() + ")" : predicate.column();
+                boolean trigram = tableIndexes.stream()
+                        .anyMatch(index -> index.trigram() && index.columns().get(0).equals(key));
+                if (!trigram) {
+                    return false;
+                }
+            } else {
+                sargable.add(predicate.column());
+            }
+        }
+        return sargable.isEmpty() || tableIndexes.stream()
+                .anyMatch(index -> !index.trigram() && sargable.contains(index.columns().get(0)));
+    }
+
+    // ---- migrations ----
+
+    private static List<IndexDef> parseMigrations() throws IOException {
+        List<IndexDef> result = new ArrayList<>();
+        Resource[] scripts = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/*.sql");
+        assertFalse(scripts.length == 0, "No migrations found in db/migration");
+        for (Resource script : scripts) {
+            String sql = StreamUtils.copyToString(script.getInputStream(), StandardCharsets.UTF_8)
+                    .toLowerCase(Locale.ROOT)
+                    .replaceAll("--[^\\n]*", "");
+            for (String statement : sql.split(";")) {
+                parseStatement(statement.trim().replaceAll("[ \\t]+", " "), result);
+            }
+        }
+        return result;
+    }
+
+    private static void parseStatement(String statement, List<IndexDef> result) {
+        Matcher table = CREATE_TABLE.matcher(statement);
+        if (table.matches()) {
+            String name = table.group(1);
+            Matcher key = TABLE_KEY.matcher(table.group(2));
+            while (key.find()) {
+                result.add(new IndexDef(name, splitColumns(key.group(1)), false));
+            }
+            Matcher unique = UNIQUE_COLUMN.matcher(table.group(2));
+            while (unique.find()) {
+                result.add(new IndexDef(name, List.of(unique.group(1)), false));
+            }
+            return;
+        }
+        String singleLine = statement.replaceAll("\\s+", " ");
+        Matcher index = CREATE_INDEX.matcher(singleLine);
+        if (index.matches()) {
+            List<String> columns = splitColumns(index.group(3));
+            boolean trigram = index.group(3).contains("gin_trgm_ops");
+            if (!"gin".equals(index.group(2)) || trigram) {
+                result.add(new IndexDef(index.group(1), columns, trigram));
+            }
+            return;
+        }
+        Matcher constraint = ADD_UNIQUE.matcher(singleLine);
+        if (constraint.find()) {
+            result.add(new IndexDef(constraint.group(1), splitColumns(constraint.group(2)), false));
+        }
+    }
+
+    /**
+     * Splits an index column list at top-level commas, dropping operator
+     * classes and sort directions.
+     */
+    private static List<String> splitColumns(String list) {
+        List<String> columns = new ArrayList<>();
+        int depth = 0;
+        StringBuilder current = new StringBuilder();
+        for (char c : list.toCharArray()) {
+            if (c == ',' && depth == 0) {
+                columns.add(normalizeColumn(current.toString()));
+                current.setLength(0);
+                continue;
+            }
+            depth += c == '(' ? 1 : c == ')' ? -1 : 0;
+            current.append(c);
+        }
+        columns.add(normalizeColumn(current.toString()));
+        return columns;
+    }
+
+    private static String normalizeColumn(String column) {
+        return column.replaceAll("\\b(gin_trgm_ops|asc|desc|nulls first|nulls last)\\b", "")
+                .replaceAll("\\s+", "");
+    }
+
+    // ---- repositories ----
+
+    private static List<RepositoryQuery> declaredQueries() throws ClassNotFoundException {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> reader.getClassMetadata().isInterface()
+                && !reader.getAnnotationMetadata().hasAnnotation(NoRepositoryBean.class.getName()));
+
+        List<RepositoryQuery> result = new ArrayList<>();
+        for (BeanDefinition candidate : scanner.findCandidateComponents(BASE_PACKAGE)) {
+            Class<?> repository = ClassUtils.forName(candidate.getBeanClassName(), null);
+            if (!Repository.class.isAssignableFrom(repository)) {
+                continue;
+            }
+            Class<?> domainType = ResolvableType.forClass(repository).as(Repository.class).resolveGeneric(0);
+            for (Method method : repository.getDeclaredMethods()) {
+                if (method.isDefault() || method.isSynthetic()) {
+                    continue;
+                }
+                String name = repository.getSimpleName() + "." + method.getName();
+                Query query = method.getAnnotation(Query.class);
+                if (query != null) {
+                    assertFalse(query.nativeQuery(), name + ": native queries are not checked, add them here");
+                    result.add(fromJpql(name, query.value()));
+                } else {
+                    result.add(fromMethodName(name, method.getName(), domainType));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static RepositoryQuery fromJpql(String name, String jpql) throws ClassNotFoundException {
+        Matcher root = JPQL_ROOT.matcher(jpql);
+        assertTrue(root.find(), name + ": cannot find the query root in " + jpql);
+        Class<?> entity = entityClass(root.group(1));
+
+        List<Predicate> predicates = new ArrayList<>();
+        Matcher where = JPQL_WHERE.matcher(jpql);
+        if (where.find()) {
+            Matcher predicate = Pattern.compile(String.format(JPQL_PREDICATE, Pattern.quote(root.group(2))),
+                    Pattern.CASE_INSENSITIVE | Pattern.DOTALL).matcher(where.group(1));
+            while (predicate.find()) {
+                boolean like = predicate.group(3).equalsIgnoreCase("like");
+                String operand = predicate.group(4).replaceAll("\\s+", "").toLowerCase(Locale.ROOT);
+                boolean leadingWildcard = like && (operand.startsWith("%") || operand.contains("concat('%'"));
+                predicates.add(new Predicate(column(entity, predicate.group(2)), predicate.group(1) != null,
+                        leadingWildcard));
+            }
+        }
+        return new RepositoryQuery(name, tableName(entity), predicates);
+    }
+
+    private static RepositoryQuery fromMethodName(String name, String methodName, Class<?> entity) {
+        List<Predicate> predicates = new ArrayList<>();
+        Matcher derived = DERIVED_QUERY.matcher(methodName);
+        if (derived.matches()) {
+            for (String part : derived.group(1).replaceAll("OrderBy\\w*$", "").split("And|Or")) {
+                boolean lowered = part.contains("IgnoreCase") || part.contains("IgnoringCase");
+                boolean leadingWildcard = DERIVED_WILDCARD.matcher(part.replaceAll("IgnoreCase|IgnoringCase", ""))
+                        .find();
+                String property = DERIVED_KEYWORD.matcher(part).replaceAll("");
+                predicates.add(new Predicate(column(entity, decapitalize(property)), lowered, leadingWildcard));
+            }
+        }
+        return new RepositoryQuery(name, tableName(entity), predicates);
+    }
+
+    private static Class<?> entityClass(String entityName) throws ClassNotFoundException {
+        return ClassUtils.forName(BASE_PACKAGE + ".modules.vocabulary.domain.model." + entityName, null);
+    }
+
+    private static String tableName(Class<?> entity) {
+        Table table = entity.getAnnotation(Table.class);
+        return table != null && !table.name().isEmpty() ? table.name() : snakeCase(entity.getSimpleName());
+    }
+
+    /**
+     * Maps an attribute path to its column; {@code vocabularySet.id} becomes
+     * the foreign key column of {@code vocabularySet}.
+     */
+    private static String column(Class<?> entity, String path) {
+        String attribute = path.endsWith(".id") ? path.substring(0, path.length() - 3) : path;
+        Field field = ReflectionUtils.findField(entity, attribute);
+        assertTrue(field != null, "Unknown attribute " + path + " on " + entity.getSimpleName());
+        JoinColumn joinColumn = field.getAnnotation(JoinColumn.class);
+        if (joinColumn != null && !joinColumn.name().isEmpty()) {
+            return joinColumn.name();
+        }
+        Column column = field.getAnnotation(Column.class);
+        return column != null && !column.name().isEmpty() ? column.name() : snakeCase(attribute);
+    }
+
+    private static String snakeCase(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+
+    private static String decapitalize(String name) {
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private record IndexDef(String table, List<String> columns, boolean trigram) {
+    }
+
+    private record Predicate(String column, boolean lowered, boolean leadingWildcard) {
+    }
+
+    private record RepositoryQuery(String name, String table, List<Predicate> predicates) {
+    }
+}
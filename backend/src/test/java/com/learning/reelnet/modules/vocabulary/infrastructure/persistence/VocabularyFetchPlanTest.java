@@ -0,0 +1,132 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence;
+
+import static com.learning.reelnet.common.infrastructure.persistence.StatementCounter.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.learning.reelnet.common.infrastructure.persistence.StatementCounter;
+import com.learning.reelnet.common.model.base.BaseEntity;
+import com.learning.reelnet.modules.vocabulary.domain.model.Antonym;
+import com.learning.reelnet.modules.vocabulary.domain.model.Example;
+import com.learning.reelnet.modules.vocabulary.domain.model.Sense;
+import com.learning.reelnet.modules.vocabulary.domain.model.Synonym;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.valueobject.RegisterLabel;
+import com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository.JpaVocabularyRepositoryImpl;
+
+/**
+ * Checks that loading the full Vocabulary aggregate takes a fixed number of
+ * statements, one per collection level, however many rows are loaded.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        StatementCounter.PROPERTY })
+@ActiveProfiles("test")
+@Import(JpaVocabularyRepositoryImpl.class)
+class VocabularyFetchPlanTest {
+
+    // vocabulary (+ senses), examples, synonyms, antonyms, sense examples, register labels
+    private static final int DETAIL_STATEMENTS = 6;
+    // vocabulary, senses, examples, synonyms, antonyms, sense examples, register labels
+    private static final int LIST_STATEMENTS = 7;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JpaVocabularyRepositoryImpl vocabularyRepository;
+
+    private final List<UUID> ids = new ArrayList<>();
+
+    @BeforeEach
+    void createVocabularies() {
+        for (int i = 0; i < 10; i++) {
+            ids.add(entityManager.persist(vocabulary("word" + i)).getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void detailLoadsEveryLevelInConstantStatements() {
+        Vocabulary vocabulary = assertStatementCount(DETAIL_STATEMENTS,
+                () -> vocabularyRepository.findDetailById(ids.get(0)));
+
+        assertInitialized(vocabulary);
+        assertEquals(2, vocabulary.getSenses().size());
+        assertEquals(2, vocabulary.getSenses().get(0).getExamples().size());
+    }
+
+    @Test
+    void listStatementsDoNotGrowWithRows() {
+        assertStatementCount(LIST_STATEMENTS, () -> vocabularyRepository.findDetailsByIds(ids.subList(0, 1)));
+        entityManager.clear();
+
+        List<Vocabulary> vocabularies = assertStatementCount(LIST_STATEMENTS,
+                () -> vocabularyRepository.findDetailsByIds(ids));
+
+        assertEquals(ids.size(), vocabularies.size());
+        vocabularies.forEach(VocabularyFetchPlanTest::assertInitialized);
+    }
+
+    private static void assertInitialized(Vocabulary vocabulary) {
+        assertTrue(Hibernate.isInitialized(vocabulary.getSenses()));
+        assertTrue(Hibernate.isInitialized(vocabulary.getExamples()));
+        assertTrue(Hibernate.isInitialized(vocabulary.getSynonyms()));
+        assertTrue(Hibernate.isInitialized(vocabulary.getAntonyms()));
+        for (Sense sense : vocabulary.getSenses()) {
+            assertTrue(Hibernate.isInitialized(sense.getExamples()));
+            assertTrue(Hibernate.isInitialized(sense.getRegisterLabels()));
+        }
+    }
+
+    private static Vocabulary vocabulary(String headword) {
+        Vocabulary vocabulary = audited(Vocabulary.builder().headword(headword).build());
+        for (int s = 0; s < 2; s++) {
+            Sense sense = audited(new Sense());
+            sense.setDefinition(headword + " definition " + s);
+            sense.setTranslation(headword + " translation " + s);
+            sense.setRegisterLabels(EnumSet.of(RegisterLabel.FORMAL));
+            sense.setExamples(new ArrayList<>());
+            vocabulary.addSense(sense);
+            for (int e = 0; e < 2; e++) {
+                Example example = audited(new Example());
+                example.setMeaning(sense);
+                example.setSentence(headword + " sentence " + s + "." + e);
+                example.setTranslation("translation");
+                example.setNote("note");
+                sense.getExamples().add(example);
+                vocabulary.addExample(example);
+            }
+        }
+        Synonym synonym = audited(new Synonym());
+        synonym.setWord(headword + " synonym");
+        vocabulary.addSynonym(synonym);
+        Antonym antonym = audited(new Antonym());
+        antonym.setWord(headword + " antonym");
+        vocabulary.addAntonym(antonym);
+        return vocabulary;
+    }
+
+    // Auditing is not part of the JPA slice
+    private static <T extends BaseEntity<UUID>> T audited(T entity) {
+        entity.setCreatedAt(LocalDateTime.now());
+        return entity;
+    }
+}
@@ -0,0 +1,161 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.learning.reelnet.common.api.query.FilterParams;
+import com.learning.reelnet.common.api.query.QueryParams;
+import com.learning.reelnet.common.api.query.SearchParams;
+import com.learning.reelnet.common.api.query.search.FullTextSearchInitializer;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySetSummaryView;
+import com.learning.reelnet.modules.vocabulary.infrastructure.persistence.repository.JpaVocabularySetSummaryRepositoryImpl;
+
+/**
+ * Compares LIKE and full-text search over a synthetic corpus of set
+ * summaries on PostgreSQL: latency per strategy is logged, and both must
+ * rank a set named after the search term first.
+ * <p>
+ * Opt-in, since it needs a scratch PostgreSQL database that Flyway may
+ * migrate:
+ * {@code ./gradlew test --tests '*VocabularySetSearchComparisonTest' -Dbench.postgres.url=jdbc:postgresql://localhost/reelnet_bench
+ * -Dbench.postgres.username=... -Dbench.postgres.password=...}; the corpus size
+ * is set with {@code -Dbench.search.rows} (default 50000).
+ */
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({ JpaVocabularySetSummaryRepositoryImpl.class, FullTextSearchInitializer.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@EnabledIfSystemProperty(named = "bench.postgres.url", matches = ".+")
+class VocabularySetSearchComparisonTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VocabularySetSearchComparisonTest.class);
+
+    private static final String CREATED_BY = "search-comparison";
+    private static final String TERM = "harbour";
+    private static final List<String> WORDS = Arrays.asList("travel", "airport", "market", "science", "kitchen",
+            "weather", "office", "music", "history", "garden", "doctor", "station", "language", "money", "sport");
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", () -> System.getProperty("bench.postgres.url"));
+        registry.add("spring.datasource.username", () -> System.getProperty("bench.postgres.username", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getProperty("bench.postgres.password", ""));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JpaVocabularySetSummaryRepositoryImpl summaryRepository;
+
+    @BeforeEach
+    void seedCorpus() {
+        int rows = Integer.getInteger("bench.search.rows", 50_000);
+        Random random = new Random(42);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> batch = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            // Một phần nhỏ chứa từ khoá: ở tên cho bộ đầu tiên, ở mô tả cho các bộ còn lại
+            String name = i == 0 ? TERM + " words" : phrase(random, 3);
+            String description = i > 0 && i % 200 == 0 ? phrase(random, 6) + " " + TERM : phrase(random, 12);
+            batch.add(new Object[] { UUID.randomUUID(), name, description, CREATED_BY, now });
+            if (batch.size() == 1_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("insert into vocabulary_set_summary (id, name, description, created_by, "
+                        + "visibility, is_active, is_system, item_count, mastered_count, created_at) "
+                        + "values (?, ?, ?, ?, 'PUBLIC', true, false, 0, 0, ?)", batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.execute("analyze vocabulary_set_summary");
+    }
+
+    @AfterEach
+    void dropCorpus() {
+        jdbcTemplate.update("delete from vocabulary_set_summary where created_by = ?", CREATED_BY);
+    }
+
+    @Test
+    void likeAndFullTextRankTheNamedSetFirst() {
+        List<VocabularySetSummaryView> like = measure("LIKE", () -> search(SearchParams.Strategy.LIKE));
+        List<VocabularySetSummaryView> fullText = measure("FULL_TEXT",
+                () -> search(SearchParams.Strategy.FULL_TEXT));
+
+        assertFalse(like.isEmpty());
+        assertFalse(fullText.isEmpty());
+        assertTrue(like.get(0).name().startsWith(TERM));
+        assertTrue(fullText.get(0).name().startsWith(TERM));
+        // Full-text khớp theo từ nên mọi kết quả cũng chứa chuỗi con cần tìm
+        assertTrue(fullText.stream().allMatch(set -> set.name().contains(TERM) || set.description().contains(TERM)));
+    }
+
+    private List<VocabularySetSummaryView> search(SearchParams.Strategy strategy) {
+        QueryParams queryParams = new QueryParams();
+        queryParams.setSize(20);
+        queryParams.setSortBy(QueryParams.RELEVANCE);
+        SearchParams searchParams = SearchParams.builder()
+                .query(TERM)
+                .fields(new ArrayList<>(List.of("name", "description")))
+                .strategy(strategy)
+                .build();
+        return summaryRepository.findAll(queryParams, new FilterParams(), searchParams).getContent();
+    }
+
+    private static List<VocabularySetSummaryView> measure(String label, Supplier<List<VocabularySetSummaryView>> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+        long[] nanos = new long[ITERATIONS];
+        List<VocabularySetSummaryView> result = null;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long started = System.nanoTime();
+            result = search.get();
+            nanos[i] = System.nanoTime() - started;
+        }
+        Arrays.sort(nanos);
+        log.info("{} search: median {} us, p95 {} us over {} runs", label, nanos[ITERATIONS / 2] / 1_000,
+                nanos[ITERATIONS * 95 / 100] / 1_000, ITERATIONS);
+        return result;
+    }
+
+    private static String phrase(Random random, int words) {
+        StringBuilder phrase = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                phrase.append(' ');
+            }
+            phrase.append(WORDS.get(random.nextInt(WORDS.size())));
+        }
+        return phrase.toString();
+    }
+}
@@ -0,0 +1,98 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.listener;
+
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.learning.reelnet.common.infrastructure.cache.HibernateCacheEvictor;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterColumn;
+import com.learning.reelnet.common.infrastructure.persistence.counter.CounterFlushListener;
+import com.learning.reelnet.common.infrastructure.persistence.counter.WriteBehindCounters;
+import com.learning.reelnet.modules.vocabulary.application.services.VocabularySetEngagementService;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+import com.learning.reelnet.modules.vocabulary.domain.model.VocabularySet;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Checks that rows whose counters were written by a flush are evicted from the
+ * second-level cache after the write, and that nothing is evicted when the
+ * write fails or the column belongs to an uncached table.
+ */
+class CounterCacheEvictionListenerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private HibernateCacheEvictor hibernateCacheEvictor;
+    private CounterCacheEvictionListener listener;
+    private WriteBehindCounters counters;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenAnswer(invocation -> new int[invocation.<List<?>>getArgument(1).size()]);
+        hibernateCacheEvictor = mock(HibernateCacheEvictor.class);
+        listener = new CounterCacheEvictionListener(hibernateCacheEvictor);
+        ObjectProvider<CounterFlushListener> listeners = mock(ObjectProvider.class);
+        when(listeners.orderedStream()).thenAnswer(invocation -> Stream.of(listener));
+        counters = new WriteBehindCounters(jdbcTemplate, listeners, new SimpleMeterRegistry(), Duration.ofHours(1));
+    }
+
+    @Test
+    void flushedRowsAreEvictedAfterTheWrite() {
+        UUID viewedSet = UUID.randomUUID();
+        UUID likedSet = UUID.randomUUID();
+        UUID vocabulary = UUID.randomUUID();
+        counters.increment(VocabularySetEngagementService.SET_VIEWS, viewedSet, 3);
+        counters.increment(VocabularySetEngagementService.SET_LIKES, likedSet, 1);
+        counters.increment(VocabularySetEngagementService.VOCABULARY_VIEWS, vocabulary, 2);
+
+        counters.flush();
+
+        InOrder order = inOrder(jdbcTemplate, hibernateCacheEvictor);
+        order.verify(jdbcTemplate).batchUpdate(
+                argThat((String sql) -> sql.contains("vocabulary_set") && sql.contains("view_count")), anyList());
+        order.verify(hibernateCacheEvictor).evict(VocabularySet.class, viewedSet);
+        verify(hibernateCacheEvictor).evict(VocabularySet.class, likedSet);
+        verify(hibernateCacheEvictor).evict(Vocabulary.class, vocabulary);
+        verifyNoMoreInteractions(hibernateCacheEvictor);
+    }
+
+    @Test
+    void failedFlushEvictsNothing() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        counters.increment(VocabularySetEngagementService.SET_VIEWS, UUID.randomUUID(), 1);
+
+        counters.flush();
+
+        verifyNoInteractions(hibernateCacheEvictor);
+    }
+
+    @Test
+    void uncachedColumnEvictsNothing() {
+        listener.onFlush(CounterColumn.of("video", "view_count"), Map.of(UUID.randomUUID(), 1L));
+
+        verifyNoInteractions(hibernateCacheEvictor);
+    }
+}
@@ -0,0 +1,148 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.persistence.listener;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.learning.reelnet.modules.vocabulary.application.projection.VocabularySnapshotProjector;
+import com.learning.reelnet.modules.vocabulary.domain.model.Sense;
+import com.learning.reelnet.modules.vocabulary.domain.model.Vocabulary;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Checks that the snapshot refresh runs once per transaction, ignores the
+ * writes it makes to the vocabularies it is refreshing, and picks up other
+ * vocabularies it changes in a further round.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect" })
+@ActiveProfiles("test")
+@Import({ VocabularySnapshotListener.class, VocabularySnapshotListenerTest.Projector.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VocabularySnapshotListenerTest {
+
+    @TestConfiguration
+    static class Projector {
+        @Bean
+        VocabularySnapshotProjector vocabularySnapshotProjector() {
+            return mock(VocabularySnapshotProjector.class);
+        }
+    }
+
+    @Autowired
+    private VocabularySnapshotProjector projector;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private UUID first;
+    private UUID second;
+
+    @BeforeEach
+    void createVocabularies() {
+        transaction = new TransactionTemplate(transactionManager);
+        String suffix = UUID.randomUUID().toString();
+        first = transaction.execute(status -> persist("first-" + suffix));
+        second = transaction.execute(status -> persist("second-" + suffix));
+        clearInvocations(projector);
+    }
+
+    @Test
+    void childChangeBumpsTheVersionOnceAndFollowsNestedChanges() {
+        AtomicInteger rounds = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (rounds.getAndIncrement() == 0) {
+                // What the projector does to the entry it refreshes, plus a change to another entry
+                touch(first);
+                senseOf(second).setDefinition("changed while refreshing");
+            }
+            return null;
+        }).when(projector).refresh(any(), any());
+
+        transaction.executeWithoutResult(status -> senseOf(first).setDefinition("changed"));
+
+        InOrder order = inOrder(projector);
+        order.verify(projector).refresh(Set.of(first), Set.of(first));
+        order.verify(projector).refresh(Set.of(second), Set.of(second));
+        verifyNoMoreInteractions(projector);
+    }
+
+    @Test
+    void rootChangeIsNotVersionedAgain() {
+        doAnswer(invocation -> {
+            touch(first);
+            return null;
+        }).when(projector).refresh(any(), any());
+
+        transaction.executeWithoutResult(status -> {
+            entityManager.find(Vocabulary.class, first).setMeaning("new meaning");
+            senseOf(first).setDefinition("changed");
+        });
+
+        verify(projector).refresh(Set.of(first), Set.of());
+        verifyNoMoreInteractions(projector);
+    }
+
+    @Test
+    void rolledBackTransactionDoesNotRefresh() {
+        transaction.executeWithoutResult(status -> {
+            senseOf(first).setDefinition("discarded");
+            entityManager.flush();
+            status.setRollbackOnly();
+        });
+
+        verifyNoMoreInteractions(projector);
+    }
+
+    private UUID persist(String headword) {
+        Vocabulary vocabulary = Vocabulary.builder().headword(headword).build();
+        vocabulary.setCreatedAt(LocalDateTime.now());
+        Sense sense = new Sense();
+        sense.setCreatedAt(LocalDateTime.now());
+        sense.setDefinition(headword + " definition");
+        sense.setTranslation(headword + " translation");
+        sense.setExamples(new ArrayList<>());
+        sense.setRegisterLabels(Set.of());
+        vocabulary.addSense(sense);
+        entityManager.persist(vocabulary);
+        return vocabulary.getId();
+    }
+
+    private void touch(UUID vocabularyId) {
+        entityManager.find(Vocabulary.class, vocabularyId).setUpdatedAt(LocalDateTime.now());
+    }
+
+    private Sense senseOf(UUID vocabularyId) {
+        return entityManager.find(Vocabulary.class, vocabularyId).getSenses().get(0);
+    }
+}
@@ -0,0 +1,168 @@
+package com.learning.reelnet.modules.vocabulary.infrastructure.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.learning.reelnet.modules.vocabulary.infrastructure.search.HeadwordSuggestionIndex.Suggestion;
+
+/**
+ * Checks prefix lookups against a scan of all entries, across the snapshot,
+ * pending inserts and deletes, and compaction.
+ */
+class HeadwordSuggestionIndexTest {
+
+    private static final Comparator<Suggestion> BEST_FIRST = Comparator
+            .comparingLong(Suggestion::getScore).reversed()
+            .thenComparingInt(s -> s.getHeadword().length())
+            .thenComparing(Suggestion::getHeadword);
+
+    @Test
+    void returnsBestCompletionsOfThePrefix() {
+        HeadwordSuggestionIndex index = new HeadwordSuggestionIndex(100);
+        index.load(List.of(
+                suggestion("apple", 50),
+                suggestion("Application", 80),
+                suggestion("apply", 10),
+                suggestion("banana", 99),
+                suggestion("ap", 5)));
+
+        assertEquals(List.of("Application", "apple"), headwords(index.suggest("AP", 2)));
+        assertEquals(List.of("Application", "apple", "apply", "ap"), headwords(index.suggest(" ap ", 10)));
+        assertEquals(List.of("apply"), headwords(index.suggest("apply", 10)));
+        assertTrue(index.suggest("c", 10).isEmpty());
+        assertTrue(index.suggest("", 10).isEmpty());
+        assertTrue(index.suggest("a", 0).isEmpty());
+    }
+
+    @Test
+    void pendingChangesApplyBeforeCompaction() {
+        HeadwordSuggestionIndex index = new HeadwordSuggestionIndex(100);
+        Suggestion apple = suggestion("apple", 50);
+        Suggestion apply = suggestion("apply", 10);
+        index.load(List.of(apple, apply));
+
+        index.put(apply.getId(), "apply", 90);
+        index.remove(apple.getId());
+        Suggestion apricot = suggestion("apricot", 40);
+        index.put(apricot.getId(), apricot.getHeadword(), apricot.getScore());
+
+        assertEquals(List.of("apply", "apricot"), headwords(index.suggest("ap", 10)));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void renamedEntryMovesToItsNewPrefix() {
+        HeadwordSuggestionIndex index = new HeadwordSuggestionIndex(100);
+        Suggestion entry = suggestion("colour", 10);
+        index.load(List.of(entry));
+
+        index.put(entry.getId(), "color", 10);
+
+        assertTrue(index.suggest("colou", 10).isEmpty());
+        assertEquals(List.of("color"), headwords(index.suggest("col", 10)));
+    }
+
+    @Test
+    void matchesAFullScanThroughCompactions() {
+        Random random = new Random(7);
+        HeadwordSuggestionIndex index = new HeadwordSuggestionIndex(50);
+        Map<UUID, Suggestion> expected = new LinkedHashMap<>();
+        Set<Long> usedScores = new HashSet<>();
+
+        List<Suggestion> initial = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            Suggestion entry = new Suggestion(UUID.randomUUID(), word(random), uniqueScore(random, usedScores));
+            initial.add(entry);
+            expected.put(entry.getId(), entry);
+        }
+        index.load(initial);
+
+        for (int step = 0; step < 1_000; step++) {
+            List<UUID> ids = new ArrayList<>(expected.keySet());
+            int action = random.nextInt(3);
+            if (action == 0 || ids.isEmpty()) {
+                Suggestion entry = new Suggestion(UUID.randomUUID(), word(random), uniqueScore(random, usedScores));
+                index.put(entry.getId(), entry.getHeadword(), entry.getScore());
+                expected.put(entry.getId(), entry);
+            } else if (action == 1) {
+                UUID id = ids.get(random.nextInt(ids.size()));
+                Suggestion entry = new Suggestion(id, word(random), uniqueScore(random, usedScores));
+                index.put(id, entry.getHeadword(), entry.getScore());
+                expected.put(id, entry);
+            } else {
+                UUID id = ids.get(random.nextInt(ids.size()));
+                index.remove(id);
+                expected.remove(id);
+            }
+
+            String prefix = word(random).substring(0, 1 + random.nextInt(2));
+            int limit = 1 + random.nextInt(10);
+            assertEquals(scan(expected.values(), prefix, limit), ids(index.suggest(prefix, limit)),
+                    "prefix " + prefix + " at step " + step);
+        }
+        assertEquals(expected.size(), index.size());
+    }
+
+    @Test
+    void scoreRanksViewsBeforeDifficulty() {
+        assertTrue(HeadwordSuggestionIndex.score(2L, 200) > HeadwordSuggestionIndex.score(1L, 0));
+        assertTrue(HeadwordSuggestionIndex.score(1L, 1) > HeadwordSuggestionIndex.score(1L, 2));
+        assertEquals(HeadwordSuggestionIndex.score(0L, 255), HeadwordSuggestionIndex.score(null, null));
+    }
+
+    private static List<UUID> scan(Iterable<Suggestion> entries, String prefix, int limit) {
+        String key = HeadwordSuggestionIndex.normalize(prefix);
+        List<Suggestion> matches = new ArrayList<>();
+        for (Suggestion entry : entries) {
+            if (HeadwordSuggestionIndex.normalize(entry.getHeadword()).startsWith(key)) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(BEST_FIRST);
+        return ids(matches.subList(0, Math.min(limit, matches.size())));
+    }
+
+    private static List<UUID> ids(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getId).toList();
+    }
+
+    private static List<String> headwords(List<Suggestion> suggestions) {
+        return suggestions.stream().map(Suggestion::getHeadword).toList();
+    }
+
+    private static Suggestion suggestion(String headword, long score) {
+        return new Suggestion(UUID.randomUUID(), headword, score);
+    }
+
+    // Distinct scores, so the expected top K is unambiguous
+    private static long uniqueScore(Random random, Set<Long> used) {
+        long score;
+        do {
+            score = random.nextInt(1_000_000);
+        } while (!used.add(score));
+        return score;
+    }
+
+    // Short words over a small alphabet, so prefixes share many entries
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 3 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            char letter = (char) ('a' + random.nextInt(4));
+            word.append(i == 0 && random.nextBoolean() ? Character.toUpperCase(letter) : letter);
+        }
+        return word.toString();
+    }
+}